@@ -64,3 +64,15 @@ CREATE TABLE IF NOT EXISTS workout_completions (
     completed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     notes TEXT
 );
+
+-- Secondary indexes for foreign-key and lookup columns
+CREATE UNIQUE INDEX IF NOT EXISTS uq_attendance_session_member ON attendance_records (session_id, member_id);
+CREATE INDEX IF NOT EXISTS idx_attendance_member ON attendance_records (member_id);
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role_id);
+CREATE INDEX IF NOT EXISTS idx_workout_plans_member ON workout_plans (member_id);
+CREATE INDEX IF NOT EXISTS idx_workout_plans_trainer ON workout_plans (trainer_id);
+CREATE INDEX IF NOT EXISTS idx_class_sessions_trainer_schedule ON class_sessions (trainer_id, schedule_timestamp);
+CREATE INDEX IF NOT EXISTS idx_class_sessions_schedule ON class_sessions (schedule_timestamp);
+CREATE INDEX IF NOT EXISTS idx_workout_completions_member_plan ON workout_completions (member_id, workout_plan_id);
+CREATE INDEX IF NOT EXISTS idx_workout_completions_plan ON workout_completions (workout_plan_id);
+CREATE INDEX IF NOT EXISTS idx_workout_completions_member_completed ON workout_completions (member_id, completed_at, id);
@@ -1,6 +1,11 @@
 package com.gymflow;
 
+import com.gymflow.config.DatabaseConnection;
 import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.dao.RoleIds;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.metrics.FlightRecording;
+import com.gymflow.security.PasswordHasher;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -15,24 +20,32 @@ public class MainApp extends Application {
 
     @Override
     public void init() throws Exception {
+        // Profile with the bundled JFR settings when launched with -Dgymflow.jfr=<file>
+        FlightRecording.startIfRequested();
+
         // Initialize database before starting the UI
         System.out.println("=== GymFlow Application Starting ===");
         System.out.println("Initializing database...");
         try {
             DatabaseInitializer initializer = new DatabaseInitializer();
             initializer.initialize();
+            // Read role IDs now rather than on the first registration
+            RoleIds.load();
             System.out.println("=== Database initialized successfully ===");
             System.out.println("Test users available:");
             System.out.println("  - member_demo / password123");
             System.out.println("  - trainer_demo / password123");
             System.out.println("  - admin_demo / password123");
-        } catch (SQLException e) {
+        } catch (SQLException | DataAccessException e) {
             System.err.println("=== ERROR: Failed to initialize database ===");
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
             // Continue anyway - might be using external database
             System.err.println("Continuing anyway - database may already be initialized");
         }
+
+        // Calibrate password hashing now rather than on the first login
+        PasswordHasher.getDefault();
     }
 
     @Override
@@ -45,6 +58,12 @@ public class MainApp extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() throws Exception {
+        // Release pooled database connections on shutdown
+        DatabaseConnection.getInstance().closeConnection();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
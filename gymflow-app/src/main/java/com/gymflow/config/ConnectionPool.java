@@ -0,0 +1,467 @@
+package com.gymflow.config;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool exposed as a {@link DataSource}.
+ *
+ * <p>Connections handed out by {@link #getConnection()} are proxies: calling
+ * {@code close()} on them returns the underlying physical connection to the pool
+ * instead of closing it, so the existing {@code try (Connection conn = ...)}
+ * pattern used by the DAOs borrows and returns connections transparently.</p>
+ *
+ * <p>The pool keeps at least {@code minSize} connections open, never opens more
+ * than {@code maxSize}, validates connections that have been idle before handing
+ * them out, retires connections older than {@code maxLifetimeMillis}, and logs a
+ * warning with the borrowing stack trace when a connection is held longer than
+ * {@code leakDetectionThresholdMillis}.</p>
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    /** Connections idle for less than this are handed out without a validation round trip. */
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    private static final long HOUSEKEEPING_PERIOD_MILLIS = 5_000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long connectionTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long maxLifetimeMillis;
+    private final long leakDetectionThresholdMillis;
+
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param url the JDBC URL
+     * @param username the database user
+     * @param password the database password
+     * @param minSize the minimum number of connections kept open
+     * @param maxSize the maximum number of connections (borrowed plus idle)
+     * @param connectionTimeoutMillis how long {@link #getConnection()} waits for a free connection
+     * @param validationTimeoutSeconds timeout passed to {@link Connection#isValid(int)}
+     * @param maxLifetimeMillis maximum age of a physical connection (0 disables retirement)
+     * @param leakDetectionThresholdMillis borrow duration after which a leak is reported (0 disables detection)
+     */
+    public ConnectionPool(String url, String username, String password,
+                          int minSize, int maxSize, long connectionTimeoutMillis,
+                          int validationTimeoutSeconds, long maxLifetimeMillis,
+                          long leakDetectionThresholdMillis) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("JDBC URL cannot be empty");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum pool size must be greater than 0");
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Minimum pool size must be between 0 and " + maxSize);
+        }
+
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gymflow-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // First run fills the pool up to minSize without blocking the caller
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep, 0, HOUSEKEEPING_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a pool from the properties produced by {@link DatabaseConfig#load()}.
+     *
+     * @param props the database properties
+     * @return a new connection pool
+     */
+    public static ConnectionPool fromProperties(Properties props) {
+        return new ConnectionPool(
+            props.getProperty("url"),
+            props.getProperty("username"),
+            props.getProperty("password"),
+            Integer.parseInt(props.getProperty("pool.minSize", "2")),
+            Integer.parseInt(props.getProperty("pool.maxSize", "10")),
+            Long.parseLong(props.getProperty("pool.connectionTimeoutMillis", "30000")),
+            Integer.parseInt(props.getProperty("pool.validationTimeoutSeconds", "5")),
+            Long.parseLong(props.getProperty("pool.maxLifetimeMillis", "1800000")),
+            Long.parseLong(props.getProperty("pool.leakDetectionThresholdMillis", "60000"))
+        );
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the configured connection
+     * timeout if all connections are in use. Closing the returned connection
+     * returns it to the pool.
+     *
+     * @return a pooled connection
+     * @throws SQLException if the pool is closed, the wait times out, or a new connection cannot be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + connectionTimeoutMillis
+                    + " ms waiting for a database connection (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeIdleConnection();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowStack = leakDetectionThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null;
+            pooled.leakReported = false;
+            borrowedConnections.add(pooled);
+            return pooled.newProxy();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connection pool does not support per-call credentials");
+    }
+
+    /**
+     * Closes all idle connections and stops handing out new ones. Borrowed
+     * connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        housekeeper.shutdownNow();
+
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return number of connections currently borrowed
+     */
+    public int getActiveCount() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * @return number of open connections waiting in the pool
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    /**
+     * @return number of physical connections currently open
+     */
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    /**
+     * @return number of threads waiting for a connection
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Takes the most recently returned idle connection, discarding any that have
+     * exceeded their lifetime or fail validation.
+     */
+    private PooledConnection takeIdleConnection() {
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            long now = System.currentTimeMillis();
+            if (isExpired(pooled, now)) {
+                closePhysical(pooled);
+                continue;
+            }
+            if (now - pooled.lastReturnedAt > VALIDATION_BYPASS_MILLIS && !isValid(pooled)) {
+                System.err.println("Discarding invalid pooled connection");
+                closePhysical(pooled);
+                continue;
+            }
+            return pooled;
+        }
+        return null;
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, username, password);
+        physical.setAutoCommit(true);
+        totalConnections.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    /**
+     * Called by a proxy's {@code close()}: resets connection state and puts the
+     * physical connection back at the head of the idle deque.
+     */
+    private void returnConnection(PooledConnection pooled) {
+        borrowedConnections.remove(pooled);
+        try {
+            if (closed || isExpired(pooled, System.currentTimeMillis()) || !resetState(pooled)) {
+                closePhysical(pooled);
+            } else {
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idleConnections.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean resetState(PooledConnection pooled) {
+        try {
+            Connection physical = pooled.physical;
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error resetting pooled connection: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledConnection pooled, long now) {
+        return maxLifetimeMillis > 0 && now - pooled.createdAt > maxLifetimeMillis;
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closePhysical(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            // Ignore errors when closing
+        }
+    }
+
+    /**
+     * Periodic maintenance: reports leaked connections, retires expired idle
+     * connections and tops the pool back up to its minimum size.
+     */
+    private void housekeep() {
+        if (closed) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+
+        if (leakDetectionThresholdMillis > 0) {
+            for (PooledConnection pooled : borrowedConnections) {
+                if (!pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdMillis) {
+                    pooled.leakReported = true;
+                    System.err.println("Possible connection leak: connection held for "
+                        + (now - pooled.borrowedAt) + " ms (threshold " + leakDetectionThresholdMillis + " ms)");
+                    if (pooled.borrowStack != null) {
+                        pooled.borrowStack.printStackTrace();
+                    }
+                }
+            }
+        }
+
+        Iterator<PooledConnection> iterator = idleConnections.iterator();
+        while (iterator.hasNext()) {
+            PooledConnection pooled = iterator.next();
+            if (isExpired(pooled, now) && idleConnections.removeFirstOccurrence(pooled)) {
+                closePhysical(pooled);
+            }
+        }
+
+        // Each top-up holds a permit while it opens, like a borrower, so it cannot
+        // race borrowers past maxSize; if none is free the pool is busy anyway
+        while (!closed && totalConnections.get() < minSize && permits.tryAcquire()) {
+            try {
+                PooledConnection pooled = openConnection();
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idleConnections.offerLast(pooled);
+            } catch (SQLException e) {
+                System.err.println("Could not open pooled connection: " + e.getMessage());
+                break;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes to System.err
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("java.util.logging is not used by the connection pool");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A physical connection plus the bookkeeping the pool needs for it.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastReturnedAt;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowStack;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastReturnedAt = createdAt;
+        }
+
+        private Connection newProxy() {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ProxyHandler(this)
+            );
+        }
+    }
+
+    /**
+     * Forwards calls to the physical connection until the proxy is closed.
+     */
+    private final class ProxyHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean proxyClosed;
+
+        private ProxyHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!proxyClosed) {
+                        proxyClosed = true;
+                        returnConnection(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return proxyClosed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + (proxyClosed ? ", returned" : "") + "]";
+                default:
+                    break;
+            }
+
+            if (proxyClosed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
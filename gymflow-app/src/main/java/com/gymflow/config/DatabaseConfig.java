@@ -4,7 +4,7 @@ import java.io.File;
 import java.util.Properties;
 
 /**
- * Central place to load database credentials.
+ * Central place to load database credentials and connection pool settings.
  */
 public final class DatabaseConfig {
     private DatabaseConfig() {}
@@ -25,9 +25,34 @@ public final class DatabaseConfig {
         
         // File-based H2 database URL - data persists on disk
         String defaultUrl = "jdbc:h2:file:" + dbPath + ";AUTO_SERVER=TRUE;MODE=MySQL";
-        props.setProperty("url", System.getenv().getOrDefault("GYMFLOW_DB_URL", defaultUrl));
+        // The gymflow.db.url system property wins over the environment, so forked
+        // JVMs (e.g. benchmarks) can point at their own database
+        props.setProperty("url", System.getProperty("gymflow.db.url",
+            System.getenv().getOrDefault("GYMFLOW_DB_URL", defaultUrl)));
         props.setProperty("username", System.getenv().getOrDefault("GYMFLOW_DB_USER", "sa"));
         props.setProperty("password", System.getenv().getOrDefault("GYMFLOW_DB_PASSWORD", ""));
+
+        // Connection pool settings (see ConnectionPool)
+        props.setProperty("pool.minSize", System.getenv().getOrDefault("GYMFLOW_DB_POOL_MIN", "2"));
+        props.setProperty("pool.maxSize", System.getenv().getOrDefault("GYMFLOW_DB_POOL_MAX", "10"));
+        props.setProperty("pool.connectionTimeoutMillis",
+            System.getenv().getOrDefault("GYMFLOW_DB_POOL_TIMEOUT_MS", "30000"));
+        props.setProperty("pool.validationTimeoutSeconds",
+            System.getenv().getOrDefault("GYMFLOW_DB_POOL_VALIDATION_TIMEOUT_S", "5"));
+        props.setProperty("pool.maxLifetimeMillis",
+            System.getenv().getOrDefault("GYMFLOW_DB_POOL_MAX_LIFETIME_MS", "1800000"));
+        props.setProperty("pool.leakDetectionThresholdMillis",
+            System.getenv().getOrDefault("GYMFLOW_DB_POOL_LEAK_THRESHOLD_MS", "60000"));
+
+        // Slow-query log settings (see SlowQueryLog); a negative threshold disables it
+        props.setProperty("slowQuery.thresholdMillis", System.getenv().getOrDefault("GYMFLOW_SLOW_QUERY_MS", "500"));
+        props.setProperty("slowQuery.file",
+            System.getenv().getOrDefault("GYMFLOW_SLOW_QUERY_LOG", "./logs/slow-queries.log"));
+        props.setProperty("slowQuery.maxFileBytes",
+            System.getenv().getOrDefault("GYMFLOW_SLOW_QUERY_MAX_BYTES", "5242880"));
+        props.setProperty("slowQuery.fileCount", System.getenv().getOrDefault("GYMFLOW_SLOW_QUERY_FILES", "5"));
+        props.setProperty("slowQuery.redactBinds",
+            System.getenv().getOrDefault("GYMFLOW_SLOW_QUERY_REDACT", "true"));
         
         System.out.println("Database location: " + new File(dbPath + ".mv.db").getAbsolutePath());
         return props;
@@ -1,20 +1,31 @@
 package com.gymflow.config;
 
+import com.gymflow.metrics.LatencyHistogram;
+import com.gymflow.metrics.MetricsRegistry;
+import com.gymflow.metrics.StatementTracing;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Singleton class for managing database connections.
- * Ensures only one connection instance is used throughout the application.
+ * Connections are borrowed from a shared {@link ConnectionPool}; closing a
+ * connection obtained from {@link #getConnection()} returns it to the pool.
  */
 public class DatabaseConnection {
+    private static final LatencyHistogram ACQUIRE_TIMER = MetricsRegistry.getInstance().timer("pool.acquire");
+
+    private static final List<Runnable> RESET_LISTENERS = new CopyOnWriteArrayList<>();
+
     private static DatabaseConnection instance;
-    private Connection connection;
-    private final String url;
-    private final String username;
-    private final String password;
+    private final Properties props;
+    private final SlowQueryLog slowQueryLog;
+    private final StatementInterceptor.Listener slowQueryLogListener;
+    private volatile ConnectionPool pool;
 
     static {
         // Explicitly load H2 driver to ensure it's available
@@ -27,10 +38,9 @@ public class DatabaseConnection {
     }
 
     private DatabaseConnection() {
-        Properties props = DatabaseConfig.load();
-        this.url = props.getProperty("url");
-        this.username = props.getProperty("username");
-        this.password = props.getProperty("password");
+        this.props = DatabaseConfig.load();
+        this.slowQueryLog = SlowQueryLog.fromProperties(props);
+        this.slowQueryLogListener = slowQueryLog.listener();
     }
 
     /**
@@ -47,6 +57,8 @@ public class DatabaseConnection {
 
     /**
      * Resets the singleton instance. Useful for testing.
+     * Reset listeners run afterwards, since the next instance may point at a
+     * different database.
      */
     public static synchronized void resetInstance() {
         if (instance != null) {
@@ -57,33 +69,97 @@ public class DatabaseConnection {
             }
         }
         instance = null;
+        RESET_LISTENERS.forEach(Runnable::run);
     }
 
     /**
-     * Gets a database connection. Creates a new connection if one doesn't exist
-     * or if the existing connection is closed.
+     * Registers a callback run by {@link #resetInstance()}, e.g. to drop
+     * cached rows that belonged to the previous database.
      *
-     * @return a Connection to the database
-     * @throws SQLException if a database access error occurs
+     * @param listener the callback
+     */
+    public static void addResetListener(Runnable listener) {
+        RESET_LISTENERS.add(listener);
+    }
+
+    /**
+     * Borrows a connection from the pool. Callers must close the connection
+     * (normally via try-with-resources) to return it to the pool.
+     * The connection is wrapped in a {@link StatementInterceptor} when any of its
+     * listeners is active: while a {@link StatementCounter} scope is open on the
+     * calling thread its statements are counted, while a flight recording has
+     * statement events enabled they are traced, and statements over the
+     * {@link SlowQueryLog} threshold are logged.
+     *
+     * @return a pooled Connection to the database
+     * @throws SQLException if a database access error occurs or no connection becomes available in time
      */
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connection = DriverManager.getConnection(url, username, password);
-            // Ensure auto-commit is enabled for immediate persistence
-            connection.setAutoCommit(true);
+        long start = System.nanoTime();
+        Connection connection = getDataSource().getConnection();
+        ACQUIRE_TIMER.record(System.nanoTime() - start);
+        List<StatementInterceptor.Listener> listeners = new ArrayList<>(3);
+        if (StatementCounter.isCounting()) {
+            listeners.add(StatementCounter.LISTENER);
+        }
+        if (StatementTracing.isEnabled()) {
+            listeners.add(StatementTracing.LISTENER);
+        }
+        if (slowQueryLog.isEnabled()) {
+            listeners.add(slowQueryLogListener);
+        }
+        return listeners.isEmpty() ? connection : StatementInterceptor.wrap(connection, listeners);
+    }
+
+    /**
+     * Gets the connection pool, creating it on first use or after it has been closed.
+     *
+     * @return the connection pool backing this instance
+     */
+    public ConnectionPool getDataSource() {
+        ConnectionPool current = pool;
+        if (current == null || current.isClosed()) {
+            synchronized (this) {
+                current = pool;
+                if (current == null || current.isClosed()) {
+                    current = ConnectionPool.fromProperties(props);
+                    pool = current;
+                    registerPoolGauges(current);
+                }
+            }
         }
-        return connection;
+        return current;
+    }
+
+    private static void registerPoolGauges(ConnectionPool pool) {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerGauge("pool.active", pool::getActiveCount);
+        metrics.registerGauge("pool.idle", pool::getIdleCount);
+        metrics.registerGauge("pool.total", pool::getTotalCount);
+        metrics.registerGauge("pool.waiting", pool::getWaitingCount);
+        metrics.registerGauge("pool.max", pool::getMaxSize);
     }
 
     /**
-     * Closes the database connection.
+     * Checks whether the configured database is PostgreSQL rather than the
+     * embedded H2 database, for the few statements whose syntax differs.
+     *
+     * @return true if the JDBC URL points at PostgreSQL
+     */
+    public boolean isPostgreSql() {
+        return props.getProperty("url", "").startsWith("jdbc:postgresql:");
+    }
+
+    /**
+     * Closes the connection pool and all idle connections, and the slow-query log file.
      *
      * @throws SQLException if a database access error occurs
      */
-    public void closeConnection() throws SQLException {
-        if (connection != null && !connection.isClosed()) {
-            connection.close();
+    public synchronized void closeConnection() throws SQLException {
+        if (pool != null) {
+            pool.close();
+            pool = null;
         }
+        slowQueryLog.close();
     }
 }
-
@@ -14,6 +14,9 @@ import java.time.format.DateTimeFormatter;
  * Creates all required tables and inserts initial data if they don't exist.
  */
 public class DatabaseInitializer {
+    /** SQLState reported by H2 and PostgreSQL for a unique constraint violation. */
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final DatabaseConnection dbConnection;
 
     public DatabaseInitializer() {
@@ -27,8 +30,8 @@ public class DatabaseInitializer {
      * @throws SQLException if database initialization fails
      */
     public void initialize() throws SQLException {
-        Connection conn = dbConnection.getConnection();
-        try (Statement stmt = conn.createStatement()) {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
             System.out.println("Creating database tables...");
             
             // Create tables (H2-compatible syntax)
@@ -40,12 +43,16 @@ public class DatabaseInitializer {
             migrateSchema(stmt);
             System.out.println("Schema migration completed.");
 
+            // Create secondary indexes and constraints
+            System.out.println("Creating indexes...");
+            createIndexes(stmt);
+            System.out.println("Indexes created successfully.");
+
             // Insert seed data
             System.out.println("Inserting seed data...");
             insertSeedData(stmt);
             System.out.println("Seed data inserted successfully.");
         }
-        // Note: We don't close the connection here - DatabaseConnection singleton maintains it
     }
 
     /**
@@ -280,6 +287,81 @@ public class DatabaseInitializer {
         }
     }
 
+    /**
+     * Creates secondary indexes on foreign-key and lookup columns so that the
+     * DAO finders do not fall back to full table scans, plus the unique
+     * (session_id, member_id) constraint on attendance_records.
+     * Uses IF NOT EXISTS, so it is safe to run on every startup.
+     */
+    private void createIndexes(Statement stmt) throws SQLException {
+        // One registration per member and session. Databases created before the
+        // constraint existed may contain duplicates; only a unique violation is
+        // repaired here, every other failure aborts startup untouched.
+        try {
+            stmt.execute("""
+                CREATE UNIQUE INDEX IF NOT EXISTS uq_attendance_session_member
+                ON attendance_records (session_id, member_id)
+                """);
+        } catch (SQLException e) {
+            if (!UNIQUE_VIOLATION_SQL_STATE.equals(e.getSQLState())) {
+                throw new SQLException("Could not create unique index uq_attendance_session_member: "
+                        + e.getMessage(), e.getSQLState(), e);
+            }
+            removeDuplicateAttendance(stmt);
+            stmt.execute("""
+                CREATE UNIQUE INDEX IF NOT EXISTS uq_attendance_session_member
+                ON attendance_records (session_id, member_id)
+                """);
+        }
+
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_attendance_member ON attendance_records (member_id)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_role ON users (role_id)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_workout_plans_member ON workout_plans (member_id)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_workout_plans_trainer ON workout_plans (trainer_id)");
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_class_sessions_trainer_schedule
+            ON class_sessions (trainer_id, schedule_timestamp)
+            """);
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_class_sessions_schedule ON class_sessions (schedule_timestamp)");
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_workout_completions_member_plan
+            ON workout_completions (member_id, workout_plan_id)
+            """);
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_workout_completions_plan ON workout_completions (workout_plan_id)");
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_workout_completions_member_completed
+            ON workout_completions (member_id, completed_at, id)
+            """);
+    }
+
+    /**
+     * Collapses duplicate (session_id, member_id) attendance rows into the oldest
+     * row of each pair. The attended flag is merged first, so a check-in recorded
+     * on any duplicate survives the delete.
+     */
+    private void removeDuplicateAttendance(Statement stmt) throws SQLException {
+        stmt.executeUpdate("""
+            UPDATE attendance_records a
+            SET attended = TRUE
+            WHERE (a.attended IS NULL OR a.attended = FALSE)
+              AND EXISTS (
+                SELECT 1
+                FROM attendance_records b
+                WHERE b.session_id = a.session_id AND b.member_id = a.member_id AND b.attended = TRUE
+              )
+            """);
+        int removed = stmt.executeUpdate("""
+            DELETE FROM attendance_records
+            WHERE id IN (
+                SELECT a.id
+                FROM attendance_records a
+                JOIN attendance_records b
+                  ON b.session_id = a.session_id AND b.member_id = a.member_id AND b.id < a.id
+            )
+            """);
+        System.out.println("Removed " + removed + " duplicate attendance record(s)");
+    }
+
     /**
      * Inserts seed data (roles and test users) if they don't exist.
      */
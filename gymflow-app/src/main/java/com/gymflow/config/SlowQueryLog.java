@@ -0,0 +1,280 @@
+package com.gymflow.config;
+
+import com.gymflow.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes statements that take longer than a threshold to a rotating log file,
+ * together with their bind values, the DAO method that ran them and the
+ * database's {@code EXPLAIN} output for them.
+ *
+ * <p>Settings (see {@link DatabaseConfig}):</p>
+ * <ul>
+ *   <li>{@code slowQuery.thresholdMillis} - statements whose execute call takes at
+ *       least this long are logged; negative disables the log</li>
+ *   <li>{@code slowQuery.file} - log file; rotated copies get a {@code .0}, {@code .1}, ... suffix</li>
+ *   <li>{@code slowQuery.maxFileBytes} and {@code slowQuery.fileCount} - rotation limits</li>
+ *   <li>{@code slowQuery.redactBinds} - log only the type of each bind value, not the value</li>
+ * </ul>
+ *
+ * <p>Connections are wrapped by {@link DatabaseConnection#getConnection()} while
+ * the log is enabled. Only the execute call is timed; reading a result set is not.
+ * The plan is fetched on the same connection, and only for slow statements;
+ * inside a transaction it is fetched under a savepoint.</p>
+ */
+public final class SlowQueryLog implements AutoCloseable {
+    private static final Set<String> EXPLAINABLE = Set.of("SELECT", "WITH", "UPDATE", "DELETE", "INSERT", "MERGE");
+    private static final int MAX_BIND_LENGTH = 100;
+
+    private final long thresholdNanos;
+    private final Path file;
+    private final int maxFileBytes;
+    private final int fileCount;
+    private final boolean redactBinds;
+    private FileHandler handler;
+
+    SlowQueryLog(long thresholdMillis, Path file, int maxFileBytes, int fileCount, boolean redactBinds) {
+        this.thresholdNanos = thresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.fileCount = fileCount;
+        this.redactBinds = redactBinds;
+    }
+
+    /**
+     * Creates the log from the {@code slowQuery.*} properties.
+     *
+     * @param props database properties from {@link DatabaseConfig#load()}
+     * @return the slow-query log; disabled if the threshold is negative
+     */
+    public static SlowQueryLog fromProperties(Properties props) {
+        return new SlowQueryLog(
+            Long.parseLong(props.getProperty("slowQuery.thresholdMillis", "500")),
+            Paths.get(props.getProperty("slowQuery.file", "./logs/slow-queries.log")),
+            Integer.parseInt(props.getProperty("slowQuery.maxFileBytes", "5242880")),
+            Integer.parseInt(props.getProperty("slowQuery.fileCount", "5")),
+            Boolean.parseBoolean(props.getProperty("slowQuery.redactBinds", "true"))
+        );
+    }
+
+    /**
+     * @return true if statements are being timed
+     */
+    public boolean isEnabled() {
+        return thresholdNanos >= 0;
+    }
+
+    /**
+     * Wraps a connection so its slow statements are logged.
+     *
+     * @param connection the connection to wrap
+     * @return a timing proxy for the connection
+     */
+    Connection wrap(Connection connection) {
+        return StatementInterceptor.wrap(connection, List.of(listener()));
+    }
+
+    /**
+     * @return a listener that times each {@code execute*} call and logs the slow ones
+     */
+    StatementInterceptor.Listener listener() {
+        return call -> {
+            long start = System.nanoTime();
+            return (result, error) -> {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    record(call, elapsed, error != null);
+                }
+            };
+        };
+    }
+
+    /**
+     * Closes the log file. A later slow statement reopens it.
+     */
+    @Override
+    public synchronized void close() {
+        if (handler != null) {
+            handler.close();
+            handler = null;
+        }
+    }
+
+    private void record(StatementInterceptor.Call call, long elapsedNanos, boolean failed) {
+        MetricsRegistry.getInstance().counter("db.slowStatements").increment();
+
+        String sql = call.getSql();
+        String method = call.getMethod();
+        Map<Integer, Object> binds = call.getBinds();
+        int batchRows = call.getBatchRows();
+        String text = sql != null ? sql.strip().replaceAll("\\s+", " ") : method + "()";
+        StringBuilder entry = new StringBuilder();
+        entry.append(LocalDateTime.now().withNano(0))
+            .append(String.format(Locale.ROOT, " %.1f ms ", elapsedNanos / 1_000_000.0))
+            .append(method)
+            .append(" [").append(Thread.currentThread().getName()).append("]")
+            .append(System.lineSeparator());
+        entry.append("  SQL:    ").append(text).append(System.lineSeparator());
+        if (!binds.isEmpty()) {
+            entry.append("  Binds:  ").append(formatBinds(binds)).append(System.lineSeparator());
+        }
+        if (batchRows > 0) {
+            entry.append("  Batch:  ").append(batchRows).append(" rows, binds of the last row shown")
+                .append(System.lineSeparator());
+        }
+        findCaller().ifPresent(caller ->
+            entry.append("  Caller: ").append(caller).append(System.lineSeparator()));
+        entry.append("  Plan:");
+        for (String line : explain(call.getConnection(), sql, binds, failed).split("\\R")) {
+            entry.append(System.lineSeparator()).append("    ").append(line);
+        }
+        entry.append(System.lineSeparator());
+        write(entry.toString());
+    }
+
+    private String formatBinds(Map<Integer, Object> binds) {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append('?').append(bind.getKey()).append('=').append(formatValue(bind.getValue()));
+        }
+        return text.toString();
+    }
+
+    private String formatValue(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (redactBinds) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        String text = value.toString();
+        if (text.length() > MAX_BIND_LENGTH) {
+            text = text.substring(0, MAX_BIND_LENGTH) + "...";
+        }
+        return value instanceof String || value instanceof java.util.Date || value instanceof java.time.temporal.Temporal
+            ? "'" + text + "'" : text;
+    }
+
+    /**
+     * Runs {@code EXPLAIN} for the statement with the same bind values.
+     * EXPLAIN plans the statement without executing it. Inside a transaction it
+     * runs under a savepoint: on PostgreSQL a failed EXPLAIN would otherwise
+     * abort the caller's transaction and fail its next statement.
+     */
+    private static String explain(Connection connection, String sql, Map<Integer, Object> binds, boolean failed) {
+        if (sql == null) {
+            return "(no SQL)";
+        }
+        String keyword = sql.strip().split("\\s+", 2)[0].toUpperCase(Locale.ROOT);
+        if (!EXPLAINABLE.contains(keyword)) {
+            return "(not explainable)";
+        }
+        for (Object value : binds.values()) {
+            if (value instanceof InputStream || value instanceof Reader) {
+                return "(stream bind values cannot be replayed)";
+            }
+        }
+        try {
+            if (connection.getAutoCommit()) {
+                return runExplain(connection, sql, binds);
+            }
+            if (failed) {
+                // The failure may already have aborted the transaction
+                return "(skipped: statement failed inside a transaction)";
+            }
+            Savepoint savepoint = connection.setSavepoint();
+            String plan;
+            try {
+                plan = runExplain(connection, sql, binds);
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return plan;
+        } catch (SQLException e) {
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private static String runExplain(Connection connection, String sql, Map<Integer, Object> binds)
+            throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+                stmt.setObject(bind.getKey(), bind.getValue());
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (plan.length() > 0) {
+                        plan.append(System.lineSeparator());
+                    }
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * The first application frame outside the data access plumbing, normally the DAO method.
+     */
+    private static Optional<String> findCaller() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith("com.gymflow.")
+                && !frame.getClassName().startsWith("com.gymflow.config.")
+                && !frame.getClassName().startsWith("com.gymflow.metrics."))
+            .findFirst()
+            .map(StackWalker.StackFrame::toStackTraceElement)
+            .map(StackTraceElement::toString));
+    }
+
+    private synchronized void write(String entry) {
+        try {
+            if (handler == null) {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                // FileHandler patterns treat % as special
+                handler = new FileHandler(file.toString().replace("%", "%%"), maxFileBytes, fileCount, true);
+                handler.setFormatter(new Formatter() {
+                    @Override
+                    public String format(LogRecord record) {
+                        return record.getMessage() + System.lineSeparator();
+                    }
+                });
+            }
+            handler.publish(new LogRecord(Level.WARNING, entry));
+        } catch (IOException e) {
+            System.err.println("Could not write slow query log " + file + ": " + e.getMessage());
+            System.err.print(entry);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.gymflow.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Counts the SQL statements executed on the current thread while a
+ * {@link Scope} is open, so tests can put a budget on a logical operation
+ * (such as loading a dashboard) and catch per-row lookups creeping back in.
+ *
+ * <p>While a scope is open, {@link DatabaseConnection#getConnection()} hands out
+ * connections that report to {@link #LISTENER}; every {@code execute*} call on a
+ * statement created from it counts once, including {@code executeBatch()}.
+ * Scopes nest: a statement counts towards every scope open on the thread.
+ * With no scope open, connections are returned unwrapped and nothing is
+ * counted.</p>
+ *
+ * <pre>
+ * try (StatementCounter.Scope scope = StatementCounter.open("member dashboard")) {
+ *     ...
+ *     System.out.println(scope.getCount() + " statements");
+ * }
+ * </pre>
+ */
+public final class StatementCounter {
+    private static final ThreadLocal<Deque<Scope>> OPEN_SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private StatementCounter() {}
+
+    /**
+     * Opens a counting scope on the current thread. Close it on the same thread.
+     *
+     * @param operation name of the logical operation, used in reports
+     * @return the open scope
+     */
+    public static Scope open(String operation) {
+        Scope scope = new Scope(operation);
+        OPEN_SCOPES.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * @return true if a scope is open on the current thread
+     */
+    public static boolean isCounting() {
+        return !OPEN_SCOPES.get().isEmpty();
+    }
+
+    /**
+     * Counts each {@code execute*} call towards the scopes open on the calling thread.
+     */
+    static final StatementInterceptor.Listener LISTENER = call -> {
+        String sql = call.getSql() != null ? call.getSql() : call.getMethod() + "()";
+        for (Scope scope : OPEN_SCOPES.get()) {
+            scope.statements.add(sql);
+        }
+        return null;
+    };
+
+    /**
+     * Statements executed on one thread between {@link StatementCounter#open(String)}
+     * and {@link #close()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final String operation;
+        private final List<String> statements = new ArrayList<>();
+        private boolean closed;
+
+        private Scope(String operation) {
+            this.operation = operation;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        /**
+         * @return number of statements executed so far
+         */
+        public int getCount() {
+            return statements.size();
+        }
+
+        /**
+         * @return the SQL of each executed statement, in order
+         */
+        public List<String> getStatements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        /**
+         * Stops counting for this scope.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                OPEN_SCOPES.get().remove(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return operation + ": " + statements.size() + " statement(s)";
+        }
+    }
+}
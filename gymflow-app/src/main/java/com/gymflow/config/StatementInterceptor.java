@@ -0,0 +1,363 @@
+package com.gymflow.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wraps a connection so that every {@code execute*} call on a statement created
+ * from it is reported to a list of {@link Listener}s. The statement counter,
+ * the flight recorder statement events and the slow-query log all observe
+ * statements through this one proxy, so a statement passes through a single
+ * layer of reflection however many of them are active.
+ *
+ * <p>Listeners see each call in list order before it runs, and in reverse
+ * order once it has returned, as if each had wrapped the ones after it.</p>
+ */
+public final class StatementInterceptor {
+    private StatementInterceptor() {}
+
+    /**
+     * Wraps a connection so its statements are reported to the listeners.
+     *
+     * @param connection the connection to wrap
+     * @param listeners the listeners, outermost first
+     * @return an intercepting proxy for the connection
+     */
+    public static Connection wrap(Connection connection, List<? extends Listener> listeners) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new ConnectionHandler(connection, List.copyOf(listeners))
+        );
+    }
+
+    /**
+     * Observes the statements of an intercepted connection.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called before an {@code execute*} call runs.
+         *
+         * @param call the call about to run
+         * @return an observer for the outcome of the call, or null if the listener needs none
+         */
+        Execution beforeExecute(Call call);
+    }
+
+    /**
+     * Observes the outcome of one {@code execute*} call.
+     */
+    @FunctionalInterface
+    public interface Execution {
+        /**
+         * Called once the execute call has returned or thrown.
+         *
+         * @param result what the call returned, or null if it threw
+         * @param error what the call threw, or null if it returned
+         */
+        void executed(Object result, Throwable error);
+    }
+
+    /**
+     * An {@link Execution} that also follows the result set of a query. Result
+     * sets are only wrapped when one of these is observing the call.
+     */
+    public interface QueryExecution extends Execution {
+        /**
+         * Called when the result set returned by the call is closed, or when its
+         * statement is closed or executed again. Not called for calls that did
+         * not return a result set.
+         *
+         * @param rowsRead rows read from the result set with {@code next()}
+         */
+        void resultSetClosed(long rowsRead);
+    }
+
+    /**
+     * One {@code execute*} call on an intercepted statement.
+     */
+    public static final class Call {
+        private final Connection connection;
+        private final Statement statement;
+        private final String sql;
+        private final String method;
+        private final Map<Integer, Object> binds;
+        private final int batchRows;
+
+        private Call(Connection connection, Statement statement, String sql, String method,
+                     Map<Integer, Object> binds, int batchRows) {
+            this.connection = connection;
+            this.statement = statement;
+            this.sql = sql;
+            this.method = method;
+            this.binds = binds;
+            this.batchRows = batchRows;
+        }
+
+        /**
+         * @return the unwrapped connection; statements run on it are not intercepted
+         */
+        public Connection getConnection() {
+            return connection;
+        }
+
+        /**
+         * @return the unwrapped statement
+         */
+        public Statement getStatement() {
+            return statement;
+        }
+
+        /**
+         * @return the SQL, or null if neither the statement nor the call carried any
+         */
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * @return the name of the execute method, e.g. {@code executeQuery}
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return bind values by parameter index; for a batch, those of the last row
+         */
+        public Map<Integer, Object> getBinds() {
+            return binds;
+        }
+
+        /**
+         * @return rows added to the batch this call executes, 0 if it is not a batch
+         */
+        public int getBatchRows() {
+            return batchRows;
+        }
+    }
+
+    /**
+     * Wraps statements created by the connection; everything else is forwarded.
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final List<Listener> listeners;
+
+        private ConnectionHandler(Connection target, List<Listener> listeners) {
+            this.target = target;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result = forward(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL; plain statements pass it on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+                return Proxy.newProxyInstance(
+                    Statement.class.getClassLoader(),
+                    new Class<?>[] {type},
+                    new StatementHandler(statement, target, (Connection) proxy, sql, listeners)
+                );
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Remembers bind values and reports each {@code execute*} call. A query's
+     * executions stay open until its result set, or the statement, is closed.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Connection physicalConnection;
+        private final Connection connection;
+        private final String preparedSql;
+        private final List<Listener> listeners;
+        private final Map<Integer, Object> binds = new TreeMap<>();
+        private int batchRows;
+        private ResultSetHandler openQuery;
+
+        private StatementHandler(Statement target, Connection physicalConnection, Connection connection,
+                                 String preparedSql, List<Listener> listeners) {
+            this.target = target;
+            this.physicalConnection = physicalConnection;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    finishQuery();
+                    return forward(target, method, args);
+                case "clearParameters":
+                    binds.clear();
+                    return forward(target, method, args);
+                case "addBatch":
+                    batchRows++;
+                    return forward(target, method, args);
+                case "clearBatch":
+                    batchRows = 0;
+                    return forward(target, method, args);
+                default:
+                    break;
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.put(index, name.equals("setNull") ? null : args[1]);
+                return forward(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return forward(target, method, args);
+            }
+
+            // Re-executing a statement closes the previous result set
+            finishQuery();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            int rows = batchRows;
+            if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) {
+                batchRows = 0;
+            }
+            Call call = new Call(physicalConnection, target, sql, name, Collections.unmodifiableMap(binds), rows);
+            List<Execution> executions = new ArrayList<>(listeners.size());
+            for (Listener listener : listeners) {
+                Execution execution = listener.beforeExecute(call);
+                if (execution != null) {
+                    executions.add(execution);
+                }
+            }
+
+            Object result;
+            try {
+                result = forward(target, method, args);
+            } catch (Throwable e) {
+                for (int i = executions.size() - 1; i >= 0; i--) {
+                    executions.get(i).executed(null, e);
+                }
+                throw e;
+            }
+            for (int i = executions.size() - 1; i >= 0; i--) {
+                executions.get(i).executed(result, null);
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                List<QueryExecution> queries = new ArrayList<>(executions.size());
+                for (Execution execution : executions) {
+                    if (execution instanceof QueryExecution query) {
+                        queries.add(query);
+                    }
+                }
+                if (queries.isEmpty()) {
+                    return result;
+                }
+                openQuery = new ResultSetHandler(resultSet, (Statement) proxy, queries);
+                return Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class},
+                    openQuery
+                );
+            }
+            return result;
+        }
+
+        private void finishQuery() {
+            if (openQuery != null) {
+                openQuery.finish();
+                openQuery = null;
+            }
+        }
+    }
+
+    /**
+     * Counts the rows read and reports them when the result set is closed.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final Statement statement;
+        private final List<QueryExecution> queries;
+        private long rows;
+        private boolean finished;
+
+        private ResultSetHandler(ResultSet target, Statement statement, List<QueryExecution> queries) {
+            this.target = target;
+            this.statement = statement;
+            this.queries = queries;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    Object hasRow = forward(target, method, args);
+                    if (Boolean.TRUE.equals(hasRow)) {
+                        rows++;
+                    }
+                    return hasRow;
+                }
+                case "close":
+                    finish();
+                    return forward(target, method, args);
+                case "getStatement":
+                    return statement;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return forward(target, method, args);
+            }
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                for (int i = queries.size() - 1; i >= 0; i--) {
+                    queries.get(i).resultSetClosed(rows);
+                }
+            }
+        }
+    }
+
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
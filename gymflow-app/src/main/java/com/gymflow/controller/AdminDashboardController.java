@@ -1,12 +1,14 @@
 package com.gymflow.controller;
 
-import com.gymflow.dao.UserDao;
-import com.gymflow.dao.UserDaoImpl;
-import com.gymflow.model.AttendanceRecord;
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.metrics.MetricSnapshot;
+import com.gymflow.metrics.MetricsRegistry;
+import com.gymflow.metrics.ScreenLoadEvent;
 import com.gymflow.model.Equipment;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.security.SessionManager;
+import com.gymflow.service.AsyncService;
 import com.gymflow.service.AttendanceService;
 import com.gymflow.service.AttendanceServiceImpl;
 import com.gymflow.service.ClassScheduleService;
@@ -46,12 +48,12 @@ import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import java.time.format.DateTimeFormatter;
 
-import com.gymflow.exception.FileOperationException;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for the Administrator Dashboard.
@@ -128,36 +130,93 @@ public class AdminDashboardController {
     @FXML
     private Button refreshUsersButton;
 
+    @FXML
+    private Button exportAttendanceButton;
+
+    @FXML
+    private Button importAttendanceButton;
+
+    @FXML
+    private javafx.scene.control.ProgressBar exportProgressBar;
+
+    @FXML
+    private Label exportStatusLabel;
+
+    @FXML
+    private TableView<MetricSnapshot> metricsTable;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricNameColumn;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricTypeColumn;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricCountColumn;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricMeanColumn;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricP50Column;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricP90Column;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricP99Column;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricMaxColumn;
+
+    @FXML
+    private TableColumn<MetricSnapshot, String> metricValueColumn;
+
+    @FXML
+    private Label metricsStatusLabel;
+
     private final SessionManager sessionManager;
-    private final UserDao userDao;
     private final UserService userService;
     private final ClassScheduleService classScheduleService;
     private final EquipmentService equipmentService;
     private final AttendanceService attendanceService;
     private final FileImportExportService fileService;
+    private final AsyncService<UserService> asyncUserService;
+    private final AsyncService<ClassScheduleService> asyncClassScheduleService;
+    private final AsyncService<EquipmentService> asyncEquipmentService;
+    private final ScreenTasks screenTasks = new ScreenTasks("AdminDashboardController");
 
     private ObservableList<Equipment> equipmentList;
     private ObservableList<User> userList;
 
     public AdminDashboardController() {
         this.sessionManager = SessionManager.getInstance();
-        this.userDao = new UserDaoImpl();
-        this.userService = new UserServiceImpl();
-        this.classScheduleService = new ClassScheduleServiceImpl();
-        this.equipmentService = new EquipmentServiceImpl();
-        this.attendanceService = new AttendanceServiceImpl();
-        this.fileService = new FileImportExportServiceImpl();
+        this.userService = Instrumented.service(UserService.class, new UserServiceImpl());
+        this.classScheduleService = Instrumented.service(ClassScheduleService.class, new ClassScheduleServiceImpl());
+        this.equipmentService = Instrumented.service(EquipmentService.class, new EquipmentServiceImpl());
+        this.attendanceService = Instrumented.service(AttendanceService.class, new AttendanceServiceImpl());
+        this.fileService = Instrumented.service(FileImportExportService.class, new FileImportExportServiceImpl());
+        this.asyncUserService = AsyncService.of(userService);
+        this.asyncClassScheduleService = AsyncService.of(classScheduleService);
+        this.asyncEquipmentService = AsyncService.of(equipmentService);
     }
 
     @FXML
     private void initialize() {
-        loadUserInfo();
-        setupEquipmentTable();
-        setupUserTable();
-        loadSystemStats();
-        loadEquipment();
-        loadUsers();
-        logoutButton.setOnAction(event -> handleLogout());
+        ScreenLoadEvent screenLoad = ScreenLoadEvent.start("AdminDashboardController.initialize");
+        try {
+            loadUserInfo();
+            setupEquipmentTable();
+            setupUserTable();
+            setupMetricsTable();
+            loadSystemStats();
+            loadEquipment();
+            loadUsers();
+            loadMetrics();
+            logoutButton.setOnAction(event -> handleLogout());
+        } finally {
+            screenLoad.close();
+        }
     }
 
     private void loadUserInfo() {
@@ -171,6 +230,80 @@ public class AdminDashboardController {
         }
     }
 
+    private void setupMetricsTable() {
+        metricNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
+        metricTypeColumn.setCellValueFactory(cellData ->
+            new javafx.beans.property.SimpleStringProperty(cellData.getValue().getType().name()));
+        metricCountColumn.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            String.valueOf(cellData.getValue().getCount())));
+        metricMeanColumn.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            formatMillis(cellData.getValue().getMeanMillis())));
+        metricP50Column.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            formatMillis(cellData.getValue().getP50Millis())));
+        metricP90Column.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            formatMillis(cellData.getValue().getP90Millis())));
+        metricP99Column.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            formatMillis(cellData.getValue().getP99Millis())));
+        metricMaxColumn.setCellValueFactory(cellData -> timerColumn(cellData.getValue(),
+            formatMillis(cellData.getValue().getMaxMillis())));
+        metricValueColumn.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+            cellData.getValue().getType() == MetricSnapshot.Type.TIMER ? "" : String.valueOf(cellData.getValue().getValue())));
+    }
+
+    /**
+     * Latency columns are only filled in for timers.
+     */
+    private static javafx.beans.property.SimpleStringProperty timerColumn(MetricSnapshot metric, String text) {
+        return new javafx.beans.property.SimpleStringProperty(metric.getType() == MetricSnapshot.Type.TIMER ? text : "");
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format("%.3f", millis);
+    }
+
+    private void loadMetrics() {
+        List<MetricSnapshot> metrics = MetricsRegistry.getInstance().snapshot();
+        metricsTable.setItems(FXCollections.observableArrayList(metrics));
+        metricsStatusLabel.setText(metrics.size() + " metrics, updated " + java.time.LocalTime.now().withNano(0));
+    }
+
+    @FXML
+    private void handleRefreshMetrics() {
+        loadMetrics();
+    }
+
+    @FXML
+    private void handleResetMetrics() {
+        MetricsRegistry.getInstance().reset();
+        loadMetrics();
+    }
+
+    @FXML
+    private void handleDumpMetrics() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Dump Metrics");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("CSV Files", "*.csv")
+        );
+        fileChooser.setInitialFileName("metrics_" + System.currentTimeMillis() + ".csv");
+
+        Stage stage = (Stage) metricsTable.getScene().getWindow();
+        File file = fileChooser.showSaveDialog(stage);
+        if (file == null) {
+            return;
+        }
+
+        List<MetricSnapshot> metrics = MetricsRegistry.getInstance().snapshot();
+        try {
+            com.gymflow.util.CsvUtil.exportMetrics(metrics, file.toPath());
+            metricsTable.setItems(FXCollections.observableArrayList(metrics));
+            showSuccessAlert("Metrics Dumped", metrics.size() + " metrics written to " + file.getName());
+        } catch (com.gymflow.exception.FileOperationException e) {
+            showErrorAlert("Dump Failed", "Failed to write metrics: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     private void setupEquipmentTable() {
         equipmentNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
         equipmentStatusColumn.setCellValueFactory(cellData -> {
@@ -189,33 +322,47 @@ public class AdminDashboardController {
         });
     }
 
+    /**
+     * Reloads the statistic cards in the background: members, trainers,
+     * upcoming classes and equipment, in that order.
+     */
     private void loadSystemStats() {
-        // Load actual statistics from database
-        try {
-            int members = userDao.countByRole(Role.MEMBER);
-            int trainers = userDao.countByRole(Role.TRAINER);
-            int upcomingClasses = classScheduleService.getUpcomingClassSessions().size();
-            int equipmentCount = equipmentService.getAllEquipment().size();
-
-            totalMembersLabel.setText(String.valueOf(members));
-            totalTrainersLabel.setText(String.valueOf(trainers));
-            activeClassesLabel.setText(String.valueOf(upcomingClasses));
-            equipmentCountLabel.setText(String.valueOf(equipmentCount));
-        } catch (com.gymflow.exception.DataAccessException e) {
-            System.err.println("Error loading system stats: " + e.getMessage());
-            // Set default values on error
-            totalMembersLabel.setText("0");
-            totalTrainersLabel.setText("0");
-            activeClassesLabel.setText("0");
-            equipmentCountLabel.setText("0");
-        }
+        CompletableFuture<Integer> members = asyncUserService.call(users -> users.getUserCountByRole(Role.MEMBER));
+        CompletableFuture<Integer> trainers = asyncUserService.call(users -> users.getUserCountByRole(Role.TRAINER));
+        CompletableFuture<Integer> upcoming = asyncClassScheduleService.call(
+            ClassScheduleService::getUpcomingClassSessionCount);
+        CompletableFuture<Integer> equipment = asyncEquipmentService.call(
+            service -> service.getAllEquipment().size());
+        screenTasks.run("loadSystemStats",
+            CompletableFuture.allOf(members, trainers, upcoming, equipment),
+            done -> {
+                totalMembersLabel.setText(String.valueOf(members.join()));
+                totalTrainersLabel.setText(String.valueOf(trainers.join()));
+                activeClassesLabel.setText(String.valueOf(upcoming.join()));
+                equipmentCountLabel.setText(String.valueOf(equipment.join()));
+            },
+            error -> {
+                System.err.println("Error loading system stats: " + error.getMessage());
+                // Set default values on error
+                totalMembersLabel.setText("0");
+                totalTrainersLabel.setText("0");
+                activeClassesLabel.setText("0");
+                equipmentCountLabel.setText("0");
+            },
+            members, trainers, upcoming, equipment);
     }
 
     private void loadEquipment() {
-        equipmentList = FXCollections.observableArrayList(
-            equipmentService.getAllEquipment()
-        );
-        equipmentTable.setItems(equipmentList);
+        screenTasks.run("loadEquipment",
+            asyncEquipmentService.call(EquipmentService::getAllEquipment),
+            equipment -> {
+                equipmentList = FXCollections.observableArrayList(equipment);
+                equipmentTable.setItems(equipmentList);
+            },
+            error -> {
+                System.err.println("Error loading equipment: " + error.getMessage());
+                showErrorAlert("Error", "Failed to load equipment: " + error.getMessage());
+            });
     }
 
     private void setupUserTable() {
@@ -286,14 +433,17 @@ public class AdminDashboardController {
     }
 
     private void loadUsers() {
-        try {
-            userList = FXCollections.observableArrayList(userService.getAllUsers());
-            userTable.setItems(userList);
-        } catch (DataAccessException e) {
-            showErrorAlert("Error", "Failed to load users: " + e.getMessage());
-            System.err.println("Error loading users: " + e.getMessage());
-            e.printStackTrace();
-        }
+        screenTasks.run("loadUsers",
+            asyncUserService.call(UserService::getAllUsers),
+            users -> {
+                userList = FXCollections.observableArrayList(users);
+                userTable.setItems(userList);
+            },
+            error -> {
+                showErrorAlert("Error", "Failed to load users: " + error.getMessage());
+                System.err.println("Error loading users: " + error.getMessage());
+                error.printStackTrace();
+            });
     }
 
     @FXML
@@ -511,10 +661,10 @@ public class AdminDashboardController {
 
     @FXML
     private void handleExportAttendanceReport() {
-        // Get all attendance records
-        List<AttendanceRecord> allRecords = attendanceService.getAllAttendanceRecords();
+        // Only count here; the rows themselves are streamed to the file
+        int totalRecords = attendanceService.getAttendanceRecordCount();
 
-        if (allRecords.isEmpty()) {
+        if (totalRecords == 0) {
             showErrorAlert("No Data", "No attendance records found to export");
             return;
         }
@@ -542,46 +692,149 @@ public class AdminDashboardController {
                 }
             }
 
-            try {
-                // Enrich data with member and class names
-                java.util.Map<Long, String> memberNameMap = new java.util.HashMap<>();
-                java.util.Map<Long, String> classNameMap = new java.util.HashMap<>();
-
-                // Build member name map
-                for (AttendanceRecord record : allRecords) {
-                    if (!memberNameMap.containsKey(record.getMemberId())) {
-                        try {
-                            Optional<User> member = userDao.findById(record.getMemberId());
-                            if (member.isPresent()) {
-                                memberNameMap.put(record.getMemberId(), member.get().getFullName());
-                            }
-                        } catch (com.gymflow.exception.DataAccessException e) {
-                            System.err.println("Error loading member name: " + e.getMessage());
-                            memberNameMap.put(record.getMemberId(), "Unknown Member");
-                        }
-                    }
-                    if (!classNameMap.containsKey(record.getSessionId())) {
-                        Optional<com.gymflow.model.ClassSession> session = classScheduleService.getClassSessionById(record.getSessionId());
-                        if (session.isPresent()) {
-                            classNameMap.put(record.getSessionId(), session.get().getTitle());
-                        }
-                    }
-                }
+            startAttendanceExport(file, totalRecords);
+        }
+    }
+
+    /**
+     * Streams the attendance report into the file on a background thread so the
+     * dashboard stays responsive, showing progress as rows are written.
+     */
+    private void startAttendanceExport(File file, int totalRecords) {
+        javafx.concurrent.Task<Long> exportTask = new javafx.concurrent.Task<>() {
+            @Override
+            protected Long call() throws Exception {
+                return fileService.streamAttendanceReport(file.getAbsolutePath(), written -> {
+                    updateProgress(written, totalRecords);
+                    updateMessage(String.format("Exported %d of %d record(s)...", written, totalRecords));
+                });
+            }
+        };
 
-                fileService.exportAttendanceReport(allRecords, file.getAbsolutePath(), memberNameMap, classNameMap);
-                showSuccessAlert("Export Successful", 
-                    String.format("Exported %d attendance record(s) to %s", allRecords.size(), file.getName()));
-            } catch (FileOperationException e) {
-                showErrorAlert("Export Error", "Failed to export attendance report: " + e.getMessage());
-                System.err.println("File operation error: " + e.getMessage());
+        if (exportProgressBar != null) {
+            exportProgressBar.progressProperty().bind(exportTask.progressProperty());
+            exportProgressBar.setVisible(true);
+        }
+        if (exportStatusLabel != null) {
+            exportStatusLabel.textProperty().bind(exportTask.messageProperty());
+        }
+        if (exportAttendanceButton != null) {
+            exportAttendanceButton.setDisable(true);
+        }
+
+        exportTask.setOnSucceeded(event -> {
+            finishAttendanceExport();
+            showSuccessAlert("Export Successful",
+                String.format("Exported %d attendance record(s) to %s", exportTask.getValue(), file.getName()));
+        });
+        exportTask.setOnFailed(event -> {
+            finishAttendanceExport();
+            Throwable error = exportTask.getException();
+            showErrorAlert("Export Error", "Failed to export attendance report: " + error.getMessage());
+            System.err.println("Attendance export error: " + error.getMessage());
+            error.printStackTrace();
+        });
+
+        Thread exportThread = new Thread(exportTask, "gymflow-attendance-export");
+        exportThread.setDaemon(true);
+        exportThread.start();
+    }
+
+    private void finishAttendanceExport() {
+        if (exportProgressBar != null) {
+            exportProgressBar.progressProperty().unbind();
+            exportProgressBar.setVisible(false);
+        }
+        if (exportStatusLabel != null) {
+            exportStatusLabel.textProperty().unbind();
+            exportStatusLabel.setText("");
+        }
+        if (exportAttendanceButton != null) {
+            exportAttendanceButton.setDisable(false);
+        }
+    }
+
+    @FXML
+    private void handleImportAttendance() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import Attendance");
+        fileChooser.getExtensionFilters().add(
+            new FileChooser.ExtensionFilter("CSV Files", "*.csv")
+        );
+
+        Stage stage = (Stage) equipmentTable.getScene().getWindow();
+        File file = fileChooser.showOpenDialog(stage);
+        if (file == null) {
+            return;
+        }
+
+        // Parsing, lookups and the batched upsert run off the FX thread
+        javafx.concurrent.Task<com.gymflow.model.AttendanceImportReport> importTask = new javafx.concurrent.Task<>() {
+            @Override
+            protected com.gymflow.model.AttendanceImportReport call() throws Exception {
+                return fileService.importAttendance(file.getAbsolutePath());
+            }
+        };
+
+        if (importAttendanceButton != null) {
+            importAttendanceButton.setDisable(true);
+        }
+
+        importTask.setOnSucceeded(event -> {
+            if (importAttendanceButton != null) {
+                importAttendanceButton.setDisable(false);
+            }
+            showAttendanceImportResult(file, importTask.getValue());
+            loadSystemStats();
+        });
+        importTask.setOnFailed(event -> {
+            if (importAttendanceButton != null) {
+                importAttendanceButton.setDisable(false);
+            }
+            Throwable error = importTask.getException();
+            showErrorAlert("Import Error", "Failed to import attendance: " + error.getMessage());
+            System.err.println("Attendance import error: " + error.getMessage());
+            error.printStackTrace();
+        });
+
+        Thread importThread = new Thread(importTask, "gymflow-attendance-import");
+        importThread.setDaemon(true);
+        importThread.start();
+    }
+
+    /**
+     * Summarises an attendance import and, if any rows were not imported, writes
+     * them with their reasons next to the source file.
+     */
+    private void showAttendanceImportResult(File source, com.gymflow.model.AttendanceImportReport report) {
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("Imported: %d%nRejected: %d%nFailed: %d",
+            report.getImportedCount(), report.getRejectedCount(), report.getFailedCount()));
+
+        java.util.List<com.gymflow.model.AttendanceImportReport.Row> rejectedRows = report.getRejectedRows();
+        if (!rejectedRows.isEmpty()) {
+            String baseName = source.getName().replaceFirst("(?i)\\.csv$", "");
+            File rejectionsFile = new File(source.getParentFile(), baseName + "-rejected.csv");
+            try {
+                com.gymflow.util.CsvUtil.exportAttendanceRejections(rejectedRows, rejectionsFile.toPath());
+                message.append("\n\nRows not imported were written to ").append(rejectionsFile.getName());
+            } catch (Exception e) {
+                System.err.println("Could not write attendance rejections: " + e.getMessage());
                 e.printStackTrace();
             }
         }
+
+        if (report.getImportedCount() > 0) {
+            showSuccessAlert("Import Complete", message.toString());
+        } else {
+            showErrorAlert("Import Error", message.toString());
+        }
     }
 
     @FXML
     private void handleLogout() {
         try {
+            screenTasks.cancelAll();
             sessionManager.logout();
             navigateToLogin();
         } catch (Exception e) {
@@ -2,6 +2,7 @@ package com.gymflow.controller;
 
 import com.gymflow.exception.AuthenticationException;
 import com.gymflow.exception.DataAccessException;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.security.SessionManager;
@@ -42,7 +43,7 @@ public class LoginController {
     private final SessionManager sessionManager;
 
     public LoginController() {
-        this.authService = new AuthServiceImpl();
+        this.authService = Instrumented.service(AuthService.class, new AuthServiceImpl());
         this.sessionManager = SessionManager.getInstance();
     }
 
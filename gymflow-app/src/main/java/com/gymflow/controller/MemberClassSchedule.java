@@ -0,0 +1,103 @@
+package com.gymflow.controller;
+
+import com.gymflow.dao.UserDao;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.ClassSession;
+import com.gymflow.model.User;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.service.AttendanceService;
+import com.gymflow.service.ClassScheduleService;
+import com.gymflow.service.WorkoutService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Upcoming classes for the member dashboard, together with everything the
+ * class table shows for them: trainer names, workout plan titles and the
+ * member's registrations. All of it is fetched when the schedule is loaded,
+ * so rendering a table row never goes back to the database.
+ */
+final class MemberClassSchedule {
+    private final List<ClassSession> sessions;
+    private final Map<Long, String> trainerNames;
+    private final Map<Long, String> workoutPlanTitles;
+    private final Set<Long> registeredSessionIds;
+
+    private MemberClassSchedule(List<ClassSession> sessions, Map<Long, String> trainerNames,
+                                Map<Long, String> workoutPlanTitles, Set<Long> registeredSessionIds) {
+        this.sessions = sessions;
+        this.trainerNames = trainerNames;
+        this.workoutPlanTitles = workoutPlanTitles;
+        this.registeredSessionIds = registeredSessionIds;
+    }
+
+    /**
+     * @return a schedule with no classes, used before the first load
+     */
+    static MemberClassSchedule empty() {
+        return new MemberClassSchedule(List.of(), Map.of(), Map.of(), Set.of());
+    }
+
+    /**
+     * Loads the upcoming classes in four queries: the sessions, their trainers,
+     * their workout plans and the member's registrations.
+     *
+     * @param memberId the member viewing the schedule, or 0 if the user is not a member
+     * @return the loaded schedule
+     * @throws DataAccessException if the upcoming classes cannot be loaded
+     */
+    static MemberClassSchedule load(long memberId, ClassScheduleService classScheduleService,
+                                    WorkoutService workoutService, AttendanceService attendanceService,
+                                    UserDao userDao) throws DataAccessException {
+        List<ClassSession> sessions = classScheduleService.getUpcomingClassSessions();
+
+        Set<Long> trainerIds = new LinkedHashSet<>();
+        Set<Long> planIds = new LinkedHashSet<>();
+        for (ClassSession session : sessions) {
+            trainerIds.add(session.getTrainerId());
+            if (session.getWorkoutPlanId() != null) {
+                planIds.add(session.getWorkoutPlanId());
+            }
+        }
+
+        Map<Long, String> trainerNames = new HashMap<>();
+        if (!trainerIds.isEmpty()) {
+            try {
+                for (User trainer : userDao.findByIds(trainerIds)) {
+                    trainerNames.put(trainer.getId(), trainer.getFullName());
+                }
+            } catch (Exception e) {
+                System.err.println("Error getting trainer names: " + e.getMessage());
+            }
+        }
+
+        Map<Long, String> planTitles = new HashMap<>();
+        for (WorkoutPlan plan : workoutService.getWorkoutPlansByIds(planIds)) {
+            planTitles.put(plan.getId(), plan.getTitle());
+        }
+
+        Set<Long> registered = memberId > 0 ? attendanceService.getRegisteredSessionIds(memberId) : Set.of();
+        return new MemberClassSchedule(new ArrayList<>(sessions), trainerNames, planTitles, registered);
+    }
+
+    List<ClassSession> getSessions() {
+        return sessions;
+    }
+
+    String getTrainerName(long trainerId) {
+        return trainerNames.getOrDefault(trainerId, "Trainer");
+    }
+
+    String getWorkoutPlanTitle(long workoutPlanId) {
+        return workoutPlanTitles.getOrDefault(workoutPlanId, "Unknown");
+    }
+
+    boolean isRegistered(long sessionId) {
+        return registeredSessionIds.contains(sessionId);
+    }
+}
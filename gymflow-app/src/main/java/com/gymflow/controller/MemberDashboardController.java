@@ -1,10 +1,14 @@
 package com.gymflow.controller;
 
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.metrics.ScreenLoadEvent;
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.ClassSession;
 import com.gymflow.model.Member;
 import com.gymflow.model.User;
 import com.gymflow.model.WorkoutPlan;
 import com.gymflow.security.SessionManager;
+import com.gymflow.service.AsyncService;
 import com.gymflow.service.AttendanceService;
 import com.gymflow.service.AttendanceServiceImpl;
 import com.gymflow.service.ClassScheduleService;
@@ -123,68 +127,87 @@ public class MemberDashboardController {
     private javafx.scene.control.Button unregisterButton;
 
     @FXML
-    private TableView<java.util.Map<String, Object>> attendanceTable;
+    private TableView<AttendanceHistoryRow> attendanceTable;
 
     @FXML
-    private TableColumn<java.util.Map<String, Object>, String> attendanceClassNameColumn;
+    private TableColumn<AttendanceHistoryRow, String> attendanceClassNameColumn;
 
     @FXML
-    private TableColumn<java.util.Map<String, Object>, String> attendanceDateTimeColumn;
+    private TableColumn<AttendanceHistoryRow, String> attendanceDateTimeColumn;
 
     @FXML
-    private TableColumn<java.util.Map<String, Object>, String> attendanceTrainerColumn;
+    private TableColumn<AttendanceHistoryRow, String> attendanceTrainerColumn;
 
     @FXML
-    private TableColumn<java.util.Map<String, Object>, String> attendanceStatusColumn;
+    private TableColumn<AttendanceHistoryRow, String> attendanceStatusColumn;
 
     @FXML
     private Button refreshAttendanceButton;
 
+    @FXML
+    private Button loadMoreAttendanceButton;
+
     private final SessionManager sessionManager;
     private final WorkoutService workoutService;
     private final ClassScheduleService classScheduleService;
     private final AttendanceService attendanceService;
     private final com.gymflow.service.WorkoutCompletionService completionService;
+    private final AsyncService<MemberDashboardLoader> asyncLoader;
+    private final AsyncService<AttendanceService> asyncAttendanceService;
+    private final ScreenTasks screenTasks = new ScreenTasks("MemberDashboardController");
 
     private ObservableList<WorkoutPlan> workoutPlans;
     private ObservableList<ClassSession> upcomingClasses;
-    private ObservableList<java.util.Map<String, Object>> attendanceHistory;
-    // Map to track which class each workout came from
-    private java.util.Map<Long, ClassSession> workoutToClassMap;
+    private ObservableList<AttendanceHistoryRow> attendanceHistory;
+    // Workout plans plus the source classes and completion flags the workout table shows
+    private MemberWorkoutPlans memberWorkouts;
+    // Upcoming classes plus the trainer names, plan titles and registrations the class table shows
+    private MemberClassSchedule classSchedule;
 
     public MemberDashboardController() {
         this.sessionManager = SessionManager.getInstance();
-        this.workoutService = new WorkoutServiceImpl();
-        this.classScheduleService = new ClassScheduleServiceImpl();
-        this.attendanceService = new AttendanceServiceImpl();
-        this.completionService = new com.gymflow.service.WorkoutCompletionServiceImpl();
-        this.workoutToClassMap = new java.util.HashMap<>();
+        this.workoutService = Instrumented.service(WorkoutService.class, new WorkoutServiceImpl());
+        this.classScheduleService = Instrumented.service(ClassScheduleService.class, new ClassScheduleServiceImpl());
+        this.attendanceService = Instrumented.service(AttendanceService.class, new AttendanceServiceImpl());
+        this.completionService = Instrumented.service(com.gymflow.service.WorkoutCompletionService.class, new com.gymflow.service.WorkoutCompletionServiceImpl());
+        MemberDashboardLoader loader = new MemberDashboardLoader(classScheduleService, workoutService, attendanceService,
+            completionService, new com.gymflow.dao.CachingUserDao(
+                Instrumented.dao(com.gymflow.dao.UserDao.class, new com.gymflow.dao.UserDaoImpl())));
+        this.asyncLoader = AsyncService.of(loader);
+        this.asyncAttendanceService = AsyncService.of(attendanceService);
+        this.memberWorkouts = MemberWorkoutPlans.empty();
+        this.classSchedule = MemberClassSchedule.empty();
     }
 
     @FXML
     private void initialize() {
+        ScreenLoadEvent screenLoad = ScreenLoadEvent.start("MemberDashboardController.initialize");
         try {
-            // Initialize collections first
-            upcomingClasses = FXCollections.observableArrayList();
-            workoutPlans = FXCollections.observableArrayList();
+            try {
+                // Initialize collections first
+                upcomingClasses = FXCollections.observableArrayList();
+                workoutPlans = FXCollections.observableArrayList();
             
-            loadUserInfo();
-            setupWorkoutTable();
-            setupClassTable();
-            setupAttendanceTable();
-            loadUpcomingClasses(); // Load classes first
-            loadWorkoutPlans(); // Then load workout plans (which uses upcomingClasses)
-            loadAttendanceHistory(); // Load attendance history
-            if (logoutButton != null) {
-                logoutButton.setOnAction(event -> handleLogout());
+                loadUserInfo();
+                setupWorkoutTable();
+                setupClassTable();
+                setupAttendanceTable();
+                loadUpcomingClasses(); // Load classes first
+                loadWorkoutPlans(); // Then load workout plans
+                loadAttendanceHistory(); // Load attendance history
+                if (logoutButton != null) {
+                    logoutButton.setOnAction(event -> handleLogout());
+                }
+            } catch (Exception e) {
+                System.err.println("Error initializing MemberDashboardController: " + e.getMessage());
+                e.printStackTrace();
+                // Show error to user
+                javafx.application.Platform.runLater(() -> {
+                    showErrorAlert("Initialization Error", "Failed to initialize dashboard: " + e.getMessage());
+                });
             }
-        } catch (Exception e) {
-            System.err.println("Error initializing MemberDashboardController: " + e.getMessage());
-            e.printStackTrace();
-            // Show error to user
-            javafx.application.Platform.runLater(() -> {
-                showErrorAlert("Initialization Error", "Failed to initialize dashboard: " + e.getMessage());
-            });
+        } finally {
+            screenLoad.close();
         }
     }
 
@@ -215,7 +238,7 @@ public class MemberDashboardController {
         workoutSourceColumn.setCellValueFactory(cellData -> {
             WorkoutPlan plan = cellData.getValue();
             if (plan != null) {
-                ClassSession sourceClass = workoutToClassMap.get(plan.getId());
+                ClassSession sourceClass = memberWorkouts.getSourceClass(plan.getId());
                 if (sourceClass != null) {
                     return new javafx.beans.property.SimpleStringProperty("Class: " + sourceClass.getTitle());
                 }
@@ -271,7 +294,7 @@ public class MemberDashboardController {
             WorkoutPlan plan = cellData.getValue();
             User currentUser = sessionManager.getCurrentUser();
             if (plan != null && currentUser != null && currentUser instanceof Member) {
-                boolean completed = completionService.isCompleted(plan.getId(), currentUser.getId());
+                boolean completed = memberWorkouts.isCompleted(plan.getId());
                 javafx.beans.property.SimpleStringProperty prop = new javafx.beans.property.SimpleStringProperty(
                     completed ? "✓ Completed" : "Pending"
                 );
@@ -321,11 +344,11 @@ public class MemberDashboardController {
         }
         
         // Check if workout is from a class
-        ClassSession sourceClass = workoutToClassMap.get(selectedPlan.getId());
+        ClassSession sourceClass = memberWorkouts.getSourceClass(selectedPlan.getId());
         boolean isFromClass = sourceClass != null;
         
         // Check if already completed
-        boolean isCompleted = completionService.isCompleted(selectedPlan.getId(), currentUser.getId());
+        boolean isCompleted = memberWorkouts.isCompleted(selectedPlan.getId());
         
         if (viewDetailsButton != null) {
             viewDetailsButton.setDisable(false);
@@ -358,11 +381,11 @@ public class MemberDashboardController {
         
         classNameColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
         
-        // Get trainer name from database
+        // Trainer names, plan titles and registrations come from classSchedule; cells never query
         classTrainerColumn.setCellValueFactory(cellData -> {
             ClassSession session = cellData.getValue();
             if (session != null) {
-                String trainerName = getTrainerName(session.getTrainerId());
+                String trainerName = classSchedule.getTrainerName(session.getTrainerId());
                 return new javafx.beans.property.SimpleStringProperty(trainerName);
             }
             return new javafx.beans.property.SimpleStringProperty("Unknown");
@@ -390,10 +413,7 @@ public class MemberDashboardController {
                     ClassSession session = getTableRow().getItem();
                     User currentUser = sessionManager.getCurrentUser();
                     if (session != null && currentUser != null && currentUser instanceof Member) {
-                        // Always check current registration status from database
-                        boolean isRegistered = attendanceService.isRegisteredForClass(
-                            session.getId(), currentUser.getId()
-                        );
+                        boolean isRegistered = classSchedule.isRegistered(session.getId());
                         setText(isRegistered ? "Yes" : "No");
                         // Visual feedback - green for registered, gray for not registered
                         if (isRegistered) {
@@ -423,8 +443,7 @@ public class MemberDashboardController {
         classWorkoutPlanColumn.setCellValueFactory(cellData -> {
             ClassSession session = cellData.getValue();
             if (session != null && session.getWorkoutPlanId() != null) {
-                // Get workout plan title
-                String workoutTitle = getWorkoutPlanTitle(session.getWorkoutPlanId());
+                String workoutTitle = classSchedule.getWorkoutPlanTitle(session.getWorkoutPlanId());
                 return new javafx.beans.property.SimpleStringProperty(workoutTitle);
             }
             return new javafx.beans.property.SimpleStringProperty("No workout plan");
@@ -488,51 +507,44 @@ public class MemberDashboardController {
 
         // Class Name column
         attendanceClassNameColumn.setCellValueFactory(cellData -> {
-            java.util.Map<String, Object> record = cellData.getValue();
-            if (record != null && record.containsKey("className")) {
-                return new javafx.beans.property.SimpleStringProperty(
-                    record.get("className").toString()
-                );
+            AttendanceHistoryRow record = cellData.getValue();
+            if (record != null && record.getClassName() != null) {
+                return new javafx.beans.property.SimpleStringProperty(record.getClassName());
             }
             return new javafx.beans.property.SimpleStringProperty("-");
         });
 
         // Date & Time column
         attendanceDateTimeColumn.setCellValueFactory(cellData -> {
-            java.util.Map<String, Object> record = cellData.getValue();
-            if (record != null && record.containsKey("dateTime")) {
-                return new javafx.beans.property.SimpleStringProperty(
-                    record.get("dateTime").toString()
-                );
+            AttendanceHistoryRow record = cellData.getValue();
+            if (record != null) {
+                return new javafx.beans.property.SimpleStringProperty(record.getDateTimeDisplay());
             }
             return new javafx.beans.property.SimpleStringProperty("-");
         });
 
         // Trainer column
         attendanceTrainerColumn.setCellValueFactory(cellData -> {
-            java.util.Map<String, Object> record = cellData.getValue();
-            if (record != null && record.containsKey("trainerName")) {
-                return new javafx.beans.property.SimpleStringProperty(
-                    record.get("trainerName").toString()
-                );
+            AttendanceHistoryRow record = cellData.getValue();
+            if (record != null && record.getTrainerName() != null) {
+                return new javafx.beans.property.SimpleStringProperty(record.getTrainerName());
             }
             return new javafx.beans.property.SimpleStringProperty("-");
         });
 
         // Attended status column with styling
         attendanceStatusColumn.setCellValueFactory(cellData -> {
-            java.util.Map<String, Object> record = cellData.getValue();
-            if (record != null && record.containsKey("attended")) {
-                boolean attended = (Boolean) record.get("attended");
+            AttendanceHistoryRow record = cellData.getValue();
+            if (record != null) {
                 return new javafx.beans.property.SimpleStringProperty(
-                    attended ? "Yes" : "No"
+                    record.isAttended() ? "Yes" : "No"
                 );
             }
             return new javafx.beans.property.SimpleStringProperty("No");
         });
 
         // Custom cell factory for status column to add color styling
-        attendanceStatusColumn.setCellFactory(column -> new javafx.scene.control.TableCell<java.util.Map<String, Object>, String>() {
+        attendanceStatusColumn.setCellFactory(column -> new javafx.scene.control.TableCell<AttendanceHistoryRow, String>() {
             @Override
             protected void updateItem(String item, boolean empty) {
                 super.updateItem(item, empty);
@@ -567,9 +579,7 @@ public class MemberDashboardController {
             return;
         }
         
-        boolean isRegistered = attendanceService.isRegisteredForClass(
-            selectedSession.getId(), currentUser.getId()
-        );
+        boolean isRegistered = classSchedule.isRegistered(selectedSession.getId());
         
         if (registerButton != null) {
             registerButton.setDisable(isRegistered);
@@ -578,114 +588,94 @@ public class MemberDashboardController {
             unregisterButton.setDisable(!isRegistered);
         }
     }
-    
-    /**
-     * Gets the trainer's name from the database.
-     */
-    private String getTrainerName(long trainerId) {
-        try {
-            com.gymflow.dao.UserDao userDao = new com.gymflow.dao.UserDaoImpl();
-            Optional<User> trainer = userDao.findById(trainerId);
-            if (trainer.isPresent()) {
-                return trainer.get().getFullName();
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting trainer name: " + e.getMessage());
-        }
-        return "Trainer";
-    }
-    
+
     /**
-     * Gets the workout plan title from the database.
+     * Reloads the workout table in the background.
      */
-    private String getWorkoutPlanTitle(long workoutPlanId) {
-        try {
-            Optional<WorkoutPlan> plan = workoutService.getWorkoutPlanById(workoutPlanId);
-            if (plan.isPresent()) {
-                return plan.get().getTitle();
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting workout plan title: " + e.getMessage());
-        }
-        return "Unknown";
-    }
-
     private void loadWorkoutPlans() {
         User currentUser = sessionManager.getCurrentUser();
         if (currentUser != null && currentUser instanceof Member) {
-            // Clear the map
-            workoutToClassMap.clear();
-            
-            // Get direct workout plans assigned to member
-            List<WorkoutPlan> directPlans = workoutService.getWorkoutPlansForMember(currentUser.getId());
-            
-            // Get workout plans from registered classes and track their source
-            List<WorkoutPlan> classPlans = new java.util.ArrayList<>();
-            if (upcomingClasses != null) {
-                for (ClassSession session : upcomingClasses) {
-                    if (session != null && session.getWorkoutPlanId() != null && 
-                        attendanceService.isRegisteredForClass(session.getId(), currentUser.getId())) {
-                        Optional<WorkoutPlan> plan = workoutService.getWorkoutPlanById(session.getWorkoutPlanId());
-                        if (plan.isPresent()) {
-                            classPlans.add(plan.get());
-                            // Track which class this workout came from
-                            workoutToClassMap.put(plan.get().getId(), session);
-                        }
-                    }
-                }
-            }
-            
-            // Combine both lists (avoid duplicates)
-            java.util.Set<Long> planIds = new java.util.HashSet<>();
-            List<WorkoutPlan> allPlans = new java.util.ArrayList<>();
-            
-            for (WorkoutPlan plan : directPlans) {
-                if (!planIds.contains(plan.getId())) {
-                    allPlans.add(plan);
-                    planIds.add(plan.getId());
-                }
-            }
-            
-            for (WorkoutPlan plan : classPlans) {
-                if (!planIds.contains(plan.getId())) {
-                    allPlans.add(plan);
-                    planIds.add(plan.getId());
-                }
-            }
-            
-            workoutPlans = FXCollections.observableArrayList(allPlans);
-            if (workoutTable != null) {
-                workoutTable.setItems(workoutPlans);
-                workoutTable.refresh();
-            }
+            long memberId = currentUser.getId();
+            screenTasks.run("loadWorkoutPlans", asyncLoader.call(dashboard -> dashboard.loadWorkoutPlans(memberId)),
+                this::showWorkoutPlans,
+                error -> {
+                    System.err.println("Error loading workout plans: " + error.getMessage());
+                    showErrorAlert("Error", "Failed to load workout plans: " + error.getMessage());
+                });
         } else {
-            workoutPlans = FXCollections.observableArrayList();
-            if (workoutTable != null) {
-                workoutTable.setItems(workoutPlans);
+            ScreenLoadEvent screenLoad = ScreenLoadEvent.start("MemberDashboardController.loadWorkoutPlans");
+            try {
+                showWorkoutPlans(MemberWorkoutPlans.empty());
+            } finally {
+                screenLoad.close();
             }
         }
     }
 
+    private void showWorkoutPlans(MemberWorkoutPlans loaded) {
+        memberWorkouts = loaded;
+        workoutPlans = FXCollections.observableArrayList(loaded.getPlans());
+        if (workoutTable != null) {
+            workoutTable.setItems(workoutPlans);
+            workoutTable.refresh();
+        }
+    }
+
+    /**
+     * Reloads the class table in the background.
+     */
     private void loadUpcomingClasses() {
         if (upcomingClasses == null) {
             upcomingClasses = FXCollections.observableArrayList();
         }
-        
-        List<ClassSession> sessions = classScheduleService.getUpcomingClassSessions();
+        reloadClassSchedule(-1);
+    }
+
+    /**
+     * Loads the upcoming classes and everything their table rows display in the
+     * background, then swaps them into the class table.
+     *
+     * @param selectedId the session to select again once the rows arrive, or -1 for none
+     */
+    private void reloadClassSchedule(long selectedId) {
+        User currentUser = sessionManager.getCurrentUser();
+        long memberId = currentUser instanceof Member ? currentUser.getId() : 0;
+        screenTasks.run("loadUpcomingClasses", asyncLoader.call(dashboard -> dashboard.loadClassSchedule(memberId)),
+            loaded -> showClassSchedule(loaded, selectedId),
+            error -> {
+                System.err.println("Error loading classes: " + error.getMessage());
+                showErrorAlert("Error", "Failed to load classes: " + error.getMessage());
+            });
+    }
+
+    private void showClassSchedule(MemberClassSchedule loaded, long selectedId) {
+        classSchedule = loaded;
+
+        // Clear and reload - this ensures all cell value factories are re-evaluated
         upcomingClasses.clear();
-        upcomingClasses.addAll(sessions);
-        
-        if (classTable != null) {
-            classTable.setItems(upcomingClasses);
-            // Refresh the table to update cell values (especially Registered column)
-            classTable.refresh();
+        upcomingClasses.addAll(loaded.getSessions());
+        if (classTable == null) {
+            return;
+        }
+        classTable.setItems(upcomingClasses);
+        // Refresh the table to update cell values (especially Registered column)
+        classTable.refresh();
+
+        // Restore selection by finding the session with the same ID
+        if (selectedId > 0) {
+            for (int i = 0; i < upcomingClasses.size(); i++) {
+                if (upcomingClasses.get(i).getId() == selectedId) {
+                    classTable.getSelectionModel().select(i);
+                    updateButtonStates(upcomingClasses.get(i));
+                    return;
+                }
+            }
         }
+        updateButtonStates(classTable.getSelectionModel().getSelectedItem());
     }
 
     /**
-     * Loads attendance history for the current member.
-     * Retrieves all completed workouts from workout_completions table and enriches them with workout plan and class information.
-     * This ensures the attendance history matches the completed workouts shown in the workout plans table.
+     * Reloads the first page of attendance history for the current member in the background.
      */
     private void loadAttendanceHistory() {
         User currentUser = sessionManager.getCurrentUser();
@@ -694,105 +684,61 @@ public class MemberDashboardController {
             if (attendanceTable != null) {
                 attendanceTable.setItems(attendanceHistory);
             }
+            updateLoadMoreAttendanceButton(0);
             return;
         }
 
-        // Get all workout completions for this member (this is the source of truth for completed workouts)
-        List<com.gymflow.model.WorkoutCompletion> completions = completionService.getCompletionsByMember(currentUser.getId());
-        
-        // Convert to display format with workout plan and class information
-        List<java.util.Map<String, Object>> historyData = new java.util.ArrayList<>();
-        
-        for (com.gymflow.model.WorkoutCompletion completion : completions) {
-            java.util.Map<String, Object> historyItem = new java.util.HashMap<>();
-            
-            // Get workout plan details
-            Optional<WorkoutPlan> workoutPlanOpt = workoutService.getWorkoutPlanById(completion.getWorkoutPlanId());
-            if (workoutPlanOpt.isEmpty()) {
-                // Skip if workout plan not found (might have been deleted)
-                continue;
-            }
-            
-            WorkoutPlan workoutPlan = workoutPlanOpt.get();
-            
-            // Check if this completion is from a class or direct assignment
-            if (completion.getClassSessionId() != null) {
-                // From a class - get class session details
-                Optional<ClassSession> classSessionOpt = classScheduleService.getClassSessionById(completion.getClassSessionId());
-                if (classSessionOpt.isPresent()) {
-                    ClassSession classSession = classSessionOpt.get();
-                    historyItem.put("className", classSession.getTitle());
-                    
-                    // Format class date and time
-                    if (classSession.getScheduleTimestamp() != null) {
-                        String dateTime = classSession.getScheduleTimestamp().format(
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
-                        );
-                        historyItem.put("dateTime", dateTime);
-                    } else {
-                        // Fallback to completion date if class date not available
-                        if (completion.getCompletedAt() != null) {
-                            historyItem.put("dateTime", completion.getCompletedAt().format(
-                                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
-                            ));
-                        } else {
-                            historyItem.put("dateTime", "N/A");
-                        }
-                    }
-                    
-                    // Get trainer name from class session
-                    String trainerName = getTrainerName(classSession.getTrainerId());
-                    historyItem.put("trainerName", trainerName);
-                } else {
-                    // Class session not found (might have been deleted)
-                    historyItem.put("className", workoutPlan.getTitle() + " (Class Deleted)");
-                    if (completion.getCompletedAt() != null) {
-                        historyItem.put("dateTime", completion.getCompletedAt().format(
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
-                        ));
-                    } else {
-                        historyItem.put("dateTime", "N/A");
-                    }
-                    historyItem.put("trainerName", "N/A");
+        long memberId = currentUser.getId();
+        // A refresh and "Load More" share one load name, so the newer request replaces the older
+        screenTasks.run("loadAttendanceHistory", asyncLoader.call(dashboard -> dashboard.loadAttendanceHistory(memberId, null)),
+            page -> {
+                attendanceHistory = FXCollections.observableArrayList(page);
+                if (attendanceTable != null) {
+                    attendanceTable.setItems(attendanceHistory);
+                    attendanceTable.refresh();
                 }
-            } else {
-                // Direct assignment - show workout plan title as "class name"
-                historyItem.put("className", workoutPlan.getTitle());
-                
-                // Use completion date/time
-                if (completion.getCompletedAt() != null) {
-                    historyItem.put("dateTime", completion.getCompletedAt().format(
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
-                    ));
-                } else {
-                    historyItem.put("dateTime", "N/A");
-                }
-                
-                // Get trainer name from workout plan
-                String trainerName = getTrainerName(workoutPlan.getTrainerId());
-                historyItem.put("trainerName", trainerName);
-            }
-            
-            // All completed workouts show as "attended" (Yes)
-            historyItem.put("attended", true);
-            
-            historyData.add(historyItem);
+                updateLoadMoreAttendanceButton(page.size());
+            },
+            error -> {
+                System.err.println("Error loading attendance history: " + error.getMessage());
+                showErrorAlert("Error", "Failed to load attendance history: " + error.getMessage());
+            });
+    }
+
+    /**
+     * Appends the next page of attendance history, continuing after the last row shown.
+     */
+    @FXML
+    private void handleLoadMoreAttendance() {
+        User currentUser = sessionManager.getCurrentUser();
+        if (currentUser == null || !(currentUser instanceof Member) || attendanceHistory == null) {
+            return;
         }
-        
-        // Sort by completion date/time (most recent first)
-        historyData.sort((a, b) -> {
-            String dateA = a.get("dateTime").toString();
-            String dateB = b.get("dateTime").toString();
-            // If date is "N/A", put it at the end
-            if (dateA.equals("N/A")) return 1;
-            if (dateB.equals("N/A")) return -1;
-            return dateB.compareTo(dateA); // Reverse order (newest first)
-        });
-        
-        attendanceHistory = FXCollections.observableArrayList(historyData);
-        if (attendanceTable != null) {
-            attendanceTable.setItems(attendanceHistory);
-            attendanceTable.refresh();
+
+        long memberId = currentUser.getId();
+        ObservableList<AttendanceHistoryRow> shown = attendanceHistory;
+        AttendanceHistoryRow last = shown.isEmpty() ? null : shown.get(shown.size() - 1);
+        if (loadMoreAttendanceButton != null) {
+            loadMoreAttendanceButton.setDisable(true);
+        }
+        screenTasks.run("loadAttendanceHistory", asyncLoader.call(dashboard -> dashboard.loadAttendanceHistory(memberId, last)),
+            page -> {
+                shown.addAll(page);
+                updateLoadMoreAttendanceButton(page.size());
+            },
+            error -> {
+                System.err.println("Error loading attendance history: " + error.getMessage());
+                showErrorAlert("Error", "Failed to load attendance history: " + error.getMessage());
+                updateLoadMoreAttendanceButton(MemberDashboardLoader.ATTENDANCE_PAGE_SIZE);
+            });
+    }
+
+    /**
+     * Disables "Load More" once a page comes back short, meaning there is nothing left to fetch.
+     */
+    private void updateLoadMoreAttendanceButton(int lastPageSize) {
+        if (loadMoreAttendanceButton != null) {
+            loadMoreAttendanceButton.setDisable(lastPageSize < MemberDashboardLoader.ATTENDANCE_PAGE_SIZE);
         }
     }
 
@@ -810,68 +756,53 @@ public class MemberDashboardController {
             return;
         }
 
-        // Check if already registered
-        if (attendanceService.isRegisteredForClass(selectedSession.getId(), currentUser.getId())) {
-            showErrorAlert("Already Registered", "You are already registered for this class");
-            return;
-        }
-
-        // Check capacity
-        int registered = attendanceService.getRegisteredCount(selectedSession.getId());
-        if (registered >= selectedSession.getCapacity()) {
-            showErrorAlert("Class Full", "This class has reached its capacity (" + selectedSession.getCapacity() + " members)");
-            return;
-        }
-
-        // Register
-        Optional<com.gymflow.model.AttendanceRecord> result = attendanceService.registerForClass(
-            selectedSession.getId(), currentUser.getId()
-        );
-
-        if (result.isPresent()) {
-            showSuccessAlert("Success", "Successfully registered for '" + selectedSession.getTitle() + "'");
-            // Refresh the table to update the Registered column
-            refreshClassTable();
-            // Also refresh workout plans in case this class has a workout plan
-            loadWorkoutPlans();
-            // Refresh attendance history
-            loadAttendanceHistory();
-        } else {
-            showErrorAlert("Error", "Failed to register for class. Please try again.");
+        // Register - capacity and duplicate checks happen atomically in the service
+        long sessionId = selectedSession.getId();
+        long memberId = currentUser.getId();
+        if (registerButton != null) {
+            registerButton.setDisable(true);
         }
+        screenTasks.run("registerForClass",
+            asyncAttendanceService.call(service -> service.registerForClass(sessionId, memberId)),
+            result -> {
+                switch (result.getStatus()) {
+                    case REGISTERED -> {
+                        showSuccessAlert("Success", "Successfully registered for '" + selectedSession.getTitle() + "'");
+                        // Refresh the table to update the Registered column
+                        refreshClassTable();
+                        // Also refresh workout plans in case this class has a workout plan
+                        loadWorkoutPlans();
+                        // Refresh attendance history
+                        loadAttendanceHistory();
+                    }
+                    case ALREADY_REGISTERED -> {
+                        showErrorAlert("Already Registered", "You are already registered for this class");
+                        refreshClassTable();
+                    }
+                    case FULL -> {
+                        showErrorAlert("Class Full", "This class has reached its capacity (" + selectedSession.getCapacity() + " members)");
+                        refreshClassTable();
+                    }
+                    default -> {
+                        showErrorAlert("Error", "Failed to register for class. Please try again.");
+                        updateButtonStates(classTable.getSelectionModel().getSelectedItem());
+                    }
+                }
+            },
+            error -> {
+                System.err.println("Error registering for class: " + error.getMessage());
+                showErrorAlert("Error", "Failed to register for class: " + error.getMessage());
+                updateButtonStates(classTable.getSelectionModel().getSelectedItem());
+            });
     }
     
     /**
-     * Refreshes the class table to update registration status.
+     * Reloads the class table in the background to update registration status,
+     * keeping the current selection.
      */
     private void refreshClassTable() {
-        // Get the currently selected session ID to restore selection after refresh
         ClassSession selectedSession = classTable.getSelectionModel().getSelectedItem();
-        long selectedId = selectedSession != null ? selectedSession.getId() : -1;
-        
-        // Reload data from database
-        List<ClassSession> sessions = classScheduleService.getUpcomingClassSessions();
-        
-        // Clear and reload - this ensures all cell value factories are re-evaluated
-        upcomingClasses.clear();
-        upcomingClasses.addAll(sessions);
-        
-        // Force table refresh - this causes all cell value factories to be re-evaluated
-        // The Registered column will check the database again for each row
-        classTable.refresh();
-        
-        // Restore selection by finding the session with the same ID
-        if (selectedId > 0) {
-            for (int i = 0; i < upcomingClasses.size(); i++) {
-                if (upcomingClasses.get(i).getId() == selectedId) {
-                    classTable.getSelectionModel().select(i);
-                    updateButtonStates(upcomingClasses.get(i));
-                    break;
-                }
-            }
-        } else {
-            updateButtonStates(null);
-        }
+        reloadClassSchedule(selectedSession != null ? selectedSession.getId() : -1);
     }
 
     @FXML
@@ -921,6 +852,7 @@ public class MemberDashboardController {
 
     @FXML
     private void handleLogout() {
+        screenTasks.cancelAll();
         try {
             sessionManager.logout();
             navigateToLogin();
@@ -972,14 +904,14 @@ public class MemberDashboardController {
         }
 
         // Get source class information
-        ClassSession sourceClass = workoutToClassMap.get(selectedPlan.getId());
+        ClassSession sourceClass = memberWorkouts.getSourceClass(selectedPlan.getId());
         String sourceInfo = sourceClass != null ? "Class: " + sourceClass.getTitle() : "Direct Assignment";
 
         // Check completion status
         User currentUser = sessionManager.getCurrentUser();
         boolean isCompleted = false;
         if (currentUser != null && currentUser instanceof Member) {
-            isCompleted = completionService.isCompleted(selectedPlan.getId(), currentUser.getId());
+            isCompleted = memberWorkouts.isCompleted(selectedPlan.getId());
         }
 
         // Create details dialog
@@ -1039,7 +971,7 @@ public class MemberDashboardController {
         }
 
         // Get source class if applicable - first check the map, then query database for all classes
-        ClassSession sourceClass = workoutToClassMap.get(selectedPlan.getId());
+        ClassSession sourceClass = memberWorkouts.getSourceClass(selectedPlan.getId());
         Long classSessionId = sourceClass != null ? sourceClass.getId() : null;
         
         // If not found in map (e.g., class has passed), query database to find class sessions with this workout plan
@@ -1115,7 +1047,7 @@ public class MemberDashboardController {
         }
 
         // Check if workout is from a class
-        ClassSession sourceClass = workoutToClassMap.get(selectedPlan.getId());
+        ClassSession sourceClass = memberWorkouts.getSourceClass(selectedPlan.getId());
         if (sourceClass != null) {
             showErrorAlert("Cannot Remove", "This workout plan is from a class. " +
                           "To remove it from your list, unregister from the class '" + sourceClass.getTitle() + "' in the Class Schedule tab.");
@@ -0,0 +1,64 @@
+package com.gymflow.controller;
+
+import com.gymflow.dao.UserDao;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.AttendanceHistoryRow;
+import com.gymflow.service.AttendanceService;
+import com.gymflow.service.ClassScheduleService;
+import com.gymflow.service.WorkoutCompletionService;
+import com.gymflow.service.WorkoutService;
+
+import java.util.List;
+
+/**
+ * Everything the member dashboard reads from the database to fill its tables.
+ * The controller loads through this class, and so does the dashboard's query
+ * budget test, so a per-row lookup added here fails the budget.
+ */
+final class MemberDashboardLoader {
+    /** Attendance history is loaded a page at a time, newest first. */
+    static final int ATTENDANCE_PAGE_SIZE = 100;
+
+    private final ClassScheduleService classScheduleService;
+    private final WorkoutService workoutService;
+    private final AttendanceService attendanceService;
+    private final WorkoutCompletionService completionService;
+    private final UserDao userDao;
+
+    MemberDashboardLoader(ClassScheduleService classScheduleService, WorkoutService workoutService,
+                          AttendanceService attendanceService, WorkoutCompletionService completionService,
+                          UserDao userDao) {
+        this.classScheduleService = classScheduleService;
+        this.workoutService = workoutService;
+        this.attendanceService = attendanceService;
+        this.completionService = completionService;
+        this.userDao = userDao;
+    }
+
+    /**
+     * @param memberId the member viewing the schedule, or 0 if the user is not a member
+     * @return the upcoming classes and everything their table rows display
+     * @throws DataAccessException if the upcoming classes cannot be loaded
+     */
+    MemberClassSchedule loadClassSchedule(long memberId) throws DataAccessException {
+        return MemberClassSchedule.load(memberId, classScheduleService, workoutService, attendanceService, userDao);
+    }
+
+    /**
+     * @return the member's workout plans with their source classes and completion flags
+     */
+    MemberWorkoutPlans loadWorkoutPlans(long memberId) {
+        return MemberWorkoutPlans.load(memberId, workoutService, completionService);
+    }
+
+    /**
+     * Loads one page of attendance history. Each row comes back already joined
+     * with its workout plan, class and trainer, so a page costs a single query.
+     *
+     * @param after the last row already shown, or null for the first page
+     * @return up to {@link #ATTENDANCE_PAGE_SIZE} rows, newest first
+     */
+    List<AttendanceHistoryRow> loadAttendanceHistory(long memberId, AttendanceHistoryRow after) {
+        return completionService.getAttendanceHistory(memberId, after, ATTENDANCE_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gymflow.controller;
+
+import com.gymflow.model.ClassSession;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanWithSource;
+import com.gymflow.service.WorkoutCompletionService;
+import com.gymflow.service.WorkoutService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A member's workout plans for the member dashboard, together with everything
+ * the workout table shows for them: the class each plan came from and whether
+ * the member has completed it. All of it is fetched when the plans are loaded,
+ * so rendering a table row never goes back to the database.
+ */
+final class MemberWorkoutPlans {
+    private final List<WorkoutPlan> plans;
+    private final Map<Long, ClassSession> sourceClasses;
+    private final Set<Long> completedPlanIds;
+
+    private MemberWorkoutPlans(List<WorkoutPlan> plans, Map<Long, ClassSession> sourceClasses,
+                               Set<Long> completedPlanIds) {
+        this.plans = plans;
+        this.sourceClasses = sourceClasses;
+        this.completedPlanIds = completedPlanIds;
+    }
+
+    /**
+     * @return no plans, used before the first load and for users who are not members
+     */
+    static MemberWorkoutPlans empty() {
+        return new MemberWorkoutPlans(List.of(), Map.of(), Set.of());
+    }
+
+    /**
+     * Loads the member's plans in two queries: the direct and class-sourced
+     * plans with their source class, and the member's completions.
+     *
+     * @param memberId the member
+     * @return the loaded plans
+     */
+    static MemberWorkoutPlans load(long memberId, WorkoutService workoutService,
+                                   WorkoutCompletionService completionService) {
+        List<WorkoutPlanWithSource> plansWithSource = workoutService.getWorkoutPlansWithSourceForMember(memberId);
+
+        List<WorkoutPlan> plans = new ArrayList<>(plansWithSource.size());
+        Map<Long, ClassSession> sourceClasses = new HashMap<>();
+        for (WorkoutPlanWithSource planWithSource : plansWithSource) {
+            plans.add(planWithSource.getWorkoutPlan());
+            if (planWithSource.isFromClass()) {
+                sourceClasses.put(planWithSource.getWorkoutPlan().getId(), planWithSource.getSourceClass());
+            }
+        }
+
+        Set<Long> completed = completionService.getCompletedPlanIds(memberId);
+        return new MemberWorkoutPlans(plans, sourceClasses, completed);
+    }
+
+    List<WorkoutPlan> getPlans() {
+        return plans;
+    }
+
+    /**
+     * @return the class the plan was assigned through, or null for a direct assignment
+     */
+    ClassSession getSourceClass(long workoutPlanId) {
+        return sourceClasses.get(workoutPlanId);
+    }
+
+    boolean isCompleted(long workoutPlanId) {
+        return completedPlanIds.contains(workoutPlanId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.gymflow.controller;
 
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.security.SessionManager;
@@ -56,8 +57,8 @@ public class RegistrationController {
     private final SessionManager sessionManager;
 
     public RegistrationController() {
-        this.userService = new UserServiceImpl();
-        this.authService = new AuthServiceImpl();
+        this.userService = Instrumented.service(UserService.class, new UserServiceImpl());
+        this.authService = Instrumented.service(AuthService.class, new AuthServiceImpl());
         this.sessionManager = SessionManager.getInstance();
     }
 
@@ -0,0 +1,124 @@
+package com.gymflow.controller;
+
+import com.gymflow.metrics.ScreenLoadEvent;
+import javafx.application.Platform;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Background loads started by one screen. Results are handed back on the
+ * JavaFX Application Thread, and only while the screen is open: closing it
+ * with {@link #cancelAll()} cancels whatever has not finished.
+ *
+ * <p>Loads are named after the controller method that fills the table, e.g.
+ * {@code "loadUsers"}. Starting a load cancels an unfinished one with the same
+ * name, so a slow earlier refresh can never overwrite a newer one.</p>
+ *
+ * <p>Each load is timed by a {@link ScreenLoadEvent} named
+ * {@code <screen>.<load>}. It closes once the callback has run, or when the
+ * load is cancelled, in which case the event is marked cancelled.</p>
+ */
+final class ScreenTasks {
+    private final String screen;
+    private final Executor fxThread;
+    private final Map<String, Load> pending = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param screen the controller, used to name the screen load events
+     */
+    ScreenTasks(String screen) {
+        this(screen, Platform::runLater);
+    }
+
+    /**
+     * @param screen the controller, used to name the screen load events
+     * @param fxThread runs the callbacks; {@code Platform::runLater} outside tests
+     */
+    ScreenTasks(String screen, Executor fxThread) {
+        this.screen = screen;
+        this.fxThread = fxThread;
+    }
+
+    /**
+     * Tracks a background load and delivers its outcome on the FX thread.
+     *
+     * @param load the controller method doing the load; replaces an unfinished load with the same name
+     * @param future the load, normally from {@code AsyncService.call}
+     * @param onSuccess receives the result on the FX thread
+     * @param onFailure receives the service's exception on the FX thread
+     * @param inputs futures {@code future} was combined from; they are cancelled with it
+     */
+    <R> void run(String load, CompletableFuture<R> future, Consumer<R> onSuccess, Consumer<Throwable> onFailure,
+                 CompletableFuture<?>... inputs) {
+        ScreenLoadEvent event = ScreenLoadEvent.start(screen + "." + load);
+        Load task = new Load(future, inputs);
+        Load previous = pending.put(load, task);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (closed) {
+            // The screen closed before or while this load was registered
+            task.cancel();
+        }
+        future.whenComplete((result, error) -> {
+            pending.remove(load, task);
+            if (future.isCancelled()) {
+                event.setCancelled(true);
+                event.close();
+                return;
+            }
+            fxThread.execute(() -> {
+                try {
+                    // The screen may have closed while this was waiting for the FX thread
+                    if (closed) {
+                        event.setCancelled(true);
+                        return;
+                    }
+                    if (error == null) {
+                        onSuccess.accept(result);
+                    } else {
+                        onFailure.accept(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                    }
+                } finally {
+                    event.close();
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels every unfinished load and ignores any started later. Call when the screen closes.
+     */
+    void cancelAll() {
+        closed = true;
+        pending.values().forEach(Load::cancel);
+        pending.clear();
+    }
+
+    /**
+     * A load and the futures it was combined from.
+     */
+    private static final class Load {
+        private final CompletableFuture<?> future;
+        private final CompletableFuture<?>[] inputs;
+
+        Load(CompletableFuture<?> future, CompletableFuture<?>[] inputs) {
+            this.future = future;
+            this.inputs = inputs;
+        }
+
+        void cancel() {
+            future.cancel(false);
+            for (CompletableFuture<?> input : inputs) {
+                input.cancel(false);
+            }
+        }
+    }
+}
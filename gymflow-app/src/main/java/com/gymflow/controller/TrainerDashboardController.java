@@ -1,10 +1,15 @@
 package com.gymflow.controller;
 
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.metrics.ScreenLoadEvent;
 import com.gymflow.model.ClassSession;
+import com.gymflow.model.ClassSessionRow;
 import com.gymflow.model.Trainer;
 import com.gymflow.model.User;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanRow;
 import com.gymflow.security.SessionManager;
+import com.gymflow.service.AsyncService;
 import com.gymflow.service.AttendanceService;
 import com.gymflow.service.AttendanceServiceImpl;
 import com.gymflow.service.ClassScheduleService;
@@ -39,7 +44,10 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -70,63 +78,79 @@ public class TrainerDashboardController {
     private Button logoutButton;
 
     @FXML
-    private TableView<ClassSession> classTable;
+    private TableView<ClassSessionRow> classTable;
 
     @FXML
-    private TableColumn<ClassSession, String> classNameColumn;
+    private TableColumn<ClassSessionRow, String> classNameColumn;
 
     @FXML
-    private TableColumn<ClassSession, String> classDateTimeColumn;
+    private TableColumn<ClassSessionRow, String> classDateTimeColumn;
 
     @FXML
-    private TableColumn<ClassSession, Integer> classCapacityColumn;
+    private TableColumn<ClassSessionRow, Integer> classCapacityColumn;
 
     @FXML
-    private TableColumn<ClassSession, String> classRegisteredColumn;
+    private TableColumn<ClassSessionRow, String> classRegisteredColumn;
 
     @FXML
-    private TableColumn<ClassSession, String> classWorkoutPlanColumn;
+    private TableColumn<ClassSessionRow, String> classWorkoutPlanColumn;
 
     @FXML
-    private TableView<WorkoutPlan> workoutTable;
+    private TableView<WorkoutPlanRow> workoutTable;
 
     @FXML
-    private TableColumn<WorkoutPlan, String> workoutTitleColumn;
+    private TableColumn<WorkoutPlanRow, String> workoutTitleColumn;
 
     @FXML
-    private TableColumn<WorkoutPlan, String> workoutMemberColumn;
+    private TableColumn<WorkoutPlanRow, String> workoutMemberColumn;
 
     @FXML
-    private TableColumn<WorkoutPlan, String> workoutDifficultyColumn;
+    private TableColumn<WorkoutPlanRow, String> workoutDifficultyColumn;
 
     @FXML
-    private TableColumn<WorkoutPlan, String> workoutCreatedColumn;
+    private TableColumn<WorkoutPlanRow, String> workoutCreatedColumn;
+
+    @FXML
+    private Button exportWorkoutPlansButton;
+
+    @FXML
+    private Label exportStatusLabel;
 
     private final SessionManager sessionManager;
     private final WorkoutService workoutService;
     private final ClassScheduleService classScheduleService;
     private final AttendanceService attendanceService;
     private final FileImportExportService fileService;
+    private final AsyncService<ClassScheduleService> asyncClassScheduleService;
+    private final AsyncService<WorkoutService> asyncWorkoutService;
+    private final ScreenTasks screenTasks = new ScreenTasks("TrainerDashboardController");
 
-    private ObservableList<ClassSession> classSessions;
-    private ObservableList<WorkoutPlan> workoutPlans;
+    private ObservableList<ClassSessionRow> classSessions;
+    private ObservableList<WorkoutPlanRow> workoutPlans;
 
     public TrainerDashboardController() {
         this.sessionManager = SessionManager.getInstance();
-        this.workoutService = new WorkoutServiceImpl();
-        this.classScheduleService = new ClassScheduleServiceImpl();
-        this.attendanceService = new AttendanceServiceImpl();
-        this.fileService = new FileImportExportServiceImpl();
+        this.workoutService = Instrumented.service(WorkoutService.class, new WorkoutServiceImpl());
+        this.classScheduleService = Instrumented.service(ClassScheduleService.class, new ClassScheduleServiceImpl());
+        this.attendanceService = Instrumented.service(AttendanceService.class, new AttendanceServiceImpl());
+        this.fileService = Instrumented.service(FileImportExportService.class, new FileImportExportServiceImpl());
+        this.asyncClassScheduleService = AsyncService.of(classScheduleService);
+        this.asyncWorkoutService = AsyncService.of(workoutService);
     }
 
     @FXML
     private void initialize() {
-        loadUserInfo();
-        setupClassTable();
-        setupWorkoutTable();
-        loadClassSessions();
-        loadWorkoutPlans();
-        logoutButton.setOnAction(event -> handleLogout());
+        ScreenLoadEvent screenLoad = ScreenLoadEvent.start("TrainerDashboardController.initialize");
+        try {
+            loadUserInfo();
+            setupClassTable();
+            setupWorkoutTable();
+            loadClassSessions();
+            loadWorkoutPlans();
+            logoutButton.setOnAction(event -> handleLogout());
+        } finally {
+            screenLoad.close();
+        }
     }
 
     private void loadUserInfo() {
@@ -154,9 +178,10 @@ public class TrainerDashboardController {
     }
 
     private void setupClassTable() {
+        // Cell factories only read values precomputed in loadClassSessions()
         classNameColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
         classDateTimeColumn.setCellValueFactory(cellData -> {
-            ClassSession session = cellData.getValue();
+            ClassSession session = cellData.getValue().getSession();
             if (session != null && session.getScheduleTimestamp() != null) {
                 String formatted = session.getScheduleTimestamp().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
                 return new javafx.beans.property.SimpleStringProperty(formatted);
@@ -164,58 +189,24 @@ public class TrainerDashboardController {
             return new javafx.beans.property.SimpleStringProperty("");
         });
         classCapacityColumn.setCellValueFactory(new PropertyValueFactory<>("capacity"));
-        classRegisteredColumn.setCellValueFactory(cellData -> {
-            ClassSession session = cellData.getValue();
-            if (session != null) {
-                // Use a StringBinding that will update when the session changes
-                javafx.beans.property.StringProperty prop = new javafx.beans.property.SimpleStringProperty();
-                int registered = attendanceService.getRegisteredCount(session.getId());
-                prop.set(registered + "/" + session.getCapacity());
-                return prop;
-            }
-            return new javafx.beans.property.SimpleStringProperty("");
-        });
-        
+        classRegisteredColumn.setCellValueFactory(cellData ->
+            new javafx.beans.property.SimpleStringProperty(cellData.getValue().getRegisteredDisplay()));
         classWorkoutPlanColumn.setCellValueFactory(cellData -> {
-            ClassSession session = cellData.getValue();
-            if (session != null && session.getWorkoutPlanId() != null) {
-                // Get workout plan title
-                String workoutTitle = getWorkoutPlanTitle(session.getWorkoutPlanId());
-                return new javafx.beans.property.SimpleStringProperty(workoutTitle);
+            ClassSessionRow row = cellData.getValue();
+            if (row.getSession().getWorkoutPlanId() == null) {
+                return new javafx.beans.property.SimpleStringProperty("None");
             }
-            return new javafx.beans.property.SimpleStringProperty("None");
+            String title = row.getWorkoutPlanTitle();
+            return new javafx.beans.property.SimpleStringProperty(title != null ? title : "Unknown");
         });
     }
-    
-    /**
-     * Gets the workout plan title from the database.
-     */
-    private String getWorkoutPlanTitle(long workoutPlanId) {
-        try {
-            Optional<WorkoutPlan> plan = workoutService.getWorkoutPlanById(workoutPlanId);
-            if (plan.isPresent()) {
-                return plan.get().getTitle();
-            }
-        } catch (Exception e) {
-            System.err.println("Error getting workout plan title: " + e.getMessage());
-        }
-        return "Unknown";
-    }
 
     private void setupWorkoutTable() {
         workoutTitleColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
-        workoutMemberColumn.setCellValueFactory(cellData -> {
-            WorkoutPlan plan = cellData.getValue();
-            if (plan != null) {
-                // Get member name from database
-                String memberName = getMemberName(plan.getMemberId());
-                return new javafx.beans.property.SimpleStringProperty(memberName);
-            }
-            return new javafx.beans.property.SimpleStringProperty("");
-        });
+        workoutMemberColumn.setCellValueFactory(new PropertyValueFactory<>("memberName"));
         workoutDifficultyColumn.setCellValueFactory(new PropertyValueFactory<>("difficulty"));
         workoutCreatedColumn.setCellValueFactory(cellData -> {
-            WorkoutPlan plan = cellData.getValue();
+            WorkoutPlan plan = cellData.getValue().getWorkoutPlan();
             if (plan != null && plan.getCreatedAt() != null) {
                 String formatted = plan.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
                 return new javafx.beans.property.SimpleStringProperty(formatted);
@@ -223,38 +214,90 @@ public class TrainerDashboardController {
             return new javafx.beans.property.SimpleStringProperty("");
         });
     }
-    
+
+    /**
+     * Gets the class session of the selected row, or null if nothing is selected.
+     */
+    private ClassSession getSelectedSession() {
+        ClassSessionRow row = classTable.getSelectionModel().getSelectedItem();
+        return row != null ? row.getSession() : null;
+    }
+
     /**
-     * Gets the member's name from the database.
+     * Builds the class table rows: one query for the sessions, one for all
+     * registration counts and one for the assigned workout plan titles.
      */
-    private String getMemberName(long memberId) {
+    private List<ClassSessionRow> buildClassSessionRows(List<ClassSession> sessions) {
+        List<Long> sessionIds = new ArrayList<>();
+        List<Long> planIds = new ArrayList<>();
+        for (ClassSession session : sessions) {
+            sessionIds.add(session.getId());
+            if (session.getWorkoutPlanId() != null) {
+                planIds.add(session.getWorkoutPlanId());
+            }
+        }
+
+        Map<Long, Integer> registeredCounts = attendanceService.getRegisteredCounts(sessionIds);
+        Map<Long, String> planTitles = new HashMap<>();
+        for (WorkoutPlan plan : workoutService.getWorkoutPlansByIds(planIds)) {
+            planTitles.put(plan.getId(), plan.getTitle());
+        }
+
+        List<ClassSessionRow> rows = new ArrayList<>(sessions.size());
+        for (ClassSession session : sessions) {
+            int registered = registeredCounts.getOrDefault(session.getId(), 0);
+            String planTitle = session.getWorkoutPlanId() != null ? planTitles.get(session.getWorkoutPlanId()) : null;
+            rows.add(new ClassSessionRow(session, registered, planTitle));
+        }
+        return rows;
+    }
+
+    /**
+     * Builds the workout table rows, resolving all member names in one query.
+     */
+    private List<WorkoutPlanRow> buildWorkoutPlanRows(List<WorkoutPlan> plans) {
+        Map<Long, String> memberNames = new HashMap<>();
+        List<Long> memberIds = new ArrayList<>();
+        for (WorkoutPlan plan : plans) {
+            memberIds.add(plan.getMemberId());
+        }
         try {
-            com.gymflow.dao.UserDao userDao = new com.gymflow.dao.UserDaoImpl();
-            Optional<User> member = userDao.findById(memberId);
-            if (member.isPresent()) {
-                return member.get().getFullName();
+            com.gymflow.dao.UserDao userDao = new com.gymflow.dao.CachingUserDao(
+                Instrumented.dao(com.gymflow.dao.UserDao.class, new com.gymflow.dao.UserDaoImpl()));
+            for (User member : userDao.findByIds(memberIds)) {
+                memberNames.put(member.getId(), member.getFullName());
             }
         } catch (Exception e) {
-            System.err.println("Error getting member name: " + e.getMessage());
+            System.err.println("Error getting member names: " + e.getMessage());
+        }
+
+        List<WorkoutPlanRow> rows = new ArrayList<>(plans.size());
+        for (WorkoutPlan plan : plans) {
+            String memberName = memberNames.getOrDefault(plan.getMemberId(), "Member #" + plan.getMemberId());
+            rows.add(new WorkoutPlanRow(plan, memberName));
         }
-        return "Member #" + memberId;
+        return rows;
     }
 
+    /**
+     * Reloads the class table in the background; the rows are swapped in when they arrive.
+     */
     private void loadClassSessions() {
         User currentUser = sessionManager.getCurrentUser();
         if (currentUser != null) {
-            // Clear existing items first
-            if (classSessions != null) {
-                classSessions.clear();
-            }
-            
-            // Reload from database
-            List<ClassSession> sessions = classScheduleService.getClassSessionsByTrainer(currentUser.getId());
-            classSessions = FXCollections.observableArrayList(sessions);
-            classTable.setItems(classSessions);
-            
-            // Force table refresh
-            classTable.refresh();
+            long trainerId = currentUser.getId();
+            screenTasks.run("loadClassSessions",
+                asyncClassScheduleService.call(schedule ->
+                    buildClassSessionRows(schedule.getClassSessionsByTrainer(trainerId))),
+                rows -> {
+                    classSessions = FXCollections.observableArrayList(rows);
+                    classTable.setItems(classSessions);
+                    classTable.refresh();
+                },
+                error -> {
+                    System.err.println("Error loading class sessions: " + error.getMessage());
+                    showErrorAlert("Error", "Failed to load classes: " + error.getMessage());
+                });
         } else {
             if (classSessions != null) {
                 classSessions.clear();
@@ -266,13 +309,23 @@ public class TrainerDashboardController {
         }
     }
 
+    /**
+     * Reloads the workout table in the background; the rows are swapped in when they arrive.
+     */
     private void loadWorkoutPlans() {
         User currentUser = sessionManager.getCurrentUser();
         if (currentUser != null) {
-            workoutPlans = FXCollections.observableArrayList(
-                workoutService.getWorkoutPlansByTrainer(currentUser.getId())
-            );
-            workoutTable.setItems(workoutPlans);
+            long trainerId = currentUser.getId();
+            screenTasks.run("loadWorkoutPlans",
+                asyncWorkoutService.call(service -> buildWorkoutPlanRows(service.getWorkoutPlansByTrainer(trainerId))),
+                rows -> {
+                    workoutPlans = FXCollections.observableArrayList(rows);
+                    workoutTable.setItems(workoutPlans);
+                },
+                error -> {
+                    System.err.println("Error loading workout plans: " + error.getMessage());
+                    showErrorAlert("Error", "Failed to load workout plans: " + error.getMessage());
+                });
         } else {
             workoutPlans = FXCollections.observableArrayList();
             workoutTable.setItems(workoutPlans);
@@ -314,7 +367,7 @@ public class TrainerDashboardController {
 
     @FXML
     private void handleEditClass() {
-        ClassSession selectedSession = classTable.getSelectionModel().getSelectedItem();
+        ClassSession selectedSession = getSelectedSession();
         if (selectedSession == null) {
             showErrorAlert("No Selection", "Please select a class to edit");
             return;
@@ -377,7 +430,7 @@ public class TrainerDashboardController {
 
     @FXML
     private void handleAssignWorkoutPlan() {
-        ClassSession selectedSession = classTable.getSelectionModel().getSelectedItem();
+        ClassSession selectedSession = getSelectedSession();
         if (selectedSession == null) {
             showErrorAlert("No Selection", "Please select a class to assign a workout plan");
             return;
@@ -469,7 +522,7 @@ public class TrainerDashboardController {
 
     @FXML
     private void handleDeleteClass() {
-        ClassSession selectedSession = classTable.getSelectionModel().getSelectedItem();
+        ClassSession selectedSession = getSelectedSession();
         if (selectedSession == null) {
             showErrorAlert("No Selection", "Please select a class to delete");
             return;
@@ -508,8 +561,8 @@ public class TrainerDashboardController {
             return;
         }
 
-        List<WorkoutPlan> plans = workoutService.getWorkoutPlansByTrainer(currentUser.getId());
-        if (plans.isEmpty()) {
+        // The table already holds this trainer's plans; the export itself streams from the database
+        if (workoutPlans == null || workoutPlans.isEmpty()) {
             showErrorAlert("No Data", "You have no workout plans to export");
             return;
         }
@@ -537,15 +590,55 @@ public class TrainerDashboardController {
                 }
             }
 
-            try {
-                fileService.exportWorkoutTemplates(plans, file.getAbsolutePath());
-                showSuccessAlert("Export Successful", 
-                    String.format("Exported %d workout plan(s) to %s", plans.size(), file.getName()));
-            } catch (FileOperationException e) {
-                showErrorAlert("Export Error", "Failed to export workout plans: " + e.getMessage());
-                System.err.println("File operation error: " + e.getMessage());
-                e.printStackTrace();
+            startWorkoutPlanExport(currentUser.getId(), file);
+        }
+    }
+
+    /**
+     * Streams the trainer's workout plans into the file on a background thread,
+     * showing how many plans have been written so far.
+     */
+    private void startWorkoutPlanExport(long trainerId, File file) {
+        javafx.concurrent.Task<Long> exportTask = new javafx.concurrent.Task<>() {
+            @Override
+            protected Long call() throws Exception {
+                return fileService.streamWorkoutTemplates(trainerId, file.getAbsolutePath(),
+                    written -> updateMessage(String.format("Exported %d plan(s)...", written)));
             }
+        };
+
+        if (exportStatusLabel != null) {
+            exportStatusLabel.textProperty().bind(exportTask.messageProperty());
+        }
+        if (exportWorkoutPlansButton != null) {
+            exportWorkoutPlansButton.setDisable(true);
+        }
+
+        exportTask.setOnSucceeded(event -> {
+            finishWorkoutPlanExport();
+            showSuccessAlert("Export Successful",
+                String.format("Exported %d workout plan(s) to %s", exportTask.getValue(), file.getName()));
+        });
+        exportTask.setOnFailed(event -> {
+            finishWorkoutPlanExport();
+            Throwable error = exportTask.getException();
+            showErrorAlert("Export Error", "Failed to export workout plans: " + error.getMessage());
+            System.err.println("Workout plan export error: " + error.getMessage());
+            error.printStackTrace();
+        });
+
+        Thread exportThread = new Thread(exportTask, "gymflow-workout-export");
+        exportThread.setDaemon(true);
+        exportThread.start();
+    }
+
+    private void finishWorkoutPlanExport() {
+        if (exportStatusLabel != null) {
+            exportStatusLabel.textProperty().unbind();
+            exportStatusLabel.setText("");
+        }
+        if (exportWorkoutPlansButton != null) {
+            exportWorkoutPlansButton.setDisable(false);
         }
     }
 
@@ -569,46 +662,20 @@ public class TrainerDashboardController {
         if (file != null) {
             try {
                 fileService.validateFile(file.getAbsolutePath());
-                List<WorkoutPlan> importedPlans = fileService.importWorkoutTemplates(file.getAbsolutePath());
+                List<WorkoutPlan> importedPlans = fileService.importWorkoutTemplates(
+                    file.getAbsolutePath(), Runtime.getRuntime().availableProcessors());
                 
                 if (importedPlans.isEmpty()) {
                     showErrorAlert("Import Error", "No valid workout plans found in the file");
                     return;
                 }
 
-                // Import each plan (they will have id=0, so they'll be created as new)
-                int successCount = 0;
-                int failCount = 0;
-                int duplicateCount = 0;
-
-                for (WorkoutPlan plan : importedPlans) {
-                    // Check for duplicates (same title, member, trainer)
-                    List<WorkoutPlan> existing = workoutService.getWorkoutPlansByTrainer(currentUser.getId());
-                    boolean isDuplicate = existing.stream().anyMatch(existingPlan ->
-                        existingPlan.getTitle().equalsIgnoreCase(plan.getTitle()) &&
-                        existingPlan.getMemberId() == plan.getMemberId()
-                    );
-
-                    if (isDuplicate) {
-                        duplicateCount++;
-                        continue; // Skip duplicates
-                    }
-
-                    // Use the current trainer's ID for all imported plans
-                    // Use the new createWorkoutPlan method with all fields
-                    Optional<WorkoutPlan> created = workoutService.createWorkoutPlan(
-                        plan.getMemberId(), currentUser.getId(), plan.getTitle(),
-                        plan.getDescription(), plan.getDifficulty(),
-                        plan.getMuscleGroup(), plan.getWorkoutType(),
-                        plan.getDurationMinutes(), plan.getEquipmentNeeded(),
-                        plan.getTargetSets(), plan.getTargetReps(), plan.getRestSeconds()
-                    );
-                    if (created.isPresent()) {
-                        successCount++;
-                    } else {
-                        failCount++;
-                    }
-                }
+                // Duplicate check and inserts happen in bulk; imported plans belong to the current trainer
+                com.gymflow.model.WorkoutPlanImportReport report =
+                    workoutService.importPlans(currentUser.getId(), importedPlans);
+                int successCount = report.getImportedCount();
+                int duplicateCount = report.getDuplicateCount();
+                int failCount = report.getFailedCount();
 
                 String message = String.format("Imported %d workout plan(s) successfully", successCount);
                 if (duplicateCount > 0) {
@@ -702,6 +769,7 @@ public class TrainerDashboardController {
     @FXML
     private void handleLogout() {
         try {
+            screenTasks.cancelAll();
             sessionManager.logout();
             navigateToLogin();
         } catch (Exception e) {
@@ -1,7 +1,9 @@
 package com.gymflow.controller;
 
+import com.gymflow.dao.CachingUserDao;
 import com.gymflow.dao.UserDao;
 import com.gymflow.dao.UserDaoImpl;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import javafx.collections.FXCollections;
@@ -60,7 +62,7 @@ public class WorkoutPlanFormController {
     
     @FXML
     private void initialize() {
-        userDao = new UserDaoImpl();
+        userDao = new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl()));
         setupMemberComboBox();
         setupDifficultyComboBox();
         setupWorkoutTypeComboBox();
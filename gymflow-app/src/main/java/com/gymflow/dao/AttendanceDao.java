@@ -1,9 +1,15 @@
 package com.gymflow.dao;
 
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.AttendanceReportRow;
+import com.gymflow.model.RegistrationResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Data access contract for AttendanceRecord entities.
@@ -25,6 +31,30 @@ public interface AttendanceDao {
      */
     List<AttendanceRecord> findBySessionId(long sessionId);
 
+    /**
+     * Counts the members registered for a class session.
+     *
+     * @param sessionId the class session ID
+     * @return number of attendance records for the session
+     */
+    int countBySession(long sessionId);
+
+    /**
+     * Counts the members marked as attended for a class session.
+     *
+     * @param sessionId the class session ID
+     * @return number of attendance records for the session with attended = true
+     */
+    int countAttendedBySession(long sessionId);
+
+    /**
+     * Counts registrations for several class sessions at once.
+     *
+     * @param sessionIds the class session IDs
+     * @return map from each requested session ID to its registration count (0 if none)
+     */
+    Map<Long, Integer> countsBySessionIds(Collection<Long> sessionIds);
+
     /**
      * Finds all attendance records for a specific member.
      *
@@ -33,6 +63,15 @@ public interface AttendanceDao {
      */
     List<AttendanceRecord> findByMemberId(long memberId);
 
+    /**
+     * Finds the IDs of the class sessions a member is registered for, without
+     * loading the attendance records themselves.
+     *
+     * @param memberId the member ID
+     * @return the registered session IDs
+     */
+    Set<Long> findSessionIdsByMemberId(long memberId);
+
     /**
      * Finds all attendance records in the system.
      *
@@ -41,7 +80,29 @@ public interface AttendanceDao {
     List<AttendanceRecord> findAll();
 
     /**
-     * Marks attendance for a member in a class session.
+     * Streams all attendance report rows to a handler without loading the table
+     * into memory. Rows are fetched from the database {@code fetchSize} at a time
+     * and arrive newest record first.
+     *
+     * @param fetchSize rows per database round trip, or 0 for the default
+     * @param handler receives each row while the cursor is open
+     * @return number of rows handled
+     * @throws DataAccessException if the query fails part way through
+     * @throws E if the handler fails; the query is abandoned
+     */
+    <E extends Exception> long streamForReport(int fetchSize, RowHandler<AttendanceReportRow, E> handler)
+            throws DataAccessException, E;
+
+    /**
+     * Counts all attendance records.
+     *
+     * @return total number of attendance records
+     */
+    int countAll();
+
+    /**
+     * Marks attendance for a member in a class session, creating the record if
+     * it does not exist or updating it otherwise, in a single atomic statement.
      *
      * @param sessionId the class session ID
      * @param memberId the member ID
@@ -50,6 +111,18 @@ public interface AttendanceDao {
      */
     Optional<AttendanceRecord> markAttendance(long sessionId, long memberId, boolean attended);
 
+    /**
+     * Marks attendance for many (session, member) pairs with the same upsert as
+     * {@link #markAttendance(long, long, boolean)}, sent in JDBC batches inside a
+     * single transaction. Either every record is written or none is.
+     *
+     * @param records the records to write; IDs are ignored
+     * @param batchSize rows per executeBatch call
+     * @return number of records written
+     * @throws DataAccessException if any batch fails; the transaction is rolled back
+     */
+    int upsertAll(List<AttendanceRecord> records, int batchSize) throws DataAccessException;
+
     /**
      * Creates a new attendance record in the database.
      *
@@ -83,5 +156,16 @@ public interface AttendanceDao {
      * @return Optional containing the AttendanceRecord if found, empty otherwise
      */
     Optional<AttendanceRecord> findBySessionAndMember(long sessionId, long memberId);
-}
 
+    /**
+     * Registers a member for a class session if the session still has free
+     * capacity and the member is not already registered. The session row is
+     * locked for the duration of the check and the insert itself is
+     * conditional on both rules, so concurrent callers cannot overbook.
+     *
+     * @param sessionId the class session ID
+     * @param memberId the member ID
+     * @return the registration outcome, with the created record when registered
+     */
+    RegistrationResult registerWithinCapacity(long sessionId, long memberId);
+}
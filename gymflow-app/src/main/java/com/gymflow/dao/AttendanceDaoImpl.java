@@ -1,20 +1,76 @@
 package com.gymflow.dao;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.AttendanceReportRow;
+import com.gymflow.model.RegistrationResult;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JDBC implementation of AttendanceDao for database operations on AttendanceRecord entities.
  */
 public class AttendanceDaoImpl implements AttendanceDao {
+    /** H2: standard MERGE wrapped in a FINAL TABLE delta so the merged row is returned. */
+    private static final String UPSERT_SQL_H2 = """
+        SELECT id, session_id, member_id, attended
+        FROM FINAL TABLE (
+            MERGE INTO attendance_records t
+            USING (VALUES (CAST(? AS INT), CAST(? AS INT), CAST(? AS BOOLEAN))) AS s (session_id, member_id, attended)
+            ON t.session_id = s.session_id AND t.member_id = s.member_id
+            WHEN MATCHED THEN UPDATE SET attended = s.attended
+            WHEN NOT MATCHED THEN INSERT (session_id, member_id, attended)
+                VALUES (s.session_id, s.member_id, s.attended)
+        )
+        """;
+
+    /** PostgreSQL: INSERT ... ON CONFLICT against the same unique index, returning the row. */
+    private static final String UPSERT_SQL_POSTGRESQL = """
+        INSERT INTO attendance_records (session_id, member_id, attended)
+        VALUES (?, ?, ?)
+        ON CONFLICT (session_id, member_id) DO UPDATE SET attended = EXCLUDED.attended
+        RETURNING id, session_id, member_id, attended
+        """;
+
+    /** H2 batch form of {@link #UPSERT_SQL_H2}, without returning the row. */
+    private static final String BATCH_UPSERT_SQL_H2 = """
+        MERGE INTO attendance_records t
+        USING (VALUES (CAST(? AS INT), CAST(? AS INT), CAST(? AS BOOLEAN))) AS s (session_id, member_id, attended)
+        ON t.session_id = s.session_id AND t.member_id = s.member_id
+        WHEN MATCHED THEN UPDATE SET attended = s.attended
+        WHEN NOT MATCHED THEN INSERT (session_id, member_id, attended)
+            VALUES (s.session_id, s.member_id, s.attended)
+        """;
+
+    /** PostgreSQL batch form of {@link #UPSERT_SQL_POSTGRESQL}, without returning the row. */
+    private static final String BATCH_UPSERT_SQL_POSTGRESQL = """
+        INSERT INTO attendance_records (session_id, member_id, attended)
+        VALUES (?, ?, ?)
+        ON CONFLICT (session_id, member_id) DO UPDATE SET attended = EXCLUDED.attended
+        """;
+
+    /** Attendance records with class title and member name, newest first, read by {@link #streamForReport}. */
+    private static final String REPORT_SQL = """
+        SELECT ar.id, ar.session_id, ar.member_id, ar.attended,
+               cs.title AS class_name, u.full_name AS member_name
+        FROM attendance_records ar
+        LEFT JOIN class_sessions cs ON cs.id = ar.session_id
+        LEFT JOIN users u ON u.id = ar.member_id
+        ORDER BY ar.id DESC
+        """;
+
     private final DatabaseConnection dbConnection;
 
     public AttendanceDaoImpl() {
@@ -76,6 +132,52 @@ public class AttendanceDaoImpl implements AttendanceDao {
         return records;
     }
 
+    @Override
+    public int countBySession(long sessionId) {
+        return countForSession("SELECT COUNT(*) FROM attendance_records WHERE session_id = ?", sessionId);
+    }
+
+    @Override
+    public int countAttendedBySession(long sessionId) {
+        return countForSession(
+            "SELECT COUNT(*) FROM attendance_records WHERE session_id = ? AND attended = TRUE", sessionId);
+    }
+
+    @Override
+    public Map<Long, Integer> countsBySessionIds(Collection<Long> sessionIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return counts;
+        }
+
+        for (Long id : sessionIds) {
+            counts.put(id, 0);
+        }
+
+        try (Connection conn = dbConnection.getConnection()) {
+            for (List<Long> chunk : SqlInList.chunks(sessionIds)) {
+                String sql = "SELECT session_id, COUNT(*) AS registered FROM attendance_records WHERE session_id IN ("
+                    + SqlInList.placeholders(chunk.size()) + ") GROUP BY session_id";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            counts.put(rs.getLong("session_id"), rs.getInt("registered"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting attendance records by session IDs: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return counts;
+    }
+
     @Override
     public List<AttendanceRecord> findByMemberId(long memberId) {
         String sql = """
@@ -105,6 +207,30 @@ public class AttendanceDaoImpl implements AttendanceDao {
         return records;
     }
 
+    @Override
+    public Set<Long> findSessionIdsByMemberId(long memberId) {
+        String sql = "SELECT session_id FROM attendance_records WHERE member_id = ?";
+
+        Set<Long> sessionIds = new HashSet<>();
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, memberId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    sessionIds.add(rs.getLong("session_id"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding session IDs by member ID: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return sessionIds;
+    }
+
     @Override
     public List<AttendanceRecord> findAll() {
         String sql = """
@@ -131,56 +257,63 @@ public class AttendanceDaoImpl implements AttendanceDao {
         return records;
     }
 
+    @Override
+    public <E extends Exception> long streamForReport(int fetchSize, RowHandler<AttendanceReportRow, E> handler)
+            throws DataAccessException, E {
+        long count = 0;
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = JdbcCursor.prepare(conn, REPORT_SQL, fetchSize)) {
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToReportRow(rs));
+                    count++;
+                }
+            }
+        } catch (SQLException e) {
+            // A silently truncated export is worse than a failed one
+            throw new DataAccessException("Failed to stream attendance report after " + count + " row(s)", e);
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countAll() {
+        String sql = "SELECT COUNT(*) FROM attendance_records";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting attendance records: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
     @Override
     public Optional<AttendanceRecord> markAttendance(long sessionId, long memberId, boolean attended) {
-        // First check if record already exists
-        String findSql = """
-            SELECT id, session_id, member_id, attended
-            FROM attendance_records
-            WHERE session_id = ? AND member_id = ?
-            """;
+        // Single-statement upsert keyed on the unique (session_id, member_id) index.
+        // Both forms return the resulting row, so no follow-up SELECT is needed.
+        String sql = dbConnection.isPostgreSql() ? UPSERT_SQL_POSTGRESQL : UPSERT_SQL_H2;
 
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement findStmt = conn.prepareStatement(findSql)) {
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            findStmt.setLong(1, sessionId);
-            findStmt.setLong(2, memberId);
+            stmt.setLong(1, sessionId);
+            stmt.setLong(2, memberId);
+            stmt.setBoolean(3, attended);
 
-            try (ResultSet rs = findStmt.executeQuery()) {
+            try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    // Update existing record
-                    long id = rs.getLong("id");
-                    String updateSql = "UPDATE attendance_records SET attended = ? WHERE id = ?";
-                    
-                    try (PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
-                        updateStmt.setBoolean(1, attended);
-                        updateStmt.setLong(2, id);
-                        updateStmt.executeUpdate();
-                    }
-                    
-                    return Optional.of(new AttendanceRecord(id, sessionId, memberId, attended));
-                } else {
-                    // Create new record
-                    String insertSql = """
-                        INSERT INTO attendance_records (session_id, member_id, attended)
-                        VALUES (?, ?, ?)
-                        """;
-                    
-                    try (PreparedStatement insertStmt = conn.prepareStatement(insertSql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-                        insertStmt.setLong(1, sessionId);
-                        insertStmt.setLong(2, memberId);
-                        insertStmt.setBoolean(3, attended);
-                        
-                        int rowsAffected = insertStmt.executeUpdate();
-                        if (rowsAffected > 0) {
-                            try (ResultSet generatedKeys = insertStmt.getGeneratedKeys()) {
-                                if (generatedKeys.next()) {
-                                    long id = generatedKeys.getLong(1);
-                                    return Optional.of(new AttendanceRecord(id, sessionId, memberId, attended));
-                                }
-                            }
-                        }
-                    }
+                    return Optional.of(mapResultSetToAttendanceRecord(rs));
                 }
             }
         } catch (SQLException e) {
@@ -191,6 +324,46 @@ public class AttendanceDaoImpl implements AttendanceDao {
         return Optional.empty();
     }
 
+    @Override
+    public int upsertAll(List<AttendanceRecord> records, int batchSize) throws DataAccessException {
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        String sql = dbConnection.isPostgreSql() ? BATCH_UPSERT_SQL_POSTGRESQL : BATCH_UPSERT_SQL_H2;
+
+        try (Connection conn = dbConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int pending = 0;
+                for (AttendanceRecord record : records) {
+                    stmt.setLong(1, record.getSessionId());
+                    stmt.setLong(2, record.getMemberId());
+                    stmt.setBoolean(3, record.isAttended());
+                    stmt.addBatch();
+                    if (++pending == batchSize) {
+                        stmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    stmt.executeBatch();
+                }
+                conn.commit();
+                return records.size();
+            } catch (SQLException e) {
+                Transactions.rollback(conn, e);
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error upserting attendance records: " + e.getMessage());
+            e.printStackTrace();
+            throw new DataAccessException("Failed to upsert " + records.size() + " attendance record(s)", e);
+        }
+    }
+
     @Override
     public Optional<AttendanceRecord> create(AttendanceRecord attendanceRecord) {
         String sql = """
@@ -304,6 +477,106 @@ public class AttendanceDaoImpl implements AttendanceDao {
         return Optional.empty();
     }
 
+    @Override
+    public RegistrationResult registerWithinCapacity(long sessionId, long memberId) {
+        String lockSql = "SELECT capacity FROM class_sessions WHERE id = ? FOR UPDATE";
+        // Inserts only while the session is below capacity and the member holds no spot yet
+        String insertSql = """
+            INSERT INTO attendance_records (session_id, member_id, attended)
+            SELECT cs.id, ?, FALSE
+            FROM class_sessions cs
+            WHERE cs.id = ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM attendance_records
+                  WHERE session_id = cs.id AND member_id = ?
+              )
+              AND (SELECT COUNT(*) FROM attendance_records WHERE session_id = cs.id) < cs.capacity
+            """;
+        String existsSql = "SELECT 1 FROM attendance_records WHERE session_id = ? AND member_id = ?";
+
+        try (Connection conn = dbConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement lockStmt = conn.prepareStatement(lockSql)) {
+                    lockStmt.setLong(1, sessionId);
+                    try (ResultSet rs = lockStmt.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            System.err.println("Class session not found: " + sessionId);
+                            return RegistrationResult.failed();
+                        }
+                    }
+                }
+
+                try (PreparedStatement insertStmt = conn.prepareStatement(insertSql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                    insertStmt.setLong(1, memberId);
+                    insertStmt.setLong(2, sessionId);
+                    insertStmt.setLong(3, memberId);
+
+                    if (insertStmt.executeUpdate() > 0) {
+                        try (ResultSet generatedKeys = insertStmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                long id = generatedKeys.getLong(1);
+                                conn.commit();
+                                return RegistrationResult.registered(new AttendanceRecord(id, sessionId, memberId, false));
+                            }
+                        }
+                    }
+                }
+
+                // Nothing inserted: either the member already has a spot or the class is full
+                boolean exists;
+                try (PreparedStatement existsStmt = conn.prepareStatement(existsSql)) {
+                    existsStmt.setLong(1, sessionId);
+                    existsStmt.setLong(2, memberId);
+                    try (ResultSet rs = existsStmt.executeQuery()) {
+                        exists = rs.next();
+                    }
+                }
+                conn.commit();
+                return exists ? RegistrationResult.alreadyRegistered() : RegistrationResult.full();
+            } catch (SQLException e) {
+                Transactions.rollback(conn, e);
+                // Unique (session_id, member_id) violation from a concurrent registration
+                if ("23505".equals(e.getSQLState())) {
+                    return RegistrationResult.alreadyRegistered();
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error registering for class session: " + e.getMessage());
+            e.printStackTrace();
+            return RegistrationResult.failed();
+        }
+    }
+
+    private int countForSession(String sql, long sessionId) {
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, sessionId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting attendance records for session: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    private AttendanceReportRow mapResultSetToReportRow(ResultSet rs) throws SQLException {
+        return new AttendanceReportRow(
+            mapResultSetToAttendanceRecord(rs),
+            rs.getString("class_name"),
+            rs.getString("member_name")
+        );
+    }
+
     private AttendanceRecord mapResultSetToAttendanceRecord(ResultSet rs) throws SQLException {
         long id = rs.getLong("id");
         long sessionId = rs.getLong("session_id");
@@ -0,0 +1,119 @@
+package com.gymflow.dao;
+
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.ClassSession;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClassSessionDao decorator that serves {@link #findById} from a cache shared
+ * by every instance, and invalidates a session when it is created, updated or
+ * deleted through any instance. {@link #findUpcoming} and {@link #countUpcoming}
+ * are served from a shared {@link UpcomingSessionCache}, which every write
+ * invalidates.
+ */
+public class CachingClassSessionDao implements ClassSessionDao {
+    private static final EntityCache<ClassSession> SHARED_CACHE =
+        EntityCache.fromEnvironment("classSessions", CachingClassSessionDao::copy);
+    private static final UpcomingSessionCache SHARED_UPCOMING =
+        UpcomingSessionCache.fromEnvironment("upcomingSessions", CachingClassSessionDao::copy);
+
+    private final ClassSessionDao delegate;
+    private final EntityCache<ClassSession> cache;
+    private final UpcomingSessionCache upcoming;
+
+    public CachingClassSessionDao(ClassSessionDao delegate) {
+        this(delegate, SHARED_CACHE, SHARED_UPCOMING);
+    }
+
+    CachingClassSessionDao(ClassSessionDao delegate, EntityCache<ClassSession> cache,
+                           UpcomingSessionCache upcoming) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.upcoming = upcoming;
+    }
+
+    @Override
+    public Optional<ClassSession> findById(long id) {
+        Optional<ClassSession> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Optional<ClassSession> loaded = delegate.findById(id);
+        loaded.ifPresent(session -> cache.put(id, session, generation));
+        return loaded;
+    }
+
+    @Override
+    public List<ClassSession> findByTrainerId(long trainerId) {
+        return delegate.findByTrainerId(trainerId);
+    }
+
+    @Override
+    public List<ClassSession> findUpcoming() throws DataAccessException {
+        Optional<List<ClassSession>> cached = upcoming.get(LocalDateTime.now());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long generation = upcoming.generation();
+        // A failed load throws, so an error is never cached as "no upcoming classes"
+        List<ClassSession> loaded = delegate.findUpcoming();
+        upcoming.put(loaded, generation);
+        return loaded;
+    }
+
+    @Override
+    public int countUpcoming() {
+        Optional<Integer> cached = upcoming.count(LocalDateTime.now());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // A COUNT is cheaper than loading every session just to size the list
+        return delegate.countUpcoming();
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) throws DataAccessException {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Optional<ClassSession> create(ClassSession classSession) {
+        Optional<ClassSession> created = delegate.create(classSession);
+        created.ifPresent(session -> {
+            cache.invalidate(session.getId());
+            upcoming.invalidate();
+        });
+        return created;
+    }
+
+    @Override
+    public boolean update(ClassSession classSession) {
+        try {
+            return delegate.update(classSession);
+        } finally {
+            cache.invalidate(classSession.getId());
+            upcoming.invalidate();
+        }
+    }
+
+    @Override
+    public boolean delete(long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+            upcoming.invalidate();
+        }
+    }
+
+    private static ClassSession copy(ClassSession session) {
+        return new ClassSession(session.getId(), session.getTrainerId(), session.getTitle(),
+            session.getScheduleTimestamp(), session.getCapacity(), session.getWorkoutPlanId());
+    }
+}
@@ -0,0 +1,145 @@
+package com.gymflow.dao;
+
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.Role;
+import com.gymflow.model.Trainer;
+import com.gymflow.model.User;
+import com.gymflow.model.UserCredentials;
+import com.gymflow.model.UserFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * UserDao decorator that serves {@link #findById} and {@link #findByIds} from
+ * a cache shared by every instance, and invalidates a user when it is
+ * created, updated or deleted through any instance.
+ *
+ * <pre>
+ * this.userDao = new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl()));
+ * </pre>
+ */
+public class CachingUserDao implements UserDao {
+    private static final EntityCache<User> SHARED_CACHE = EntityCache.fromEnvironment("users", CachingUserDao::copy);
+
+    private final UserDao delegate;
+    private final EntityCache<User> cache;
+
+    public CachingUserDao(UserDao delegate) {
+        this(delegate, SHARED_CACHE);
+    }
+
+    CachingUserDao(UserDao delegate, EntityCache<User> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) throws DataAccessException {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<UserCredentials> findCredentialsByUsername(String username) throws DataAccessException {
+        // Never cached: a password change must take effect on the next login
+        return delegate.findCredentialsByUsername(username);
+    }
+
+    @Override
+    public Optional<User> create(String username, String passwordHash, String fullName, String email, Role role)
+            throws DataAccessException {
+        Optional<User> created = delegate.create(username, passwordHash, fullName, email, role);
+        created.ifPresent(user -> cache.invalidate(user.getId()));
+        return created;
+    }
+
+    @Override
+    public Optional<User> findById(long id) throws DataAccessException {
+        Optional<User> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Optional<User> loaded = delegate.findById(id);
+        loaded.ifPresent(user -> cache.put(id, user, generation));
+        return loaded;
+    }
+
+    @Override
+    public List<User> findByIds(Collection<Long> ids) throws DataAccessException {
+        List<User> users = new ArrayList<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id == null) {
+                // The delegate skips null IDs; unboxing one here would throw
+                continue;
+            }
+            Optional<User> cached = cache.get(id);
+            if (cached.isPresent()) {
+                users.add(cached.get());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = cache.generation();
+            for (User user : delegate.findByIds(missing)) {
+                cache.put(user.getId(), user, generation);
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public List<User> findByRole(Role role) throws DataAccessException {
+        return delegate.findByRole(role);
+    }
+
+    @Override
+    public int countByRole(Role role) throws DataAccessException {
+        return delegate.countByRole(role);
+    }
+
+    @Override
+    public List<User> findAll() throws DataAccessException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public boolean update(long id, String fullName, String email, Role role) throws DataAccessException {
+        try {
+            return delegate.update(id, fullName, email, role);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean updatePasswordHash(long id, String expectedHash, String newHash) throws DataAccessException {
+        // Password hashes are not part of the cached User
+        return delegate.updatePasswordHash(id, expectedHash, newHash);
+    }
+
+    @Override
+    public boolean delete(long id) throws DataAccessException {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    private static User copy(User user) {
+        if (user instanceof Trainer trainer) {
+            return UserFactory.createUser(user.getRole(), user.getId(), user.getUsername(), user.getFullName(),
+                user.getEmail(), user.getCreatedAt(), trainer.getSpecialization());
+        }
+        return UserFactory.createUser(user.getRole(), user.getId(), user.getUsername(), user.getFullName(),
+            user.getEmail(), user.getCreatedAt());
+    }
+}
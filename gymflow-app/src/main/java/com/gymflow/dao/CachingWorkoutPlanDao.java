@@ -0,0 +1,131 @@
+package com.gymflow.dao;
+
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanWithSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * WorkoutPlanDao decorator that serves {@link #findById} and {@link #findByIds}
+ * from a cache shared by every instance, and invalidates a plan when it is
+ * created, updated or deleted through any instance.
+ */
+public class CachingWorkoutPlanDao implements WorkoutPlanDao {
+    private static final EntityCache<WorkoutPlan> SHARED_CACHE =
+        EntityCache.fromEnvironment("workoutPlans", CachingWorkoutPlanDao::copy);
+
+    private final WorkoutPlanDao delegate;
+    private final EntityCache<WorkoutPlan> cache;
+
+    public CachingWorkoutPlanDao(WorkoutPlanDao delegate) {
+        this(delegate, SHARED_CACHE);
+    }
+
+    CachingWorkoutPlanDao(WorkoutPlanDao delegate, EntityCache<WorkoutPlan> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<WorkoutPlan> findById(long id) {
+        Optional<WorkoutPlan> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Optional<WorkoutPlan> loaded = delegate.findById(id);
+        loaded.ifPresent(plan -> cache.put(id, plan, generation));
+        return loaded;
+    }
+
+    @Override
+    public List<WorkoutPlan> findByIds(Collection<Long> ids) {
+        List<WorkoutPlan> plans = new ArrayList<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Optional<WorkoutPlan> cached = cache.get(id);
+            if (cached.isPresent()) {
+                plans.add(cached.get());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = cache.generation();
+            for (WorkoutPlan plan : delegate.findByIds(missing)) {
+                cache.put(plan.getId(), plan, generation);
+                plans.add(plan);
+            }
+        }
+        return plans;
+    }
+
+    @Override
+    public List<WorkoutPlan> findByMemberId(long memberId) {
+        return delegate.findByMemberId(memberId);
+    }
+
+    @Override
+    public List<WorkoutPlan> findByTrainerId(long trainerId) {
+        return delegate.findByTrainerId(trainerId);
+    }
+
+    @Override
+    public <E extends Exception> long streamByTrainerId(long trainerId, int fetchSize,
+                                                        RowHandler<WorkoutPlan, E> handler)
+            throws DataAccessException, E {
+        return delegate.streamByTrainerId(trainerId, fetchSize, handler);
+    }
+
+    @Override
+    public List<WorkoutPlanWithSource> findClassPlansForMember(long memberId) {
+        return delegate.findClassPlansForMember(memberId);
+    }
+
+    @Override
+    public Optional<WorkoutPlan> create(WorkoutPlan workoutPlan) {
+        Optional<WorkoutPlan> created = delegate.create(workoutPlan);
+        created.ifPresent(plan -> cache.invalidate(plan.getId()));
+        return created;
+    }
+
+    @Override
+    public List<WorkoutPlan> createAll(List<WorkoutPlan> workoutPlans) {
+        List<WorkoutPlan> created = delegate.createAll(workoutPlans);
+        for (WorkoutPlan plan : created) {
+            cache.invalidate(plan.getId());
+        }
+        return created;
+    }
+
+    @Override
+    public boolean update(WorkoutPlan workoutPlan) {
+        try {
+            return delegate.update(workoutPlan);
+        } finally {
+            cache.invalidate(workoutPlan.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    private static WorkoutPlan copy(WorkoutPlan plan) {
+        return new WorkoutPlan(plan.getId(), plan.getMemberId(), plan.getTrainerId(), plan.getTitle(),
+            plan.getDescription(), plan.getDifficulty(), plan.getMuscleGroup(), plan.getWorkoutType(),
+            plan.getDurationMinutes(), plan.getEquipmentNeeded(), plan.getTargetSets(), plan.getTargetReps(),
+            plan.getRestSeconds(), plan.getCreatedAt());
+    }
+}
@@ -1,9 +1,12 @@
 package com.gymflow.dao;
 
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.ClassSession;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Data access contract for ClassSession entities.
@@ -29,8 +32,25 @@ public interface ClassSessionDao {
      * Finds all upcoming class sessions (scheduled for future dates).
      *
      * @return list of upcoming class sessions
+     * @throws DataAccessException if database operation fails
      */
-    List<ClassSession> findUpcoming();
+    List<ClassSession> findUpcoming() throws DataAccessException;
+
+    /**
+     * Counts the upcoming class sessions without loading them.
+     *
+     * @return number of class sessions scheduled for future dates
+     */
+    int countUpcoming();
+
+    /**
+     * Returns which of the given class session IDs exist, in as few queries as possible.
+     *
+     * @param ids the class session IDs to check
+     * @return the subset of IDs that exist
+     * @throws DataAccessException if database operation fails
+     */
+    Set<Long> findExistingIds(Collection<Long> ids) throws DataAccessException;
 
     /**
      * Creates a new class session in the database.
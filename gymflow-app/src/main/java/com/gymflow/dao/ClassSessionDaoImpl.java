@@ -1,6 +1,7 @@
 package com.gymflow.dao;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.ClassSession;
 
 import java.sql.Connection;
@@ -10,8 +11,11 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JDBC implementation of ClassSessionDao for database operations on ClassSession entities.
@@ -79,7 +83,7 @@ public class ClassSessionDaoImpl implements ClassSessionDao {
     }
 
     @Override
-    public List<ClassSession> findUpcoming() {
+    public List<ClassSession> findUpcoming() throws DataAccessException {
         String sql = """
             SELECT id, trainer_id, title, schedule_timestamp, capacity, workout_plan_id
             FROM class_sessions
@@ -100,11 +104,67 @@ public class ClassSessionDaoImpl implements ClassSessionDao {
         } catch (SQLException e) {
             System.err.println("Error finding upcoming class sessions: " + e.getMessage());
             e.printStackTrace();
+            throw new DataAccessException("Failed to find upcoming class sessions", e);
         }
 
         return sessions;
     }
 
+    @Override
+    public int countUpcoming() {
+        String sql = """
+            SELECT COUNT(*) AS count
+            FROM class_sessions
+            WHERE schedule_timestamp > CURRENT_TIMESTAMP
+            """;
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                return rs.getInt("count");
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting upcoming class sessions: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) throws DataAccessException {
+        Set<Long> existing = new HashSet<>();
+
+        try (Connection conn = dbConnection.getConnection()) {
+            for (List<Long> chunk : SqlInList.chunks(ids)) {
+                String sql = """
+                    SELECT id
+                    FROM class_sessions
+                    WHERE id IN (%s)
+                    """.formatted(SqlInList.placeholders(chunk.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            existing.add(rs.getLong("id"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error checking class session IDs: " + e.getMessage());
+            e.printStackTrace();
+            throw new DataAccessException("Failed to check class session IDs", e);
+        }
+
+        return existing;
+    }
+
     @Override
     public Optional<ClassSession> create(ClassSession classSession) {
         String sql = """
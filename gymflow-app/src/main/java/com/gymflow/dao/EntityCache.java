@@ -0,0 +1,175 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Size-bounded LRU cache of entities by ID, shared by the caching DAO
+ * decorators. Entries optionally expire after a time to live, which bounds
+ * how long a row changed by another process (the H2 server mode lets several
+ * apps share the database) can be served stale.
+ *
+ * <p>Entities are mutable, so the cache stores and hands out copies; a caller
+ * editing a returned object does not change what the next caller sees.</p>
+ *
+ * <p>Loads race with invalidations: a row read before an update commits must
+ * not be cached after the update has invalidated it. Every invalidation bumps
+ * a generation number, and {@link #put} drops values loaded under an older
+ * generation.</p>
+ *
+ * <p>Hits, misses and evictions are counted in {@link MetricsRegistry} as
+ * {@code cache.<name>.hits}, {@code .misses} and {@code .evictions}; the
+ * entry count is the {@code cache.<name>.size} gauge.</p>
+ */
+final class EntityCache<V> {
+    /** Default maximum number of entries per cache; a dashboard's working set is a few hundred rows. */
+    static final int DEFAULT_MAX_ENTRIES = 1_000;
+    /** Default time to live in seconds; 0 keeps entries until they are evicted or invalidated. */
+    static final long DEFAULT_TTL_SECONDS = 300;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final LinkedHashMap<Long, Entry<V>> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private long generation;
+
+    /**
+     * @param name metric name, e.g. {@code users}
+     * @param maxEntries entries kept before the least recently used is evicted
+     * @param ttl how long an entry stays valid, or zero for no expiry
+     * @param copier copies an entity so cached instances are never shared
+     */
+    EntityCache(String name, int maxEntries, Duration ttl, UnaryOperator<V> copier) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.copier = copier;
+        // Access order makes iteration start at the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        String prefix = "cache." + name + ".";
+        this.hits = metrics.counter(prefix + "hits");
+        this.misses = metrics.counter(prefix + "misses");
+        this.evictions = metrics.counter(prefix + "evictions");
+        metrics.registerGauge(prefix + "size", this::size);
+    }
+
+    /**
+     * Creates a cache sized from {@code GYMFLOW_CACHE_MAX_ENTRIES} and
+     * {@code GYMFLOW_CACHE_TTL_SECONDS}. The cache is cleared whenever
+     * {@link DatabaseConnection#resetInstance()} is called.
+     */
+    static <V> EntityCache<V> fromEnvironment(String name, UnaryOperator<V> copier) {
+        EntityCache<V> cache = new EntityCache<>(name,
+            Integer.parseInt(System.getenv().getOrDefault("GYMFLOW_CACHE_MAX_ENTRIES",
+                String.valueOf(DEFAULT_MAX_ENTRIES))),
+            Duration.ofSeconds(Long.parseLong(System.getenv().getOrDefault("GYMFLOW_CACHE_TTL_SECONDS",
+                String.valueOf(DEFAULT_TTL_SECONDS)))),
+            copier);
+        DatabaseConnection.addResetListener(cache::invalidateAll);
+        return cache;
+    }
+
+    /**
+     * Looks up an entity and counts a hit or miss.
+     *
+     * @param id the entity ID
+     * @return a copy of the cached entity, or empty if it is not cached or has expired
+     */
+    Optional<V> get(long id) {
+        V value;
+        synchronized (this) {
+            Entry<V> entry = entries.get(id);
+            if (entry != null && entry.isExpired(ttlNanos)) {
+                entries.remove(id);
+                entry = null;
+            }
+            value = entry != null ? entry.value : null;
+        }
+        if (value == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(copier.apply(value));
+    }
+
+    /**
+     * Takes the generation to pass to {@link #put} before loading from the database.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a copy of an entity loaded from the database, unless an
+     * invalidation happened since the load started.
+     *
+     * @param id the entity ID
+     * @param value the loaded entity
+     * @param loadGeneration {@link #generation()} taken before the load
+     */
+    void put(long id, V value, long loadGeneration) {
+        V copy = copier.apply(value);
+        synchronized (this) {
+            if (loadGeneration != generation) {
+                return;
+            }
+            entries.put(id, new Entry<>(copy, System.nanoTime()));
+            while (entries.size() > maxEntries) {
+                Iterator<Map.Entry<Long, Entry<V>>> eldest = entries.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drops an entity after it has been written.
+     */
+    synchronized void invalidate(long id) {
+        generation++;
+        entries.remove(id);
+    }
+
+    /**
+     * Drops every entity.
+     */
+    synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAtNanos;
+
+        private Entry(V value, long loadedAtNanos) {
+            this.value = value;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return ttlNanos > 0 && System.nanoTime() - loadedAtNanos >= ttlNanos;
+        }
+    }
+}
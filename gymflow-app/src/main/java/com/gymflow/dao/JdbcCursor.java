@@ -0,0 +1,36 @@
+package com.gymflow.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Helpers for the streaming finders that walk a large result set with a
+ * bounded number of rows in memory.
+ */
+final class JdbcCursor {
+    /** Fetch size used when the caller passes a non-positive value. */
+    static final int DEFAULT_FETCH_SIZE = 500;
+
+    private JdbcCursor() {}
+
+    /**
+     * Prepares a forward-only, read-only statement that fetches rows in
+     * batches of {@code fetchSize}. Auto-commit is switched off because the
+     * PostgreSQL driver only uses a server-side cursor inside a transaction;
+     * the connection pool restores auto-commit when the connection is returned.
+     *
+     * @param conn the connection to prepare on
+     * @param sql the query
+     * @param fetchSize rows per round trip, or 0 or less for the default
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    static PreparedStatement prepare(Connection conn, String sql, int fetchSize) throws SQLException {
+        conn.setAutoCommit(false);
+        PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE);
+        return stmt;
+    }
+}
@@ -0,0 +1,79 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.Role;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Maps each {@link Role} to its {@code roles.id}, so writes to {@code users}
+ * do not look the ID up by name every time.
+ *
+ * <p>The roles table is seeded once and never changes while the app runs.
+ * {@link #load()} reads it at startup; if it has not been called, the first
+ * lookup loads it. {@link DatabaseConnection#resetInstance()} drops the map,
+ * since the next database may number its roles differently.</p>
+ */
+public final class RoleIds {
+    private static volatile Map<Role, Integer> ids;
+
+    static {
+        DatabaseConnection.addResetListener(() -> ids = null);
+    }
+
+    private RoleIds() {}
+
+    /**
+     * Reads the role IDs from the database, replacing any loaded before.
+     *
+     * @throws DataAccessException if the roles cannot be read
+     */
+    public static void load() throws DataAccessException {
+        ids = read();
+    }
+
+    /**
+     * Looks up the ID of a role, loading the map on first use.
+     *
+     * @param role the role
+     * @return the role's {@code roles.id}
+     * @throws DataAccessException if the roles cannot be read or the role is missing
+     */
+    static int idOf(Role role) throws DataAccessException {
+        Map<Role, Integer> current = ids;
+        if (current == null) {
+            current = read();
+            ids = current;
+        }
+        Integer id = current.get(role);
+        if (id == null) {
+            throw new DataAccessException("Role not found: " + role.name());
+        }
+        return id;
+    }
+
+    private static Map<Role, Integer> read() throws DataAccessException {
+        String sql = "SELECT id, name FROM roles";
+        Map<Role, Integer> loaded = new EnumMap<>(Role.class);
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                loaded.put(Role.fromString(rs.getString("name")), rs.getInt("id"));
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            System.err.println("Error loading role IDs: " + e.getMessage());
+            e.printStackTrace();
+            throw new DataAccessException("Failed to load role IDs", e);
+        }
+
+        return Map.copyOf(loaded);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gymflow.dao;
+
+/**
+ * Callback that receives rows from a streaming DAO query one at a time,
+ * while the underlying result set is still open.
+ *
+ * @param <T> the row type
+ * @param <E> the checked exception the handler may throw, e.g. a write failure
+ */
+@FunctionalInterface
+public interface RowHandler<T, E extends Exception> {
+    /**
+     * Handles a single row.
+     *
+     * @param row the mapped row
+     * @throws E to abort the query
+     */
+    void handle(T row) throws E;
+}
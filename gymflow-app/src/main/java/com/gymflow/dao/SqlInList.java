@@ -0,0 +1,49 @@
+package com.gymflow.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Helpers for the bulk finders that bind a list of ids into an IN (...) clause.
+ */
+final class SqlInList {
+    /** Maximum number of ids bound into a single IN (...) list. */
+    static final int MAX_SIZE = 500;
+
+    private SqlInList() {}
+
+    /**
+     * Builds a comma-separated list of {@code count} JDBC placeholders.
+     *
+     * @param count number of placeholders
+     * @return e.g. "?, ?, ?" for 3
+     */
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Removes duplicate and null ids and splits the rest into chunks of at most
+     * {@link #MAX_SIZE}, preserving encounter order.
+     *
+     * @param ids the ids to split
+     * @return list of chunks, empty if there are no ids
+     */
+    static List<List<Long>> chunks(Collection<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return chunks;
+        }
+
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        for (int start = 0; start < distinct.size(); start += MAX_SIZE) {
+            chunks.add(distinct.subList(start, Math.min(start + MAX_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+}
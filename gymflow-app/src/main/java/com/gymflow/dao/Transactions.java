@@ -0,0 +1,26 @@
+package com.gymflow.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Helpers for the DAO methods that run several statements in one transaction.
+ */
+final class Transactions {
+    private Transactions() {}
+
+    /**
+     * Rolls back after a failed statement without losing its exception: if the
+     * rollback fails too, that failure is added to {@code cause} as suppressed.
+     *
+     * @param conn the connection whose transaction failed
+     * @param cause the exception that ended the transaction
+     */
+    static void rollback(Connection conn, SQLException cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException rollbackFailure) {
+            cause.addSuppressed(rollbackFailure);
+        }
+    }
+}
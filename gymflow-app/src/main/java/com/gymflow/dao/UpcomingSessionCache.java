@@ -0,0 +1,157 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.metrics.MetricsRegistry;
+import com.gymflow.model.ClassSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory copy of the upcoming class sessions, sorted by schedule time.
+ *
+ * <p>A snapshot loaded from the database is served for one time bucket
+ * ({@code GYMFLOW_UPCOMING_CACHE_SECONDS}, default 60). Within the bucket,
+ * sessions whose start time has passed are dropped from the head of the
+ * list as they are read, so the cached result matches what
+ * {@code schedule_timestamp > CURRENT_TIMESTAMP} would return. Writes to
+ * class sessions invalidate the snapshot; the bucket bounds how long
+ * changes made by another process go unseen.</p>
+ *
+ * <p>Reads are counted as {@code cache.upcomingSessions.hits} and
+ * {@code .misses} in {@link MetricsRegistry}.</p>
+ */
+final class UpcomingSessionCache {
+    /** Default seconds a snapshot is served before it is reloaded. */
+    static final long DEFAULT_BUCKET_SECONDS = 60;
+
+    private final long bucketNanos;
+    private final UnaryOperator<ClassSession> copier;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private List<ClassSession> sessions;
+    private int head;
+    private long loadedAtNanos;
+    private long generation;
+
+    /**
+     * @param name metric name, e.g. {@code upcomingSessions}
+     * @param bucket how long a snapshot is served before it is reloaded
+     * @param copier copies a session so cached instances are never shared
+     */
+    UpcomingSessionCache(String name, Duration bucket, UnaryOperator<ClassSession> copier) {
+        this.bucketNanos = bucket.toNanos();
+        this.copier = copier;
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        this.hits = metrics.counter("cache." + name + ".hits");
+        this.misses = metrics.counter("cache." + name + ".misses");
+    }
+
+    /**
+     * Creates a cache whose bucket is read from {@code GYMFLOW_UPCOMING_CACHE_SECONDS}.
+     * The cache is cleared whenever {@link DatabaseConnection#resetInstance()} is called.
+     */
+    static UpcomingSessionCache fromEnvironment(String name, UnaryOperator<ClassSession> copier) {
+        UpcomingSessionCache cache = new UpcomingSessionCache(name,
+            Duration.ofSeconds(Long.parseLong(System.getenv().getOrDefault("GYMFLOW_UPCOMING_CACHE_SECONDS",
+                String.valueOf(DEFAULT_BUCKET_SECONDS)))),
+            copier);
+        DatabaseConnection.addResetListener(cache::invalidate);
+        return cache;
+    }
+
+    /**
+     * Returns the sessions scheduled after {@code now}, earliest first.
+     *
+     * @param now the current time
+     * @return copies of the cached sessions, or empty if the snapshot is missing or its bucket has ended
+     */
+    Optional<List<ClassSession>> get(LocalDateTime now) {
+        synchronized (this) {
+            if (!isCurrent()) {
+                misses.increment();
+                return Optional.empty();
+            }
+            dropStarted(now);
+            List<ClassSession> upcoming = sessions.subList(head, sessions.size());
+            List<ClassSession> copies = new ArrayList<>(upcoming.size());
+            for (ClassSession session : upcoming) {
+                copies.add(copier.apply(session));
+            }
+            hits.increment();
+            return Optional.of(copies);
+        }
+    }
+
+    /**
+     * Counts the sessions scheduled after {@code now} without copying them.
+     *
+     * @return the count, or empty if the snapshot is missing or its bucket has ended
+     */
+    synchronized Optional<Integer> count(LocalDateTime now) {
+        if (!isCurrent()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        dropStarted(now);
+        hits.increment();
+        return Optional.of(sessions.size() - head);
+    }
+
+    /**
+     * Takes the generation to pass to {@link #put} before loading from the database.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Replaces the snapshot with sessions loaded from the database, unless an
+     * invalidation happened since the load started.
+     *
+     * @param loaded the upcoming sessions
+     * @param loadGeneration {@link #generation()} taken before the load
+     */
+    void put(List<ClassSession> loaded, long loadGeneration) {
+        List<ClassSession> snapshot = new ArrayList<>(loaded.size());
+        for (ClassSession session : loaded) {
+            snapshot.add(copier.apply(session));
+        }
+        snapshot.sort(Comparator.comparing(ClassSession::getScheduleTimestamp));
+        synchronized (this) {
+            if (loadGeneration != generation) {
+                return;
+            }
+            sessions = snapshot;
+            head = 0;
+            loadedAtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Drops the snapshot after a class session has been written.
+     */
+    synchronized void invalidate() {
+        generation++;
+        sessions = null;
+    }
+
+    private boolean isCurrent() {
+        return sessions != null && System.nanoTime() - loadedAtNanos < bucketNanos;
+    }
+
+    /**
+     * Advances past sessions that have started; the list is sorted, so they are all at the head.
+     */
+    private void dropStarted(LocalDateTime now) {
+        while (head < sessions.size() && !sessions.get(head).getScheduleTimestamp().isAfter(now)) {
+            head++;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.gymflow.dao;
 import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
+import com.gymflow.model.UserCredentials;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +13,15 @@ import java.util.Optional;
  */
 public interface UserDao {
     Optional<User> findByUsername(String username) throws DataAccessException;
+
+    /**
+     * Finds a user and the stored password hash in one query, for login.
+     *
+     * @param username the username
+     * @return Optional containing the user and hash if found, empty otherwise
+     * @throws DataAccessException if database operation fails
+     */
+    Optional<UserCredentials> findCredentialsByUsername(String username) throws DataAccessException;
     
     /**
      * Creates a new user in the database.
@@ -34,6 +44,15 @@ public interface UserDao {
      * @throws DataAccessException if database operation fails
      */
     Optional<User> findById(long id) throws DataAccessException;
+
+    /**
+     * Finds several users by ID in as few queries as possible.
+     *
+     * @param ids the user IDs
+     * @return the users that exist, in no particular order
+     * @throws DataAccessException if database operation fails
+     */
+    java.util.List<User> findByIds(java.util.Collection<Long> ids) throws DataAccessException;
     
     /**
      * Finds all users with a specific role.
@@ -72,6 +91,18 @@ public interface UserDao {
      * @throws DataAccessException if database operation fails
      */
     boolean update(long id, String fullName, String email, Role role) throws DataAccessException;
+
+    /**
+     * Replaces a user's password hash, but only if it still has the expected
+     * value, so an upgrade at login cannot overwrite a password changed meanwhile.
+     *
+     * @param id the user ID
+     * @param expectedHash the hash the user is expected to have
+     * @param newHash the new hash
+     * @return true if the hash was replaced
+     * @throws DataAccessException if database operation fails
+     */
+    boolean updatePasswordHash(long id, String expectedHash, String newHash) throws DataAccessException;
     
     /**
      * Deletes a user from the database.
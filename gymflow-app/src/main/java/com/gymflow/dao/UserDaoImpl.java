@@ -4,12 +4,14 @@ import com.gymflow.config.DatabaseConnection;
 import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
+import com.gymflow.model.UserCredentials;
 import com.gymflow.model.UserFactory;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -17,6 +19,9 @@ import java.util.Optional;
  * JDBC implementation of UserDao for database operations on User entities.
  */
 public class UserDaoImpl implements UserDao {
+    /** SQLSTATE for a unique constraint violation. */
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final DatabaseConnection dbConnection;
 
     public UserDaoImpl() {
@@ -111,107 +116,143 @@ public class UserDaoImpl implements UserDao {
         return Optional.empty();
     }
 
+    @Override
+    public java.util.List<User> findByIds(java.util.Collection<Long> ids) throws DataAccessException {
+        java.util.List<User> users = new java.util.ArrayList<>();
+
+        try (Connection conn = dbConnection.getConnection()) {
+            for (java.util.List<Long> chunk : SqlInList.chunks(ids)) {
+                String sql = """
+                    SELECT u.id, u.username, u.full_name, u.email, u.created_at, r.name as role_name
+                    FROM users u
+                    JOIN roles r ON u.role_id = r.id
+                    WHERE u.id IN (%s)
+                    """.formatted(SqlInList.placeholders(chunk.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            long userId = rs.getLong("id");
+                            String username = rs.getString("username");
+                            String fullName = rs.getString("full_name");
+                            String email = rs.getString("email");
+                            LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+                            Role role = Role.fromString(rs.getString("role_name"));
+                            users.add(UserFactory.createUser(role, userId, username, fullName, email, createdAt));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding users by IDs: " + e.getMessage());
+            e.printStackTrace();
+            throw new DataAccessException("Failed to find users by IDs", e);
+        }
+
+        return users;
+    }
+
     /**
-     * Creates a new user in the database.
+     * Finds a user together with the stored password hash, for login.
      *
-     * @param username the username (must be unique)
-     * @param passwordHash the hashed password
-     * @param fullName the user's full name
-     * @param email the user's email
-     * @param role the user's role
-     * @return Optional containing the created User if successful, empty if username already exists
+     * @param username the username to search for
+     * @return Optional containing the user and hash if found, empty otherwise
      */
     @Override
-    public Optional<User> create(String username, String passwordHash, String fullName, String email, Role role) throws com.gymflow.exception.DataAccessException {
-        // First check if username already exists
-        if (findByUsername(username).isPresent()) {
-            return Optional.empty();
-        }
-
-        // Get role_id from database
-        String roleIdSql = "SELECT id FROM roles WHERE name = ?";
-        int roleId = -1;
+    public Optional<UserCredentials> findCredentialsByUsername(String username) throws DataAccessException {
+        String sql = """
+            SELECT u.id, u.username, u.password_hash, u.full_name, u.email, u.created_at, r.name as role_name
+            FROM users u
+            JOIN roles r ON u.role_id = r.id
+            WHERE u.username = ?
+            """;
 
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement roleStmt = conn.prepareStatement(roleIdSql)) {
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            roleStmt.setString(1, role.name());
-            try (ResultSet rs = roleStmt.executeQuery()) {
+            stmt.setString(1, username);
+
+            try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    roleId = rs.getInt("id");
-                } else {
-                    System.err.println("Role not found: " + role.name());
-                    return Optional.empty();
+                    long id = rs.getLong("id");
+                    String fullName = rs.getString("full_name");
+                    String email = rs.getString("email");
+                    LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+                    Role role = Role.fromString(rs.getString("role_name"));
+                    User user = UserFactory.createUser(role, id, username, fullName, email, createdAt);
+
+                    return Optional.of(new UserCredentials(user, rs.getString("password_hash")));
                 }
             }
         } catch (SQLException e) {
-            System.err.println("Error finding role: " + e.getMessage());
+            System.err.println("Error finding credentials by username: " + e.getMessage());
             e.printStackTrace();
-            throw new DataAccessException("Failed to find role: " + role.name(), e);
+            throw new DataAccessException("Failed to find credentials for user: " + username, e);
         }
 
-        // Insert new user
+        return Optional.empty();
+    }
+
+    /**
+     * Creates a new user in the database with a single insert. A duplicate
+     * username is detected by the unique constraint on {@code users.username}
+     * rather than by a lookup beforehand, which would also race with a
+     * concurrent registration.
+     *
+     * @param username the username (must be unique)
+     * @param passwordHash the hashed password
+     * @param fullName the user's full name
+     * @param email the user's email
+     * @param role the user's role
+     * @return Optional containing the created User if successful, empty if username already exists
+     */
+    @Override
+    public Optional<User> create(String username, String passwordHash, String fullName, String email, Role role) throws com.gymflow.exception.DataAccessException {
+        int roleId = RoleIds.idOf(role);
+
         String insertSql = """
             INSERT INTO users (role_id, username, password_hash, full_name, email)
             VALUES (?, ?, ?, ?, ?)
             """;
 
-        Connection conn = null;
-        try {
-            conn = dbConnection.getConnection();
-            // Ensure auto-commit is enabled for immediate persistence
-            conn.setAutoCommit(true);
-            
-            try (PreparedStatement stmt = conn.prepareStatement(insertSql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-                stmt.setInt(1, roleId);
-                stmt.setString(2, username);
-                stmt.setString(3, passwordHash);
-                stmt.setString(4, fullName);
-                stmt.setString(5, email);
-
-                System.out.println("Attempting to create user: " + username);
-                System.out.println("Password hash length: " + passwordHash.length());
-                
-                int rowsAffected = stmt.executeUpdate();
-                if (rowsAffected == 0) {
-                    System.err.println("No rows affected when creating user: " + username);
-                    return Optional.empty();
-                }
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(insertSql, new String[] {"id", "created_at"})) {
+            stmt.setInt(1, roleId);
+            stmt.setString(2, username);
+            stmt.setString(3, passwordHash);
+            stmt.setString(4, fullName);
+            stmt.setString(5, email);
 
-                System.out.println("User inserted successfully, rows affected: " + rowsAffected);
-
-                // Get the generated ID
-                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        long id = generatedKeys.getLong(1);
-                        LocalDateTime createdAt = LocalDateTime.now();
-
-                        // Verify the user was actually saved by querying it back
-                        Optional<User> verifyUser = findByUsername(username);
-                        if (verifyUser.isPresent()) {
-                            System.out.println("User created and verified successfully: " + username + " (ID: " + id + ")");
-                            User user = UserFactory.createUser(role, id, username, fullName, email, createdAt);
-                            return Optional.of(user);
-                        } else {
-                            System.err.println("User created but could not be verified: " + username);
-                            return Optional.empty();
-                        }
-                    } else {
-                        System.err.println("No generated key returned for user: " + username);
-                        return Optional.empty();
-                    }
+            int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected == 0) {
+                System.err.println("No rows affected when creating user: " + username);
+                return Optional.empty();
+            }
+
+            // The generated ID and creation timestamp come back with the insert
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    long id = generatedKeys.getLong(1);
+                    Timestamp created = generatedKeys.getTimestamp(2);
+                    LocalDateTime createdAt = created != null ? created.toLocalDateTime() : LocalDateTime.now();
+                    System.out.println("User created successfully: " + username + " (ID: " + id + ")");
+                    return Optional.of(UserFactory.createUser(role, id, username, fullName, email, createdAt));
+                } else {
+                    System.err.println("No generated key returned for user: " + username);
+                    return Optional.empty();
                 }
             }
         } catch (SQLException e) {
+            if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                // Taken username; callers report it from the empty result
+                return Optional.empty();
+            }
             System.err.println("Error creating user: " + e.getMessage());
             e.printStackTrace();
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException rollbackEx) {
-                    System.err.println("Error rolling back: " + rollbackEx.getMessage());
-                }
-            }
             throw new DataAccessException("Failed to create user: " + username, e);
         }
     }
@@ -336,24 +377,8 @@ public class UserDaoImpl implements UserDao {
             params.add(email.trim());
         }
         if (role != null) {
-            // Get role_id from database
-            String roleIdSql = "SELECT id FROM roles WHERE name = ?";
-            int roleId = -1;
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement roleStmt = conn.prepareStatement(roleIdSql)) {
-                roleStmt.setString(1, role.name());
-                try (ResultSet rs = roleStmt.executeQuery()) {
-                    if (rs.next()) {
-                        roleId = rs.getInt("id");
-                    } else {
-                        throw new DataAccessException("Role not found: " + role.name());
-                    }
-                }
-            } catch (SQLException e) {
-                throw new DataAccessException("Failed to find role: " + role.name(), e);
-            }
             updates.add("role_id = ?");
-            params.add(roleId);
+            params.add(RoleIds.idOf(role));
         }
 
         if (updates.isEmpty()) {
@@ -386,6 +411,24 @@ public class UserDaoImpl implements UserDao {
         }
     }
 
+    @Override
+    public boolean updatePasswordHash(long id, String expectedHash, String newHash) throws DataAccessException {
+        String sql = "UPDATE users SET password_hash = ? WHERE id = ? AND password_hash = ?";
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, newHash);
+            stmt.setLong(2, id);
+            stmt.setString(3, expectedHash);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Error updating password hash: " + e.getMessage());
+            e.printStackTrace();
+            throw new DataAccessException("Failed to update password hash for user: " + id, e);
+        }
+    }
+
     @Override
     public boolean delete(long id) throws DataAccessException {
         String sql = "DELETE FROM users WHERE id = ?";
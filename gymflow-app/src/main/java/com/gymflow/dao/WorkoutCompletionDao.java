@@ -1,9 +1,11 @@
 package com.gymflow.dao;
 
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.WorkoutCompletion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Data access contract for WorkoutCompletion entities.
@@ -29,6 +31,14 @@ public interface WorkoutCompletionDao {
      */
     boolean isCompleted(long workoutPlanId, long memberId);
 
+    /**
+     * Gets the IDs of all workout plans a member has completed.
+     *
+     * @param memberId the member ID
+     * @return set of completed workout plan IDs
+     */
+    Set<Long> findCompletedPlanIds(long memberId);
+
     /**
      * Gets all completions for a specific member.
      *
@@ -37,6 +47,18 @@ public interface WorkoutCompletionDao {
      */
     List<WorkoutCompletion> findByMemberId(long memberId);
 
+    /**
+     * Gets one page of a member's attendance history, newest completion first.
+     * Each row is joined with its workout plan, class session and trainer, so
+     * a page costs one query. Completions whose plan no longer exists are skipped.
+     *
+     * @param memberId the member ID
+     * @param after the last row of the previous page, or null for the first page
+     * @param limit maximum number of rows to return
+     * @return the next page of history rows
+     */
+    List<AttendanceHistoryRow> findHistoryByMember(long memberId, AttendanceHistoryRow after, int limit);
+
     /**
      * Gets all completions for a specific workout plan.
      *
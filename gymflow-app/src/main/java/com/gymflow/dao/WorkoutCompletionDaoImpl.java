@@ -1,6 +1,7 @@
 package com.gymflow.dao;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.WorkoutCompletion;
 
 import java.sql.Connection;
@@ -10,8 +11,10 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JDBC implementation of WorkoutCompletionDao.
@@ -92,6 +95,33 @@ public class WorkoutCompletionDaoImpl implements WorkoutCompletionDao {
         return false;
     }
 
+    @Override
+    public Set<Long> findCompletedPlanIds(long memberId) {
+        String sql = """
+            SELECT DISTINCT workout_plan_id FROM workout_completions
+            WHERE member_id = ?
+            """;
+
+        Set<Long> planIds = new HashSet<>();
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, memberId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    planIds.add(rs.getLong("workout_plan_id"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding completed workout plan IDs: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return planIds;
+    }
+
     @Override
     public List<WorkoutCompletion> findByMemberId(long memberId) {
         String sql = """
@@ -121,6 +151,55 @@ public class WorkoutCompletionDaoImpl implements WorkoutCompletionDao {
         return completions;
     }
 
+    @Override
+    public List<AttendanceHistoryRow> findHistoryByMember(long memberId, AttendanceHistoryRow after, int limit) {
+        // Keyset on (completed_at, id): completed_at is always set by the column default
+        String keyset = after != null
+            ? "AND (wc.completed_at < ? OR (wc.completed_at = ? AND wc.id < ?))"
+            : "";
+        String sql = """
+            SELECT wc.id, wc.completed_at, wc.class_session_id,
+                   wp.title AS plan_title, pt.full_name AS plan_trainer_name,
+                   cs.id AS class_id, cs.title AS class_title, cs.schedule_timestamp,
+                   ct.full_name AS class_trainer_name
+            FROM workout_completions wc
+            JOIN workout_plans wp ON wp.id = wc.workout_plan_id
+            LEFT JOIN class_sessions cs ON cs.id = wc.class_session_id
+            LEFT JOIN users ct ON ct.id = cs.trainer_id
+            LEFT JOIN users pt ON pt.id = wp.trainer_id
+            WHERE wc.member_id = ? %s
+            ORDER BY wc.completed_at DESC, wc.id DESC
+            LIMIT ?
+            """.formatted(keyset);
+
+        List<AttendanceHistoryRow> rows = new ArrayList<>();
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            stmt.setLong(index++, memberId);
+            if (after != null) {
+                Timestamp cursor = Timestamp.valueOf(after.getCompletedAt());
+                stmt.setTimestamp(index++, cursor);
+                stmt.setTimestamp(index++, cursor);
+                stmt.setLong(index++, after.getCompletionId());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSetToHistoryRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding attendance history: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return rows;
+    }
+
     @Override
     public List<WorkoutCompletion> findByWorkoutPlanId(long workoutPlanId) {
         String sql = """
@@ -183,5 +262,29 @@ public class WorkoutCompletionDaoImpl implements WorkoutCompletionDao {
 
         return new WorkoutCompletion(id, workoutPlanId, memberId, classSessionId, completedAt, notes);
     }
-}
 
+    private AttendanceHistoryRow mapResultSetToHistoryRow(ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        Timestamp completedAtTimestamp = rs.getTimestamp("completed_at");
+        LocalDateTime completedAt = completedAtTimestamp != null ? completedAtTimestamp.toLocalDateTime() : null;
+        String planTitle = rs.getString("plan_title");
+
+        if (rs.getObject("class_session_id") == null) {
+            // Direct assignment: plan title, completion time, plan trainer
+            String trainerName = rs.getString("plan_trainer_name");
+            return new AttendanceHistoryRow(id, completedAt, planTitle, completedAt,
+                                            trainerName != null ? trainerName : "Trainer");
+        }
+
+        if (rs.getObject("class_id") == null) {
+            // Class session has been deleted since the workout was completed
+            return new AttendanceHistoryRow(id, completedAt, planTitle + " (Class Deleted)", completedAt, "N/A");
+        }
+
+        Timestamp scheduleTimestamp = rs.getTimestamp("schedule_timestamp");
+        LocalDateTime dateTime = scheduleTimestamp != null ? scheduleTimestamp.toLocalDateTime() : completedAt;
+        String trainerName = rs.getString("class_trainer_name");
+        return new AttendanceHistoryRow(id, completedAt, rs.getString("class_title"), dateTime,
+                                        trainerName != null ? trainerName : "Trainer");
+    }
+}
@@ -1,7 +1,10 @@
 package com.gymflow.dao;
 
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanWithSource;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,14 @@ public interface WorkoutPlanDao {
      */
     Optional<WorkoutPlan> findById(long id);
 
+    /**
+     * Finds several workout plans by ID in as few queries as possible.
+     *
+     * @param ids the workout plan IDs
+     * @return the workout plans that exist, in no particular order
+     */
+    List<WorkoutPlan> findByIds(Collection<Long> ids);
+
     /**
      * Finds all workout plans assigned to a specific member.
      *
@@ -33,6 +44,29 @@ public interface WorkoutPlanDao {
      */
     List<WorkoutPlan> findByTrainerId(long trainerId);
 
+    /**
+     * Streams a trainer's workout plans to a handler without loading them all
+     * into memory, in the same order as {@link #findByTrainerId(long)}.
+     *
+     * @param trainerId the trainer ID
+     * @param fetchSize rows per database round trip, or 0 for the default
+     * @param handler receives each plan while the cursor is open
+     * @return number of plans handled
+     * @throws DataAccessException if the query fails part way through
+     * @throws E if the handler fails; the query is abandoned
+     */
+    <E extends Exception> long streamByTrainerId(long trainerId, int fetchSize, RowHandler<WorkoutPlan, E> handler)
+            throws DataAccessException, E;
+
+    /**
+     * Finds the workout plans attached to upcoming class sessions the member is
+     * registered for, together with the class each plan comes from, in one query.
+     *
+     * @param memberId the member ID
+     * @return class-sourced workout plans ordered by class schedule
+     */
+    List<WorkoutPlanWithSource> findClassPlansForMember(long memberId);
+
     /**
      * Creates a new workout plan in the database.
      *
@@ -41,6 +75,15 @@ public interface WorkoutPlanDao {
      */
     Optional<WorkoutPlan> create(WorkoutPlan workoutPlan);
 
+    /**
+     * Creates several workout plans in a single transaction using JDBC batches.
+     * Either every plan is inserted or none is.
+     *
+     * @param workoutPlans the workout plans to create (ids are ignored)
+     * @return the created plans with generated IDs, in input order, or an empty list if creation fails
+     */
+    List<WorkoutPlan> createAll(List<WorkoutPlan> workoutPlans);
+
     /**
      * Updates an existing workout plan in the database.
      *
@@ -1,7 +1,10 @@
 package com.gymflow.dao;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.ClassSession;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanWithSource;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -10,6 +13,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,16 @@ import java.util.Optional;
  * JDBC implementation of WorkoutPlanDao for database operations on WorkoutPlan entities.
  */
 public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
+    private static final String INSERT_SQL = """
+        INSERT INTO workout_plans (member_id, trainer_id, title, description, difficulty,
+                                  muscle_group, workout_type, duration_minutes, equipment_needed,
+                                  target_sets, target_reps, rest_seconds)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    /** Rows sent per executeBatch call by {@link #createAll(List)}. */
+    private static final int BATCH_SIZE = 500;
+
     private final DatabaseConnection dbConnection;
 
     public WorkoutPlanDaoImpl() {
@@ -51,6 +65,40 @@ public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
         return Optional.empty();
     }
 
+    @Override
+    public List<WorkoutPlan> findByIds(Collection<Long> ids) {
+        List<WorkoutPlan> plans = new ArrayList<>();
+
+        try (Connection conn = dbConnection.getConnection()) {
+            for (List<Long> chunk : SqlInList.chunks(ids)) {
+                String sql = """
+                    SELECT id, member_id, trainer_id, title, description, difficulty,
+                           muscle_group, workout_type, duration_minutes, equipment_needed,
+                           target_sets, target_reps, rest_seconds, created_at
+                    FROM workout_plans
+                    WHERE id IN (%s)
+                    """.formatted(SqlInList.placeholders(chunk.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setLong(i + 1, chunk.get(i));
+                    }
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            plans.add(mapResultSetToWorkoutPlan(rs));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error finding workout plans by IDs: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return plans;
+    }
+
     @Override
     public List<WorkoutPlan> findByMemberId(long memberId) {
         String sql = """
@@ -114,45 +162,88 @@ public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
     }
 
     @Override
-    public Optional<WorkoutPlan> create(WorkoutPlan workoutPlan) {
+    public <E extends Exception> long streamByTrainerId(long trainerId, int fetchSize, RowHandler<WorkoutPlan, E> handler)
+            throws DataAccessException, E {
         String sql = """
-            INSERT INTO workout_plans (member_id, trainer_id, title, description, difficulty,
-                                      muscle_group, workout_type, duration_minutes, equipment_needed,
-                                      target_sets, target_reps, rest_seconds)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            SELECT id, member_id, trainer_id, title, description, difficulty,
+                   muscle_group, workout_type, duration_minutes, equipment_needed,
+                   target_sets, target_reps, rest_seconds, created_at
+            FROM workout_plans
+            WHERE trainer_id = ?
+            ORDER BY created_at DESC
             """;
 
+        long count = 0;
+
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-
-            stmt.setLong(1, workoutPlan.getMemberId());
-            stmt.setLong(2, workoutPlan.getTrainerId());
-            stmt.setString(3, workoutPlan.getTitle());
-            stmt.setString(4, workoutPlan.getDescription());
-            stmt.setString(5, workoutPlan.getDifficulty());
-            stmt.setString(6, workoutPlan.getMuscleGroup());
-            stmt.setString(7, workoutPlan.getWorkoutType());
-            if (workoutPlan.getDurationMinutes() != null) {
-                stmt.setInt(8, workoutPlan.getDurationMinutes());
-            } else {
-                stmt.setNull(8, java.sql.Types.INTEGER);
-            }
-            stmt.setString(9, workoutPlan.getEquipmentNeeded());
-            if (workoutPlan.getTargetSets() != null) {
-                stmt.setInt(10, workoutPlan.getTargetSets());
-            } else {
-                stmt.setNull(10, java.sql.Types.INTEGER);
-            }
-            if (workoutPlan.getTargetReps() != null) {
-                stmt.setInt(11, workoutPlan.getTargetReps());
-            } else {
-                stmt.setNull(11, java.sql.Types.INTEGER);
+             PreparedStatement stmt = JdbcCursor.prepare(conn, sql, fetchSize)) {
+
+            stmt.setLong(1, trainerId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToWorkoutPlan(rs));
+                    count++;
+                }
             }
-            if (workoutPlan.getRestSeconds() != null) {
-                stmt.setInt(12, workoutPlan.getRestSeconds());
-            } else {
-                stmt.setNull(12, java.sql.Types.INTEGER);
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to stream workout plans for trainer " + trainerId + " after " + count + " row(s)", e);
+        }
+
+        return count;
+    }
+
+    @Override
+    public List<WorkoutPlanWithSource> findClassPlansForMember(long memberId) {
+        String sql = """
+            SELECT wp.id, wp.member_id, wp.trainer_id, wp.title, wp.description, wp.difficulty,
+                   wp.muscle_group, wp.workout_type, wp.duration_minutes, wp.equipment_needed,
+                   wp.target_sets, wp.target_reps, wp.rest_seconds, wp.created_at,
+                   cs.id AS class_id, cs.trainer_id AS class_trainer_id, cs.title AS class_title,
+                   cs.schedule_timestamp AS class_schedule, cs.capacity AS class_capacity
+            FROM attendance_records ar
+            JOIN class_sessions cs ON cs.id = ar.session_id
+            JOIN workout_plans wp ON wp.id = cs.workout_plan_id
+            WHERE ar.member_id = ? AND cs.schedule_timestamp > CURRENT_TIMESTAMP
+            ORDER BY cs.schedule_timestamp ASC
+            """;
+
+        List<WorkoutPlanWithSource> plans = new ArrayList<>();
+
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, memberId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    WorkoutPlan plan = mapResultSetToWorkoutPlan(rs);
+                    Timestamp schedule = rs.getTimestamp("class_schedule");
+                    ClassSession sourceClass = new ClassSession(
+                        rs.getLong("class_id"),
+                        rs.getLong("class_trainer_id"),
+                        rs.getString("class_title"),
+                        schedule != null ? schedule.toLocalDateTime() : null,
+                        rs.getInt("class_capacity"),
+                        plan.getId()
+                    );
+                    plans.add(new WorkoutPlanWithSource(plan, sourceClass));
+                }
             }
+        } catch (SQLException e) {
+            System.err.println("Error finding class workout plans for member: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return plans;
+    }
+
+    @Override
+    public Optional<WorkoutPlan> create(WorkoutPlan workoutPlan) {
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, PreparedStatement.RETURN_GENERATED_KEYS)) {
+
+            bindInsertParameters(stmt, workoutPlan);
 
             int rowsAffected = stmt.executeUpdate();
             if (rowsAffected == 0) {
@@ -165,23 +256,7 @@ public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
                     long id = generatedKeys.getLong(1);
                     LocalDateTime createdAt = LocalDateTime.now();
 
-                    WorkoutPlan created = new WorkoutPlan(
-                        id,
-                        workoutPlan.getMemberId(),
-                        workoutPlan.getTrainerId(),
-                        workoutPlan.getTitle(),
-                        workoutPlan.getDescription(),
-                        workoutPlan.getDifficulty(),
-                        workoutPlan.getMuscleGroup(),
-                        workoutPlan.getWorkoutType(),
-                        workoutPlan.getDurationMinutes(),
-                        workoutPlan.getEquipmentNeeded(),
-                        workoutPlan.getTargetSets(),
-                        workoutPlan.getTargetReps(),
-                        workoutPlan.getRestSeconds(),
-                        createdAt
-                    );
-                    return Optional.of(created);
+                    return Optional.of(withGeneratedId(workoutPlan, id, createdAt));
                 }
             }
         } catch (SQLException e) {
@@ -195,6 +270,50 @@ public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
         return Optional.empty();
     }
 
+    @Override
+    public List<WorkoutPlan> createAll(List<WorkoutPlan> workoutPlans) {
+        if (workoutPlans == null || workoutPlans.isEmpty()) {
+            return List.of();
+        }
+
+        List<WorkoutPlan> created = new ArrayList<>(workoutPlans.size());
+
+        try (Connection conn = dbConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                LocalDateTime createdAt = LocalDateTime.now();
+                for (int start = 0; start < workoutPlans.size(); start += BATCH_SIZE) {
+                    List<WorkoutPlan> chunk = workoutPlans.subList(start, Math.min(start + BATCH_SIZE, workoutPlans.size()));
+                    for (WorkoutPlan workoutPlan : chunk) {
+                        bindInsertParameters(stmt, workoutPlan);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        for (WorkoutPlan workoutPlan : chunk) {
+                            if (!generatedKeys.next()) {
+                                throw new SQLException("Missing generated key for workout plan: " + workoutPlan.getTitle());
+                            }
+                            created.add(withGeneratedId(workoutPlan, generatedKeys.getLong(1), createdAt));
+                        }
+                    }
+                }
+                conn.commit();
+                return created;
+            } catch (SQLException e) {
+                Transactions.rollback(conn, e);
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error batch creating workout plans: " + e.getMessage());
+            System.err.println("SQL State: " + e.getSQLState());
+            e.printStackTrace();
+        }
+
+        return List.of();
+    }
+
     @Override
     public boolean update(WorkoutPlan workoutPlan) {
         String sql = """
@@ -238,6 +357,56 @@ public class WorkoutPlanDaoImpl implements WorkoutPlanDao {
         }
     }
 
+    private static void bindInsertParameters(PreparedStatement stmt, WorkoutPlan workoutPlan) throws SQLException {
+        stmt.setLong(1, workoutPlan.getMemberId());
+        stmt.setLong(2, workoutPlan.getTrainerId());
+        stmt.setString(3, workoutPlan.getTitle());
+        stmt.setString(4, workoutPlan.getDescription());
+        stmt.setString(5, workoutPlan.getDifficulty());
+        stmt.setString(6, workoutPlan.getMuscleGroup());
+        stmt.setString(7, workoutPlan.getWorkoutType());
+        if (workoutPlan.getDurationMinutes() != null) {
+            stmt.setInt(8, workoutPlan.getDurationMinutes());
+        } else {
+            stmt.setNull(8, java.sql.Types.INTEGER);
+        }
+        stmt.setString(9, workoutPlan.getEquipmentNeeded());
+        if (workoutPlan.getTargetSets() != null) {
+            stmt.setInt(10, workoutPlan.getTargetSets());
+        } else {
+            stmt.setNull(10, java.sql.Types.INTEGER);
+        }
+        if (workoutPlan.getTargetReps() != null) {
+            stmt.setInt(11, workoutPlan.getTargetReps());
+        } else {
+            stmt.setNull(11, java.sql.Types.INTEGER);
+        }
+        if (workoutPlan.getRestSeconds() != null) {
+            stmt.setInt(12, workoutPlan.getRestSeconds());
+        } else {
+            stmt.setNull(12, java.sql.Types.INTEGER);
+        }
+    }
+
+    private static WorkoutPlan withGeneratedId(WorkoutPlan workoutPlan, long id, LocalDateTime createdAt) {
+        return new WorkoutPlan(
+            id,
+            workoutPlan.getMemberId(),
+            workoutPlan.getTrainerId(),
+            workoutPlan.getTitle(),
+            workoutPlan.getDescription(),
+            workoutPlan.getDifficulty(),
+            workoutPlan.getMuscleGroup(),
+            workoutPlan.getWorkoutType(),
+            workoutPlan.getDurationMinutes(),
+            workoutPlan.getEquipmentNeeded(),
+            workoutPlan.getTargetSets(),
+            workoutPlan.getTargetReps(),
+            workoutPlan.getRestSeconds(),
+            createdAt
+        );
+    }
+
     private WorkoutPlan mapResultSetToWorkoutPlan(ResultSet rs) throws SQLException {
         long id = rs.getLong("id");
         long memberId = rs.getLong("member_id");
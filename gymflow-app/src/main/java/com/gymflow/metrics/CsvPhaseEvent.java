@@ -0,0 +1,72 @@
+package com.gymflow.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.nio.file.Path;
+
+/**
+ * JFR event for one phase of a CSV import or export, such as parsing the
+ * file, validating rows against the database or writing them out.
+ *
+ * <pre>
+ * try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance import", "parse", path)) {
+ *     rows = ...;
+ *     event.setRowCount(rows.size());
+ * }
+ * </pre>
+ */
+@Name("com.gymflow.CsvPhase")
+@Label("CSV Phase")
+@Category({"GymFlow", "CSV"})
+@Description("Phase of a CSV import or export")
+@StackTrace(false)
+public final class CsvPhaseEvent extends jdk.jfr.Event implements AutoCloseable {
+    @Label("Operation")
+    @Description("Import or export being run, e.g. attendance import")
+    String operation;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("File")
+    String file;
+
+    @Label("Row Count")
+    long rowCount;
+
+    /**
+     * Begins timing a phase.
+     *
+     * @param operation the import or export being run
+     * @param phase the phase within it
+     * @param file the CSV file being read or written
+     * @return the started event; close it when the phase is done
+     */
+    public static CsvPhaseEvent start(String operation, String phase, Path file) {
+        CsvPhaseEvent event = new CsvPhaseEvent();
+        event.operation = operation;
+        event.phase = phase;
+        event.file = String.valueOf(file);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param rowCount rows handled by the phase
+     */
+    public void setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Ends the phase and commits the event if it is enabled and over its threshold.
+     */
+    @Override
+    public void close() {
+        commit();
+    }
+}
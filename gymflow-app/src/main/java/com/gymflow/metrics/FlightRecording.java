@@ -0,0 +1,78 @@
+package com.gymflow.metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Starts a flight recording with the GymFlow profile ({@value #PROFILE}) when
+ * the application is launched with {@code -Dgymflow.jfr=<file>}. The
+ * recording keeps the last {@link #MAX_AGE} and is written to the file when
+ * the JVM exits.
+ */
+public final class FlightRecording {
+    /** Classpath location of the profile shipped with the app. */
+    public static final String PROFILE = "/jfr/gymflow.jfc";
+    /** System property naming the file to write the recording to. */
+    public static final String FILE_PROPERTY = "gymflow.jfr";
+    private static final Duration MAX_AGE = Duration.ofHours(2);
+
+    private FlightRecording() {}
+
+    /**
+     * Loads the GymFlow profile from the classpath.
+     *
+     * @return the parsed profile
+     * @throws IOException if the profile cannot be read
+     * @throws ParseException if the profile is not a valid .jfc file
+     */
+    public static Configuration loadProfile() throws IOException, ParseException {
+        try (InputStream in = FlightRecording.class.getResourceAsStream(PROFILE)) {
+            if (in == null) {
+                throw new IOException("Profile not found on classpath: " + PROFILE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader);
+            }
+        }
+    }
+
+    /**
+     * Starts a recording if {@code -Dgymflow.jfr} is set. Errors are reported
+     * and the application carries on without a recording.
+     *
+     * @return the running recording, or empty if none was requested or it could not start
+     */
+    public static Optional<Recording> startIfRequested() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Path destination = Paths.get(file);
+            Recording recording = new Recording(loadProfile());
+            recording.setName("GymFlow");
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_AGE);
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+            recording.start();
+            System.out.println("Flight recording started, writing to " + destination.toAbsolutePath());
+            return Optional.of(recording);
+        } catch (IOException | ParseException | RuntimeException e) {
+            System.err.println("Could not start flight recording: " + e.getMessage());
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+}
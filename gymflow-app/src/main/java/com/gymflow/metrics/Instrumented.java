@@ -0,0 +1,88 @@
+package com.gymflow.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a DAO or service in a proxy that times every interface method call
+ * into {@link MetricsRegistry}. A call is recorded under
+ * {@code <layer>.<Interface>.<method>}; calls that throw are also counted
+ * under the same name with an {@code .errors} suffix.
+ *
+ * <pre>
+ * this.userDao = Instrumented.dao(UserDao.class, new UserDaoImpl());
+ * </pre>
+ */
+public final class Instrumented {
+    private Instrumented() {}
+
+    /**
+     * Instruments a DAO under the {@code dao.} prefix.
+     */
+    public static <T> T dao(Class<T> type, T target) {
+        return wrap("dao", type, target);
+    }
+
+    /**
+     * Instruments a service under the {@code service.} prefix.
+     */
+    public static <T> T service(Class<T> type, T target) {
+        return wrap("service", type, target);
+    }
+
+    private static <T> T wrap(String layer, Class<T> type, T target) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type.getName() + " is not an interface");
+        }
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            new TimingHandler(layer + "." + type.getSimpleName() + ".", target)
+        ));
+    }
+
+    /**
+     * Times calls and forwards them to the target.
+     */
+    private static final class TimingHandler implements InvocationHandler {
+        private final String prefix;
+        private final Object target;
+        // Resolved once per method so a call does not build a string
+        private final Map<Method, LatencyHistogram> timers = new ConcurrentHashMap<>();
+
+        private TimingHandler(String prefix, Object target) {
+            this.prefix = prefix;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Instrumented[" + target + "]";
+                }
+            }
+
+            LatencyHistogram timer = timers.computeIfAbsent(method,
+                m -> MetricsRegistry.getInstance().timer(prefix + m.getName()));
+            long start = System.nanoTime();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                MetricsRegistry.getInstance().counter(prefix + method.getName() + ".errors").increment();
+                throw e.getCause();
+            } finally {
+                timer.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
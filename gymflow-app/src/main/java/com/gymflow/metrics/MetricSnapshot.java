@@ -0,0 +1,107 @@
+package com.gymflow.metrics;
+
+/**
+ * One row of a {@link MetricsRegistry} snapshot. Timers fill in the count and
+ * latency columns (in milliseconds); counters and gauges only have a value.
+ */
+public class MetricSnapshot {
+    /**
+     * Kind of metric a row was taken from.
+     */
+    public enum Type {
+        TIMER,
+        COUNTER,
+        GAUGE
+    }
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String name;
+    private final Type type;
+    private final long count;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final long value;
+
+    private MetricSnapshot(String name, Type type, long count, double meanMillis, double p50Millis,
+                           double p90Millis, double p99Millis, double maxMillis, long value) {
+        this.name = name;
+        this.type = type;
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.value = value;
+    }
+
+    static MetricSnapshot timer(String name, LatencyHistogram.Snapshot histogram) {
+        return new MetricSnapshot(name, Type.TIMER, histogram.getCount(),
+            histogram.getMeanNanos() / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+            histogram.getMaxNanos() / NANOS_PER_MILLI,
+            histogram.getCount());
+    }
+
+    static MetricSnapshot counter(String name, long value) {
+        return new MetricSnapshot(name, Type.COUNTER, value, 0, 0, 0, 0, 0, value);
+    }
+
+    static MetricSnapshot gauge(String name, long value) {
+        return new MetricSnapshot(name, Type.GAUGE, 0, 0, 0, 0, 0, 0, value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * @return the counter or gauge value; for timers, the number of observations
+     */
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.TIMER) {
+            return String.format("%s count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms",
+                name, count, meanMillis, p50Millis, p90Millis, p99Millis, maxMillis);
+        }
+        return name + "=" + value;
+    }
+}
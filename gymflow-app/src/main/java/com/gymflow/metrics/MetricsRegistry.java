@@ -0,0 +1,89 @@
+package com.gymflow.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of named timers, counters and gauges.
+ *
+ * <p>Metrics are created on first use and live for the lifetime of the
+ * process. DAO and service calls are timed through {@link Instrumented};
+ * the connection pool registers its gauges when it is created. Names are
+ * dotted, e.g. {@code dao.UserDao.findById} or {@code pool.active}.</p>
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {}
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets or creates a latency timer.
+     *
+     * @param name the metric name
+     * @return the histogram backing the timer
+     */
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name the metric name
+     * @return the counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge already registered under the name.
+     *
+     * @param name the metric name
+     * @param supplier reads the current value; called on every snapshot
+     */
+    public void registerGauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Reads every metric.
+     *
+     * @return one row per metric, sorted by name
+     */
+    public List<MetricSnapshot> snapshot() {
+        List<MetricSnapshot> rows = new ArrayList<>(timers.size() + counters.size() + gauges.size());
+        timers.forEach((name, histogram) -> rows.add(MetricSnapshot.timer(name, histogram.snapshot())));
+        counters.forEach((name, counter) -> rows.add(MetricSnapshot.counter(name, counter.sum())));
+        gauges.forEach((name, supplier) -> {
+            try {
+                rows.add(MetricSnapshot.gauge(name, supplier.getAsLong()));
+            } catch (RuntimeException e) {
+                System.err.println("Error reading gauge " + name + ": " + e.getMessage());
+            }
+        });
+        rows.sort(Comparator.comparing(MetricSnapshot::getName));
+        return rows;
+    }
+
+    /**
+     * Clears all timers and counters. Gauges report live values and are kept.
+     */
+    public void reset() {
+        timers.values().forEach(LatencyHistogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+}
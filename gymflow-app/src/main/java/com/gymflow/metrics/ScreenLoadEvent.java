@@ -0,0 +1,64 @@
+package com.gymflow.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering a controller loading a screen or one of its tables.
+ * Statement events recorded on the same thread during the load show which
+ * queries made the screen slow.
+ *
+ * <pre>
+ * try (ScreenLoadEvent event = ScreenLoadEvent.start("AdminDashboardController.loadSystemStats")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Background loads are timed by {@code ScreenTasks} from start until the
+ * table is filled, or until the load is cancelled, which the event records.</p>
+ */
+@Name("com.gymflow.ScreenLoad")
+@Label("Screen Load")
+@Category({"GymFlow", "UI"})
+@Description("Controller loading a screen or refreshing its data")
+@StackTrace(false)
+public final class ScreenLoadEvent extends jdk.jfr.Event implements AutoCloseable {
+    @Label("Screen")
+    @Description("Controller and method, e.g. MemberDashboardController.initialize")
+    String screen;
+
+    @Label("Cancelled")
+    @Description("The load was replaced by a newer one or its screen closed before it finished")
+    boolean cancelled;
+
+    /**
+     * Begins timing a screen load.
+     *
+     * @param screen controller and method doing the load
+     * @return the started event; close it when the load is done
+     */
+    public static ScreenLoadEvent start(String screen) {
+        ScreenLoadEvent event = new ScreenLoadEvent();
+        event.screen = screen;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Marks the load as cancelled before it is closed.
+     */
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Ends the load and commits the event if it is enabled and over its threshold.
+     */
+    @Override
+    public void close() {
+        commit();
+    }
+}
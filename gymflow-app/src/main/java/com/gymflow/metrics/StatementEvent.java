@@ -0,0 +1,35 @@
+package com.gymflow.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one SQL statement. A query lasts from {@code executeQuery}
+ * until its result set is closed, so time spent reading rows is included;
+ * updates and batches last for the execute call. Emitted through
+ * {@link StatementTracing} while a recording has the event enabled.
+ */
+@Name("com.gymflow.Statement")
+@Label("Database Statement")
+@Category({"GymFlow", "Database"})
+@Description("SQL statement executed on a pooled connection")
+@StackTrace(true)
+public final class StatementEvent extends jdk.jfr.Event {
+    @Label("SQL Id")
+    @Description("Hash of the SQL text, identical for every execution of the same statement")
+    String sqlId;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Method")
+    @Description("JDBC method that ran the statement, e.g. executeQuery")
+    String method;
+
+    @Label("Row Count")
+    @Description("Rows read from the result set, or rows affected by an update or batch")
+    long rowCount;
+}
@@ -0,0 +1,99 @@
+package com.gymflow.metrics;
+
+import com.gymflow.config.StatementInterceptor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Emits a {@link StatementEvent} for every statement executed on a traced
+ * connection. {@code DatabaseConnection} only adds {@link #LISTENER} to its
+ * connections while a recording has the event enabled, so outside a recording
+ * statements cost nothing extra.
+ */
+public final class StatementTracing {
+    /**
+     * Times each {@code execute*} call. A query's event stays open until its
+     * result set, or the statement, is closed.
+     */
+    public static final StatementInterceptor.Listener LISTENER = TracedExecution::new;
+
+    private StatementTracing() {}
+
+    /**
+     * @return true if a running recording has {@link StatementEvent} enabled
+     */
+    public static boolean isEnabled() {
+        return new StatementEvent().isEnabled();
+    }
+
+    /**
+     * Identifies a statement by its whitespace-normalised SQL.
+     */
+    static String sqlId(String sql) {
+        return String.format("%08x", sql.hashCode());
+    }
+
+    /**
+     * The event of one {@code execute*} call.
+     */
+    private static final class TracedExecution implements StatementInterceptor.QueryExecution {
+        private final StatementInterceptor.Call call;
+        private final StatementEvent event = new StatementEvent();
+
+        private TracedExecution(StatementInterceptor.Call call) {
+            this.call = call;
+            event.begin();
+        }
+
+        @Override
+        public void executed(Object result, Throwable error) {
+            if (error != null) {
+                commit(0);
+            } else if (!(result instanceof ResultSet)) {
+                commit(affectedRows(result, call.getStatement()));
+            }
+        }
+
+        @Override
+        public void resultSetClosed(long rowsRead) {
+            commit(rowsRead);
+        }
+
+        private void commit(long rowCount) {
+            if (event.shouldCommit()) {
+                String sql = call.getSql();
+                String text = sql != null ? sql.strip().replaceAll("\\s+", " ") : call.getMethod() + "()";
+                event.sqlId = sqlId(text);
+                event.sql = text;
+                event.method = call.getMethod();
+                event.rowCount = rowCount;
+                event.commit();
+            }
+        }
+    }
+
+    private static long affectedRows(Object result, Statement statement) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+        } else if (Boolean.FALSE.equals(result)) {
+            try {
+                total = Math.max(statement.getUpdateCount(), 0);
+            } catch (SQLException e) {
+                total = 0;
+            }
+        }
+        return total;
+    }
+}
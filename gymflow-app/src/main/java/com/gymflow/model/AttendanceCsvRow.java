@@ -0,0 +1,50 @@
+package com.gymflow.model;
+
+/**
+ * One data row read from an attendance CSV file: either a parsed record or the
+ * reason the row could not be parsed.
+ */
+public class AttendanceCsvRow {
+    private final long lineNumber;
+    private final AttendanceRecord record; // null if the row could not be parsed
+    private final String error;
+
+    private AttendanceCsvRow(long lineNumber, AttendanceRecord record, String error) {
+        this.lineNumber = lineNumber;
+        this.record = record;
+        this.error = error;
+    }
+
+    public static AttendanceCsvRow parsed(long lineNumber, AttendanceRecord record) {
+        return new AttendanceCsvRow(lineNumber, record, null);
+    }
+
+    public static AttendanceCsvRow invalid(long lineNumber, String error) {
+        return new AttendanceCsvRow(lineNumber, null, error);
+    }
+
+    /**
+     * @return line of the file the row starts on
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the parsed record, or null if the row is invalid
+     */
+    public AttendanceRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * @return why the row could not be parsed, or null if it was parsed
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isValid() {
+        return record != null;
+    }
+}
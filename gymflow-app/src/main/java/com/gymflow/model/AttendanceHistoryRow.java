@@ -0,0 +1,59 @@
+package com.gymflow.model;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Attendance history row for a member, built from a workout completion joined
+ * with its workout plan, class session and trainer in a single query.
+ * The completion time and ID double as the keyset cursor for the next page.
+ */
+public class AttendanceHistoryRow {
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final long completionId;
+    private final LocalDateTime completedAt;
+    private final String className;
+    private final LocalDateTime dateTime; // class schedule, or completion time for direct plans
+    private final String trainerName;
+
+    public AttendanceHistoryRow(long completionId, LocalDateTime completedAt, String className,
+                                LocalDateTime dateTime, String trainerName) {
+        this.completionId = completionId;
+        this.completedAt = completedAt;
+        this.className = className;
+        this.dateTime = dateTime;
+        this.trainerName = trainerName;
+    }
+
+    public long getCompletionId() {
+        return completionId;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public String getDateTimeDisplay() {
+        return dateTime != null ? dateTime.format(DISPLAY_FORMAT) : "N/A";
+    }
+
+    public String getTrainerName() {
+        return trainerName;
+    }
+
+    /**
+     * Every completed workout counts as attended.
+     */
+    public boolean isAttended() {
+        return true;
+    }
+}
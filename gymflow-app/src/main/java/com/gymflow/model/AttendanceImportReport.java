@@ -0,0 +1,111 @@
+package com.gymflow.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of importing an attendance CSV file, with one entry per data row.
+ */
+public class AttendanceImportReport {
+    /**
+     * Possible outcomes for a single row.
+     */
+    public enum Status {
+        /** The attendance mark was created or updated. */
+        IMPORTED,
+        /** The row was malformed, referenced an unknown session or member, or was superseded later in the file. */
+        REJECTED,
+        /** The row was valid but the database write failed. */
+        FAILED
+    }
+
+    /**
+     * Result for one data row.
+     */
+    public static class Row {
+        private final long lineNumber;
+        private final AttendanceRecord record; // null if the row could not be parsed
+        private final Status status;
+        private final String message;
+
+        public Row(long lineNumber, AttendanceRecord record, Status status, String message) {
+            this.lineNumber = lineNumber;
+            this.record = record;
+            this.status = status;
+            this.message = message;
+        }
+
+        /**
+         * @return line of the file the row starts on
+         */
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * @return the parsed record, or null if the row could not be parsed
+         */
+        public AttendanceRecord getRecord() {
+            return record;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + status + (message != null ? " - " + message : "");
+        }
+    }
+
+    private final List<Row> rows;
+
+    public AttendanceImportReport(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the rows that were not imported, in file order
+     */
+    public List<Row> getRejectedRows() {
+        List<Row> rejected = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.getStatus() != Status.IMPORTED) {
+                rejected.add(row);
+            }
+        }
+        return rejected;
+    }
+
+    public int getImportedCount() {
+        return count(Status.IMPORTED);
+    }
+
+    public int getRejectedCount() {
+        return count(Status.REJECTED);
+    }
+
+    public int getFailedCount() {
+        return count(Status.FAILED);
+    }
+
+    private int count(Status status) {
+        int count = 0;
+        for (Row row : rows) {
+            if (row.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
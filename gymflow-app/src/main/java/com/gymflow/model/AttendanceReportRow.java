@@ -0,0 +1,46 @@
+package com.gymflow.model;
+
+/**
+ * Attendance record together with its class title and member name, as read
+ * by the attendance report query. Names are null when the class session or
+ * member no longer exists.
+ */
+public class AttendanceReportRow {
+    private final AttendanceRecord record;
+    private final String className;
+    private final String memberName;
+
+    public AttendanceReportRow(AttendanceRecord record, String className, String memberName) {
+        this.record = record;
+        this.className = className;
+        this.memberName = memberName;
+    }
+
+    public AttendanceRecord getRecord() {
+        return record;
+    }
+
+    public long getId() {
+        return record.getId();
+    }
+
+    public long getSessionId() {
+        return record.getSessionId();
+    }
+
+    public long getMemberId() {
+        return record.getMemberId();
+    }
+
+    public boolean isAttended() {
+        return record.isAttended();
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gymflow.model;
+
+/**
+ * Table row for a class session together with values that would otherwise
+ * need a database lookup per cell (registration count, workout plan title).
+ * Built once per table refresh.
+ */
+public class ClassSessionRow {
+    private final ClassSession session;
+    private final int registeredCount;
+    private final String workoutPlanTitle; // null if no plan is assigned
+
+    public ClassSessionRow(ClassSession session, int registeredCount, String workoutPlanTitle) {
+        this.session = session;
+        this.registeredCount = registeredCount;
+        this.workoutPlanTitle = workoutPlanTitle;
+    }
+
+    public ClassSession getSession() {
+        return session;
+    }
+
+    public long getId() {
+        return session.getId();
+    }
+
+    public String getTitle() {
+        return session.getTitle();
+    }
+
+    public int getCapacity() {
+        return session.getCapacity();
+    }
+
+    public int getRegisteredCount() {
+        return registeredCount;
+    }
+
+    public String getWorkoutPlanTitle() {
+        return workoutPlanTitle;
+    }
+
+    public String getRegisteredDisplay() {
+        return registeredCount + "/" + session.getCapacity();
+    }
+}
@@ -0,0 +1,69 @@
+package com.gymflow.model;
+
+import java.util.Optional;
+
+/**
+ * Outcome of an attempt to register a member for a class session.
+ */
+public class RegistrationResult {
+    /**
+     * Possible registration outcomes.
+     */
+    public enum Status {
+        /** The member now holds a spot in the session. */
+        REGISTERED,
+        /** The session has reached its capacity. */
+        FULL,
+        /** The member was already registered for the session. */
+        ALREADY_REGISTERED,
+        /** The session does not exist, the input was invalid, or a database error occurred. */
+        FAILED
+    }
+
+    private final Status status;
+    private final AttendanceRecord record; // null unless REGISTERED
+
+    private RegistrationResult(Status status, AttendanceRecord record) {
+        this.status = status;
+        this.record = record;
+    }
+
+    public static RegistrationResult registered(AttendanceRecord record) {
+        return new RegistrationResult(Status.REGISTERED, record);
+    }
+
+    public static RegistrationResult full() {
+        return new RegistrationResult(Status.FULL, null);
+    }
+
+    public static RegistrationResult alreadyRegistered() {
+        return new RegistrationResult(Status.ALREADY_REGISTERED, null);
+    }
+
+    public static RegistrationResult failed() {
+        return new RegistrationResult(Status.FAILED, null);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the created attendance record if registration succeeded
+     */
+    public Optional<AttendanceRecord> getRecord() {
+        return Optional.ofNullable(record);
+    }
+
+    public boolean isRegistered() {
+        return status == Status.REGISTERED;
+    }
+
+    @Override
+    public String toString() {
+        return "RegistrationResult{" +
+                "status=" + status +
+                ", record=" + record +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.gymflow.model;
+
+/**
+ * A user together with the stored password hash, as read by the login query.
+ * Only the authentication path should hold on to one of these.
+ */
+public class UserCredentials {
+    private final User user;
+    private final String passwordHash;
+
+    public UserCredentials(User user, String passwordHash) {
+        this.user = user;
+        this.passwordHash = passwordHash;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gymflow.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of importing a list of workout plans, with one entry per input row.
+ */
+public class WorkoutPlanImportReport {
+    /**
+     * Possible outcomes for a single imported row.
+     */
+    public enum Status {
+        /** The plan was created. */
+        IMPORTED,
+        /** A plan with the same title and member already exists for the trainer, or earlier in the file. */
+        DUPLICATE,
+        /** The row failed validation (e.g. empty title or missing member). */
+        INVALID,
+        /** The row was valid but the database insert failed. */
+        FAILED
+    }
+
+    /**
+     * Result for one input row.
+     */
+    public static class Row {
+        private final int rowNumber;
+        private final String title;
+        private final Status status;
+        private final String message;
+        private final WorkoutPlan plan; // null unless IMPORTED
+
+        public Row(int rowNumber, String title, Status status, String message, WorkoutPlan plan) {
+            this.rowNumber = rowNumber;
+            this.title = title;
+            this.status = status;
+            this.message = message;
+            this.plan = plan;
+        }
+
+        /**
+         * @return 1-based position of the row in the imported list
+         */
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * @return the created plan if the row was imported
+         */
+        public Optional<WorkoutPlan> getPlan() {
+            return Optional.ofNullable(plan);
+        }
+
+        @Override
+        public String toString() {
+            return "Row " + rowNumber + " (" + title + "): " + status + (message != null ? " - " + message : "");
+        }
+    }
+
+    private final List<Row> rows;
+
+    public WorkoutPlanImportReport(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public int getImportedCount() {
+        return count(Status.IMPORTED);
+    }
+
+    public int getDuplicateCount() {
+        return count(Status.DUPLICATE);
+    }
+
+    /**
+     * @return number of rows that were invalid or could not be inserted
+     */
+    public int getFailedCount() {
+        return count(Status.INVALID) + count(Status.FAILED);
+    }
+
+    private int count(Status status) {
+        int count = 0;
+        for (Row row : rows) {
+            if (row.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
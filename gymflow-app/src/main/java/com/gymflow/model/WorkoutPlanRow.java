@@ -0,0 +1,31 @@
+package com.gymflow.model;
+
+/**
+ * Table row for a workout plan together with the assigned member's name,
+ * resolved in bulk when the table is loaded.
+ */
+public class WorkoutPlanRow {
+    private final WorkoutPlan workoutPlan;
+    private final String memberName;
+
+    public WorkoutPlanRow(WorkoutPlan workoutPlan, String memberName) {
+        this.workoutPlan = workoutPlan;
+        this.memberName = memberName;
+    }
+
+    public WorkoutPlan getWorkoutPlan() {
+        return workoutPlan;
+    }
+
+    public String getTitle() {
+        return workoutPlan.getTitle();
+    }
+
+    public String getDifficulty() {
+        return workoutPlan.getDifficulty();
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+}
@@ -1,26 +1,59 @@
 package com.gymflow.security;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 /**
- * Basic hashing helper (replace with stronger implementation later).
+ * Strategy for hashing and verifying passwords.
+ *
+ * <p>{@link #getDefault()} hashes new passwords with salted PBKDF2 and still
+ * verifies the unsalted SHA-256 hashes stored by earlier versions, reporting
+ * them through {@link #needsRehash} so they can be upgraded at login.</p>
  */
-public final class PasswordHasher {
-    private PasswordHasher() {}
+public interface PasswordHasher {
+
+    /**
+     * Hashes a password with a fresh salt.
+     *
+     * @param password the plain text password
+     * @return the encoded hash, including everything needed to verify it
+     */
+    String hash(String password);
+
+    /**
+     * Checks a password against a stored hash in constant time.
+     *
+     * @param password the plain text password
+     * @param storedHash the hash read from the database
+     * @return true if the password matches; false if it does not or the hash is in a format this hasher cannot read
+     */
+    boolean matches(String password, String storedHash);
+
+    /**
+     * Tells whether a stored hash is weaker than what {@link #hash} produces now
+     * and should be replaced after the next successful login.
+     *
+     * @param storedHash the hash read from the database
+     * @return true if the hash should be upgraded
+     */
+    default boolean needsRehash(String storedHash) {
+        return false;
+    }
+
+    /**
+     * The hasher used by the application, calibrated on first use.
+     *
+     * @return the shared default hasher
+     */
+    static PasswordHasher getDefault() {
+        return UpgradingPasswordHasher.Default.INSTANCE;
+    }
 
-    public static String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder builder = new StringBuilder();
-            for (byte b : hash) {
-                builder.append(String.format("%02x", b));
-            }
-            return builder.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
-        }
+    /**
+     * Unsalted SHA-256 hex digest, the format stored by earlier versions.
+     * Only for reading and seeding legacy hashes; new passwords go through {@link #getDefault()}.
+     *
+     * @param input the text to hash
+     * @return 64 lower-case hex characters
+     */
+    static String sha256(String input) {
+        return Sha256PasswordHasher.hexDigest(input);
     }
 }
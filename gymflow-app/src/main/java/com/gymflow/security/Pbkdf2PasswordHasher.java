@@ -0,0 +1,192 @@
+package com.gymflow.security;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Salted PBKDF2-HMAC-SHA256 (RFC 8018) password hashes, stored as
+ * {@code pbkdf2-sha256$<iterations>$<salt>$<hash>} with Base64 salt and hash.
+ *
+ * <p>The derivation is written against a per-thread {@link Mac} rather than
+ * {@code SecretKeyFactory}, which looks up and allocates a new HMAC for every
+ * password. The output is one SHA-256 block, so only the first PBKDF2 block
+ * is computed.</p>
+ *
+ * <p>The iteration count sets the cost of every login. {@link #calibrate}
+ * picks one that takes about a given time on this machine.</p>
+ */
+public final class Pbkdf2PasswordHasher implements PasswordHasher {
+    /** Prefix of every hash produced by this class. */
+    static final String PREFIX = "pbkdf2-sha256$";
+    /** Calibration never goes below this many iterations, however slow the machine. */
+    static final int MIN_ITERATIONS = 100_000;
+    /** Calibration never goes above this many iterations. */
+    static final int MAX_ITERATIONS = 5_000_000;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    });
+
+    private final int iterations;
+
+    /**
+     * @param iterations PBKDF2 iterations for new hashes
+     */
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be positive");
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Times the derivation on this machine and returns the iteration count
+     * that takes about {@code target}, between {@link #MIN_ITERATIONS} and
+     * {@link #MAX_ITERATIONS} and rounded down to a multiple of 10,000.
+     *
+     * @param target the time one hash should take
+     * @return the iteration count to use
+     */
+    public static int calibrate(Duration target) {
+        byte[] password = "calibration-password".getBytes(StandardCharsets.UTF_8);
+        byte[] salt = newSalt();
+        int probe = 20_000;
+        long fastest = Long.MAX_VALUE;
+        // The first runs include JIT compilation; the fastest run is the steady-state cost
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            derive(password, salt, probe);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        long perIteration = Math.max(1, fastest / probe);
+        long iterations = target.toNanos() / perIteration;
+        iterations = Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, iterations));
+        return (int) (iterations / 10_000 * 10_000);
+    }
+
+    /**
+     * @return the iteration count used for new hashes
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = newSalt();
+        byte[] hash = derive(password.getBytes(StandardCharsets.UTF_8), salt, iterations);
+        Base64.Encoder base64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + base64.encodeToString(salt) + "$" + base64.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String password, String storedHash) {
+        ParsedHash parsed = ParsedHash.parse(storedHash);
+        if (parsed == null) {
+            return false;
+        }
+        byte[] actual = derive(password.getBytes(StandardCharsets.UTF_8), parsed.salt, parsed.iterations);
+        return MessageDigest.isEqual(parsed.hash, actual);
+    }
+
+    /**
+     * Hashes with a quarter fewer iterations than this hasher are upgraded.
+     * The margin keeps calibration noise between runs from rehashing every account.
+     */
+    @Override
+    public boolean needsRehash(String storedHash) {
+        ParsedHash parsed = ParsedHash.parse(storedHash);
+        return parsed == null || (long) parsed.iterations * 4 < (long) iterations * 3;
+    }
+
+    /**
+     * @return true if the stored hash is in this hasher's format
+     */
+    static boolean isPbkdf2Hash(String storedHash) {
+        return storedHash != null && storedHash.startsWith(PREFIX);
+    }
+
+    /**
+     * PBKDF2 block 1: U1 = HMAC(P, S || INT(1)), Ui = HMAC(P, Ui-1), result = U1 xor ... xor Uc.
+     */
+    static byte[] derive(byte[] password, byte[] salt, int iterations) {
+        Mac mac = HMAC.get();
+        try {
+            // HMAC pads short keys with zeros, so an empty key is the same as one zero byte,
+            // which SecretKeySpec accepts
+            mac.init(new SecretKeySpec(password.length > 0 ? password : new byte[1], ALGORITHM));
+            mac.update(salt);
+            mac.update(new byte[] {0, 0, 0, 1});
+            byte[] u = mac.doFinal();
+            byte[] result = u.clone();
+            for (int i = 1; i < iterations; i++) {
+                mac.update(u);
+                mac.doFinal(u, 0);
+                for (int j = 0; j < result.length; j++) {
+                    result[j] ^= u[j];
+                }
+            }
+            return result;
+        } catch (InvalidKeyException | ShortBufferException e) {
+            throw new IllegalStateException("PBKDF2 derivation failed", e);
+        }
+    }
+
+    private static byte[] newSalt() {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        return salt;
+    }
+
+    private static final class ParsedHash {
+        private final int iterations;
+        private final byte[] salt;
+        private final byte[] hash;
+
+        private ParsedHash(int iterations, byte[] salt, byte[] hash) {
+            this.iterations = iterations;
+            this.salt = salt;
+            this.hash = hash;
+        }
+
+        /**
+         * @return the parts of the hash, or null if it is not a well-formed PBKDF2 hash
+         */
+        private static ParsedHash parse(String storedHash) {
+            if (!isPbkdf2Hash(storedHash)) {
+                return null;
+            }
+            String[] parts = storedHash.substring(PREFIX.length()).split("\\$");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                int iterations = Integer.parseInt(parts[0]);
+                byte[] salt = Base64.getDecoder().decode(parts[1]);
+                byte[] hash = Base64.getDecoder().decode(parts[2]);
+                if (iterations < 1 || hash.length != HASH_BYTES) {
+                    return null;
+                }
+                return new ParsedHash(iterations, salt, hash);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.gymflow.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Legacy unsalted SHA-256 hashes, stored as 64 hex characters. Kept so that
+ * existing accounts can still log in; every match reports {@link #needsRehash}.
+ */
+public final class Sha256PasswordHasher implements PasswordHasher {
+    private static final HexFormat HEX = HexFormat.of();
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    @Override
+    public String hash(String password) {
+        return hexDigest(password);
+    }
+
+    @Override
+    public boolean matches(String password, String storedHash) {
+        if (!isLegacyHash(storedHash)) {
+            return false;
+        }
+        byte[] expected = HEX.parseHex(storedHash);
+        return MessageDigest.isEqual(expected, digest(password));
+    }
+
+    @Override
+    public boolean needsRehash(String storedHash) {
+        return true;
+    }
+
+    /**
+     * @return true if the stored hash is in this hasher's format
+     */
+    static boolean isLegacyHash(String storedHash) {
+        if (storedHash == null || storedHash.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < storedHash.length(); i++) {
+            if (Character.digit(storedHash.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String hexDigest(String input) {
+        return HEX.formatHex(digest(input));
+    }
+
+    private static byte[] digest(String input) {
+        // digest() resets the instance, so the thread's next call starts clean
+        return DIGEST.get().digest(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+package com.gymflow.security;
+
+import java.time.Duration;
+
+/**
+ * Hashes new passwords with the current PBKDF2 settings and verifies both
+ * PBKDF2 and legacy SHA-256 hashes. A legacy hash, or a PBKDF2 hash with too
+ * few iterations, reports {@link #needsRehash} so the login path can store a
+ * new hash while it has the plain text password.
+ *
+ * <p>The default instance reads its cost from the environment:</p>
+ * <ul>
+ *   <li>{@code GYMFLOW_PASSWORD_ITERATIONS} - fixed PBKDF2 iteration count; skips calibration</li>
+ *   <li>{@code GYMFLOW_PASSWORD_HASH_MS} - target time per hash used for calibration (default 100)</li>
+ * </ul>
+ */
+public final class UpgradingPasswordHasher implements PasswordHasher {
+    /** Default target time for one hash, in milliseconds. */
+    static final long DEFAULT_HASH_MILLIS = 100;
+
+    private final Pbkdf2PasswordHasher current;
+    private final Sha256PasswordHasher legacy = new Sha256PasswordHasher();
+
+    /**
+     * @param current the hasher for new passwords
+     */
+    public UpgradingPasswordHasher(Pbkdf2PasswordHasher current) {
+        this.current = current;
+    }
+
+    /**
+     * Creates a hasher with a fixed iteration count, or one calibrated to the target time.
+     */
+    static UpgradingPasswordHasher fromEnvironment() {
+        String fixed = System.getenv("GYMFLOW_PASSWORD_ITERATIONS");
+        if (fixed != null && !fixed.isBlank()) {
+            int iterations = Integer.parseInt(fixed.trim());
+            System.out.println("Password hashing: PBKDF2-HMAC-SHA256, " + iterations + " iterations");
+            return new UpgradingPasswordHasher(new Pbkdf2PasswordHasher(iterations));
+        }
+        long targetMillis = Long.parseLong(System.getenv().getOrDefault("GYMFLOW_PASSWORD_HASH_MS",
+            String.valueOf(DEFAULT_HASH_MILLIS)));
+        long start = System.nanoTime();
+        int iterations = Pbkdf2PasswordHasher.calibrate(Duration.ofMillis(targetMillis));
+        System.out.println("Password hashing: PBKDF2-HMAC-SHA256, " + iterations + " iterations (calibrated for "
+            + targetMillis + " ms in " + (System.nanoTime() - start) / 1_000_000 + " ms)");
+        return new UpgradingPasswordHasher(new Pbkdf2PasswordHasher(iterations));
+    }
+
+    /**
+     * @return the iteration count used for new hashes
+     */
+    public int getIterations() {
+        return current.getIterations();
+    }
+
+    @Override
+    public String hash(String password) {
+        return current.hash(password);
+    }
+
+    @Override
+    public boolean matches(String password, String storedHash) {
+        if (Pbkdf2PasswordHasher.isPbkdf2Hash(storedHash)) {
+            return current.matches(password, storedHash);
+        }
+        return legacy.matches(password, storedHash);
+    }
+
+    @Override
+    public boolean needsRehash(String storedHash) {
+        if (Pbkdf2PasswordHasher.isPbkdf2Hash(storedHash)) {
+            return current.needsRehash(storedHash);
+        }
+        return true;
+    }
+
+    /**
+     * Holds the default instance so calibration runs on first use, not on class load.
+     */
+    static final class Default {
+        static final PasswordHasher INSTANCE = fromEnvironment();
+
+        private Default() {}
+    }
+}
@@ -0,0 +1,62 @@
+package com.gymflow.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous facade over a synchronous service: each call runs on a shared
+ * background executor whose concurrency is bounded by the connection pool
+ * size, and returns a {@link CompletableFuture}.
+ *
+ * <pre>
+ * AsyncService&lt;ClassScheduleService&gt; schedule = AsyncService.of(classScheduleService);
+ * schedule.call(service -&gt; service.getUpcomingClassSessions())
+ *     .thenAccept(sessions -&gt; ...);
+ * </pre>
+ *
+ * <p>Exceptions thrown by the service, checked or not, complete the future
+ * exceptionally. Cancelling the future before the call has started skips it;
+ * a call that has already started runs to completion and its result is
+ * dropped.</p>
+ *
+ * @param <S> the service interface, e.g. {@link WorkoutService}
+ */
+public final class AsyncService<S> {
+    private final S service;
+    private final ServiceExecutor executor;
+
+    AsyncService(S service, ServiceExecutor executor) {
+        this.service = service;
+        this.executor = executor;
+    }
+
+    /**
+     * Wraps a service so its calls run on the shared executor.
+     *
+     * @param service the synchronous service, normally already {@code Instrumented}
+     * @return the asynchronous facade
+     */
+    public static <S> AsyncService<S> of(S service) {
+        return new AsyncService<>(service, ServiceExecutor.shared());
+    }
+
+    /**
+     * Runs a call against the service in the background.
+     *
+     * @param call the call; it must not touch JavaFX controls
+     * @return a future for the call's result
+     */
+    public <R> CompletableFuture<R> call(ServiceCall<S, R> call) {
+        return executor.submit(() -> call.call(service));
+    }
+
+    /**
+     * A call against a service, which may throw the service's checked exceptions.
+     *
+     * @param <S> the service interface
+     * @param <R> the result type
+     */
+    @FunctionalInterface
+    public interface ServiceCall<S, R> {
+        R call(S service) throws Exception;
+    }
+}
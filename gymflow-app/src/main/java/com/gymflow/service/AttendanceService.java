@@ -1,9 +1,13 @@
 package com.gymflow.service;
 
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.RegistrationResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Defines business operations for attendance tracking.
@@ -59,13 +63,21 @@ public interface AttendanceService {
     List<AttendanceRecord> getAllAttendanceRecords();
 
     /**
-     * Registers a member for a class session (creates attendance record with attended=false).
+     * Counts all attendance records in the system without loading them.
+     *
+     * @return total number of attendance records
+     */
+    int getAttendanceRecordCount();
+
+    /**
+     * Registers a member for a class session (creates attendance record with attended=false),
+     * enforcing the session's capacity. Safe to call concurrently for the same session.
      *
      * @param sessionId the class session ID
      * @param memberId the member ID
-     * @return Optional containing the AttendanceRecord if successful, empty otherwise
+     * @return REGISTERED with the new record, FULL, ALREADY_REGISTERED, or FAILED
      */
-    Optional<AttendanceRecord> registerForClass(long sessionId, long memberId);
+    RegistrationResult registerForClass(long sessionId, long memberId);
 
     /**
      * Unregisters a member from a class session (removes attendance record).
@@ -85,6 +97,14 @@ public interface AttendanceService {
      */
     boolean isRegisteredForClass(long sessionId, long memberId);
 
+    /**
+     * Gets the IDs of every class session a member is registered for, in one query.
+     *
+     * @param memberId the member ID
+     * @return the registered session IDs (empty for an invalid member ID)
+     */
+    Set<Long> getRegisteredSessionIds(long memberId);
+
     /**
      * Gets the number of registered members for a class session.
      *
@@ -92,5 +112,12 @@ public interface AttendanceService {
      * @return number of registered members
      */
     int getRegisteredCount(long sessionId);
-}
 
+    /**
+     * Gets the number of registered members for several class sessions in one query.
+     *
+     * @param sessionIds the class session IDs
+     * @return map from each session ID to its registered member count
+     */
+    Map<Long, Integer> getRegisteredCounts(Collection<Long> sessionIds);
+}
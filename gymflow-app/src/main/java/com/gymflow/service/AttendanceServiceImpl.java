@@ -2,19 +2,40 @@ package com.gymflow.service;
 
 import com.gymflow.dao.AttendanceDao;
 import com.gymflow.dao.AttendanceDaoImpl;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.RegistrationResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implementation of AttendanceService for attendance tracking business logic.
  */
 public class AttendanceServiceImpl implements AttendanceService {
+    private static final int REGISTRATION_LOCK_STRIPES = 64;
+
+    /**
+     * Striped locks keyed by session id. Static so that every service instance
+     * (each controller creates its own) serializes registrations for the same
+     * session in-process; the DAO's conditional insert guards across processes.
+     */
+    private static final ReentrantLock[] REGISTRATION_LOCKS = new ReentrantLock[REGISTRATION_LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < REGISTRATION_LOCKS.length; i++) {
+            REGISTRATION_LOCKS[i] = new ReentrantLock();
+        }
+    }
+
     private final AttendanceDao attendanceDao;
 
     public AttendanceServiceImpl() {
-        this.attendanceDao = new AttendanceDaoImpl();
+        this.attendanceDao = Instrumented.dao(AttendanceDao.class, new AttendanceDaoImpl());
     }
 
     @Override
@@ -68,12 +89,11 @@ public class AttendanceServiceImpl implements AttendanceService {
 
     @Override
     public int getAttendanceCount(long sessionId) {
-        List<AttendanceRecord> records = getAttendanceForSession(sessionId);
-        
-        // Count only records where attended is true
-        return (int) records.stream()
-                .filter(AttendanceRecord::isAttended)
-                .count();
+        if (sessionId <= 0) {
+            return 0;
+        }
+
+        return attendanceDao.countAttendedBySession(sessionId);
     }
 
     @Override
@@ -82,26 +102,32 @@ public class AttendanceServiceImpl implements AttendanceService {
     }
 
     @Override
-    public Optional<AttendanceRecord> registerForClass(long sessionId, long memberId) {
+    public int getAttendanceRecordCount() {
+        return attendanceDao.countAll();
+    }
+
+    @Override
+    public RegistrationResult registerForClass(long sessionId, long memberId) {
         // Validation
         if (sessionId <= 0 || memberId <= 0) {
             System.err.println("Invalid session or member ID");
-            return Optional.empty();
+            return RegistrationResult.failed();
         }
 
-        // Check if already registered
-        if (isRegisteredForClass(sessionId, memberId)) {
-            System.err.println("Member " + memberId + " is already registered for session " + sessionId);
-            return Optional.empty();
+        ReentrantLock lock = REGISTRATION_LOCKS[Math.floorMod(Long.hashCode(sessionId), REGISTRATION_LOCK_STRIPES)];
+        RegistrationResult result;
+        lock.lock();
+        try {
+            result = attendanceDao.registerWithinCapacity(sessionId, memberId);
+        } finally {
+            lock.unlock();
         }
 
-        // Register (create attendance record with attended=false)
-        Optional<AttendanceRecord> result = markAttendance(sessionId, memberId, false);
-        
-        if (result.isPresent()) {
-            System.out.println("Member " + memberId + " registered for session " + sessionId);
-        } else {
-            System.err.println("Failed to register member " + memberId + " for session " + sessionId);
+        switch (result.getStatus()) {
+            case REGISTERED -> System.out.println("Member " + memberId + " registered for session " + sessionId);
+            case ALREADY_REGISTERED -> System.err.println("Member " + memberId + " is already registered for session " + sessionId);
+            case FULL -> System.err.println("Session " + sessionId + " is full, member " + memberId + " not registered");
+            default -> System.err.println("Failed to register member " + memberId + " for session " + sessionId);
         }
 
         return result;
@@ -135,10 +161,27 @@ public class AttendanceServiceImpl implements AttendanceService {
         return attendanceDao.findBySessionAndMember(sessionId, memberId).isPresent();
     }
 
+    @Override
+    public Set<Long> getRegisteredSessionIds(long memberId) {
+        if (memberId <= 0) {
+            return Set.of();
+        }
+
+        return attendanceDao.findSessionIdsByMemberId(memberId);
+    }
+
     @Override
     public int getRegisteredCount(long sessionId) {
-        List<AttendanceRecord> records = getAttendanceForSession(sessionId);
-        return records.size(); // All records count as registrations
+        if (sessionId <= 0) {
+            return 0;
+        }
+
+        return attendanceDao.countBySession(sessionId); // All records count as registrations
+    }
+
+    @Override
+    public Map<Long, Integer> getRegisteredCounts(Collection<Long> sessionIds) {
+        return attendanceDao.countsBySessionIds(sessionIds);
     }
 }
 
@@ -1,17 +1,16 @@
 package com.gymflow.service;
 
-import com.gymflow.config.DatabaseConnection;
+import com.gymflow.dao.CachingUserDao;
 import com.gymflow.dao.UserDao;
 import com.gymflow.dao.UserDaoImpl;
 import com.gymflow.exception.AuthenticationException;
 import com.gymflow.exception.DataAccessException;
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.metrics.MetricsRegistry;
 import com.gymflow.model.User;
+import com.gymflow.model.UserCredentials;
 import com.gymflow.security.PasswordHasher;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.Optional;
 
 /**
@@ -19,16 +18,25 @@ import java.util.Optional;
  */
 public class AuthServiceImpl implements AuthService {
     private final UserDao userDao;
-    private final DatabaseConnection dbConnection;
+    private final PasswordHasher passwordHasher;
 
     public AuthServiceImpl() {
-        this.userDao = new UserDaoImpl();
-        this.dbConnection = DatabaseConnection.getInstance();
+        this(PasswordHasher.getDefault());
+    }
+
+    /**
+     * @param passwordHasher verifies stored hashes and produces upgraded ones
+     */
+    public AuthServiceImpl(PasswordHasher passwordHasher) {
+        this.userDao = new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl()));
+        this.passwordHasher = passwordHasher;
     }
 
     /**
      * Authenticates a user by verifying username and password.
-     * Retrieves the user from database and compares password hash.
+     * Reads the user and stored password hash in a single query and verifies
+     * the password against it. A hash in an outdated format or with too few
+     * iterations is replaced with a new one after a successful login.
      *
      * @param username the username
      * @param password the plain text password
@@ -39,36 +47,28 @@ public class AuthServiceImpl implements AuthService {
         try {
             System.out.println("Attempting authentication for user: " + username);
             
-            // First, find the user by username
-            Optional<User> userOpt = userDao.findByUsername(username);
+            Optional<UserCredentials> credentials = userDao.findCredentialsByUsername(username);
             
-            if (userOpt.isEmpty()) {
+            if (credentials.isEmpty()) {
                 System.out.println("Authentication failed: User '" + username + "' not found in database");
                 return Optional.empty();
             }
 
-            System.out.println("User found: " + username);
-
-            // Get the stored password hash from database
-            String storedPasswordHash = getPasswordHash(username);
+            String storedPasswordHash = credentials.get().getPasswordHash();
             if (storedPasswordHash == null || storedPasswordHash.isEmpty()) {
-                System.out.println("Authentication failed: Could not retrieve password hash for '" + username + "'");
+                System.out.println("Authentication failed: No password hash stored for '" + username + "'");
                 return Optional.empty();
             }
 
-            System.out.println("Stored password hash length: " + storedPasswordHash.length());
-
-            // Hash the provided password and compare
-            String providedPasswordHash = PasswordHasher.sha256(password);
-            System.out.println("Provided password hash length: " + providedPasswordHash.length());
-            
-            if (storedPasswordHash.equals(providedPasswordHash)) {
+            if (passwordHasher.matches(password, storedPasswordHash)) {
                 System.out.println("Authentication successful for user: " + username);
-                return userOpt;
+                User user = credentials.get().getUser();
+                if (passwordHasher.needsRehash(storedPasswordHash)) {
+                    upgradePasswordHash(user, password, storedPasswordHash);
+                }
+                return Optional.of(user);
             } else {
                 System.out.println("Authentication failed: Password hash mismatch for user '" + username + "'");
-                System.out.println("Stored hash (first 20 chars): " + storedPasswordHash.substring(0, Math.min(20, storedPasswordHash.length())));
-                System.out.println("Provided hash (first 20 chars): " + providedPasswordHash.substring(0, Math.min(20, providedPasswordHash.length())));
             }
 
             return Optional.empty();
@@ -84,31 +84,18 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * Retrieves the password hash for a given username from the database.
-     *
-     * @param username the username
-     * @return the password hash, or null if user not found
+     * Stores a hash in the current format. Failing to do so does not fail the
+     * login; the upgrade is retried on the next one.
      */
-    private String getPasswordHash(String username) throws DataAccessException {
-        String sql = "SELECT password_hash FROM users WHERE username = ?";
-
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, username);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getString("password_hash");
-                }
+    private void upgradePasswordHash(User user, String password, String storedPasswordHash) {
+        try {
+            if (userDao.updatePasswordHash(user.getId(), storedPasswordHash, passwordHasher.hash(password))) {
+                MetricsRegistry.getInstance().counter("auth.passwordHashUpgrades").increment();
+                System.out.println("Upgraded password hash for user: " + user.getUsername());
             }
-        } catch (SQLException e) {
-            System.err.println("Error retrieving password hash: " + e.getMessage());
-            e.printStackTrace();
-            throw new DataAccessException("Failed to retrieve password hash for user: " + username, e);
+        } catch (DataAccessException e) {
+            System.err.println("Could not upgrade password hash for user " + user.getUsername() + ": "
+                + e.getMessage());
         }
-
-        return null;
     }
 }
-
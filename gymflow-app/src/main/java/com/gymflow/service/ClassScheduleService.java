@@ -1,5 +1,6 @@
 package com.gymflow.service;
 
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.ClassSession;
 
 import java.time.LocalDateTime;
@@ -34,8 +35,16 @@ public interface ClassScheduleService {
      * Gets all upcoming class sessions.
      *
      * @return list of upcoming class sessions
+     * @throws DataAccessException if database operation fails
      */
-    List<ClassSession> getUpcomingClassSessions();
+    List<ClassSession> getUpcomingClassSessions() throws DataAccessException;
+
+    /**
+     * Counts the upcoming class sessions.
+     *
+     * @return number of upcoming class sessions
+     */
+    int getUpcomingClassSessionCount();
 
     /**
      * Gets a class session by its ID.
@@ -1,7 +1,10 @@
 package com.gymflow.service;
 
+import com.gymflow.dao.CachingClassSessionDao;
 import com.gymflow.dao.ClassSessionDao;
 import com.gymflow.dao.ClassSessionDaoImpl;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.ClassSession;
 
 import java.time.LocalDateTime;
@@ -15,7 +18,8 @@ public class ClassScheduleServiceImpl implements ClassScheduleService {
     private final ClassSessionDao classSessionDao;
 
     public ClassScheduleServiceImpl() {
-        this.classSessionDao = new ClassSessionDaoImpl();
+        this.classSessionDao = new CachingClassSessionDao(
+            Instrumented.dao(ClassSessionDao.class, new ClassSessionDaoImpl()));
     }
 
     @Override
@@ -74,10 +78,15 @@ public class ClassScheduleServiceImpl implements ClassScheduleService {
     }
 
     @Override
-    public List<ClassSession> getUpcomingClassSessions() {
+    public List<ClassSession> getUpcomingClassSessions() throws DataAccessException {
         return classSessionDao.findUpcoming();
     }
 
+    @Override
+    public int getUpcomingClassSessionCount() {
+        return classSessionDao.countUpcoming();
+    }
+
     @Override
     public Optional<ClassSession> getClassSessionById(long sessionId) {
         if (sessionId <= 0) {
@@ -2,6 +2,7 @@ package com.gymflow.service;
 
 import com.gymflow.dao.EquipmentDao;
 import com.gymflow.dao.EquipmentDaoImpl;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.Equipment;
 import com.gymflow.model.EquipmentStatus;
 
@@ -16,7 +17,7 @@ public class EquipmentServiceImpl implements EquipmentService {
     private final EquipmentDao equipmentDao;
 
     public EquipmentServiceImpl() {
-        this.equipmentDao = new EquipmentDaoImpl();
+        this.equipmentDao = Instrumented.dao(EquipmentDao.class, new EquipmentDaoImpl());
     }
 
     @Override
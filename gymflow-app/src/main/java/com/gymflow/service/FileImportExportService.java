@@ -1,6 +1,8 @@
 package com.gymflow.service;
 
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.exception.FileOperationException;
+import com.gymflow.model.AttendanceImportReport;
 import com.gymflow.model.AttendanceRecord;
 import com.gymflow.model.WorkoutPlan;
 import com.gymflow.util.CsvUtil;
@@ -8,6 +10,7 @@ import com.gymflow.util.CsvUtil;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 /**
  * Service interface for file import/export operations.
@@ -32,6 +35,18 @@ public interface FileImportExportService {
      */
     List<WorkoutPlan> importWorkoutTemplates(String filePath) throws FileOperationException;
 
+    /**
+     * Imports workout plans from a CSV file, parsing large files on several
+     * threads. The result and any reported line numbers are the same as for
+     * {@link #importWorkoutTemplates(String)}.
+     *
+     * @param filePath the path to the CSV file to import
+     * @param parallelism number of parser threads; 1 reads sequentially
+     * @return list of imported workout plans, in file order
+     * @throws FileOperationException if an I/O error occurs or file format is invalid
+     */
+    List<WorkoutPlan> importWorkoutTemplates(String filePath, int parallelism) throws FileOperationException;
+
     /**
      * Exports attendance records to a CSV file.
      *
@@ -56,6 +71,65 @@ public interface FileImportExportService {
                                    java.util.Map<Long, String> memberNameMap,
                                    java.util.Map<Long, String> classNameMap) throws FileOperationException;
 
+    /**
+     * Streams the name-enriched attendance report straight from the database
+     * into a CSV file. Rows are read through a cursor and written through a
+     * buffered writer, so memory use does not grow with the size of the table.
+     * Safe to call from a background thread.
+     *
+     * @param filePath the path where the CSV file will be created
+     * @param progress receives the number of rows written so far, periodically and
+     *                 once at the end (can be null)
+     * @return number of rows exported
+     * @throws FileOperationException if the file cannot be written; the partial file is removed
+     * @throws DataAccessException if reading from the database fails; the partial file is removed
+     */
+    long streamAttendanceReport(String filePath, LongConsumer progress) throws FileOperationException, DataAccessException;
+
+    /**
+     * Streams a trainer's workout plans straight from the database into a CSV
+     * template file, in constant memory. Safe to call from a background thread.
+     *
+     * @param trainerId the trainer whose plans are exported
+     * @param filePath the path where the CSV file will be created
+     * @param progress receives the number of rows written so far, periodically and
+     *                 once at the end (can be null)
+     * @return number of plans exported
+     * @throws FileOperationException if the file cannot be written; the partial file is removed
+     * @throws DataAccessException if reading from the database fails; the partial file is removed
+     */
+    long streamWorkoutTemplates(long trainerId, String filePath, LongConsumer progress)
+            throws FileOperationException, DataAccessException;
+
+    /**
+     * Imports attendance marks from a CSV file in the format written by
+     * {@link #exportAttendanceReport(List, String)} (with or without names),
+     * using the default batch size.
+     *
+     * @param filePath the path to the CSV file to import
+     * @return the outcome of every data row
+     * @throws FileOperationException if the file cannot be read or its header is invalid
+     * @throws DataAccessException if sessions or members cannot be looked up
+     */
+    AttendanceImportReport importAttendance(String filePath) throws FileOperationException, DataAccessException;
+
+    /**
+     * Imports attendance marks from a CSV file. Rows are validated in bulk
+     * against existing class sessions and members, and the valid ones are
+     * upserted on (session, member) in JDBC batches inside one transaction. When
+     * a pair appears more than once, the last row wins. Rejected rows are listed
+     * in the report and can be written out with
+     * {@link CsvUtil#exportAttendanceRejections(List, Path)}.
+     *
+     * @param filePath the path to the CSV file to import
+     * @param batchSize rows per JDBC batch
+     * @return the outcome of every data row
+     * @throws FileOperationException if the file cannot be read or its header is invalid
+     * @throws DataAccessException if sessions or members cannot be looked up
+     */
+    AttendanceImportReport importAttendance(String filePath, int batchSize)
+            throws FileOperationException, DataAccessException;
+
     /**
      * Validates a file before import.
      *
@@ -1,18 +1,89 @@
 package com.gymflow.service;
 
+import com.gymflow.dao.AttendanceDao;
+import com.gymflow.dao.AttendanceDaoImpl;
+import com.gymflow.dao.CachingClassSessionDao;
+import com.gymflow.dao.CachingUserDao;
+import com.gymflow.dao.CachingWorkoutPlanDao;
+import com.gymflow.dao.ClassSessionDao;
+import com.gymflow.dao.ClassSessionDaoImpl;
+import com.gymflow.dao.UserDao;
+import com.gymflow.dao.UserDaoImpl;
+import com.gymflow.dao.WorkoutPlanDao;
+import com.gymflow.dao.WorkoutPlanDaoImpl;
+import com.gymflow.exception.DataAccessException;
 import com.gymflow.exception.FileOperationException;
+import com.gymflow.metrics.CsvPhaseEvent;
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.model.AttendanceCsvRow;
+import com.gymflow.model.AttendanceImportReport;
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.AttendanceReportRow;
+import com.gymflow.model.Role;
+import com.gymflow.model.User;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.util.CsvStreamWriter;
 import com.gymflow.util.CsvUtil;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
 
 /**
  * Implementation of FileImportExportService for file I/O operations.
  */
 public class FileImportExportServiceImpl implements FileImportExportService {
+    /** Default number of rows fetched per database round trip by the streaming exports. */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+    /** Default number of rows per JDBC batch when importing attendance. */
+    public static final int DEFAULT_IMPORT_BATCH_SIZE = 500;
+    /** Progress is reported after every this many rows written. */
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private final AttendanceDao attendanceDao;
+    private final WorkoutPlanDao workoutPlanDao;
+    private final ClassSessionDao classSessionDao;
+    private final UserDao userDao;
+    private final int fetchSize;
+
+    public FileImportExportServiceImpl() {
+        this(DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * @param fetchSize rows fetched per database round trip by the streaming exports
+     */
+    public FileImportExportServiceImpl(int fetchSize) {
+        this(Instrumented.dao(AttendanceDao.class, new AttendanceDaoImpl()),
+            new CachingWorkoutPlanDao(Instrumented.dao(WorkoutPlanDao.class, new WorkoutPlanDaoImpl())),
+            new CachingClassSessionDao(Instrumented.dao(ClassSessionDao.class, new ClassSessionDaoImpl())),
+            new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl())),
+            fetchSize);
+    }
+
+    /**
+     * Creates a service over the given DAOs, for tests.
+     */
+    FileImportExportServiceImpl(AttendanceDao attendanceDao, WorkoutPlanDao workoutPlanDao,
+                                ClassSessionDao classSessionDao, UserDao userDao, int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new com.gymflow.exception.ValidationException("Fetch size must be positive");
+        }
+        this.attendanceDao = attendanceDao;
+        this.workoutPlanDao = workoutPlanDao;
+        this.classSessionDao = classSessionDao;
+        this.userDao = userDao;
+        this.fetchSize = fetchSize;
+    }
 
     @Override
     public boolean exportWorkoutTemplates(List<WorkoutPlan> workoutPlans, String filePath) throws FileOperationException {
@@ -25,19 +96,31 @@ public class FileImportExportServiceImpl implements FileImportExportService {
         }
 
         Path path = Paths.get(filePath);
-        CsvUtil.exportWorkoutTemplates(workoutPlans, path);
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("workout template export", "write", path)) {
+            CsvUtil.exportWorkoutTemplates(workoutPlans, path);
+            event.setRowCount(workoutPlans.size());
+        }
         return true;
     }
 
     @Override
     public List<WorkoutPlan> importWorkoutTemplates(String filePath) throws FileOperationException {
+        return importWorkoutTemplates(filePath, 1);
+    }
+
+    @Override
+    public List<WorkoutPlan> importWorkoutTemplates(String filePath, int parallelism) throws FileOperationException {
         if (filePath == null || filePath.trim().isEmpty()) {
             throw new com.gymflow.exception.ValidationException("File path cannot be null or empty");
         }
 
         Path path = Paths.get(filePath);
         CsvUtil.validateFile(path);
-        return CsvUtil.importWorkoutTemplates(path);
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("workout template import", "parse", path)) {
+            List<WorkoutPlan> plans = CsvUtil.importWorkoutTemplates(path, parallelism);
+            event.setRowCount(plans.size());
+            return plans;
+        }
     }
 
     @Override
@@ -58,10 +141,178 @@ public class FileImportExportServiceImpl implements FileImportExportService {
         }
 
         Path path = Paths.get(filePath);
-        CsvUtil.exportAttendanceReport(attendanceRecords, path, memberNameMap, classNameMap);
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance export", "write", path)) {
+            CsvUtil.exportAttendanceReport(attendanceRecords, path, memberNameMap, classNameMap);
+            event.setRowCount(attendanceRecords.size());
+        }
         return true;
     }
 
+    @Override
+    public long streamAttendanceReport(String filePath, LongConsumer progress)
+            throws FileOperationException, DataAccessException {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new com.gymflow.exception.ValidationException("File path cannot be null or empty");
+        }
+
+        Path path = Paths.get(filePath);
+        boolean completed = false;
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance export", "stream", path);
+             CsvStreamWriter<AttendanceReportRow> writer = CsvUtil.openAttendanceReportWriter(path)) {
+            attendanceDao.streamForReport(fetchSize, row -> {
+                writer.write(row);
+                reportProgress(writer, progress);
+            });
+            completed = true;
+            event.setRowCount(writer.getRowsWritten());
+            if (progress != null) {
+                progress.accept(writer.getRowsWritten());
+            }
+            return writer.getRowsWritten();
+        } finally {
+            if (!completed) {
+                deletePartialFile(path);
+            }
+        }
+    }
+
+    @Override
+    public long streamWorkoutTemplates(long trainerId, String filePath, LongConsumer progress)
+            throws FileOperationException, DataAccessException {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new com.gymflow.exception.ValidationException("File path cannot be null or empty");
+        }
+
+        Path path = Paths.get(filePath);
+        boolean completed = false;
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("workout template export", "stream", path);
+             CsvStreamWriter<WorkoutPlan> writer = CsvUtil.openWorkoutTemplateWriter(path)) {
+            workoutPlanDao.streamByTrainerId(trainerId, fetchSize, plan -> {
+                writer.write(plan);
+                reportProgress(writer, progress);
+            });
+            completed = true;
+            event.setRowCount(writer.getRowsWritten());
+            if (progress != null) {
+                progress.accept(writer.getRowsWritten());
+            }
+            return writer.getRowsWritten();
+        } finally {
+            if (!completed) {
+                deletePartialFile(path);
+            }
+        }
+    }
+
+    private static void reportProgress(CsvStreamWriter<?> writer, LongConsumer progress) {
+        if (progress != null && writer.getRowsWritten() % PROGRESS_INTERVAL == 0) {
+            progress.accept(writer.getRowsWritten());
+        }
+    }
+
+    private static void deletePartialFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Could not remove partial export " + path + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public AttendanceImportReport importAttendance(String filePath) throws FileOperationException, DataAccessException {
+        return importAttendance(filePath, DEFAULT_IMPORT_BATCH_SIZE);
+    }
+
+    @Override
+    public AttendanceImportReport importAttendance(String filePath, int batchSize)
+            throws FileOperationException, DataAccessException {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new com.gymflow.exception.ValidationException("File path cannot be null or empty");
+        }
+        if (batchSize <= 0) {
+            throw new com.gymflow.exception.ValidationException("Batch size must be positive");
+        }
+
+        Path path = Paths.get(filePath);
+        List<AttendanceCsvRow> csvRows;
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance import", "parse", path)) {
+            csvRows = CsvUtil.importAttendanceRecords(path);
+            event.setRowCount(csvRows.size());
+        }
+
+        AttendanceImportReport.Row[] rows = new AttendanceImportReport.Row[csvRows.size()];
+        List<AttendanceRecord> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance import", "validate", path)) {
+            // Look up every referenced session and member once
+            Set<Long> sessionIds = new HashSet<>();
+            Set<Long> memberIds = new HashSet<>();
+            for (AttendanceCsvRow csvRow : csvRows) {
+                if (csvRow.isValid()) {
+                    sessionIds.add(csvRow.getRecord().getSessionId());
+                    memberIds.add(csvRow.getRecord().getMemberId());
+                }
+            }
+            Set<Long> knownSessions = classSessionDao.findExistingIds(sessionIds);
+            Set<Long> knownMembers = new HashSet<>();
+            for (User user : userDao.findByIds(memberIds)) {
+                if (user.getRole() == Role.MEMBER) {
+                    knownMembers.add(user.getId());
+                }
+            }
+
+            // The last row for each (session, member) pair wins
+            Map<String, AttendanceCsvRow> lastRowByPair = new HashMap<>();
+            for (AttendanceCsvRow csvRow : csvRows) {
+                if (csvRow.isValid()) {
+                    lastRowByPair.put(pairKey(csvRow.getRecord()), csvRow);
+                }
+            }
+
+            for (int i = 0; i < csvRows.size(); i++) {
+                AttendanceCsvRow csvRow = csvRows.get(i);
+                AttendanceRecord record = csvRow.getRecord();
+                String rejection;
+                if (!csvRow.isValid()) {
+                    rejection = csvRow.getError();
+                } else if (!knownSessions.contains(record.getSessionId())) {
+                    rejection = "Class session " + record.getSessionId() + " does not exist";
+                } else if (!knownMembers.contains(record.getMemberId())) {
+                    rejection = "No member with ID " + record.getMemberId();
+                } else if (lastRowByPair.get(pairKey(record)) != csvRow) {
+                    rejection = "Superseded by line " + lastRowByPair.get(pairKey(record)).getLineNumber();
+                } else {
+                    accepted.add(record);
+                    acceptedIndexes.add(i);
+                    continue;
+                }
+                rows[i] = new AttendanceImportReport.Row(csvRow.getLineNumber(), record,
+                    AttendanceImportReport.Status.REJECTED, rejection);
+            }
+            event.setRowCount(csvRows.size());
+        }
+
+        AttendanceImportReport.Status status = AttendanceImportReport.Status.IMPORTED;
+        String message = null;
+        try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance import", "upsert", path)) {
+            event.setRowCount(accepted.size());
+            attendanceDao.upsertAll(accepted, batchSize);
+        } catch (DataAccessException e) {
+            status = AttendanceImportReport.Status.FAILED;
+            message = e.getMessage();
+        }
+        for (int i : acceptedIndexes) {
+            rows[i] = new AttendanceImportReport.Row(csvRows.get(i).getLineNumber(), csvRows.get(i).getRecord(),
+                status, message);
+        }
+
+        return new AttendanceImportReport(Arrays.asList(rows));
+    }
+
+    private static String pairKey(AttendanceRecord record) {
+        return record.getSessionId() + ":" + record.getMemberId();
+    }
+
     @Override
     public void validateFile(String filePath) throws FileOperationException {
         if (filePath == null || filePath.trim().isEmpty()) {
@@ -0,0 +1,111 @@
+package com.gymflow.service;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.metrics.MetricsRegistry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs service calls off the JavaFX Application Thread for {@link AsyncService}.
+ *
+ * <p>Every service call ends in blocking JDBC, so running more of them at once
+ * than the connection pool has connections only makes callers wait inside the
+ * pool. The executor therefore has as many threads as the pool's maximum size
+ * ({@code GYMFLOW_DB_POOL_MAX}, or {@code GYMFLOW_SERVICE_THREADS} if set);
+ * further calls wait in an unbounded queue. Threads are daemons so they never
+ * keep the application alive.</p>
+ *
+ * <p>Cancelling a returned future before its call has started takes the call
+ * off the queue, so it never runs and no longer counts as queued. A call that
+ * is already running is not interrupted: interrupting a
+ * thread in the middle of H2 file I/O closes the database. It finishes and its
+ * result is dropped.</p>
+ *
+ * <p>{@code service.async.active} and {@code service.async.queued} gauges show
+ * the executor's load in the admin Metrics tab.</p>
+ */
+final class ServiceExecutor {
+    private static final ServiceExecutor SHARED = new ServiceExecutor(threadCount());
+
+    static {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.registerGauge("service.async.active", () -> SHARED.getActiveCount());
+        metrics.registerGauge("service.async.queued", () -> SHARED.getQueuedCount());
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    ServiceExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "gymflow-service-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), threadFactory);
+        // Idle threads exit after a minute, so an idle app holds no threads
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return the executor shared by every {@link AsyncService}
+     */
+    static ServiceExecutor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Queues a call.
+     *
+     * @param call the blocking call
+     * @return a future completed with the call's result or exception
+     */
+    <R> CompletableFuture<R> submit(Callable<R> call) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            if (future.isDone()) {
+                // Cancelled before it could be taken off the queue
+                return;
+            }
+            try {
+                future.complete(call.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                executor.remove(task);
+            }
+        });
+        executor.execute(task);
+        return future;
+    }
+
+    int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static int threadCount() {
+        String threads = System.getenv("GYMFLOW_SERVICE_THREADS");
+        if (threads == null || threads.isBlank()) {
+            return Math.max(1, DatabaseConnection.getInstance().getDataSource().getMaxSize());
+        }
+        return Math.max(1, Integer.parseInt(threads.trim()));
+    }
+}
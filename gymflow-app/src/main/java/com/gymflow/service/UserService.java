@@ -31,6 +31,15 @@ public interface UserService {
      * @throws DataAccessException if database operation fails
      */
     java.util.List<User> getAllUsers() throws DataAccessException;
+
+    /**
+     * Counts the users with a role without loading them.
+     *
+     * @param role the role to count
+     * @return number of users with the role
+     * @throws DataAccessException if database operation fails
+     */
+    int getUserCountByRole(Role role) throws DataAccessException;
     
     /**
      * Updates a user's information.
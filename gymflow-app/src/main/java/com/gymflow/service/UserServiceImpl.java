@@ -1,9 +1,11 @@
 package com.gymflow.service;
 
+import com.gymflow.dao.CachingUserDao;
 import com.gymflow.dao.UserDao;
 import com.gymflow.dao.UserDaoImpl;
 import com.gymflow.exception.DataAccessException;
 import com.gymflow.exception.ValidationException;
+import com.gymflow.metrics.Instrumented;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.security.PasswordHasher;
@@ -17,7 +19,7 @@ public class UserServiceImpl implements UserService {
     private final UserDao userDao;
 
     public UserServiceImpl() {
-        this.userDao = new UserDaoImpl();
+        this.userDao = new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl()));
     }
 
     /**
@@ -52,7 +54,7 @@ public class UserServiceImpl implements UserService {
 
         try {
             // Hash the password
-            String passwordHash = PasswordHasher.sha256(password);
+            String passwordHash = PasswordHasher.getDefault().hash(password);
 
             // Create user via DAO
             return userDao.create(username.trim(), passwordHash, fullName.trim(), email.trim(), role);
@@ -72,6 +74,16 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    public int getUserCountByRole(Role role) throws DataAccessException {
+        try {
+            return userDao.countByRole(role);
+        } catch (DataAccessException e) {
+            System.err.println("Database error counting users: " + e.getMessage());
+            throw e;
+        }
+    }
+
     @Override
     public boolean updateUser(long id, String fullName, String email, Role role) 
         throws ValidationException, DataAccessException {
@@ -1,9 +1,11 @@
 package com.gymflow.service;
 
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.WorkoutCompletion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for workout completion tracking.
@@ -29,6 +31,14 @@ public interface WorkoutCompletionService {
      */
     boolean isCompleted(long workoutPlanId, long memberId);
 
+    /**
+     * Gets the IDs of all workout plans a member has completed, in one query.
+     *
+     * @param memberId the member ID
+     * @return set of completed workout plan IDs
+     */
+    Set<Long> getCompletedPlanIds(long memberId);
+
     /**
      * Gets all completions for a specific member.
      *
@@ -37,6 +47,16 @@ public interface WorkoutCompletionService {
      */
     List<WorkoutCompletion> getCompletionsByMember(long memberId);
 
+    /**
+     * Gets one page of a member's attendance history, newest first, ready for display.
+     *
+     * @param memberId the member ID
+     * @param after the last row of the previous page, or null for the first page
+     * @param pageSize maximum number of rows to return
+     * @return the next page of history rows, empty when there are no more
+     */
+    List<AttendanceHistoryRow> getAttendanceHistory(long memberId, AttendanceHistoryRow after, int pageSize);
+
     /**
      * Removes a completion record (unmarks as completed).
      *
@@ -2,10 +2,13 @@ package com.gymflow.service;
 
 import com.gymflow.dao.WorkoutCompletionDao;
 import com.gymflow.dao.WorkoutCompletionDaoImpl;
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.WorkoutCompletion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of WorkoutCompletionService.
@@ -14,7 +17,7 @@ public class WorkoutCompletionServiceImpl implements WorkoutCompletionService {
     private final WorkoutCompletionDao completionDao;
 
     public WorkoutCompletionServiceImpl() {
-        this.completionDao = new WorkoutCompletionDaoImpl();
+        this.completionDao = Instrumented.dao(WorkoutCompletionDao.class, new WorkoutCompletionDaoImpl());
     }
 
     @Override
@@ -36,6 +39,15 @@ public class WorkoutCompletionServiceImpl implements WorkoutCompletionService {
         return completionDao.isCompleted(workoutPlanId, memberId);
     }
 
+    @Override
+    public Set<Long> getCompletedPlanIds(long memberId) {
+        if (memberId <= 0) {
+            return Set.of();
+        }
+
+        return completionDao.findCompletedPlanIds(memberId);
+    }
+
     @Override
     public List<WorkoutCompletion> getCompletionsByMember(long memberId) {
         if (memberId <= 0) {
@@ -45,6 +57,15 @@ public class WorkoutCompletionServiceImpl implements WorkoutCompletionService {
         return completionDao.findByMemberId(memberId);
     }
 
+    @Override
+    public List<AttendanceHistoryRow> getAttendanceHistory(long memberId, AttendanceHistoryRow after, int pageSize) {
+        if (memberId <= 0 || pageSize <= 0) {
+            return List.of();
+        }
+
+        return completionDao.findHistoryByMember(memberId, after, pageSize);
+    }
+
     @Override
     public boolean unmarkCompleted(long workoutPlanId, long memberId) {
         if (workoutPlanId <= 0 || memberId <= 0) {
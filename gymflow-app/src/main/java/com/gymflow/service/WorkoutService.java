@@ -1,7 +1,10 @@
 package com.gymflow.service;
 
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanImportReport;
+import com.gymflow.model.WorkoutPlanWithSource;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +55,16 @@ public interface WorkoutService {
      */
     List<WorkoutPlan> getWorkoutPlansForMember(long memberId);
 
+    /**
+     * Gets the workout plans assigned directly to a member plus those attached
+     * to upcoming classes the member is registered for, with their source.
+     * Runs two queries regardless of how many classes are involved.
+     *
+     * @param memberId the member ID
+     * @return direct plans followed by class plans, without duplicates
+     */
+    List<WorkoutPlanWithSource> getWorkoutPlansWithSourceForMember(long memberId);
+
     /**
      * Gets all workout plans created by a specific trainer.
      *
@@ -60,6 +73,19 @@ public interface WorkoutService {
      */
     List<WorkoutPlan> getWorkoutPlansByTrainer(long trainerId);
 
+    /**
+     * Imports workout plans for a trainer, e.g. from a CSV template. Duplicates
+     * (same title and member as an existing plan or an earlier row) are skipped
+     * using a key set loaded once up front, and the remaining valid rows are
+     * inserted in one batched transaction.
+     *
+     * @param trainerId the trainer the imported plans will belong to
+     * @param plans the plans to import (their IDs and trainer IDs are ignored)
+     * @return a report with one entry per input row
+     * @throws com.gymflow.exception.ValidationException if the trainer ID or list is invalid
+     */
+    WorkoutPlanImportReport importPlans(long trainerId, List<WorkoutPlan> plans);
+
     /**
      * Gets a workout plan by its ID.
      *
@@ -68,6 +94,14 @@ public interface WorkoutService {
      */
     Optional<WorkoutPlan> getWorkoutPlanById(long planId);
 
+    /**
+     * Gets several workout plans by ID in a single lookup.
+     *
+     * @param planIds the workout plan IDs
+     * @return the workout plans that exist, in no particular order
+     */
+    List<WorkoutPlan> getWorkoutPlansByIds(Collection<Long> planIds);
+
     /**
      * Updates an existing workout plan.
      *
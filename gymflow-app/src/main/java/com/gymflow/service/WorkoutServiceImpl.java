@@ -1,20 +1,43 @@
 package com.gymflow.service;
 
+import com.gymflow.dao.CachingUserDao;
+import com.gymflow.dao.CachingWorkoutPlanDao;
+import com.gymflow.dao.UserDao;
+import com.gymflow.dao.UserDaoImpl;
 import com.gymflow.dao.WorkoutPlanDao;
 import com.gymflow.dao.WorkoutPlanDaoImpl;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.exception.ValidationException;
+import com.gymflow.metrics.Instrumented;
+import com.gymflow.model.ClassSession;
+import com.gymflow.model.User;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanImportReport;
+import com.gymflow.model.WorkoutPlanWithSource;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of WorkoutService for workout plan business logic.
  */
 public class WorkoutServiceImpl implements WorkoutService {
     private final WorkoutPlanDao workoutPlanDao;
+    private final UserDao userDao;
 
     public WorkoutServiceImpl() {
-        this.workoutPlanDao = new WorkoutPlanDaoImpl();
+        this.workoutPlanDao = new CachingWorkoutPlanDao(
+            Instrumented.dao(WorkoutPlanDao.class, new WorkoutPlanDaoImpl()));
+        this.userDao = new CachingUserDao(Instrumented.dao(UserDao.class, new UserDaoImpl()));
     }
 
     @Override
@@ -78,17 +101,9 @@ public class WorkoutServiceImpl implements WorkoutService {
         String normalizedDifficulty = difficulty != null ? difficulty.trim() : "Beginner";
 
         // Create workout plan object with all fields (id will be generated by database)
-        WorkoutPlan workoutPlan = new WorkoutPlan(0, memberId, trainerId, title.trim(),
-                                                  description != null ? description.trim() : null,
-                                                  normalizedDifficulty,
-                                                  muscleGroup != null && !muscleGroup.trim().isEmpty() ? muscleGroup.trim() : null,
-                                                  workoutType != null && !workoutType.trim().isEmpty() ? workoutType.trim() : null,
-                                                  durationMinutes,
-                                                  equipmentNeeded != null && !equipmentNeeded.trim().isEmpty() ? equipmentNeeded.trim() : null,
-                                                  targetSets,
-                                                  targetReps,
-                                                  restSeconds,
-                                                  null);
+        WorkoutPlan workoutPlan = buildNewPlan(memberId, trainerId, title, description, normalizedDifficulty,
+                                               muscleGroup, workoutType, durationMinutes, equipmentNeeded,
+                                               targetSets, targetReps, restSeconds);
 
         // Save to database
         try {
@@ -109,6 +124,96 @@ public class WorkoutServiceImpl implements WorkoutService {
         }
     }
 
+    @Override
+    public WorkoutPlanImportReport importPlans(long trainerId, List<WorkoutPlan> plans) {
+        if (trainerId <= 0) {
+            throw new ValidationException("Invalid trainer ID");
+        }
+        if (plans == null) {
+            throw new ValidationException("Workout plans list cannot be null");
+        }
+
+        // One query for the existing keys; rows accepted from this file are added as we go
+        Set<String> existingKeys = new HashSet<>();
+        for (WorkoutPlan existing : workoutPlanDao.findByTrainerId(trainerId)) {
+            existingKeys.add(duplicateKey(existing.getTitle(), existing.getMemberId()));
+        }
+
+        // Look up every referenced member once; an unknown member would fail the whole batch insert
+        Set<Long> memberIds = new HashSet<>();
+        for (WorkoutPlan plan : plans) {
+            if (plan != null && plan.getMemberId() > 0) {
+                memberIds.add(plan.getMemberId());
+            }
+        }
+        Set<Long> knownMembers = new HashSet<>();
+        String memberLookupError = null;
+        try {
+            for (User user : userDao.findByIds(memberIds)) {
+                knownMembers.add(user.getId());
+            }
+        } catch (DataAccessException e) {
+            System.err.println("Error looking up members for workout plan import: " + e.getMessage());
+            memberLookupError = "Could not look up members; no rows from this import were saved";
+        }
+
+        WorkoutPlanImportReport.Row[] rows = new WorkoutPlanImportReport.Row[plans.size()];
+        List<WorkoutPlan> toCreate = new ArrayList<>();
+        List<Integer> toCreateIndexes = new ArrayList<>();
+
+        for (int i = 0; i < plans.size(); i++) {
+            WorkoutPlan plan = plans.get(i);
+            String title = plan != null ? plan.getTitle() : null;
+            if (title == null || title.trim().isEmpty()) {
+                rows[i] = new WorkoutPlanImportReport.Row(i + 1, title, WorkoutPlanImportReport.Status.INVALID,
+                    "Title cannot be empty", null);
+                continue;
+            }
+            if (plan.getMemberId() <= 0) {
+                rows[i] = new WorkoutPlanImportReport.Row(i + 1, title, WorkoutPlanImportReport.Status.INVALID,
+                    "Invalid member ID", null);
+                continue;
+            }
+            if (memberLookupError != null) {
+                rows[i] = new WorkoutPlanImportReport.Row(i + 1, title, WorkoutPlanImportReport.Status.FAILED,
+                    memberLookupError, null);
+                continue;
+            }
+            if (!knownMembers.contains(plan.getMemberId())) {
+                rows[i] = new WorkoutPlanImportReport.Row(i + 1, title, WorkoutPlanImportReport.Status.INVALID,
+                    "Member not found", null);
+                continue;
+            }
+            if (!existingKeys.add(duplicateKey(title, plan.getMemberId()))) {
+                rows[i] = new WorkoutPlanImportReport.Row(i + 1, title, WorkoutPlanImportReport.Status.DUPLICATE,
+                    "A plan with this title already exists for member " + plan.getMemberId(), null);
+                continue;
+            }
+
+            // Imported plans always belong to the importing trainer
+            toCreate.add(buildNewPlan(plan.getMemberId(), trainerId, title, plan.getDescription(),
+                                      plan.getDifficulty() != null ? plan.getDifficulty().trim() : "Beginner",
+                                      plan.getMuscleGroup(), plan.getWorkoutType(), plan.getDurationMinutes(),
+                                      plan.getEquipmentNeeded(), plan.getTargetSets(), plan.getTargetReps(),
+                                      plan.getRestSeconds()));
+            toCreateIndexes.add(i);
+        }
+
+        // All valid rows go to the database in one transaction
+        List<WorkoutPlan> created = workoutPlanDao.createAll(toCreate);
+        boolean insertFailed = created.size() != toCreate.size();
+        for (int j = 0; j < toCreateIndexes.size(); j++) {
+            int i = toCreateIndexes.get(j);
+            rows[i] = insertFailed
+                ? new WorkoutPlanImportReport.Row(i + 1, toCreate.get(j).getTitle(), WorkoutPlanImportReport.Status.FAILED,
+                    "Database insert failed; no rows from this import were saved", null)
+                : new WorkoutPlanImportReport.Row(i + 1, created.get(j).getTitle(), WorkoutPlanImportReport.Status.IMPORTED,
+                    null, created.get(j));
+        }
+
+        return new WorkoutPlanImportReport(Arrays.asList(rows));
+    }
+
     @Override
     public List<WorkoutPlan> getWorkoutPlansForMember(long memberId) {
         if (memberId <= 0) {
@@ -119,6 +224,38 @@ public class WorkoutServiceImpl implements WorkoutService {
         return workoutPlanDao.findByMemberId(memberId);
     }
 
+    @Override
+    public List<WorkoutPlanWithSource> getWorkoutPlansWithSourceForMember(long memberId) {
+        if (memberId <= 0) {
+            System.err.println("Invalid member ID");
+            return List.of();
+        }
+
+        List<WorkoutPlan> directPlans = workoutPlanDao.findByMemberId(memberId);
+        List<WorkoutPlanWithSource> classPlans = workoutPlanDao.findClassPlansForMember(memberId);
+
+        // A plan attached to several classes is attributed to the latest one
+        Map<Long, ClassSession> sourceByPlanId = new HashMap<>();
+        for (WorkoutPlanWithSource classPlan : classPlans) {
+            sourceByPlanId.put(classPlan.getWorkoutPlan().getId(), classPlan.getSourceClass());
+        }
+
+        // Direct plans first, then class plans, without duplicates
+        Map<Long, WorkoutPlan> plansById = new LinkedHashMap<>();
+        for (WorkoutPlan plan : directPlans) {
+            plansById.putIfAbsent(plan.getId(), plan);
+        }
+        for (WorkoutPlanWithSource classPlan : classPlans) {
+            plansById.putIfAbsent(classPlan.getWorkoutPlan().getId(), classPlan.getWorkoutPlan());
+        }
+
+        List<WorkoutPlanWithSource> result = new ArrayList<>(plansById.size());
+        for (WorkoutPlan plan : plansById.values()) {
+            result.add(new WorkoutPlanWithSource(plan, sourceByPlanId.get(plan.getId())));
+        }
+        return result;
+    }
+
     @Override
     public List<WorkoutPlan> getWorkoutPlansByTrainer(long trainerId) {
         if (trainerId <= 0) {
@@ -138,6 +275,15 @@ public class WorkoutServiceImpl implements WorkoutService {
         return workoutPlanDao.findById(planId);
     }
 
+    @Override
+    public List<WorkoutPlan> getWorkoutPlansByIds(Collection<Long> planIds) {
+        if (planIds == null || planIds.isEmpty()) {
+            return List.of();
+        }
+
+        return workoutPlanDao.findByIds(planIds);
+    }
+
     @Override
     public boolean updateWorkoutPlan(long planId, String title, String description, String difficulty) {
         Optional<WorkoutPlan> existingOpt = workoutPlanDao.findById(planId);
@@ -187,5 +333,31 @@ public class WorkoutServiceImpl implements WorkoutService {
 
         return success;
     }
-}
 
+    /**
+     * Builds an unsaved workout plan with trimmed text fields; blank optional fields become null.
+     */
+    private static WorkoutPlan buildNewPlan(long memberId, long trainerId, String title, String description,
+                                            String difficulty, String muscleGroup, String workoutType,
+                                            Integer durationMinutes, String equipmentNeeded,
+                                            Integer targetSets, Integer targetReps, Integer restSeconds) {
+        return new WorkoutPlan(0, memberId, trainerId, title.trim(),
+                               description != null ? description.trim() : null,
+                               difficulty,
+                               muscleGroup != null && !muscleGroup.trim().isEmpty() ? muscleGroup.trim() : null,
+                               workoutType != null && !workoutType.trim().isEmpty() ? workoutType.trim() : null,
+                               durationMinutes,
+                               equipmentNeeded != null && !equipmentNeeded.trim().isEmpty() ? equipmentNeeded.trim() : null,
+                               targetSets,
+                               targetReps,
+                               restSeconds,
+                               null);
+    }
+
+    /**
+     * Key used to detect duplicate plans: same title (ignoring case and surrounding spaces) for the same member.
+     */
+    private static String duplicateKey(String title, long memberId) {
+        return memberId + ":" + title.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,167 @@
+package com.gymflow.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV file into byte ranges that start and end on record boundaries,
+ * so each range can be parsed independently.
+ * <p>
+ * The file is scanned once at byte level with the same quoting rules as
+ * {@link CsvReader}. This is safe on UTF-8 input because quote, comma and line
+ * break bytes never occur inside multi-byte characters. Only newlines outside
+ * quoted fields are used as cut points, and the line number at each cut is
+ * tracked so errors in later chunks report the same line as a sequential read.
+ */
+final class CsvFileSplitter {
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    /**
+     * A byte range of the file holding whole records.
+     */
+    static final class Chunk {
+        private final long start;
+        private final long end;
+        private final long firstLineNumber;
+
+        Chunk(long start, long end, long firstLineNumber) {
+            this.start = start;
+            this.end = end;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getEnd() {
+            return end;
+        }
+
+        long getFirstLineNumber() {
+            return firstLineNumber;
+        }
+
+        /**
+         * Opens a memory-mapped reader over this chunk only.
+         *
+         * @param path the file the chunk belongs to
+         * @return a reader whose line numbers match the whole file
+         * @throws IOException if the file cannot be opened
+         */
+        CsvReader open(Path path) throws IOException {
+            return new CsvReader(MappedFileReader.open(path, start, end, MappedFileReader.DEFAULT_WINDOW_SIZE),
+                firstLineNumber);
+        }
+    }
+
+    private CsvFileSplitter() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Splits the data records of a file, after the first (header) record, into
+     * chunks of roughly {@code targetChunkBytes}. A chunk only ends after a
+     * complete record, so it may be larger than the target.
+     *
+     * @param path the CSV file
+     * @param targetChunkBytes preferred chunk size in bytes
+     * @return chunks in file order; empty if the file has no data records
+     * @throws IOException if the file cannot be read
+     */
+    static List<Chunk> split(Path path, long targetChunkBytes) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+
+            int state = FIELD_START;
+            boolean lastWasCr = false;
+            long line = 1;
+            long offset = 0;
+            long chunkStart = -1; // -1 until the header record has been passed
+            long chunkLine = 0;
+
+            int read;
+            while ((read = channel.read(buffer.clear())) > 0) {
+                int i = 0;
+                if (offset == 0 && read >= 3
+                        && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+                    i = 3; // UTF-8 byte order mark
+                }
+                for (; i < read; i++) {
+                    byte b = bytes[i];
+                    boolean crlf = lastWasCr && b == '\n';
+                    lastWasCr = false;
+                    if (crlf) {
+                        // Second half of a CRLF ending a record; the cut goes after it
+                    } else if (state == QUOTED) {
+                        if (b == '"') {
+                            state = QUOTE_IN_QUOTED;
+                        } else if (b == '\n') {
+                            line++;
+                        }
+                        continue;
+                    } else if (b == '\n' || b == '\r') {
+                        line++;
+                        state = FIELD_START;
+                        lastWasCr = b == '\r';
+                        if (lastWasCr) {
+                            continue;
+                        }
+                    } else {
+                        state = nextState(state, b);
+                        continue;
+                    }
+
+                    // At a record boundary just after a line feed
+                    long boundary = offset + i + 1;
+                    if (chunkStart < 0) {
+                        chunkStart = boundary;
+                        chunkLine = line;
+                    } else if (boundary - chunkStart >= targetChunkBytes) {
+                        chunks.add(new Chunk(chunkStart, boundary, chunkLine));
+                        chunkStart = boundary;
+                        chunkLine = line;
+                    }
+                }
+                offset += read;
+            }
+
+            if (chunkStart >= 0 && offset > chunkStart) {
+                chunks.add(new Chunk(chunkStart, offset, chunkLine));
+            }
+        }
+        return chunks;
+    }
+
+    private static int nextState(int state, byte b) {
+        switch (state) {
+            case FIELD_START:
+                if (b == '"') {
+                    return QUOTED;
+                }
+                if (b == ',' || b == ' ' || b == '\t') {
+                    return FIELD_START;
+                }
+                return UNQUOTED;
+            case UNQUOTED:
+                return b == ',' ? FIELD_START : UNQUOTED;
+            default: // QUOTE_IN_QUOTED
+                if (b == '"') {
+                    return QUOTED;
+                }
+                return b == ',' ? FIELD_START : UNQUOTED;
+        }
+    }
+}
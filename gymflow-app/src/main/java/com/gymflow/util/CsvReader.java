@@ -0,0 +1,322 @@
+package com.gymflow.util;
+
+import com.gymflow.exception.ValidationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming RFC 4180 CSV reader.
+ * <p>
+ * Characters are pulled through a fixed-size buffer and split into records by a
+ * small state machine, so quoted fields may contain commas, doubled quotes and
+ * line breaks, and files of any size can be read with constant memory. Field
+ * values are exposed as {@link CharSequence} views over a shared record buffer;
+ * no {@code String} is created unless the caller asks for one. Views are only
+ * valid until the next call to {@link #nextRecord()}.
+ * <p>
+ * Parsing is lenient in the same places the previous line-based parser was:
+ * whitespace before an opening quote is ignored, and characters after a closing
+ * quote are kept as part of the field.
+ */
+public final class CsvReader implements AutoCloseable {
+    /** Size of the character buffer in front of the underlying reader. */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Longest record accepted, guarding against an unterminated quote swallowing the file. */
+    static final int MAX_RECORD_LENGTH = 1024 * 1024;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean skipLineFeed;
+    private boolean atStart;
+
+    private char[] record = new char[256];
+    private int recordLength;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private Field[] fields = new Field[16];
+    private int fieldCount;
+
+    private long nextLine;
+    private long recordLine;
+
+    /**
+     * @param reader the character source; closed when this reader is closed
+     */
+    public CsvReader(Reader reader) {
+        this(reader, 1);
+    }
+
+    /**
+     * Creates a reader for a slice of a larger file, so reported line numbers
+     * match the whole file.
+     *
+     * @param reader the character source, positioned at the start of a record
+     * @param firstLineNumber the line number of the first record in the slice
+     */
+    CsvReader(Reader reader, long firstLineNumber) {
+        if (reader == null) {
+            throw new ValidationException("Reader cannot be null");
+        }
+        this.reader = reader;
+        this.nextLine = firstLineNumber;
+        this.atStart = firstLineNumber == 1;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false at end of input
+     * @throws IOException if the underlying reader fails
+     * @throws ValidationException if a quoted field is never closed or a record is too long
+     */
+    public boolean nextRecord() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        recordLine = nextLine;
+
+        int state = FIELD_START;
+        int fieldStart = 0;
+        boolean sawInput = false;
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                if (!sawInput) {
+                    return false;
+                }
+                if (state == QUOTED) {
+                    throw new ValidationException("Unterminated quoted field starting on line " + recordLine);
+                }
+                endField(fieldStart);
+                return true;
+            }
+
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (atStart) {
+                atStart = false;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+            sawInput = true;
+
+            switch (state) {
+                case FIELD_START:
+                    if (c == '"') {
+                        // Drop any whitespace seen before the opening quote
+                        recordLength = fieldStart;
+                        state = QUOTED;
+                    } else if (c == ',') {
+                        endField(fieldStart);
+                        fieldStart = recordLength;
+                    } else if (c == '\n' || c == '\r') {
+                        endRecord(c, fieldStart);
+                        return true;
+                    } else {
+                        append(c);
+                        if (c != ' ' && c != '\t') {
+                            state = UNQUOTED;
+                        }
+                    }
+                    break;
+                case UNQUOTED:
+                    if (c == ',') {
+                        endField(fieldStart);
+                        fieldStart = recordLength;
+                        state = FIELD_START;
+                    } else if (c == '\n' || c == '\r') {
+                        endRecord(c, fieldStart);
+                        return true;
+                    } else {
+                        append(c);
+                    }
+                    break;
+                case QUOTED:
+                    if (c == '"') {
+                        state = QUOTE_IN_QUOTED;
+                    } else {
+                        if (c == '\n') {
+                            nextLine++;
+                        }
+                        append(c);
+                    }
+                    break;
+                default: // QUOTE_IN_QUOTED
+                    if (c == '"') {
+                        append('"');
+                        state = QUOTED;
+                    } else if (c == ',') {
+                        endField(fieldStart);
+                        fieldStart = recordLength;
+                        state = FIELD_START;
+                    } else if (c == '\n' || c == '\r') {
+                        endRecord(c, fieldStart);
+                        return true;
+                    } else {
+                        append(c);
+                        state = UNQUOTED;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @return number of fields in the current record
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns a view of a field in the current record, with quotes removed and
+     * doubled quotes collapsed. The view is reused and overwritten by the next
+     * call to {@link #nextRecord()}.
+     *
+     * @param index zero-based field index
+     * @return the field contents
+     */
+    public CharSequence field(int index) {
+        checkIndex(index);
+        Field field = fields[index];
+        if (field == null) {
+            field = new Field(index);
+            fields[index] = field;
+        }
+        return field;
+    }
+
+    /**
+     * @param index zero-based field index
+     * @return the field contents copied into a new String
+     */
+    public String fieldString(int index) {
+        checkIndex(index);
+        return new String(record, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    /**
+     * @return true if the current record is an empty or whitespace-only line
+     */
+    public boolean isBlankRecord() {
+        if (fieldCount != 1) {
+            return false;
+        }
+        for (int i = fieldStarts[0]; i < fieldEnds[0]; i++) {
+            if (!Character.isWhitespace(record[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 1-based line number on which the current record starts
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            if (record.length >= MAX_RECORD_LENGTH) {
+                throw new ValidationException("Record starting on line " + recordLine
+                    + " exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            record = Arrays.copyOf(record, Math.min(record.length * 2, MAX_RECORD_LENGTH));
+        }
+        record[recordLength++] = c;
+    }
+
+    private void endField(int fieldStart) {
+        if (fieldCount == fieldStarts.length) {
+            int capacity = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+            fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+        }
+        fieldStarts[fieldCount] = fieldStart;
+        fieldEnds[fieldCount] = recordLength;
+        fieldCount++;
+    }
+
+    private void endRecord(char terminator, int fieldStart) {
+        endField(fieldStart);
+        nextLine++;
+        skipLineFeed = terminator == '\r';
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + index + " out of range for record with "
+                + fieldCount + " fields");
+        }
+    }
+
+    /**
+     * Reusable view of one field slot in the record buffer.
+     */
+    private final class Field implements CharSequence {
+        private final int index;
+
+        private Field(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return fieldEnds[index] - fieldStarts[index];
+        }
+
+        @Override
+        public char charAt(int offset) {
+            if (offset < 0 || offset >= length()) {
+                throw new IndexOutOfBoundsException(offset);
+            }
+            return record[fieldStarts[index] + offset];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+            }
+            return new String(record, fieldStarts[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return fieldString(index);
+        }
+    }
+}
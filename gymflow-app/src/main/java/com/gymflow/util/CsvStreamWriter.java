@@ -0,0 +1,86 @@
+package com.gymflow.util;
+
+import com.gymflow.exception.FileOperationException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes CSV rows one at a time through a buffered writer, so an export uses
+ * the same amount of memory whether it writes ten rows or ten million.
+ * Instances are obtained from {@link CsvUtil#openWorkoutTemplateWriter(Path)}
+ * and {@link CsvUtil#openAttendanceReportWriter(Path)}.
+ *
+ * @param <T> the type of row written
+ */
+public final class CsvStreamWriter<T> implements AutoCloseable {
+    /** Size of the character buffer in front of the file. */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Formats one row, without the trailing line separator.
+     */
+    interface RowFormat<T> {
+        void write(Writer writer, T row) throws IOException;
+    }
+
+    private final Path targetPath;
+    private final BufferedWriter writer;
+    private final RowFormat<T> format;
+    private long rowsWritten;
+
+    CsvStreamWriter(Path targetPath, String header, RowFormat<T> format) throws FileOperationException {
+        CsvUtil.ensureParentDirectory(targetPath);
+        this.targetPath = targetPath;
+        this.format = format;
+        try {
+            this.writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(targetPath), StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(header);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to open file for writing: " + targetPath, e);
+        }
+    }
+
+    /**
+     * Appends one row to the file.
+     *
+     * @param row the row to write
+     * @throws FileOperationException if an I/O error occurs
+     */
+    public void write(T row) throws FileOperationException {
+        try {
+            format.write(writer, row);
+            writer.newLine();
+            rowsWritten++;
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to write to file: " + targetPath, e);
+        }
+    }
+
+    /**
+     * @return number of data rows written so far (excluding the header)
+     */
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public Path getTargetPath() {
+        return targetPath;
+    }
+
+    @Override
+    public void close() throws FileOperationException {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to close file: " + targetPath, e);
+        }
+    }
+}
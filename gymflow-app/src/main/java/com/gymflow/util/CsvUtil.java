@@ -2,10 +2,15 @@ package com.gymflow.util;
 
 import com.gymflow.exception.FileOperationException;
 import com.gymflow.exception.ValidationException;
+import com.gymflow.metrics.MetricSnapshot;
+import com.gymflow.model.AttendanceCsvRow;
+import com.gymflow.model.AttendanceImportReport;
 import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.AttendanceReportRow;
 import com.gymflow.model.WorkoutPlan;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,6 +19,8 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Utility class for CSV import/export operations.
@@ -21,8 +28,20 @@ import java.util.List;
  */
 public final class CsvUtil {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final int MAX_FILE_SIZE_MB = 10;
-    private static final long MAX_FILE_SIZE_BYTES = MAX_FILE_SIZE_MB * 1024 * 1024;
+    /** Files smaller than this are always imported on the calling thread. */
+    static final long PARALLEL_THRESHOLD_BYTES = 4L * 1024 * 1024;
+    /** Files of at least this size are read through a memory mapping. */
+    static final long MAPPED_THRESHOLD_BYTES = 16L * 1024 * 1024;
+    /** Smallest chunk handed to a parse task. */
+    static final long MIN_CHUNK_BYTES = 1024 * 1024;
+    /** Chunks per thread, so threads that finish early can pick up more work. */
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final String WORKOUT_TEMPLATE_OLD_HEADER = "Title,Description,Difficulty,Member ID,Trainer ID,Created At";
+    private static final String WORKOUT_TEMPLATE_HEADER = "Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At";
+    private static final String ATTENDANCE_REPORT_HEADER = "Record ID,Session ID,Class Name,Member ID,Member Name,Attended";
+    private static final String ATTENDANCE_HEADER = "Record ID,Session ID,Member ID,Attended";
+    private static final String ATTENDANCE_REJECTIONS_HEADER = "Line,Session ID,Member ID,Attended,Status,Reason";
+    private static final String METRICS_HEADER = "Metric,Type,Count,Mean ms,p50 ms,p90 ms,p99 ms,Max ms,Value";
 
     private CsvUtil() {
         // Utility class - prevent instantiation
@@ -37,116 +56,265 @@ public final class CsvUtil {
      * @throws IllegalArgumentException if the path is invalid
      */
     public static void exportWorkoutTemplates(List<WorkoutPlan> workoutPlans, Path targetPath) throws FileOperationException {
+        try (CsvStreamWriter<WorkoutPlan> writer = openWorkoutTemplateWriter(targetPath)) {
+            for (WorkoutPlan plan : workoutPlans) {
+                writer.write(plan);
+            }
+        }
+    }
+
+    /**
+     * Opens a streaming writer for workout plan templates and writes the header.
+     * Rows are written one at a time, so the caller never needs the full list in memory.
+     *
+     * @param targetPath the path where the CSV file will be created
+     * @return an open writer; the caller must close it
+     * @throws FileOperationException if the file cannot be created
+     */
+    public static CsvStreamWriter<WorkoutPlan> openWorkoutTemplateWriter(Path targetPath) throws FileOperationException {
         if (targetPath == null) {
             throw new ValidationException("Target path cannot be null");
         }
+        return new CsvStreamWriter<>(targetPath, WORKOUT_TEMPLATE_HEADER, CsvUtil::writeWorkoutTemplateRow);
+    }
 
-        // Ensure parent directory exists
-        try {
-            Path parentDir = targetPath.getParent();
-            if (parentDir != null && !Files.exists(parentDir)) {
-                Files.createDirectories(parentDir);
-            }
-        } catch (IOException e) {
-            throw new FileOperationException("Failed to create directory for file: " + targetPath, e);
+    private static void writeWorkoutTemplateRow(Writer writer, WorkoutPlan plan) throws IOException {
+        writer.write(escapeCsvField(plan.getTitle()));
+        writer.write(",");
+        writer.write(escapeCsvField(plan.getDescription()));
+        writer.write(",");
+        writer.write(escapeCsvField(plan.getDifficulty()));
+        writer.write(",");
+        writer.write(String.valueOf(plan.getMemberId()));
+        writer.write(",");
+        writer.write(String.valueOf(plan.getTrainerId()));
+        writer.write(",");
+        writer.write(escapeCsvField(plan.getMuscleGroup()));
+        writer.write(",");
+        writer.write(escapeCsvField(plan.getWorkoutType()));
+        writer.write(",");
+        writer.write(plan.getDurationMinutes() != null ? String.valueOf(plan.getDurationMinutes()) : "");
+        writer.write(",");
+        writer.write(escapeCsvField(plan.getEquipmentNeeded()));
+        writer.write(",");
+        writer.write(plan.getTargetSets() != null ? String.valueOf(plan.getTargetSets()) : "");
+        writer.write(",");
+        writer.write(plan.getTargetReps() != null ? String.valueOf(plan.getTargetReps()) : "");
+        writer.write(",");
+        writer.write(plan.getRestSeconds() != null ? String.valueOf(plan.getRestSeconds()) : "");
+        writer.write(",");
+        if (plan.getCreatedAt() != null) {
+            writer.write(plan.getCreatedAt().format(DATE_TIME_FORMATTER));
         }
+    }
 
-        try (BufferedWriter writer = Files.newBufferedWriter(targetPath)) {
-            // Write CSV header with all fields
-            writer.write("Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At");
-            writer.newLine();
+    /**
+     * Imports workout plans from a CSV file.
+     * The file is streamed through a {@link CsvReader}, so there is no size limit
+     * and quoted fields may span several lines.
+     *
+     * @param sourcePath the path to the CSV file to import
+     * @return list of imported workout plans (without IDs, as they will be generated by database)
+     * @throws FileOperationException if an I/O error occurs
+     * @throws ValidationException if the file format is invalid
+     */
+    public static List<WorkoutPlan> importWorkoutTemplates(Path sourcePath) throws FileOperationException {
+        return importWorkoutTemplates(sourcePath, 1);
+    }
 
-            // Write data rows
-            for (WorkoutPlan plan : workoutPlans) {
-                writer.write(escapeCsvField(plan.getTitle()));
-                writer.write(",");
-                writer.write(escapeCsvField(plan.getDescription()));
-                writer.write(",");
-                writer.write(escapeCsvField(plan.getDifficulty()));
-                writer.write(",");
-                writer.write(String.valueOf(plan.getMemberId()));
-                writer.write(",");
-                writer.write(String.valueOf(plan.getTrainerId()));
-                writer.write(",");
-                writer.write(escapeCsvField(plan.getMuscleGroup()));
-                writer.write(",");
-                writer.write(escapeCsvField(plan.getWorkoutType()));
-                writer.write(",");
-                writer.write(plan.getDurationMinutes() != null ? String.valueOf(plan.getDurationMinutes()) : "");
-                writer.write(",");
-                writer.write(escapeCsvField(plan.getEquipmentNeeded()));
-                writer.write(",");
-                writer.write(plan.getTargetSets() != null ? String.valueOf(plan.getTargetSets()) : "");
-                writer.write(",");
-                writer.write(plan.getTargetReps() != null ? String.valueOf(plan.getTargetReps()) : "");
-                writer.write(",");
-                writer.write(plan.getRestSeconds() != null ? String.valueOf(plan.getRestSeconds()) : "");
-                writer.write(",");
-                if (plan.getCreatedAt() != null) {
-                    writer.write(plan.getCreatedAt().format(DATE_TIME_FORMATTER));
+    /**
+     * Imports workout plans from a CSV file, parsing chunks of large files on
+     * several threads. The file is split at record boundaries, each chunk is
+     * parsed and validated on a {@link ForkJoinPool}, and the results are merged
+     * in file order, so the returned list and the reported line numbers are the
+     * same as for a sequential import. Files under {@value #PARALLEL_THRESHOLD_BYTES}
+     * bytes are always read sequentially.
+     *
+     * @param sourcePath the path to the CSV file to import
+     * @param parallelism number of threads to parse with; 1 reads sequentially
+     * @return list of imported workout plans (without IDs, as they will be generated by database)
+     * @throws FileOperationException if an I/O error occurs
+     * @throws ValidationException if the file format is invalid or parallelism is less than 1
+     */
+    public static List<WorkoutPlan> importWorkoutTemplates(Path sourcePath, int parallelism) throws FileOperationException {
+        if (parallelism < 1) {
+            throw new ValidationException("Parallelism must be at least 1");
+        }
+        validateFile(sourcePath);
+
+        try (CsvReader reader = openReader(sourcePath)) {
+            boolean isNewFormat = readWorkoutTemplateHeader(reader);
+
+            long fileSize = Files.size(sourcePath);
+            if (parallelism > 1 && fileSize >= PARALLEL_THRESHOLD_BYTES) {
+                long targetChunkBytes = Math.max(MIN_CHUNK_BYTES, fileSize / ((long) parallelism * CHUNKS_PER_THREAD));
+                List<CsvFileSplitter.Chunk> chunks = CsvFileSplitter.split(sourcePath, targetChunkBytes);
+                if (chunks.size() > 1) {
+                    return importChunks(sourcePath, chunks, isNewFormat, parallelism);
                 }
-                writer.newLine();
             }
+
+            List<WorkoutPlan> workoutPlans = new ArrayList<>();
+            readWorkoutPlans(reader, isNewFormat, workoutPlans);
+            return workoutPlans;
         } catch (IOException e) {
-            throw new FileOperationException("Failed to write workout plans to file: " + targetPath, e);
+            throw new FileOperationException("Failed to read workout plans from file: " + sourcePath, e);
         }
     }
 
     /**
-     * Imports workout plans from a CSV file.
+     * Reads and validates the header record.
      *
-     * @param sourcePath the path to the CSV file to import
-     * @return list of imported workout plans (without IDs, as they will be generated by database)
-     * @throws IOException if an I/O error occurs
-     * @throws IllegalArgumentException if the file format is invalid
+     * @return true for the current format, false for the old six-column format
      */
-    public static List<WorkoutPlan> importWorkoutTemplates(Path sourcePath) throws FileOperationException {
-        validateFile(sourcePath);
+    private static boolean readWorkoutTemplateHeader(CsvReader reader) throws IOException {
+        if (!reader.nextRecord()) {
+            throw new ValidationException("CSV file is empty");
+        }
 
-        List<WorkoutPlan> workoutPlans = new ArrayList<>();
+        // Validate header - support both old and new formats for backward compatibility
+        boolean isOldFormat = headerMatches(reader, WORKOUT_TEMPLATE_OLD_HEADER);
+        boolean isNewFormat = headerMatches(reader, WORKOUT_TEMPLATE_HEADER);
 
-        try (BufferedReader reader = Files.newBufferedReader(sourcePath)) {
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                throw new ValidationException("CSV file is empty");
+        if (!isOldFormat && !isNewFormat) {
+            throw new ValidationException("Invalid CSV header. Expected format with fields: Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At");
+        }
+        return isNewFormat;
+    }
+
+    /**
+     * Parses every remaining record of the reader, skipping invalid ones.
+     */
+    private static void readWorkoutPlans(CsvReader reader, boolean isNewFormat, List<WorkoutPlan> workoutPlans)
+            throws IOException {
+        while (reader.nextRecord()) {
+            // Skip empty lines
+            if (reader.isBlankRecord()) {
+                continue;
             }
 
-            // Validate header - support both old and new formats for backward compatibility
-            String expectedOldHeader = "Title,Description,Difficulty,Member ID,Trainer ID,Created At";
-            String expectedNewHeader = "Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At";
-            String trimmedHeader = headerLine.trim();
-            boolean isOldFormat = trimmedHeader.equalsIgnoreCase(expectedOldHeader);
-            boolean isNewFormat = trimmedHeader.equalsIgnoreCase(expectedNewHeader);
-            
-            if (!isOldFormat && !isNewFormat) {
-                throw new ValidationException("Invalid CSV header. Expected format with fields: Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At");
+            long lineNumber = reader.getLineNumber();
+            try {
+                WorkoutPlan plan = parseWorkoutPlanRecord(reader, lineNumber, isNewFormat);
+                workoutPlans.add(plan);
+            } catch (ValidationException e) {
+                System.err.println("Skipping line " + lineNumber + ": " + e.getMessage());
+                // Continue processing other lines
             }
+        }
+    }
 
-            String line;
-            int lineNumber = 1; // Header is line 1, first data row is line 2
+    private static List<WorkoutPlan> importChunks(Path sourcePath, List<CsvFileSplitter.Chunk> chunks,
+                                                  boolean isNewFormat, int parallelism) throws IOException {
+        ChunkResult[] results = new ChunkResult[chunks.size()];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ChunkImportTask(sourcePath, chunks, isNewFormat, results, 0, chunks.size()));
+        } finally {
+            pool.shutdown();
+        }
 
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                line = line.trim();
+        // Merge in file order; the first failing chunk decides the error, as in a sequential read
+        int total = 0;
+        for (ChunkResult result : results) {
+            if (result.failure instanceof IOException) {
+                throw (IOException) result.failure;
+            }
+            if (result.failure != null) {
+                throw (RuntimeException) result.failure;
+            }
+            total += result.plans.size();
+        }
+        List<WorkoutPlan> workoutPlans = new ArrayList<>(total);
+        for (ChunkResult result : results) {
+            workoutPlans.addAll(result.plans);
+        }
+        return workoutPlans;
+    }
 
-                // Skip empty lines
-                if (line.isEmpty()) {
-                    continue;
-                }
+    /**
+     * Plans parsed from one chunk, or the exception that stopped it.
+     */
+    private static final class ChunkResult {
+        private final List<WorkoutPlan> plans;
+        private final Exception failure;
 
-                try {
-                    WorkoutPlan plan = parseWorkoutPlanLine(line, lineNumber, isNewFormat);
-                    workoutPlans.add(plan);
-                } catch (ValidationException e) {
-                    System.err.println("Skipping line " + lineNumber + ": " + e.getMessage());
-                    // Continue processing other lines
-                }
+        private ChunkResult(List<WorkoutPlan> plans, Exception failure) {
+            this.plans = plans;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Parses a range of chunks, splitting the range in half until one chunk is left.
+     */
+    private static final class ChunkImportTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path sourcePath;
+        private final List<CsvFileSplitter.Chunk> chunks;
+        private final boolean isNewFormat;
+        private final ChunkResult[] results;
+        private final int from;
+        private final int to;
+
+        private ChunkImportTask(Path sourcePath, List<CsvFileSplitter.Chunk> chunks, boolean isNewFormat,
+                                ChunkResult[] results, int from, int to) {
+            this.sourcePath = sourcePath;
+            this.chunks = chunks;
+            this.isNewFormat = isNewFormat;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkImportTask(sourcePath, chunks, isNewFormat, results, from, middle),
+                          new ChunkImportTask(sourcePath, chunks, isNewFormat, results, middle, to));
+                return;
+            }
+
+            List<WorkoutPlan> plans = new ArrayList<>();
+            try (CsvReader reader = chunks.get(from).open(sourcePath)) {
+                readWorkoutPlans(reader, isNewFormat, plans);
+                results[from] = new ChunkResult(plans, null);
+            } catch (IOException | RuntimeException e) {
+                results[from] = new ChunkResult(null, e);
             }
-        } catch (IOException e) {
-            throw new FileOperationException("Failed to read workout plans from file: " + sourcePath, e);
         }
+    }
 
-        return workoutPlans;
+    /**
+     * Opens a streaming CSV reader over a UTF-8 file. Files of
+     * {@value #MAPPED_THRESHOLD_BYTES} bytes or more are memory-mapped and
+     * decoded straight from the mapping instead of being copied through a
+     * heap buffer.
+     *
+     * @param sourcePath the file to read
+     * @return an open reader; the caller must close it
+     * @throws IOException if the file cannot be opened
+     */
+    static CsvReader openReader(Path sourcePath) throws IOException {
+        if (Files.size(sourcePath) >= MAPPED_THRESHOLD_BYTES) {
+            return new CsvReader(MappedFileReader.open(sourcePath));
+        }
+        return new CsvReader(new InputStreamReader(Files.newInputStream(sourcePath), StandardCharsets.UTF_8));
+    }
+
+    private static boolean headerMatches(CsvReader reader, String expectedHeader) {
+        String[] expected = expectedHeader.split(",");
+        if (reader.fieldCount() != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (!expected[i].equalsIgnoreCase(text(reader.field(i)))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -176,15 +344,7 @@ public final class CsvUtil {
             throw new ValidationException("Target path cannot be null");
         }
 
-        // Ensure parent directory exists
-        try {
-            Path parentDir = targetPath.getParent();
-            if (parentDir != null && !Files.exists(parentDir)) {
-                Files.createDirectories(parentDir);
-            }
-        } catch (IOException e) {
-            throw new FileOperationException("Failed to create directory for file: " + targetPath, e);
-        }
+        ensureParentDirectory(targetPath);
 
         try (BufferedWriter writer = Files.newBufferedWriter(targetPath)) {
             // Write CSV header with names if maps are provided
@@ -227,6 +387,213 @@ public final class CsvUtil {
         }
     }
 
+    /**
+     * Opens a streaming writer for the name-enriched attendance report and writes the header.
+     * Uses the same layout as {@link #exportAttendanceReport(List, Path, java.util.Map, java.util.Map)}.
+     *
+     * @param targetPath the path where the CSV file will be created
+     * @return an open writer; the caller must close it
+     * @throws FileOperationException if the file cannot be created
+     */
+    public static CsvStreamWriter<AttendanceReportRow> openAttendanceReportWriter(Path targetPath) throws FileOperationException {
+        if (targetPath == null) {
+            throw new ValidationException("Target path cannot be null");
+        }
+        return new CsvStreamWriter<>(targetPath, ATTENDANCE_REPORT_HEADER, CsvUtil::writeAttendanceReportRow);
+    }
+
+    private static void writeAttendanceReportRow(Writer writer, AttendanceReportRow row) throws IOException {
+        String className = row.getClassName() != null ? row.getClassName() : "Unknown Class";
+        String memberName = row.getMemberName() != null ? row.getMemberName() : "Unknown Member";
+
+        writer.write(String.valueOf(row.getId()));
+        writer.write(",");
+        writer.write(String.valueOf(row.getSessionId()));
+        writer.write(",");
+        writer.write(escapeCsvField(className));
+        writer.write(",");
+        writer.write(String.valueOf(row.getMemberId()));
+        writer.write(",");
+        writer.write(escapeCsvField(memberName));
+        writer.write(",");
+        writer.write(row.isAttended() ? "Yes" : "No");
+    }
+
+    /**
+     * Reads attendance records from a CSV file in the format written by
+     * {@link #exportAttendanceReport(List, Path)}, with or without the class and
+     * member name columns. Rows that cannot be parsed are returned with the
+     * reason instead of a record, so the caller can report them.
+     *
+     * @param sourcePath the path to the CSV file to import
+     * @return one entry per non-blank data row, in file order
+     * @throws FileOperationException if an I/O error occurs
+     * @throws ValidationException if the file or its header is invalid
+     */
+    public static List<AttendanceCsvRow> importAttendanceRecords(Path sourcePath) throws FileOperationException {
+        validateFile(sourcePath);
+
+        List<AttendanceCsvRow> rows = new ArrayList<>();
+
+        try (CsvReader reader = openReader(sourcePath)) {
+            if (!reader.nextRecord()) {
+                throw new ValidationException("CSV file is empty");
+            }
+
+            // Accept the plain export and the export with names
+            boolean withNames = headerMatches(reader, ATTENDANCE_REPORT_HEADER);
+            if (!withNames && !headerMatches(reader, ATTENDANCE_HEADER)) {
+                throw new ValidationException("Invalid CSV header. Expected format with fields: " + ATTENDANCE_HEADER);
+            }
+            int fieldCount = withNames ? 6 : 4;
+            int memberIndex = withNames ? 3 : 2;
+            int attendedIndex = withNames ? 5 : 3;
+
+            while (reader.nextRecord()) {
+                if (reader.isBlankRecord()) {
+                    continue;
+                }
+
+                long lineNumber = reader.getLineNumber();
+                if (reader.fieldCount() != fieldCount) {
+                    rows.add(AttendanceCsvRow.invalid(lineNumber,
+                        "Expected " + fieldCount + " fields, got " + reader.fieldCount()));
+                    continue;
+                }
+
+                try {
+                    long sessionId = parseLong(reader.field(1));
+                    long memberId = parseLong(reader.field(memberIndex));
+                    if (sessionId <= 0) {
+                        throw new ValidationException("Session ID must be greater than 0");
+                    }
+                    if (memberId <= 0) {
+                        throw new ValidationException("Member ID must be greater than 0");
+                    }
+                    boolean attended = parseAttended(reader.field(attendedIndex));
+                    rows.add(AttendanceCsvRow.parsed(lineNumber, new AttendanceRecord(0, sessionId, memberId, attended)));
+                } catch (NumberFormatException e) {
+                    rows.add(AttendanceCsvRow.invalid(lineNumber, "Invalid number format: " + e.getMessage()));
+                } catch (ValidationException e) {
+                    rows.add(AttendanceCsvRow.invalid(lineNumber, e.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to read attendance records from file: " + sourcePath, e);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Parses the Attended column, which the export writes as Yes or No.
+     */
+    private static boolean parseAttended(CharSequence field) {
+        String value = text(field);
+        if (value == null) {
+            throw new ValidationException("Attended is required");
+        }
+        if (value.equalsIgnoreCase("Yes") || value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("No") || value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+        throw new ValidationException("Attended must be Yes or No, got: " + value);
+    }
+
+    /**
+     * Writes the rows of an attendance import that were not imported, with the
+     * reason for each, so they can be corrected and imported again.
+     *
+     * @param rows the rejected or failed rows
+     * @param targetPath the path where the CSV file will be created
+     * @throws FileOperationException if an I/O error occurs
+     */
+    public static void exportAttendanceRejections(List<AttendanceImportReport.Row> rows, Path targetPath)
+            throws FileOperationException {
+        if (targetPath == null) {
+            throw new ValidationException("Target path cannot be null");
+        }
+        try (CsvStreamWriter<AttendanceImportReport.Row> writer =
+                 new CsvStreamWriter<>(targetPath, ATTENDANCE_REJECTIONS_HEADER, CsvUtil::writeAttendanceRejectionRow)) {
+            for (AttendanceImportReport.Row row : rows) {
+                writer.write(row);
+            }
+        }
+    }
+
+    private static void writeAttendanceRejectionRow(Writer writer, AttendanceImportReport.Row row) throws IOException {
+        AttendanceRecord record = row.getRecord();
+        writer.write(String.valueOf(row.getLineNumber()));
+        writer.write(",");
+        writer.write(record != null ? String.valueOf(record.getSessionId()) : "");
+        writer.write(",");
+        writer.write(record != null ? String.valueOf(record.getMemberId()) : "");
+        writer.write(",");
+        writer.write(record != null ? (record.isAttended() ? "Yes" : "No") : "");
+        writer.write(",");
+        writer.write(row.getStatus().name());
+        writer.write(",");
+        writer.write(escapeCsvField(row.getMessage()));
+    }
+
+    /**
+     * Exports a metrics snapshot, one row per metric. Latencies are in
+     * milliseconds; counters and gauges only fill in the value column.
+     *
+     * @param metrics the rows of a {@link com.gymflow.metrics.MetricsRegistry} snapshot
+     * @param targetPath the path where the CSV file will be created
+     * @throws FileOperationException if an I/O error occurs
+     */
+    public static void exportMetrics(List<MetricSnapshot> metrics, Path targetPath) throws FileOperationException {
+        if (targetPath == null) {
+            throw new ValidationException("Target path cannot be null");
+        }
+        try (CsvStreamWriter<MetricSnapshot> writer =
+                 new CsvStreamWriter<>(targetPath, METRICS_HEADER, CsvUtil::writeMetricRow)) {
+            for (MetricSnapshot metric : metrics) {
+                writer.write(metric);
+            }
+        }
+    }
+
+    private static void writeMetricRow(Writer writer, MetricSnapshot metric) throws IOException {
+        writer.write(escapeCsvField(metric.getName()));
+        writer.write(",");
+        writer.write(metric.getType().name());
+        writer.write(",");
+        if (metric.getType() == MetricSnapshot.Type.TIMER) {
+            writer.write(String.valueOf(metric.getCount()));
+            for (double millis : new double[] {metric.getMeanMillis(), metric.getP50Millis(),
+                    metric.getP90Millis(), metric.getP99Millis(), metric.getMaxMillis()}) {
+                writer.write(",");
+                writer.write(String.format(java.util.Locale.ROOT, "%.3f", millis));
+            }
+            writer.write(",");
+        } else {
+            writer.write(",,,,,,");
+            writer.write(String.valueOf(metric.getValue()));
+        }
+    }
+
+    /**
+     * Creates the parent directory of a target file if it does not exist yet.
+     *
+     * @param targetPath the file about to be written
+     * @throws FileOperationException if the directory cannot be created
+     */
+    static void ensureParentDirectory(Path targetPath) throws FileOperationException {
+        try {
+            Path parentDir = targetPath.getParent();
+            if (parentDir != null && !Files.exists(parentDir)) {
+                Files.createDirectories(parentDir);
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to create directory for file: " + targetPath, e);
+        }
+    }
+
     /**
      * Validates a file before import.
      *
@@ -247,15 +614,7 @@ public final class CsvUtil {
         }
 
         try {
-            long fileSize = Files.size(filePath);
-            if (fileSize > MAX_FILE_SIZE_BYTES) {
-                throw new ValidationException(
-                    String.format("File size (%d MB) exceeds maximum allowed size (%d MB)",
-                        fileSize / (1024 * 1024), MAX_FILE_SIZE_MB)
-                );
-            }
-
-            if (fileSize == 0) {
+            if (Files.size(filePath) == 0) {
                 throw new ValidationException("File is empty");
             }
         } catch (IOException e) {
@@ -290,29 +649,29 @@ public final class CsvUtil {
     }
 
     /**
-     * Parses a single line from a workout plan CSV file.
+     * Parses the current record of a workout plan CSV file.
      *
-     * @param line the CSV line to parse
-     * @param lineNumber the line number (for error messages)
+     * @param reader the reader positioned on the record to parse
+     * @param lineNumber the line the record starts on (for error messages)
      * @param isNewFormat whether the CSV uses the new format with all fields
      * @return a WorkoutPlan object (with id=0, as it will be generated by database)
-     * @throws ValidationException if the line format is invalid
+     * @throws ValidationException if the record format is invalid
      */
-    private static WorkoutPlan parseWorkoutPlanLine(String line, int lineNumber, boolean isNewFormat) {
-        String[] fields = parseCsvLine(line);
+    private static WorkoutPlan parseWorkoutPlanRecord(CsvReader reader, long lineNumber, boolean isNewFormat) {
+        int fieldCount = reader.fieldCount();
 
         int minFields = isNewFormat ? 13 : 5;
-        if (fields.length < minFields) {
-            throw new ValidationException("Line has insufficient fields. Expected at least " + minFields + ", got " + fields.length);
+        if (fieldCount < minFields) {
+            throw new ValidationException("Line has insufficient fields. Expected at least " + minFields + ", got " + fieldCount);
         }
 
         try {
-            String title = unescapeCsvField(fields[0]);
-            String description = unescapeCsvField(fields.length > 1 ? fields[1] : "");
-            String difficulty = unescapeCsvField(fields.length > 2 ? fields[2] : "Beginner");
-            long memberId = Long.parseLong(fields.length > 3 ? fields[3].trim() : "0");
-            long trainerId = Long.parseLong(fields.length > 4 ? fields[4].trim() : "0");
-            
+            String title = text(reader.field(0));
+            String description = text(reader.field(1));
+            String difficulty = text(reader.field(2));
+            long memberId = parseLong(reader.field(3));
+            long trainerId = parseLong(reader.field(4));
+
             // New fields (only in new format)
             String muscleGroup = null;
             String workoutType = null;
@@ -321,24 +680,25 @@ public final class CsvUtil {
             Integer targetSets = null;
             Integer targetReps = null;
             Integer restSeconds = null;
-            
-            if (isNewFormat && fields.length >= 13) {
-                muscleGroup = unescapeCsvField(fields[5]);
-                workoutType = unescapeCsvField(fields[6]);
-                durationMinutes = parseInteger(fields[7]);
-                equipmentNeeded = unescapeCsvField(fields[8]);
-                targetSets = parseInteger(fields[9]);
-                targetReps = parseInteger(fields[10]);
-                restSeconds = parseInteger(fields[11]);
+
+            if (isNewFormat) {
+                muscleGroup = text(reader.field(5));
+                workoutType = text(reader.field(6));
+                durationMinutes = parseInteger(reader.field(7));
+                equipmentNeeded = text(reader.field(8));
+                targetSets = parseInteger(reader.field(9));
+                targetReps = parseInteger(reader.field(10));
+                restSeconds = parseInteger(reader.field(11));
             }
-            
+
             LocalDateTime createdAt = null;
             int dateFieldIndex = isNewFormat ? 12 : 5;
+            String createdAtText = fieldCount > dateFieldIndex ? text(reader.field(dateFieldIndex)) : null;
 
             // Parse created date if present
-            if (fields.length > dateFieldIndex && fields[dateFieldIndex] != null && !fields[dateFieldIndex].trim().isEmpty()) {
+            if (createdAtText != null) {
                 try {
-                    createdAt = LocalDateTime.parse(fields[dateFieldIndex].trim(), DATE_TIME_FORMATTER);
+                    createdAt = LocalDateTime.parse(createdAtText, DATE_TIME_FORMATTER);
                 } catch (DateTimeParseException e) {
                     System.err.println("Warning: Could not parse date on line " + lineNumber + ", using current time");
                     createdAt = LocalDateTime.now();
@@ -348,7 +708,7 @@ public final class CsvUtil {
             }
 
             // Validate required fields
-            if (title == null || title.trim().isEmpty()) {
+            if (title == null) {
                 throw new ValidationException("Title is required");
             }
 
@@ -361,13 +721,12 @@ public final class CsvUtil {
             }
 
             // Create WorkoutPlan with all fields
-            return new WorkoutPlan(0, memberId, trainerId, title.trim(), 
-                                 description != null ? description.trim() : null,
-                                 difficulty != null ? difficulty.trim() : "Beginner",
-                                 muscleGroup != null && !muscleGroup.isEmpty() ? muscleGroup.trim() : null,
-                                 workoutType != null && !workoutType.isEmpty() ? workoutType.trim() : null,
+            return new WorkoutPlan(0, memberId, trainerId, title, description,
+                                 difficulty != null ? difficulty : "Beginner",
+                                 muscleGroup,
+                                 workoutType,
                                  durationMinutes,
-                                 equipmentNeeded != null && !equipmentNeeded.isEmpty() ? equipmentNeeded.trim() : null,
+                                 equipmentNeeded,
                                  targetSets,
                                  targetReps,
                                  restSeconds,
@@ -377,79 +736,58 @@ public final class CsvUtil {
             throw new ValidationException("Invalid number format: " + e.getMessage());
         }
     }
-    
+
     /**
-     * Parses an integer from a string, returning null if empty or invalid.
+     * Returns a field's trimmed text, or null if it is blank. Only non-blank
+     * fields are copied into a String.
      */
-    private static Integer parseInteger(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Integer.parseInt(value.trim());
-        } catch (NumberFormatException e) {
-            return null;
-        }
+    private static String text(CharSequence field) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        return start == end ? null : field.subSequence(start, end).toString();
     }
 
     /**
-     * Parses a CSV line, handling quoted fields.
-     *
-     * @param line the CSV line to parse
-     * @return array of field values
+     * Parses a long from a field without copying it.
      */
-    private static String[] parseCsvLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    // Escaped quote
-                    currentField.append('"');
-                    i++; // Skip next quote
-                } else {
-                    // Toggle quote state
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                // End of field
-                fields.add(currentField.toString());
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
-            }
+    private static long parseLong(CharSequence field) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"\"");
         }
-
-        // Add last field
-        fields.add(currentField.toString());
-
-        return fields.toArray(new String[0]);
+        return Long.parseLong(field, start, end, 10);
     }
 
     /**
-     * Unescapes a CSV field value.
-     *
-     * @param field the field value to unescape
-     * @return the unescaped field value
+     * Parses an integer from a field, returning null if empty or invalid.
      */
-    private static String unescapeCsvField(String field) {
-        if (field == null || field.trim().isEmpty()) {
+    private static Integer parseInteger(CharSequence field) {
+        int start = trimStart(field);
+        int end = trimEnd(field, start);
+        if (start == end) {
             return null;
         }
+        try {
+            return Integer.parseInt(field, start, end, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-        field = field.trim();
-
-        // Remove surrounding quotes if present
-        if (field.startsWith("\"") && field.endsWith("\"")) {
-            field = field.substring(1, field.length() - 1);
-            // Unescape double quotes
-            field = field.replace("\"\"", "\"");
+    private static int trimStart(CharSequence field) {
+        int start = 0;
+        while (start < field.length() && field.charAt(start) <= ' ') {
+            start++;
         }
+        return start;
+    }
 
-        return field.isEmpty() ? null : field;
+    private static int trimEnd(CharSequence field, int start) {
+        int end = field.length();
+        while (end > start && field.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
     }
 }
@@ -0,0 +1,133 @@
+package com.gymflow.util;
+
+import com.gymflow.exception.ValidationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a byte range of a UTF-8 file through memory-mapped windows.
+ * <p>
+ * Bytes are decoded straight from the mapped buffer into the caller's char
+ * array, so file contents never pass through an intermediate heap byte buffer.
+ * A single mapping is limited to 2 GB, so the range is mapped one window at a
+ * time and remapped as reading moves past the end of the current window; a
+ * character split across two windows is picked up from the next mapping.
+ * Malformed input is replaced rather than reported, as with
+ * {@link java.io.InputStreamReader}.
+ */
+final class MappedFileReader extends Reader {
+    /** Bytes mapped at once; well below the 2 GB limit of a single mapping. */
+    static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final long windowSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean finished;
+
+    private MappedFileReader(FileChannel channel, long start, long end, long windowSize) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens a whole file.
+     *
+     * @param path the file to read
+     * @return an open reader; the caller must close it
+     * @throws IOException if the file cannot be opened
+     */
+    static MappedFileReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new MappedFileReader(channel, 0, channel.size(), DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a byte range of a file.
+     *
+     * @param path the file to read
+     * @param start offset of the first byte to read; must not fall inside a character
+     * @param end offset just past the last byte to read
+     * @param windowSize bytes to map at once, between 4 bytes and 2 GB
+     * @return an open reader; the caller must close it
+     * @throws IOException if the file cannot be opened
+     */
+    static MappedFileReader open(Path path, long start, long end, long windowSize) throws IOException {
+        // A window must hold at least one whole UTF-8 character
+        if (start < 0 || end < start || windowSize < 4 || windowSize > Integer.MAX_VALUE) {
+            throw new ValidationException("Invalid range " + start + ".." + end + " or window size " + windowSize);
+        }
+        return new MappedFileReader(FileChannel.open(path, StandardOpenOption.READ), start, end, windowSize);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.hasRemaining()) {
+            if ((window == null || !window.hasRemaining()) && !mapNextWindow()) {
+                finish(out);
+                break;
+            }
+            boolean lastWindow = windowStart + window.limit() >= end;
+            CoderResult result = decoder.decode(window, out, lastWindow);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (window.hasRemaining() && !lastWindow) {
+                // Part of a character is left at the end of the window; remap from it
+                mapNextWindow();
+            }
+        }
+        int read = out.position() - off;
+        return read == 0 && finished ? -1 : read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private boolean mapNextWindow() throws IOException {
+        long position = window == null ? start : windowStart + window.position();
+        if (position >= end) {
+            return false;
+        }
+        long size = Math.min(windowSize, end - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        windowStart = position;
+        return true;
+    }
+
+    private void finish(CharBuffer out) {
+        if (!finished) {
+            decoder.decode(EMPTY, out, true);
+            decoder.flush(out);
+            finished = true;
+        }
+    }
+}
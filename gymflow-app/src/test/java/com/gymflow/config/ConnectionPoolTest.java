@@ -0,0 +1,95 @@
+package com.gymflow.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+    private static final String URL = "jdbc:h2:mem:pool_test;DB_CLOSE_DELAY=-1";
+
+    private ConnectionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void closingConnectionReturnsItToPool() throws SQLException {
+        pool = new ConnectionPool(URL, "sa", "", 0, 2, 1000, 1, 0, 0);
+
+        Connection first = pool.getConnection();
+        Connection physical = first.unwrap(Connection.class);
+        assertEquals(1, pool.getActiveCount());
+
+        first.close();
+        assertTrue(first.isClosed());
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+        assertThrows(SQLException.class, first::createStatement);
+
+        try (Connection second = pool.getConnection()) {
+            assertSame(physical, second.unwrap(Connection.class));
+        }
+        assertEquals(1, pool.getTotalCount());
+    }
+
+    @Test
+    void borrowTimesOutWhenPoolExhausted() throws SQLException {
+        pool = new ConnectionPool(URL, "sa", "", 0, 1, 100, 1, 0, 0);
+
+        try (Connection held = pool.getConnection()) {
+            assertNotNull(held);
+            assertThrows(SQLTimeoutException.class, pool::getConnection);
+        }
+
+        try (Connection conn = pool.getConnection()) {
+            assertFalse(conn.isClosed());
+        }
+    }
+
+    @Test
+    void returnedConnectionIsResetToAutoCommit() throws SQLException {
+        pool = new ConnectionPool(URL, "sa", "", 0, 1, 1000, 1, 0, 0);
+
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+        }
+
+        try (Connection conn = pool.getConnection()) {
+            assertTrue(conn.getAutoCommit());
+        }
+    }
+
+    @Test
+    void expiredConnectionIsReplaced() throws Exception {
+        pool = new ConnectionPool(URL, "sa", "", 0, 1, 1000, 1, 50, 0);
+
+        Connection physical;
+        try (Connection conn = pool.getConnection()) {
+            physical = conn.unwrap(Connection.class);
+        }
+        Thread.sleep(100);
+
+        try (Connection conn = pool.getConnection()) {
+            assertNotSame(physical, conn.unwrap(Connection.class));
+        }
+        assertTrue(physical.isClosed());
+    }
+
+    @Test
+    void closedPoolRejectsBorrowing() {
+        pool = new ConnectionPool(URL, "sa", "", 0, 1, 1000, 1, 0, 0);
+        pool.close();
+
+        assertTrue(pool.isClosed());
+        assertThrows(SQLException.class, pool::getConnection);
+    }
+}
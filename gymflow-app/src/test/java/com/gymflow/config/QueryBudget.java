@@ -0,0 +1,25 @@
+package com.gymflow.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a test method may execute, enforced by
+ * {@link QueryBudgetExtension}. Only the test method body is counted, not
+ * {@code @BeforeEach} or {@code @BeforeAll} setup.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    /**
+     * @return the maximum number of statements
+     */
+    int value();
+
+    /**
+     * @return name of the operation under test, used in the failure message
+     */
+    String operation() default "";
+}
@@ -0,0 +1,59 @@
+package com.gymflow.config;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Fails a test annotated with {@link QueryBudget} if its body executes more
+ * SQL statements than the budget allows, listing every statement it ran.
+ * Register it with {@code @ExtendWith(QueryBudgetExtension.class)}.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget != null) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), StatementCounter.open(operationName(context, budget)));
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        StatementCounter.Scope scope = context.getStore(NAMESPACE)
+            .remove(context.getUniqueId(), StatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        int limit = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+        if (scope.getCount() > limit) {
+            throw new AssertionFailedError(describe(scope, limit));
+        }
+    }
+
+    private static String operationName(ExtensionContext context, QueryBudget budget) {
+        Method method = context.getRequiredTestMethod();
+        return budget.operation().isEmpty() ? method.getName() : budget.operation();
+    }
+
+    private static String describe(StatementCounter.Scope scope, int limit) {
+        StringBuilder message = new StringBuilder()
+            .append(scope.getOperation()).append(" executed ").append(scope.getCount())
+            .append(" statements, budget is ").append(limit).append(':');
+        List<String> statements = scope.getStatements();
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ")
+                .append(statements.get(i).strip().replaceAll("\\s+", " "));
+        }
+        return message.toString();
+    }
+}
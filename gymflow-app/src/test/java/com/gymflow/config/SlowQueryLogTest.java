@@ -0,0 +1,150 @@
+package com.gymflow.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlowQueryLog.
+ */
+class SlowQueryLogTest {
+    private static DatabaseConnection dbConnection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @Test
+    void testSlowStatement_LogsSqlBindsAndPlan() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(0, file, 1_000_000, 1, false)) {
+            runQuery(log, 2);
+        }
+
+        String text = Files.readString(tempDir.resolve("slow.log"));
+        assertTrue(text.contains("executeQuery"), text);
+        assertTrue(text.contains("SQL:    SELECT name FROM roles WHERE id = ?"), text);
+        assertTrue(text.contains("Binds:  ?1=2"), text);
+        assertTrue(text.contains("Plan:"), text);
+        assertTrue(text.contains("ROLES"), "EXPLAIN output should name the table: " + text);
+    }
+
+    @Test
+    void testRedactedBinds_LogTypeOnly() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(0, file, 1_000_000, 1, true);
+             Connection conn = log.wrap(dbConnection.getConnection());
+             PreparedStatement stmt = conn.prepareStatement("SELECT id FROM users WHERE username = ?")) {
+            stmt.setString(1, "secret_username");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertFalse(rs.next());
+            }
+        }
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("?1=<String>"), text);
+        assertFalse(text.contains("secret_username"), "Redacted values must not reach the log");
+    }
+
+    @Test
+    void testBatch_LogsRowCount() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(0, file, 1_000_000, 1, false);
+             Connection conn = log.wrap(dbConnection.getConnection());
+             PreparedStatement stmt = conn.prepareStatement("UPDATE roles SET name = name WHERE id = ?")) {
+            for (long id = 1; id <= 3; id++) {
+                stmt.setLong(1, id);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("executeBatch"), text);
+        assertTrue(text.contains("Batch:  3 rows"), text);
+        assertTrue(text.contains("?1=3"), "Binds of the last row should be shown: " + text);
+    }
+
+    @Test
+    void testStatementInTransaction_ExplainLeavesTransactionUsable() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(0, file, 1_000_000, 1, false);
+             Connection conn = log.wrap(dbConnection.getConnection())) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO roles (name) VALUES (?)")) {
+                    stmt.setString(1, "SLOW_LOG_ROLE");
+                    assertEquals(1, stmt.executeUpdate());
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM roles WHERE name = ?")) {
+                    stmt.setString(1, "SLOW_LOG_ROLE");
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        assertTrue(rs.next());
+                        assertEquals(1, rs.getInt(1), "The insert should still be visible in the transaction");
+                    }
+                }
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+        }
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("SQL:    INSERT INTO roles (name) VALUES (?)"), text);
+        assertFalse(text.contains("EXPLAIN failed"), text);
+    }
+
+    @Test
+    void testFastStatement_NotLogged() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(60_000, file, 1_000_000, 1, false)) {
+            runQuery(log, 1);
+        }
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testRotation_KeepsConfiguredNumberOfFiles() throws Exception {
+        Path file = tempDir.resolve("slow.log");
+        try (SlowQueryLog log = new SlowQueryLog(0, file, 2_000, 2, false)) {
+            for (int i = 0; i < 20; i++) {
+                runQuery(log, 1);
+            }
+        }
+
+        assertTrue(Files.exists(tempDir.resolve("slow.log.0")));
+        assertTrue(Files.exists(tempDir.resolve("slow.log.1")));
+        assertFalse(Files.exists(tempDir.resolve("slow.log.2")));
+    }
+
+    @Test
+    void testNegativeThreshold_Disabled() {
+        assertFalse(new SlowQueryLog(-1, tempDir.resolve("slow.log"), 1_000, 1, true).isEnabled());
+        assertTrue(new SlowQueryLog(0, tempDir.resolve("slow.log"), 1_000, 1, true).isEnabled());
+    }
+
+    private static void runQuery(SlowQueryLog log, long roleId) throws Exception {
+        try (Connection conn = log.wrap(dbConnection.getConnection());
+             PreparedStatement stmt = conn.prepareStatement("SELECT name FROM roles WHERE id = ?")) {
+            stmt.setLong(1, roleId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+            }
+        }
+    }
+}
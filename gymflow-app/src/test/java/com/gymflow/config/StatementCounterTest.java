@@ -0,0 +1,105 @@
+package com.gymflow.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StatementCounter.
+ */
+class StatementCounterTest {
+    private static DatabaseConnection dbConnection;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @Test
+    void testScope_CountsEachExecution() throws Exception {
+        try (StatementCounter.Scope scope = StatementCounter.open("roles")) {
+            try (Connection conn = dbConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement("SELECT name FROM roles WHERE id = ?")) {
+                for (long id = 1; id <= 3; id++) {
+                    stmt.setLong(1, id);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        assertTrue(rs.next());
+                    }
+                }
+                assertSame(conn, stmt.getConnection());
+            }
+            try (Connection conn = dbConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("SELECT COUNT(*) FROM roles");
+            }
+
+            assertEquals(4, scope.getCount());
+            assertEquals("SELECT name FROM roles WHERE id = ?", scope.getStatements().get(0));
+            assertEquals("SELECT COUNT(*) FROM roles", scope.getStatements().get(3));
+        }
+    }
+
+    @Test
+    void testScope_BatchCountsOnce() throws Exception {
+        try (StatementCounter.Scope scope = StatementCounter.open("batch");
+             Connection conn = dbConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement("UPDATE roles SET name = name WHERE id = ?")) {
+                for (long id = 1; id <= 3; id++) {
+                    stmt.setLong(1, id);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            conn.rollback();
+
+            assertEquals(List.of("UPDATE roles SET name = name WHERE id = ?"), scope.getStatements());
+        }
+    }
+
+    @Test
+    void testNestedScopes_BothCount() throws Exception {
+        try (StatementCounter.Scope outer = StatementCounter.open("outer")) {
+            try (StatementCounter.Scope inner = StatementCounter.open("inner");
+                 Connection conn = dbConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("SELECT 1");
+                assertEquals(1, inner.getCount());
+            }
+            try (Connection conn = dbConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("SELECT 2");
+            }
+            assertEquals(2, outer.getCount());
+        }
+    }
+
+    @Test
+    void testNoScope_ConnectionIsNotCounted() throws Exception {
+        assertFalse(StatementCounter.isCounting());
+        try (Connection plain = dbConnection.getConnection()) {
+            try (StatementCounter.Scope scope = StatementCounter.open("wrapped");
+                 Connection counted = dbConnection.getConnection()) {
+                assertTrue(StatementCounter.isCounting());
+                try (Statement stmt = plain.createStatement()) {
+                    stmt.execute("SELECT 1");
+                }
+                assertEquals(0, scope.getCount(), "A connection borrowed outside the scope is not counted");
+                try (Statement stmt = counted.createStatement()) {
+                    stmt.execute("SELECT 2");
+                }
+                assertEquals(1, scope.getCount());
+            }
+        }
+        assertFalse(StatementCounter.isCounting());
+    }
+}
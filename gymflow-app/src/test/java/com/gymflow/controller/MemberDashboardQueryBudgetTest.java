@@ -0,0 +1,162 @@
+package com.gymflow.controller;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.config.QueryBudget;
+import com.gymflow.config.QueryBudgetExtension;
+import com.gymflow.dao.UserDaoImpl;
+import com.gymflow.model.AttendanceHistoryRow;
+import com.gymflow.model.ClassSession;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.service.AttendanceServiceImpl;
+import com.gymflow.service.ClassScheduleServiceImpl;
+import com.gymflow.service.WorkoutCompletionServiceImpl;
+import com.gymflow.service.WorkoutServiceImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query budget for loading the member dashboard. The budget does not depend on
+ * the number of rows shown, so a per-row lookup in the class, workout or
+ * history tables makes this test fail.
+ */
+@ExtendWith(QueryBudgetExtension.class)
+class MemberDashboardQueryBudgetTest {
+    private static final long TRAINER_ID = 210_000;
+    private static final long MEMBER_ID = 210_001;
+    private static final long FIRST_SESSION_ID = 210_010;
+    private static final long FIRST_PLAN_ID = 210_020;
+    private static final int SESSION_COUNT = 6;
+
+    private static DatabaseConnection dbConnection;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+        deleteTestData();
+
+        try (Connection conn = dbConnection.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("""
+                    INSERT INTO users (id, role_id, username, password_hash, full_name, email)
+                    VALUES (?, ?, ?, 'x', ?, ?)
+                    """)) {
+                Object[][] users = {
+                    {TRAINER_ID, 2, "budget_trainer", "Budget Trainer"},
+                    {MEMBER_ID, 1, "budget_member", "Budget Member"}
+                };
+                for (Object[] user : users) {
+                    stmt.setLong(1, (Long) user[0]);
+                    stmt.setInt(2, (Integer) user[1]);
+                    stmt.setString(3, (String) user[2]);
+                    stmt.setString(4, (String) user[3]);
+                    stmt.setString(5, user[2] + "@test.com");
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement plan = conn.prepareStatement("""
+                    INSERT INTO workout_plans (id, member_id, trainer_id, title, difficulty)
+                    VALUES (?, NULL, ?, ?, 'Beginner')
+                    """);
+                 PreparedStatement session = conn.prepareStatement("""
+                    INSERT INTO class_sessions (id, trainer_id, title, schedule_timestamp, capacity, workout_plan_id)
+                    VALUES (?, ?, ?, DATEADD('DAY', ?, CURRENT_TIMESTAMP), 10, ?)
+                    """);
+                 PreparedStatement attendance = conn.prepareStatement(
+                    "INSERT INTO attendance_records (session_id, member_id, attended) VALUES (?, ?, FALSE)")) {
+                for (int i = 0; i < SESSION_COUNT; i++) {
+                    plan.setLong(1, FIRST_PLAN_ID + i);
+                    plan.setLong(2, TRAINER_ID);
+                    plan.setString(3, "Budget Plan " + i);
+                    plan.executeUpdate();
+
+                    session.setLong(1, FIRST_SESSION_ID + i);
+                    session.setLong(2, TRAINER_ID);
+                    session.setString(3, "Budget Class " + i);
+                    session.setInt(4, i + 1);
+                    session.setLong(5, FIRST_PLAN_ID + i);
+                    session.executeUpdate();
+
+                    // Registered for every other class
+                    if (i % 2 == 0) {
+                        attendance.setLong(1, FIRST_SESSION_ID + i);
+                        attendance.setLong(2, MEMBER_ID);
+                        attendance.executeUpdate();
+                    }
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDownDatabase() throws SQLException {
+        deleteTestData();
+    }
+
+    @Test
+    @QueryBudget(value = 8, operation = "Member dashboard load")
+    void testInitialLoad_StaysWithinBudget() throws Exception {
+        // The same loads MemberDashboardController.initialize() runs
+        MemberDashboardLoader loader = newLoader();
+        MemberClassSchedule schedule = loader.loadClassSchedule(MEMBER_ID);
+        MemberWorkoutPlans workouts = loader.loadWorkoutPlans(MEMBER_ID);
+        List<AttendanceHistoryRow> history = loader.loadAttendanceHistory(MEMBER_ID, null);
+
+        int shown = 0;
+        for (ClassSession session : schedule.getSessions()) {
+            if (session.getTrainerId() != TRAINER_ID) {
+                continue;
+            }
+            long index = session.getId() - FIRST_SESSION_ID;
+            assertEquals("Budget Trainer", schedule.getTrainerName(session.getTrainerId()));
+            assertEquals("Budget Plan " + index, schedule.getWorkoutPlanTitle(session.getWorkoutPlanId()));
+            assertEquals(index % 2 == 0, schedule.isRegistered(session.getId()));
+            shown++;
+        }
+        assertEquals(SESSION_COUNT, shown);
+        // Plans arrive through the classes the member registered for
+        assertEquals(SESSION_COUNT / 2, workouts.getPlans().size());
+        for (WorkoutPlan plan : workouts.getPlans()) {
+            long index = plan.getId() - FIRST_PLAN_ID;
+            assertEquals("Budget Class " + index, workouts.getSourceClass(plan.getId()).getTitle());
+            assertFalse(workouts.isCompleted(plan.getId()));
+        }
+        assertTrue(history.isEmpty());
+    }
+
+    @Test
+    @QueryBudget(value = 3, operation = "Class schedule without member")
+    void testClassSchedule_NonMemberSkipsRegistrations() throws Exception {
+        MemberClassSchedule schedule = newLoader().loadClassSchedule(0);
+
+        assertFalse(schedule.getSessions().isEmpty());
+        assertFalse(schedule.isRegistered(FIRST_SESSION_ID));
+    }
+
+    private static MemberDashboardLoader newLoader() {
+        return new MemberDashboardLoader(new ClassScheduleServiceImpl(), new WorkoutServiceImpl(),
+            new AttendanceServiceImpl(), new WorkoutCompletionServiceImpl(), new UserDaoImpl());
+    }
+
+    private static void deleteTestData() throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM attendance_records WHERE member_id = " + MEMBER_ID);
+            stmt.execute("DELETE FROM class_sessions WHERE trainer_id = " + TRAINER_ID);
+            stmt.execute("DELETE FROM workout_plans WHERE trainer_id = " + TRAINER_ID);
+            stmt.execute("DELETE FROM users WHERE id IN (%d, %d)".formatted(TRAINER_ID, MEMBER_ID));
+        }
+    }
+}
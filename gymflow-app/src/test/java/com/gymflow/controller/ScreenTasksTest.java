@@ -0,0 +1,125 @@
+package com.gymflow.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ScreenTasks, with callbacks queued instead of sent to the FX thread.
+ */
+class ScreenTasksTest {
+    private List<Runnable> fxQueue;
+    private ScreenTasks screenTasks;
+    private List<Object> delivered;
+
+    @BeforeEach
+    void setUp() {
+        fxQueue = new ArrayList<>();
+        screenTasks = new ScreenTasks("TestController", fxQueue::add);
+        delivered = new ArrayList<>();
+    }
+
+    @Test
+    void testResult_DeliveredOnFxThread() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        screenTasks.run("loadUsers", load, delivered::add, delivered::add);
+
+        load.complete("users");
+        assertTrue(delivered.isEmpty());
+        runFxQueue();
+
+        assertEquals(List.of("users"), delivered);
+    }
+
+    @Test
+    void testFailure_UnwrapsCompletionException() {
+        IllegalStateException failure = new IllegalStateException("Database unavailable");
+        CompletableFuture<String> source = new CompletableFuture<>();
+        screenTasks.run("loadUsers", source.thenApply(value -> {
+            throw failure;
+        }), delivered::add, delivered::add);
+
+        source.complete("users");
+        runFxQueue();
+
+        assertEquals(List.of(failure), delivered);
+    }
+
+    @Test
+    void testNewLoad_CancelsUnfinishedLoadWithSameName() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<String> other = new CompletableFuture<>();
+        screenTasks.run("loadUsers", first, delivered::add, delivered::add);
+        screenTasks.run("loadEquipment", other, delivered::add, delivered::add);
+        screenTasks.run("loadUsers", second, delivered::add, delivered::add);
+
+        assertTrue(first.isCancelled());
+        assertFalse(other.isCancelled());
+        second.complete("newer");
+        runFxQueue();
+
+        assertEquals(List.of("newer"), delivered);
+    }
+
+    @Test
+    void testCancelAll_CancelsLoadsAndTheirInputs() {
+        CompletableFuture<Integer> members = new CompletableFuture<>();
+        CompletableFuture<Integer> trainers = new CompletableFuture<>();
+        CompletableFuture<Void> stats = CompletableFuture.allOf(members, trainers);
+        screenTasks.run("loadSystemStats", stats, delivered::add, delivered::add, members, trainers);
+
+        screenTasks.cancelAll();
+
+        assertTrue(stats.isCancelled());
+        assertTrue(members.isCancelled());
+        assertTrue(trainers.isCancelled());
+        runFxQueue();
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void testReplacedLoad_CancelsItsInputs() {
+        CompletableFuture<Integer> members = new CompletableFuture<>();
+        CompletableFuture<Void> stats = CompletableFuture.allOf(members);
+        screenTasks.run("loadSystemStats", stats, delivered::add, delivered::add, members);
+
+        screenTasks.run("loadSystemStats", new CompletableFuture<Void>(), delivered::add, delivered::add);
+
+        assertTrue(members.isCancelled());
+    }
+
+    @Test
+    void testLoadStartedAfterCancelAll_IsCancelled() {
+        screenTasks.cancelAll();
+
+        CompletableFuture<String> load = new CompletableFuture<>();
+        screenTasks.run("loadUsers", load, delivered::add, delivered::add);
+
+        assertTrue(load.isCancelled());
+    }
+
+    @Test
+    void testScreenClosedBeforeDelivery_DropsResult() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        screenTasks.run("loadUsers", load, delivered::add, delivered::add);
+
+        // Finished, but the screen closes before the FX thread gets to it
+        load.complete("users");
+        screenTasks.cancelAll();
+        runFxQueue();
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    private void runFxQueue() {
+        List<Runnable> queued = new ArrayList<>(fxQueue);
+        fxQueue.clear();
+        queued.forEach(Runnable::run);
+    }
+}
@@ -13,6 +13,7 @@ import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -145,6 +146,21 @@ class AttendanceDaoTest {
         assertTrue(result.get().isAttended(), "Should be updated to attended");
     }
 
+    @Test
+    void testMarkAttendance_RepeatedCalls_KeepSingleRecord() {
+        Optional<AttendanceRecord> first = attendanceDao.markAttendance(sessionId, memberId, false);
+        Optional<AttendanceRecord> second = attendanceDao.markAttendance(sessionId, memberId, true);
+        Optional<AttendanceRecord> third = attendanceDao.markAttendance(sessionId, memberId, false);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(third.isPresent());
+        assertEquals(first.get().getId(), second.get().getId(), "Upsert should update the existing row");
+        assertEquals(first.get().getId(), third.get().getId(), "Upsert should update the existing row");
+        assertFalse(third.get().isAttended());
+        assertEquals(1, attendanceDao.findBySessionId(sessionId).size());
+    }
+
     @Test
     void testFindBySessionId_Success() {
         attendanceDao.markAttendance(sessionId, memberId, true);
@@ -165,6 +181,16 @@ class AttendanceDaoTest {
         assertTrue(records.stream().anyMatch(r -> r.getSessionId() == sessionId));
     }
 
+    @Test
+    void testFindSessionIdsByMemberId_Success() {
+        attendanceDao.markAttendance(sessionId, memberId, false);
+
+        Set<Long> sessionIds = attendanceDao.findSessionIdsByMemberId(memberId);
+
+        assertTrue(sessionIds.contains(sessionId));
+        assertEquals(attendanceDao.findByMemberId(memberId).size(), sessionIds.size());
+    }
+
     @Test
     void testFindById_Success() {
         Optional<AttendanceRecord> created = attendanceDao.markAttendance(sessionId, memberId, true);
@@ -209,5 +235,57 @@ class AttendanceDaoTest {
         assertFalse(all.isEmpty());
         assertTrue(all.stream().anyMatch(r -> r.getSessionId() == sessionId && r.getMemberId() == memberId));
     }
-}
 
+    @Test
+    void testStreamForReport_ResolvesNamesForEveryRecord() throws Exception {
+        attendanceDao.markAttendance(sessionId, memberId, true);
+
+        List<com.gymflow.model.AttendanceReportRow> streamed = new java.util.ArrayList<>();
+        long count = attendanceDao.streamForReport(2, streamed::add);
+
+        com.gymflow.model.AttendanceReportRow row = streamed.stream()
+            .filter(r -> r.getSessionId() == sessionId && r.getMemberId() == memberId)
+            .findFirst().orElseThrow();
+        assertEquals("Test Class", row.getClassName());
+        assertEquals("Test Member", row.getMemberName());
+        assertTrue(row.isAttended());
+        assertEquals(streamed.size(), count);
+        assertEquals(attendanceDao.countAll(), count);
+    }
+
+    @Test
+    void testStreamForReport_HandlerFailureStopsStream() {
+        attendanceDao.markAttendance(sessionId, memberId, true);
+
+        java.io.IOException failure = assertThrows(java.io.IOException.class, () ->
+            attendanceDao.streamForReport(0, row -> {
+                throw new java.io.IOException("disk full");
+            }));
+        assertEquals("disk full", failure.getMessage());
+    }
+
+    @Test
+    void testCountBySession_CountsRegisteredAndAttended() {
+        attendanceDao.markAttendance(sessionId, memberId, true);
+        attendanceDao.markAttendance(sessionId, trainerId, false);
+
+        assertEquals(2, attendanceDao.countBySession(sessionId));
+        assertEquals(1, attendanceDao.countAttendedBySession(sessionId));
+    }
+
+    @Test
+    void testCountsBySessionIds_IncludesEmptySessions() {
+        com.gymflow.model.ClassSession other = new com.gymflow.model.ClassSession(
+            0, trainerId, "Other Class", LocalDateTime.now().plusDays(2), 10, null
+        );
+        long otherSessionId = classSessionDao.create(other).orElseThrow().getId();
+        attendanceDao.markAttendance(sessionId, memberId, true);
+        attendanceDao.markAttendance(sessionId, trainerId, false);
+
+        java.util.Map<Long, Integer> counts = attendanceDao.countsBySessionIds(List.of(sessionId, otherSessionId));
+
+        assertEquals(2, counts.size());
+        assertEquals(2, counts.get(sessionId));
+        assertEquals(0, counts.get(otherSessionId));
+    }
+}
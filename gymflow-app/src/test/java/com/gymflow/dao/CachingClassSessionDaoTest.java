@@ -0,0 +1,109 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.config.StatementCounter;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.ClassSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the upcoming-session cache in CachingClassSessionDao.
+ */
+class CachingClassSessionDaoTest {
+    private ClassSessionDao classSessionDao;
+    private ClassSession session;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @BeforeEach
+    void setUp() {
+        classSessionDao = new CachingClassSessionDao(new ClassSessionDaoImpl(),
+            new EntityCache<>("test.classSessions", 100, Duration.ZERO, value -> value),
+            new UpcomingSessionCache("test.upcomingSessions", Duration.ofMinutes(1), value -> value));
+        session = classSessionDao.create(new ClassSession(0, 2, "Cached Class",
+            LocalDateTime.now().plusDays(1), 10)).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        classSessionDao.delete(session.getId());
+    }
+
+    @Test
+    void testFindUpcoming_SecondReadSkipsDatabase() throws Exception {
+        int count = classSessionDao.findUpcoming().size();
+
+        try (StatementCounter.Scope scope = StatementCounter.open("cached findUpcoming")) {
+            assertEquals(count, classSessionDao.findUpcoming().size());
+            assertEquals(count, classSessionDao.countUpcoming());
+            assertEquals(0, scope.getCount());
+        }
+    }
+
+    @Test
+    void testFindUpcoming_FailedLoadIsNotCached() throws Exception {
+        boolean[] failNext = {true};
+        ClassSessionDao flaky = new CachingClassSessionDao(new ClassSessionDaoImpl() {
+                @Override
+                public List<ClassSession> findUpcoming() throws DataAccessException {
+                    if (failNext[0]) {
+                        failNext[0] = false;
+                        throw new DataAccessException("Simulated failure");
+                    }
+                    return super.findUpcoming();
+                }
+            },
+            new EntityCache<>("test.flakyClassSessions", 100, Duration.ZERO, value -> value),
+            new UpcomingSessionCache("test.flakyUpcomingSessions", Duration.ofMinutes(1), value -> value));
+
+        assertThrows(DataAccessException.class, flaky::findUpcoming);
+        assertTrue(flaky.findUpcoming().stream().anyMatch(s -> s.getId() == session.getId()),
+            "The next read should go to the database instead of serving the failure");
+    }
+
+    @Test
+    void testCountUpcoming_ColdCacheRunsOneCount() {
+        try (StatementCounter.Scope scope = StatementCounter.open("cold countUpcoming")) {
+            assertTrue(classSessionDao.countUpcoming() >= 1);
+            assertEquals(1, scope.getCount());
+        }
+    }
+
+    @Test
+    void testCreate_InvalidatesUpcomingSessions() {
+        int count = classSessionDao.countUpcoming();
+
+        ClassSession added = classSessionDao.create(new ClassSession(0, 2, "Added Class",
+            LocalDateTime.now().plusDays(2), 10)).orElseThrow();
+        try {
+            assertEquals(count + 1, classSessionDao.countUpcoming());
+        } finally {
+            classSessionDao.delete(added.getId());
+        }
+        assertEquals(count, classSessionDao.countUpcoming());
+    }
+
+    @Test
+    void testUpdate_InvalidatesUpcomingSessions() throws Exception {
+        classSessionDao.findUpcoming();
+
+        session.setScheduleTimestamp(LocalDateTime.now().minusDays(1));
+        assertTrue(classSessionDao.update(session));
+
+        assertTrue(classSessionDao.findUpcoming().stream().noneMatch(s -> s.getId() == session.getId()));
+    }
+}
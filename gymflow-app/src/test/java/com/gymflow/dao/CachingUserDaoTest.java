@@ -0,0 +1,97 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.config.StatementCounter;
+import com.gymflow.model.Role;
+import com.gymflow.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for CachingUserDao against the application database.
+ */
+class CachingUserDaoTest {
+    private EntityCache<User> cache;
+    private UserDao userDao;
+    private User user;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = new EntityCache<>("test.users", 100, Duration.ZERO, value -> value);
+        userDao = new CachingUserDao(new UserDaoImpl(), cache);
+        String username = "cache_user_" + System.nanoTime();
+        user = userDao.create(username, "x", "Cached User", username + "@test.com", Role.MEMBER).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        userDao.delete(user.getId());
+    }
+
+    @Test
+    void testFindById_SecondLookupSkipsDatabase() throws Exception {
+        assertEquals("Cached User", userDao.findById(user.getId()).orElseThrow().getFullName());
+
+        try (StatementCounter.Scope scope = StatementCounter.open("cached findById")) {
+            assertEquals("Cached User", userDao.findById(user.getId()).orElseThrow().getFullName());
+            assertEquals(0, scope.getCount());
+        }
+    }
+
+    @Test
+    void testUpdate_InvalidatesCachedUser() throws Exception {
+        userDao.findById(user.getId());
+
+        assertTrue(userDao.update(user.getId(), "Renamed User", null, null));
+
+        assertEquals("Renamed User", userDao.findById(user.getId()).orElseThrow().getFullName());
+    }
+
+    @Test
+    void testDelete_InvalidatesCachedUser() throws Exception {
+        userDao.findById(user.getId());
+
+        assertTrue(userDao.delete(user.getId()));
+
+        assertTrue(userDao.findById(user.getId()).isEmpty());
+    }
+
+    @Test
+    void testFindByIds_LoadsOnlyUncachedUsers() throws Exception {
+        userDao.findById(user.getId());
+        User admin = userDao.findByUsername("admin_demo").orElseThrow();
+
+        try (StatementCounter.Scope scope = StatementCounter.open("findByIds")) {
+            List<User> users = userDao.findByIds(List.of(user.getId(), admin.getId(), user.getId()));
+            assertEquals(2, users.size());
+            assertEquals(1, scope.getCount(), "Only the uncached user should be queried");
+        }
+        try (StatementCounter.Scope scope = StatementCounter.open("findByIds cached")) {
+            assertEquals(2, userDao.findByIds(List.of(user.getId(), admin.getId())).size());
+            assertEquals(0, scope.getCount());
+        }
+    }
+
+    @Test
+    void testFindByIds_SkipsNullIds() throws Exception {
+        List<User> users = userDao.findByIds(Arrays.asList(null, user.getId(), null));
+
+        assertEquals(1, users.size());
+        assertEquals(user.getId(), users.get(0).getId());
+    }
+}
@@ -201,7 +201,7 @@ class ClassSessionDaoTest {
     }
 
     @Test
-    void testFindUpcoming_Success() {
+    void testFindUpcoming_Success() throws Exception {
         ClassSession past = new ClassSession(0, trainerId, "Past Class",
             LocalDateTime.now().minusDays(1), 10, null);
         ClassSession future = new ClassSession(0, trainerId, "Future Class",
@@ -216,6 +216,14 @@ class ClassSessionDaoTest {
         assertFalse(upcoming.stream().anyMatch(s -> s.getTitle().equals("Past Class")));
     }
 
+    @Test
+    void testCountUpcoming_MatchesFindUpcoming() throws Exception {
+        classSessionDao.create(new ClassSession(0, trainerId, "Counted Class",
+            LocalDateTime.now().plusDays(1), 10, null));
+
+        assertEquals(classSessionDao.findUpcoming().size(), classSessionDao.countUpcoming());
+    }
+
     @Test
     void testUpdate_Success() {
         ClassSession session = new ClassSession(0, trainerId, "Original",
@@ -0,0 +1,170 @@
+package com.gymflow.dao;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the DAO lookup queries and checks that each one is served by
+ * an index rather than a full table scan.
+ */
+class DaoQueryPlanTest {
+    private static DatabaseConnection dbConnection;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @Test
+    void attendanceBySessionUsesIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, session_id, member_id, attended
+            FROM attendance_records
+            WHERE session_id = 1
+            ORDER BY id ASC
+            """, null);
+    }
+
+    @Test
+    void attendanceBySessionAndMemberUsesUniqueIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, session_id, member_id, attended
+            FROM attendance_records
+            WHERE session_id = 1 AND member_id = 1
+            """, "UQ_ATTENDANCE_SESSION_MEMBER");
+    }
+
+    @Test
+    void attendanceByMemberUsesIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, session_id, member_id, attended
+            FROM attendance_records
+            WHERE member_id = 1
+            ORDER BY id DESC
+            """, null);
+    }
+
+    @Test
+    void workoutPlansByMemberAndTrainerUseIndexes() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, title FROM workout_plans
+            WHERE member_id = 1
+            ORDER BY created_at DESC
+            """, null);
+        assertUsesIndex("""
+            SELECT id, title FROM workout_plans
+            WHERE trainer_id = 2
+            ORDER BY created_at DESC
+            """, null);
+    }
+
+    @Test
+    void classSessionsByTrainerUsesIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, trainer_id, title, schedule_timestamp, capacity, workout_plan_id
+            FROM class_sessions
+            WHERE trainer_id = 2
+            ORDER BY schedule_timestamp ASC
+            """, null);
+    }
+
+    @Test
+    void upcomingClassSessionsUsesScheduleIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT id, trainer_id, title, schedule_timestamp, capacity, workout_plan_id
+            FROM class_sessions
+            WHERE schedule_timestamp > CURRENT_TIMESTAMP
+            ORDER BY schedule_timestamp ASC
+            """, "IDX_CLASS_SESSIONS_SCHEDULE");
+    }
+
+    @Test
+    void workoutCompletionLookupsUseIndexes() throws SQLException {
+        assertUsesIndex("""
+            SELECT id FROM workout_completions
+            WHERE workout_plan_id = 1 AND member_id = 1
+            """, null);
+        assertUsesIndex("""
+            SELECT id, workout_plan_id, member_id, class_session_id, completed_at, notes
+            FROM workout_completions
+            WHERE member_id = 1
+            ORDER BY completed_at DESC
+            """, null);
+        assertUsesIndex("""
+            SELECT id, workout_plan_id, member_id, class_session_id, completed_at, notes
+            FROM workout_completions
+            WHERE workout_plan_id = 1
+            ORDER BY completed_at DESC
+            """, null);
+    }
+
+    @Test
+    void usersByRoleUsesIndex() throws SQLException {
+        assertUsesIndex("""
+            SELECT u.id, u.username, r.name as role_name
+            FROM users u
+            JOIN roles r ON u.role_id = r.id
+            WHERE r.name = 'MEMBER'
+            """, null);
+    }
+
+    @Test
+    void uniqueConstraintRejectsDuplicateRegistration() throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM workout_completions");
+            stmt.execute("DELETE FROM attendance_records");
+            long sessionId = firstId(stmt, "SELECT id FROM class_sessions LIMIT 1");
+            long memberId = firstId(stmt, "SELECT id FROM users LIMIT 1");
+
+            String insert = "INSERT INTO attendance_records (session_id, member_id, attended) VALUES ("
+                + sessionId + ", " + memberId + ", FALSE)";
+            stmt.execute(insert);
+            assertThrows(SQLException.class, () -> stmt.execute(insert));
+
+            stmt.execute("DELETE FROM attendance_records");
+        }
+    }
+
+    private static long firstId(Statement stmt, String sql) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(sql)) {
+            assertTrue(rs.next(), "Seed data should provide a row for: " + sql);
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Asserts that no table in the plan is read with a full scan and, when
+     * given, that the named index appears in the plan.
+     */
+    private static void assertUsesIndex(String sql, String indexName) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("tableScan"), "Expected index lookup but got:\n" + plan);
+        if (indexName != null) {
+            assertTrue(plan.toUpperCase().contains(indexName), "Expected " + indexName + " in plan:\n" + plan);
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
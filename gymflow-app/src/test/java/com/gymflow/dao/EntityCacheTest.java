@@ -0,0 +1,70 @@
+package com.gymflow.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EntityCache.
+ */
+class EntityCacheTest {
+
+    @Test
+    void testGet_ReturnsCopiesAndCountsHitsAndMisses() {
+        EntityCache<StringBuilder> cache = new EntityCache<>("test.copies", 10, Duration.ZERO, StringBuilder::new);
+
+        assertTrue(cache.get(1).isEmpty());
+        cache.put(1, new StringBuilder("one"), cache.generation());
+        StringBuilder first = cache.get(1).orElseThrow();
+        first.append(" changed");
+
+        assertEquals("one", cache.get(1).orElseThrow().toString(), "Editing a returned value must not change the cache");
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        EntityCache<String> cache = new EntityCache<>("test.lru", 2, Duration.ZERO, value -> value);
+        cache.put(1, "one", cache.generation());
+        cache.put(2, "two", cache.generation());
+        cache.get(1);
+
+        cache.put(3, "three", cache.generation());
+
+        assertEquals(2, cache.size());
+        assertEquals(Optional.of("one"), cache.get(1));
+        assertTrue(cache.get(2).isEmpty(), "The least recently used entry should be evicted");
+        assertEquals(Optional.of("three"), cache.get(3));
+    }
+
+    @Test
+    void testGet_ExpiredEntryIsAMiss() throws Exception {
+        EntityCache<String> cache = new EntityCache<>("test.ttl", 10, Duration.ofMillis(20), value -> value);
+        cache.put(1, "one", cache.generation());
+
+        Thread.sleep(50);
+
+        assertTrue(cache.get(1).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_LoadStartedBeforeInvalidationIsDropped() {
+        EntityCache<String> cache = new EntityCache<>("test.generation", 10, Duration.ZERO, value -> value);
+        long generation = cache.generation();
+
+        // Another thread writes the row while this one is still loading it
+        cache.invalidate(1);
+        cache.put(1, "stale", generation);
+
+        assertTrue(cache.get(1).isEmpty());
+    }
+
+    @Test
+    void testInvalidSize_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new EntityCache<String>("test.invalid", 0, Duration.ZERO, value -> value));
+    }
+}
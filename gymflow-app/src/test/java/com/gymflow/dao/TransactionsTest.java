@@ -0,0 +1,49 @@
+package com.gymflow.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Transactions.rollback.
+ */
+class TransactionsTest {
+
+    @Test
+    void testRollbackFailure_IsSuppressedOnCause() {
+        SQLException rollbackFailure = new SQLException("Connection is closed");
+        Connection conn = connection(rollbackFailure);
+        SQLException cause = new SQLException("Unique index violation", "23505");
+
+        Transactions.rollback(conn, cause);
+
+        assertArrayEquals(new Throwable[] {rollbackFailure}, cause.getSuppressed());
+        assertEquals("23505", cause.getSQLState());
+    }
+
+    @Test
+    void testSuccessfulRollback_LeavesCauseUnchanged() {
+        SQLException cause = new SQLException("Batch failed");
+
+        Transactions.rollback(connection(null), cause);
+
+        assertEquals(0, cause.getSuppressed().length);
+    }
+
+    /**
+     * A connection whose rollback throws {@code failure}, or succeeds if it is null.
+     */
+    private static Connection connection(SQLException failure) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if (method.getName().equals("rollback") && failure != null) {
+                    throw failure;
+                }
+                return null;
+            });
+    }
+}
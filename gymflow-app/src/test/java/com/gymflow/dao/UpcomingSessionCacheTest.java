@@ -0,0 +1,77 @@
+package com.gymflow.dao;
+
+import com.gymflow.model.ClassSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UpcomingSessionCache.
+ */
+class UpcomingSessionCacheTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private static ClassSession session(long id, LocalDateTime at) {
+        return new ClassSession(id, 2, "Class " + id, at, 10);
+    }
+
+    private static UpcomingSessionCache newCache(Duration bucket) {
+        return new UpcomingSessionCache("test.upcoming", bucket, s -> new ClassSession(s.getId(),
+            s.getTrainerId(), s.getTitle(), s.getScheduleTimestamp(), s.getCapacity(), s.getWorkoutPlanId()));
+    }
+
+    @Test
+    void testGet_ReturnsSessionsSortedBySchedule() {
+        UpcomingSessionCache cache = newCache(Duration.ofMinutes(1));
+        assertTrue(cache.get(NOW).isEmpty());
+
+        cache.put(List.of(session(1, NOW.plusHours(3)), session(2, NOW.plusHours(1))), cache.generation());
+
+        List<ClassSession> upcoming = cache.get(NOW).orElseThrow();
+        assertEquals(List.of(2L, 1L), upcoming.stream().map(ClassSession::getId).toList());
+        assertEquals(2, cache.count(NOW).orElseThrow());
+    }
+
+    @Test
+    void testGet_DropsSessionsThatHaveStarted() {
+        UpcomingSessionCache cache = newCache(Duration.ofMinutes(1));
+        cache.put(List.of(session(1, NOW.plusMinutes(10)), session(2, NOW.plusMinutes(20))), cache.generation());
+
+        assertEquals(List.of(2L), cache.get(NOW.plusMinutes(10)).orElseThrow().stream()
+            .map(ClassSession::getId).toList());
+        assertEquals(0, cache.count(NOW.plusMinutes(30)).orElseThrow());
+    }
+
+    @Test
+    void testGet_ReturnsCopies() {
+        UpcomingSessionCache cache = newCache(Duration.ofMinutes(1));
+        cache.put(List.of(session(1, NOW.plusHours(1))), cache.generation());
+
+        cache.get(NOW).orElseThrow().get(0).setTitle("Changed");
+
+        assertEquals("Class 1", cache.get(NOW).orElseThrow().get(0).getTitle());
+    }
+
+    @Test
+    void testInvalidate_DropsSnapshotAndRejectsStaleLoad() {
+        UpcomingSessionCache cache = newCache(Duration.ofMinutes(1));
+        long generation = cache.generation();
+
+        cache.invalidate();
+        cache.put(List.of(session(1, NOW.plusHours(1))), generation);
+
+        assertTrue(cache.get(NOW).isEmpty());
+    }
+
+    @Test
+    void testGet_MissesOnceBucketHasEnded() {
+        UpcomingSessionCache cache = newCache(Duration.ZERO);
+        cache.put(List.of(session(1, NOW.plusHours(1))), cache.generation());
+
+        assertTrue(cache.get(NOW).isEmpty());
+    }
+}
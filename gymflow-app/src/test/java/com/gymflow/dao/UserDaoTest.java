@@ -1,9 +1,11 @@
 package com.gymflow.dao;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.StatementCounter;
 import com.gymflow.exception.DataAccessException;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
+import com.gymflow.model.UserCredentials;
 import com.gymflow.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -137,5 +139,45 @@ class UserDaoTest {
         // Username lookup should be case-sensitive
         assertFalse(result.isPresent(), "Username lookup should be case-sensitive");
     }
-}
 
+    @Test
+    void testFindByIds_ReturnsMatchingUsers() throws DataAccessException {
+        long id = userDao.findByUsername("testmember").orElseThrow().getId();
+
+        java.util.List<User> users = userDao.findByIds(java.util.List.of(id, 99999L));
+
+        assertEquals(1, users.size());
+        assertEquals("testmember", users.get(0).getUsername());
+    }
+
+    @Test
+    void testFindCredentialsByUsername_ReturnsUserAndHash() throws DataAccessException {
+        UserCredentials credentials = userDao.findCredentialsByUsername("testmember").orElseThrow();
+
+        assertEquals("testmember", credentials.getUser().getUsername());
+        assertEquals(Role.MEMBER, credentials.getUser().getRole());
+        assertEquals(PasswordHasher.sha256("password123"), credentials.getPasswordHash());
+        assertTrue(userDao.findCredentialsByUsername("nonexistent").isEmpty());
+    }
+
+    @Test
+    void testCreate_IsSingleInsert() throws DataAccessException {
+        RoleIds.load();
+
+        try (StatementCounter.Scope scope = StatementCounter.open("create user")) {
+            User created = userDao.create("newtrainer", "hash", "New Trainer", "new@example.com", Role.TRAINER)
+                .orElseThrow();
+            assertEquals(1, scope.getCount());
+            assertEquals(Role.TRAINER, created.getRole());
+            assertNotNull(created.getCreatedAt());
+        }
+        userDao.delete(userDao.findByUsername("newtrainer").orElseThrow().getId());
+    }
+
+    @Test
+    void testCreate_DuplicateUsername_ReturnsEmpty() throws DataAccessException {
+        Optional<User> result = userDao.create("testmember", "hash", "Other", "other@example.com", Role.MEMBER);
+
+        assertTrue(result.isEmpty(), "Duplicate username should be rejected by the unique constraint");
+    }
+}
@@ -184,6 +184,55 @@ class WorkoutPlanDaoTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testFindByIds_ReturnsExistingPlansOnly() {
+        WorkoutPlan plan1 = new WorkoutPlan(0, memberId, trainerId, "Bulk 1",
+            "Test", "Beginner", null, null, null, null, null, null, null, LocalDateTime.now());
+        WorkoutPlan plan2 = new WorkoutPlan(0, memberId, trainerId, "Bulk 2",
+            "Test", "Beginner", null, null, null, null, null, null, null, LocalDateTime.now());
+        long id1 = workoutPlanDao.create(plan1).orElseThrow().getId();
+        long id2 = workoutPlanDao.create(plan2).orElseThrow().getId();
+
+        List<WorkoutPlan> plans = workoutPlanDao.findByIds(List.of(id1, id2, id1, 99999L));
+
+        assertEquals(2, plans.size());
+        assertTrue(plans.stream().anyMatch(p -> p.getTitle().equals("Bulk 1")));
+        assertTrue(plans.stream().anyMatch(p -> p.getTitle().equals("Bulk 2")));
+        assertTrue(workoutPlanDao.findByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void testCreateAll_InsertsEveryPlanWithGeneratedIds() {
+        List<WorkoutPlan> plans = new java.util.ArrayList<>();
+        for (int i = 0; i < 1203; i++) {
+            plans.add(new WorkoutPlan(0, memberId, trainerId, "Batch " + i,
+                "Test", "Beginner", null, null, i % 2 == 0 ? 30 : null, null, null, null, null, null));
+        }
+
+        List<WorkoutPlan> created = workoutPlanDao.createAll(plans);
+
+        assertEquals(plans.size(), created.size());
+        assertEquals("Batch 0", created.get(0).getTitle());
+        assertEquals("Batch 1202", created.get(1202).getTitle());
+        assertEquals(plans.size(), created.stream().map(WorkoutPlan::getId).distinct().count());
+        assertEquals("Batch 7", workoutPlanDao.findById(created.get(7).getId()).orElseThrow().getTitle());
+        assertTrue(workoutPlanDao.createAll(List.of()).isEmpty());
+    }
+
+    @Test
+    void testCreateAll_FailingRowRollsBackWholeBatch() {
+        int before = workoutPlanDao.findByTrainerId(trainerId).size();
+        List<WorkoutPlan> plans = List.of(
+            new WorkoutPlan(0, memberId, trainerId, "Rollback 1", "Test", "Beginner", null),
+            new WorkoutPlan(0, 999999, trainerId, "Rollback 2", "Test", "Beginner", null) // unknown member
+        );
+
+        List<WorkoutPlan> created = workoutPlanDao.createAll(plans);
+
+        assertTrue(created.isEmpty());
+        assertEquals(before, workoutPlanDao.findByTrainerId(trainerId).size(), "No row should be committed");
+    }
+
     @Test
     void testFindByMemberId_Success() {
         WorkoutPlan plan1 = new WorkoutPlan(0, memberId, trainerId, "Plan 1",
@@ -0,0 +1,165 @@
+package com.gymflow.metrics;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the GymFlow flight recorder events and the bundled profile.
+ */
+class FlightRecorderEventsTest {
+    private static DatabaseConnection dbConnection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+    }
+
+    @Test
+    void testStatementEvents_RecordSqlIdAndRowCount() throws Exception {
+        assertFalse(StatementTracing.isEnabled(), "Statements should not be traced outside a recording");
+
+        List<RecordedEvent> events = record(StatementEvent.class, () -> {
+            try (Connection conn = dbConnection.getConnection()) {
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT name FROM roles WHERE id <= ?")) {
+                    for (int i = 0; i < 2; i++) {
+                        stmt.setLong(1, 3);
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                assertNotNull(rs.getString(1));
+                            }
+                        }
+                    }
+                }
+                try (Statement stmt = conn.createStatement()) {
+                    assertEquals(1, stmt.executeUpdate("UPDATE roles SET name = name WHERE id = 1"));
+                }
+            }
+        });
+
+        List<RecordedEvent> queries = new ArrayList<>();
+        RecordedEvent update = null;
+        for (RecordedEvent event : events) {
+            if (event.getString("sql").equals("SELECT name FROM roles WHERE id <= ?")) {
+                queries.add(event);
+            } else if (event.getString("sql").startsWith("UPDATE roles")) {
+                update = event;
+            }
+        }
+        assertEquals(2, queries.size());
+        assertEquals("executeQuery", queries.get(0).getString("method"));
+        assertEquals(3, queries.get(0).getLong("rowCount"));
+        assertEquals(queries.get(0).getString("sqlId"), queries.get(1).getString("sqlId"));
+        assertNotNull(update, "The update should be recorded");
+        assertEquals(1, update.getLong("rowCount"));
+        assertNotEquals(queries.get(0).getString("sqlId"), update.getString("sqlId"));
+    }
+
+    @Test
+    void testScreenLoadAndCsvPhaseEvents_CarryTheirFields() throws Exception {
+        List<RecordedEvent> events = record(null, () -> {
+            try (ScreenLoadEvent screenLoad = ScreenLoadEvent.start("TestController.initialize")) {
+                assertNotNull(screenLoad);
+            }
+            try (CsvPhaseEvent event = CsvPhaseEvent.start("attendance import", "parse", Path.of("in.csv"))) {
+                event.setRowCount(42);
+            }
+        });
+
+        RecordedEvent screenLoad = only(events, "com.gymflow.ScreenLoad");
+        assertEquals("TestController.initialize", screenLoad.getString("screen"));
+        assertFalse(screenLoad.getBoolean("cancelled"));
+        RecordedEvent phase = only(events, "com.gymflow.CsvPhase");
+        assertEquals("attendance import", phase.getString("operation"));
+        assertEquals("parse", phase.getString("phase"));
+        assertEquals("in.csv", phase.getString("file"));
+        assertEquals(42, phase.getLong("rowCount"));
+    }
+
+    @Test
+    void testScreenLoadEvent_RecordsCancellation() throws Exception {
+        List<RecordedEvent> events = record(ScreenLoadEvent.class, () -> {
+            ScreenLoadEvent screenLoad = ScreenLoadEvent.start("TestController.loadUsers");
+            screenLoad.setCancelled(true);
+            screenLoad.close();
+        });
+
+        RecordedEvent screenLoad = only(events, "com.gymflow.ScreenLoad");
+        assertEquals("TestController.loadUsers", screenLoad.getString("screen"));
+        assertTrue(screenLoad.getBoolean("cancelled"));
+    }
+
+    @Test
+    void testLoadProfile_EnablesGymFlowEvents() throws Exception {
+        Configuration profile = FlightRecording.loadProfile();
+
+        assertEquals("GymFlow", profile.getLabel());
+        assertEquals("true", profile.getSettings().get("com.gymflow.Statement#enabled"));
+        assertEquals("true", profile.getSettings().get("com.gymflow.ScreenLoad#enabled"));
+        assertEquals("true", profile.getSettings().get("com.gymflow.CsvPhase#enabled"));
+    }
+
+    /**
+     * Runs the action under a recording with every GymFlow event enabled, or
+     * only the given one, and returns the GymFlow events recorded.
+     */
+    private List<RecordedEvent> record(Class<? extends jdk.jfr.Event> only, ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            List<Class<? extends jdk.jfr.Event>> types = only != null ? List.of(only)
+                : List.of(StatementEvent.class, ScreenLoadEvent.class, CsvPhaseEvent.class);
+            for (Class<? extends jdk.jfr.Event> type : types) {
+                recording.enable(type).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getEventType().getName().startsWith("com.gymflow.")) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                matching.add(event);
+            }
+        }
+        assertEquals(1, matching.size(), "Expected one " + name + " event");
+        return matching.get(0);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gymflow.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Instrumented and MetricsRegistry.
+ */
+class InstrumentedTest {
+    /**
+     * Stand-in DAO; the simple name becomes part of the metric names.
+     */
+    interface SampleDao {
+        String find(long id);
+
+        void fail() throws Exception;
+    }
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    @BeforeEach
+    void setUp() {
+        registry.reset();
+    }
+
+    private Optional<MetricSnapshot> metric(String name) {
+        return registry.snapshot().stream().filter(row -> row.getName().equals(name)).findFirst();
+    }
+
+    @Test
+    void testDao_TimesEachCall() {
+        SampleDao dao = Instrumented.dao(SampleDao.class, new SampleDao() {
+            @Override
+            public String find(long id) {
+                return "row " + id;
+            }
+
+            @Override
+            public void fail() {
+            }
+        });
+
+        assertEquals("row 1", dao.find(1));
+        assertEquals("row 2", dao.find(2));
+
+        MetricSnapshot timer = metric("dao.SampleDao.find").orElseThrow();
+        assertEquals(MetricSnapshot.Type.TIMER, timer.getType());
+        assertEquals(2, timer.getCount());
+        assertTrue(timer.getMaxMillis() >= timer.getP50Millis());
+        assertEquals(dao, dao);
+    }
+
+    @Test
+    void testService_CountsErrorsAndRethrowsOriginalException() {
+        Exception failure = new Exception("boom");
+        SampleDao service = Instrumented.service(SampleDao.class, new SampleDao() {
+            @Override
+            public String find(long id) {
+                return null;
+            }
+
+            @Override
+            public void fail() throws Exception {
+                throw failure;
+            }
+        });
+
+        assertSame(failure, assertThrows(Exception.class, service::fail));
+
+        assertEquals(1, metric("service.SampleDao.fail").orElseThrow().getCount());
+        assertEquals(1, metric("service.SampleDao.fail.errors").orElseThrow().getValue());
+    }
+
+    @Test
+    void testGauges_SurviveResetAndSnapshotIsSorted() {
+        registry.registerGauge("test.gauge", () -> 7);
+        registry.counter("test.counter").add(3);
+
+        registry.reset();
+
+        assertEquals(7, metric("test.gauge").orElseThrow().getValue());
+        assertEquals(0, metric("test.counter").orElseThrow().getValue());
+        List<MetricSnapshot> rows = registry.snapshot();
+        for (int i = 1; i < rows.size(); i++) {
+            assertTrue(rows.get(i - 1).getName().compareTo(rows.get(i).getName()) <= 0);
+        }
+    }
+
+    @Test
+    void testWrap_RejectsClass() {
+        assertThrows(IllegalArgumentException.class, () -> Instrumented.dao(String.class, "x"));
+    }
+}
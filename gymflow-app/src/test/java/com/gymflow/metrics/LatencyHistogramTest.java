@@ -0,0 +1,56 @@
+package com.gymflow.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBuckets_CoverEveryValueWithoutGaps() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long lower = LatencyHistogram.bucketUpperBound(i - 1) + 1;
+            assertEquals(i, LatencyHistogram.bucketIndex(lower), "lower bound of bucket " + i);
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(i)), "upper bound of bucket " + i);
+        }
+    }
+
+    @Test
+    void testPercentiles_WithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        // 1..10,000 microseconds, one observation each
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000, snapshot.getMaxNanos());
+        assertEquals(5_000_500, snapshot.getMeanNanos(), 1.0);
+        assertEquals(5_000_000, snapshot.getValueAtPercentile(50), 5_000_000 * 0.04);
+        assertEquals(9_900_000, snapshot.getValueAtPercentile(99), 9_900_000 * 0.04);
+        assertEquals(10_000_000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+
+        histogram.record(-5);
+        histogram.record(42);
+        assertEquals(2, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(50));
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getMaxNanos());
+    }
+}
@@ -2,6 +2,11 @@ package com.gymflow.security;
 
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PasswordHasherTest {
@@ -13,4 +18,53 @@ class PasswordHasherTest {
         assertEquals(first, second);
         assertEquals(64, first.length());
     }
+
+    @Test
+    void pbkdf2MatchesJdkImplementation() throws Exception {
+        byte[] salt = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+            .generateSecret(new PBEKeySpec("secret".toCharArray(), salt, 2_000, 256))
+            .getEncoded();
+
+        assertArrayEquals(expected, Pbkdf2PasswordHasher.derive("secret".getBytes(StandardCharsets.UTF_8), salt, 2_000));
+    }
+
+    @Test
+    void pbkdf2HashesAreSaltedAndVerifiable() {
+        Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(1_000);
+
+        String first = hasher.hash("secret");
+        String second = hasher.hash("secret");
+
+        assertNotEquals(first, second, "Each hash should use a fresh salt");
+        assertTrue(first.startsWith("pbkdf2-sha256$1000$"));
+        assertTrue(hasher.matches("secret", first));
+        assertTrue(hasher.matches("secret", second));
+        assertFalse(hasher.matches("Secret", first));
+        assertTrue(hasher.matches("", hasher.hash("")));
+        assertFalse(hasher.matches("secret", "pbkdf2-sha256$broken"));
+    }
+
+    @Test
+    void upgradingHasherVerifiesLegacyHashesAndFlagsThemForRehash() {
+        UpgradingPasswordHasher hasher = new UpgradingPasswordHasher(new Pbkdf2PasswordHasher(1_000));
+        String legacy = PasswordHasher.sha256("secret");
+
+        assertTrue(hasher.matches("secret", legacy));
+        assertFalse(hasher.matches("other", legacy));
+        assertTrue(hasher.needsRehash(legacy));
+        assertFalse(hasher.needsRehash(hasher.hash("secret")));
+        assertTrue(hasher.needsRehash(new Pbkdf2PasswordHasher(500).hash("secret")),
+            "Hashes with far fewer iterations should be upgraded");
+        assertFalse(hasher.matches("secret", "not a hash"));
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertEquals(Pbkdf2PasswordHasher.MIN_ITERATIONS, Pbkdf2PasswordHasher.calibrate(Duration.ofNanos(1)));
+        int iterations = Pbkdf2PasswordHasher.calibrate(Duration.ofMillis(50));
+        assertTrue(iterations >= Pbkdf2PasswordHasher.MIN_ITERATIONS);
+        assertTrue(iterations <= Pbkdf2PasswordHasher.MAX_ITERATIONS);
+        assertEquals(0, iterations % 10_000);
+    }
 }
@@ -0,0 +1,102 @@
+package com.gymflow.service;
+
+import com.gymflow.exception.DataAccessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncService on a private executor.
+ */
+class AsyncServiceTest {
+    private ServiceExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ServiceExecutor(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testCallCompletesWithResult() throws Exception {
+        AsyncService<List<String>> async = new AsyncService<>(List.of("a", "b", "c"), executor);
+
+        assertEquals(3, async.call(List::size).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCheckedExceptionCompletesExceptionally() {
+        AsyncService<String> async = new AsyncService<>("service", executor);
+
+        CompletableFuture<Object> future = async.call(service -> {
+            throw new DataAccessException("Database unavailable");
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DataAccessException.class, e.getCause());
+    }
+
+    @Test
+    void testCallCancelledWhileQueuedNeverRuns() throws Exception {
+        ServiceExecutor single = new ServiceExecutor(1);
+        try {
+            AsyncService<String> async = new AsyncService<>("service", single);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> blocker = async.call(service -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            AtomicBoolean ran = new AtomicBoolean();
+            CompletableFuture<Boolean> queued = async.call(service -> ran.getAndSet(true));
+            assertEquals(1, single.getQueuedCount());
+            assertTrue(queued.cancel(false));
+            // Cancelling takes the call off the queue rather than leaving it to be skipped
+            assertEquals(0, single.getQueuedCount());
+
+            release.countDown();
+            assertTrue(blocker.get(5, TimeUnit.SECONDS));
+            // A call queued after the cancelled one runs only once the cancelled one was skipped
+            async.call(service -> null).get(5, TimeUnit.SECONDS);
+            assertFalse(ran.get());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrencyBoundedByThreadCount() throws Exception {
+        AsyncService<String> async = new AsyncService<>("service", executor);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[8];
+        for (int i = 0; i < calls.length; i++) {
+            calls[i] = async.call(service -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+        CompletableFuture.allOf(calls).get(5, TimeUnit.SECONDS);
+
+        assertTrue(maxRunning.get() <= 2, "At most 2 calls should run at once, saw " + maxRunning.get());
+    }
+}
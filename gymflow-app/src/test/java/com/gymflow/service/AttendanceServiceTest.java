@@ -3,6 +3,7 @@ package com.gymflow.service;
 import com.gymflow.config.DatabaseConnection;
 import com.gymflow.model.AttendanceRecord;
 import com.gymflow.model.ClassSession;
+import com.gymflow.model.RegistrationResult;
 import com.gymflow.model.Role;
 import com.gymflow.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeAll;
@@ -173,10 +174,36 @@ class AttendanceServiceTest {
 
     @Test
     void testRegisterForClass_Success() {
-        Optional<AttendanceRecord> result = attendanceService.registerForClass(sessionId, memberId);
+        RegistrationResult result = attendanceService.registerForClass(sessionId, memberId);
 
-        assertTrue(result.isPresent());
-        assertFalse(result.get().isAttended(), "Registered members should not be marked as attended initially");
+        assertEquals(RegistrationResult.Status.REGISTERED, result.getStatus());
+        assertTrue(result.getRecord().isPresent());
+        assertFalse(result.getRecord().get().isAttended(), "Registered members should not be marked as attended initially");
+    }
+
+    @Test
+    void testRegisterForClass_Twice_ReturnsAlreadyRegistered() {
+        attendanceService.registerForClass(sessionId, memberId);
+
+        RegistrationResult result = attendanceService.registerForClass(sessionId, memberId);
+
+        assertEquals(RegistrationResult.Status.ALREADY_REGISTERED, result.getStatus());
+        assertEquals(1, attendanceService.getRegisteredCount(sessionId));
+    }
+
+    @Test
+    void testRegisterForClass_FullSession_ReturnsFull() {
+        Optional<ClassSession> smallClass = classScheduleService.createClassSession(
+            trainerId, "Private Session", LocalDateTime.now().plusDays(2), 1
+        );
+        assertTrue(smallClass.isPresent());
+        long smallSessionId = smallClass.get().getId();
+
+        assertTrue(attendanceService.registerForClass(smallSessionId, memberId).isRegistered());
+        RegistrationResult result = attendanceService.registerForClass(smallSessionId, trainerId);
+
+        assertEquals(RegistrationResult.Status.FULL, result.getStatus());
+        assertEquals(1, attendanceService.getRegisteredCount(smallSessionId));
     }
 
     @Test
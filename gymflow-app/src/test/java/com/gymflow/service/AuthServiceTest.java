@@ -1,10 +1,13 @@
 package com.gymflow.service;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.StatementCounter;
 import com.gymflow.exception.AuthenticationException;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.security.PasswordHasher;
+import com.gymflow.security.Pbkdf2PasswordHasher;
+import com.gymflow.security.UpgradingPasswordHasher;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -119,7 +122,8 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
-        authService = new AuthServiceImpl();
+        // Few iterations keep the tests fast; the format is the same as in production
+        authService = new AuthServiceImpl(new UpgradingPasswordHasher(new Pbkdf2PasswordHasher(1_000)));
     }
 
     @Test
@@ -155,5 +159,34 @@ class AuthServiceTest {
         assertEquals("trainer1", user.getUsername());
         assertEquals(Role.TRAINER, user.getRole());
     }
+
+    @Test
+    void testAuthenticate_IsSingleQuery() throws AuthenticationException {
+        // The first login may upgrade the stored hash
+        authService.authenticate("member1", "member123");
+
+        try (StatementCounter.Scope scope = StatementCounter.open("login")) {
+            assertTrue(authService.authenticate("member1", "member123").isPresent());
+            assertEquals(1, scope.getCount());
+        }
+    }
+
+    @Test
+    void testAuthenticate_UpgradesLegacyHash() throws Exception {
+        String legacyHash = PasswordHasher.sha256("trainer123");
+        try (Statement stmt = testConnection.createStatement()) {
+            stmt.execute("UPDATE users SET password_hash = '" + legacyHash + "' WHERE username = 'trainer1'");
+        }
+
+        assertTrue(authService.authenticate("trainer1", "trainer123").isPresent());
+
+        try (Statement stmt = testConnection.createStatement();
+             var rs = stmt.executeQuery("SELECT password_hash FROM users WHERE username = 'trainer1'")) {
+            rs.next();
+            assertTrue(rs.getString(1).startsWith("pbkdf2-sha256$1000$"), "Legacy hash should be replaced");
+        }
+        assertTrue(authService.authenticate("trainer1", "trainer123").isPresent());
+        assertFalse(authService.authenticate("trainer1", "wrong").isPresent());
+    }
 }
 
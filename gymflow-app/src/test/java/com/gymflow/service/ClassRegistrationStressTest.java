@@ -0,0 +1,186 @@
+package com.gymflow.service;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.dao.AttendanceDao;
+import com.gymflow.dao.AttendanceDaoImpl;
+import com.gymflow.model.RegistrationResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires 500 concurrent registrations at a single class session and checks
+ * that capacity is never exceeded and each member holds at most one spot.
+ */
+class ClassRegistrationStressTest {
+    private static final int REGISTRATIONS = 500;
+    private static final int CAPACITY = 25;
+    private static final long FIRST_MEMBER_ID = 100_000;
+    private static final long TRAINER_ID = FIRST_MEMBER_ID + REGISTRATIONS;
+
+    private static DatabaseConnection dbConnection;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+        deleteTestData();
+
+        String insertUser = """
+            INSERT INTO users (id, role_id, username, password_hash, full_name, email)
+            VALUES (?, ?, ?, 'x', ?, ?)
+            """;
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(insertUser)) {
+            for (long id = FIRST_MEMBER_ID; id <= TRAINER_ID; id++) {
+                stmt.setLong(1, id);
+                stmt.setInt(2, id == TRAINER_ID ? 2 : 1);
+                stmt.setString(3, "stress_user_" + id);
+                stmt.setString(4, "Stress User " + id);
+                stmt.setString(5, "stress" + id + "@test.com");
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    @AfterAll
+    static void tearDownDatabase() throws SQLException {
+        deleteTestData();
+    }
+
+    @Test
+    void concurrentRegistrationsNeverExceedCapacity() throws Exception {
+        long sessionId = createSession();
+        AttendanceService service = new AttendanceServiceImpl();
+
+        Map<RegistrationResult.Status, Integer> outcomes =
+            registerConcurrently(memberIndex -> service.registerForClass(sessionId, FIRST_MEMBER_ID + memberIndex));
+
+        assertEquals(CAPACITY, outcomes.get(RegistrationResult.Status.REGISTERED));
+        assertEquals(REGISTRATIONS - CAPACITY, outcomes.get(RegistrationResult.Status.FULL));
+        assertEquals(CAPACITY, countRegistrations(sessionId));
+    }
+
+    @Test
+    void concurrentDuplicateRegistrationsCreateOneRecord() throws Exception {
+        long sessionId = createSession();
+        AttendanceService service = new AttendanceServiceImpl();
+
+        Map<RegistrationResult.Status, Integer> outcomes =
+            registerConcurrently(memberIndex -> service.registerForClass(sessionId, FIRST_MEMBER_ID));
+
+        assertEquals(1, outcomes.get(RegistrationResult.Status.REGISTERED));
+        assertEquals(REGISTRATIONS - 1, outcomes.get(RegistrationResult.Status.ALREADY_REGISTERED));
+        assertEquals(1, countRegistrations(sessionId));
+    }
+
+    @Test
+    void databaseGuardHoldsWithoutInProcessLock() throws Exception {
+        long sessionId = createSession();
+        AttendanceDao attendanceDao = new AttendanceDaoImpl();
+
+        Map<RegistrationResult.Status, Integer> outcomes =
+            registerConcurrently(memberIndex -> attendanceDao.registerWithinCapacity(sessionId, FIRST_MEMBER_ID + memberIndex));
+
+        assertEquals(CAPACITY, outcomes.get(RegistrationResult.Status.REGISTERED));
+        assertEquals(CAPACITY, countRegistrations(sessionId));
+    }
+
+    /**
+     * Runs REGISTRATIONS attempts on as many threads, released together, and
+     * tallies the outcomes.
+     */
+    private static Map<RegistrationResult.Status, Integer> registerConcurrently(
+            LongFunction<RegistrationResult> registration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REGISTRATIONS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<RegistrationResult>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                long memberIndex = i;
+                Callable<RegistrationResult> task = () -> {
+                    startGate.await();
+                    return registration.apply(memberIndex);
+                };
+                futures.add(executor.submit(task));
+            }
+            startGate.countDown();
+
+            Map<RegistrationResult.Status, Integer> outcomes = new EnumMap<>(RegistrationResult.Status.class);
+            for (RegistrationResult.Status status : RegistrationResult.Status.values()) {
+                outcomes.put(status, 0);
+            }
+            for (Future<RegistrationResult> future : futures) {
+                RegistrationResult result = future.get(60, TimeUnit.SECONDS);
+                outcomes.merge(result.getStatus(), 1, Integer::sum);
+            }
+            assertEquals(0, outcomes.get(RegistrationResult.Status.FAILED), "No registration should fail outright");
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long createSession() throws SQLException {
+        String sql = """
+            INSERT INTO class_sessions (trainer_id, title, schedule_timestamp, capacity)
+            VALUES (?, 'Stress Class', ?, ?)
+            """;
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+            stmt.setLong(1, TRAINER_ID);
+            stmt.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+            stmt.setInt(3, CAPACITY);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                assertTrue(keys.next());
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private static int countRegistrations(long sessionId) throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM attendance_records WHERE session_id = ?")) {
+            stmt.setLong(1, sessionId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static void deleteTestData() throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM attendance_records WHERE member_id >= " + FIRST_MEMBER_ID);
+            stmt.execute("DELETE FROM workout_completions WHERE member_id >= " + FIRST_MEMBER_ID);
+            stmt.execute("DELETE FROM class_sessions WHERE trainer_id = " + TRAINER_ID);
+            stmt.execute("DELETE FROM users WHERE id >= " + FIRST_MEMBER_ID);
+        }
+    }
+}
@@ -170,7 +170,7 @@ class ClassScheduleServiceTest {
     }
 
     @Test
-    void testGetUpcomingClassSessions_Success() {
+    void testGetUpcomingClassSessions_Success() throws Exception {
         LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
         classScheduleService.createClassSession(trainerId, "Future Class", futureTime, 10);
 
@@ -0,0 +1,223 @@
+package com.gymflow.service;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import com.gymflow.dao.AttendanceDao;
+import com.gymflow.dao.AttendanceDaoImpl;
+import com.gymflow.dao.ClassSessionDao;
+import com.gymflow.dao.ClassSessionDaoImpl;
+import com.gymflow.dao.UserDaoImpl;
+import com.gymflow.dao.WorkoutPlanDaoImpl;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.exception.ValidationException;
+import com.gymflow.model.AttendanceImportReport;
+import com.gymflow.model.AttendanceRecord;
+import com.gymflow.util.CsvUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the streaming exports and the attendance import of FileImportExportService.
+ */
+class FileImportExportServiceTest {
+    private static final long TRAINER_ID = 200_000;
+    private static final int PLAN_COUNT = 2_500;
+    private static final long MEMBER_ID = 200_001;
+    private static final long OTHER_MEMBER_ID = 200_002;
+    private static final long SESSION_ID = 200_010;
+
+    private static DatabaseConnection dbConnection;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void setUpDatabase() throws Exception {
+        DatabaseConnection.resetInstance();
+        dbConnection = DatabaseConnection.getInstance();
+        new DatabaseInitializer().initialize();
+        deleteTestData();
+
+        try (Connection conn = dbConnection.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("""
+                    INSERT INTO users (id, role_id, username, password_hash, full_name, email)
+                    VALUES (?, 2, 'export_trainer', 'x', 'Export Trainer', 'export@test.com')
+                    """)) {
+                stmt.setLong(1, TRAINER_ID);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("""
+                    INSERT INTO users (id, role_id, username, password_hash, full_name, email)
+                    VALUES (?, 1, ?, 'x', 'Import Member', ?)
+                    """)) {
+                for (long memberId : new long[] {MEMBER_ID, OTHER_MEMBER_ID}) {
+                    stmt.setLong(1, memberId);
+                    stmt.setString(2, "import_member_" + memberId);
+                    stmt.setString(3, "import" + memberId + "@test.com");
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("""
+                    INSERT INTO class_sessions (id, trainer_id, title, schedule_timestamp, capacity)
+                    VALUES (?, ?, 'Import Class', CURRENT_TIMESTAMP, 10)
+                    """)) {
+                stmt.setLong(1, SESSION_ID);
+                stmt.setLong(2, TRAINER_ID);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO workout_plans (trainer_id, title, description, difficulty) VALUES (?, ?, ?, 'Beginner')")) {
+                for (int i = 0; i < PLAN_COUNT; i++) {
+                    stmt.setLong(1, TRAINER_ID);
+                    stmt.setString(2, "Export Plan " + i);
+                    stmt.setString(3, "Sets, reps and \"notes\" " + i);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDownDatabase() throws SQLException {
+        deleteTestData();
+    }
+
+    @Test
+    void testStreamWorkoutTemplates_WritesEveryPlanAndReportsProgress() throws Exception {
+        FileImportExportService service = new FileImportExportServiceImpl(100);
+        Path csvFile = tempDir.resolve("plans.csv");
+        List<Long> progress = new ArrayList<>();
+
+        long exported = service.streamWorkoutTemplates(TRAINER_ID, csvFile.toString(), progress::add);
+
+        assertEquals(PLAN_COUNT, exported);
+        assertEquals(List.of(1000L, 2000L, (long) PLAN_COUNT), progress);
+        List<String> lines = Files.readAllLines(csvFile);
+        assertEquals(PLAN_COUNT + 1, lines.size());
+        assertTrue(lines.get(1).contains("\"Sets, reps and \"\"notes\"\""), "Fields should be CSV-escaped");
+    }
+
+    @Test
+    void testStreamWorkoutTemplates_UnknownTrainer_WritesHeaderOnly() throws Exception {
+        FileImportExportService service = new FileImportExportServiceImpl();
+        Path csvFile = tempDir.resolve("empty.csv");
+
+        long exported = service.streamWorkoutTemplates(-1, csvFile.toString(), null);
+
+        assertEquals(0, exported);
+        assertEquals(1, Files.readAllLines(csvFile).size());
+    }
+
+    @Test
+    void testStreamAttendanceReport_CountsMatchDatabase() throws Exception {
+        FileImportExportService service = new FileImportExportServiceImpl();
+        Path csvFile = tempDir.resolve("attendance.csv");
+
+        long exported = service.streamAttendanceReport(csvFile.toString(), null);
+
+        assertEquals(new AttendanceServiceImpl().getAttendanceRecordCount(), exported);
+        List<String> lines = Files.readAllLines(csvFile);
+        assertEquals("Record ID,Session ID,Class Name,Member ID,Member Name,Attended", lines.get(0));
+        assertEquals(exported + 1, lines.size());
+    }
+
+    @Test
+    void testImportAttendance_ValidatesInBulkAndUpsertsLastRowPerPair() throws Exception {
+        FileImportExportService service = new FileImportExportServiceImpl();
+        Path csvFile = tempDir.resolve("attendance_import.csv");
+        Files.writeString(csvFile, String.join("\n",
+            "Record ID,Session ID,Member ID,Attended",
+            "1,%d,%d,Yes".formatted(SESSION_ID, MEMBER_ID),
+            "2,999999999,%d,Yes".formatted(MEMBER_ID),
+            "3,%d,%d,Yes".formatted(SESSION_ID, TRAINER_ID),
+            "4,%d,%d,Maybe".formatted(SESSION_ID, OTHER_MEMBER_ID),
+            "5,%d,%d,Yes".formatted(SESSION_ID, OTHER_MEMBER_ID),
+            "6,%d,%d,No".formatted(SESSION_ID, MEMBER_ID)) + "\n");
+
+        // A batch size of 2 sends the two accepted rows in one batch
+        AttendanceImportReport report = service.importAttendance(csvFile.toString(), 2);
+
+        assertEquals(2, report.getImportedCount());
+        assertEquals(4, report.getRejectedCount());
+        assertEquals(0, report.getFailedCount());
+        List<Long> rejectedLines = new ArrayList<>();
+        for (AttendanceImportReport.Row row : report.getRejectedRows()) {
+            rejectedLines.add(row.getLineNumber());
+        }
+        assertEquals(List.of(2L, 3L, 4L, 5L), rejectedLines);
+        assertEquals("Superseded by line 7", report.getRejectedRows().get(0).getMessage());
+
+        AttendanceDao attendanceDao = new AttendanceDaoImpl();
+        assertFalse(attendanceDao.findBySessionAndMember(SESSION_ID, MEMBER_ID).orElseThrow().isAttended());
+        assertTrue(attendanceDao.findBySessionAndMember(SESSION_ID, OTHER_MEMBER_ID).orElseThrow().isAttended());
+
+        Path rejections = tempDir.resolve("rejected.csv");
+        CsvUtil.exportAttendanceRejections(report.getRejectedRows(), rejections);
+        List<String> lines = Files.readAllLines(rejections);
+        assertEquals("Line,Session ID,Member ID,Attended,Status,Reason", lines.get(0));
+        assertEquals(5, lines.size());
+    }
+
+    @Test
+    void testImportAttendance_SessionLookupFails_ThrowsException() throws Exception {
+        AttendanceDao attendanceDao = new AttendanceDaoImpl();
+        ClassSessionDao failingSessionDao = new ClassSessionDaoImpl() {
+            @Override
+            public Set<Long> findExistingIds(Collection<Long> ids) throws DataAccessException {
+                throw new DataAccessException("Database unavailable");
+            }
+        };
+        FileImportExportService service = new FileImportExportServiceImpl(attendanceDao, new WorkoutPlanDaoImpl(),
+            failingSessionDao, new UserDaoImpl(), FileImportExportServiceImpl.DEFAULT_FETCH_SIZE);
+        Path csvFile = tempDir.resolve("attendance_lookup_failure.csv");
+        Files.writeString(csvFile, String.join("\n",
+            "Record ID,Session ID,Member ID,Attended",
+            "1,%d,%d,Yes".formatted(SESSION_ID, MEMBER_ID)) + "\n");
+        Optional<AttendanceRecord> before = attendanceDao.findBySessionAndMember(SESSION_ID, MEMBER_ID);
+
+        // A lookup failure must not turn valid rows into rejections
+        assertThrows(DataAccessException.class, () -> service.importAttendance(csvFile.toString()));
+        assertEquals(before.map(AttendanceRecord::isAttended),
+            attendanceDao.findBySessionAndMember(SESSION_ID, MEMBER_ID).map(AttendanceRecord::isAttended));
+    }
+
+    @Test
+    void testImportAttendance_InvalidBatchSize_ThrowsException() {
+        FileImportExportService service = new FileImportExportServiceImpl();
+
+        assertThrows(ValidationException.class, () -> service.importAttendance("unused.csv", 0));
+    }
+
+    @Test
+    void testInvalidFetchSize_ThrowsException() {
+        assertThrows(ValidationException.class, () -> new FileImportExportServiceImpl(0));
+    }
+
+    private static void deleteTestData() throws SQLException {
+        try (Connection conn = dbConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM attendance_records WHERE session_id = " + SESSION_ID);
+            stmt.execute("DELETE FROM class_sessions WHERE id = " + SESSION_ID);
+            stmt.execute("DELETE FROM workout_plans WHERE trainer_id = " + TRAINER_ID);
+            stmt.execute("DELETE FROM users WHERE id IN (%d, %d, %d)".formatted(TRAINER_ID, MEMBER_ID, OTHER_MEMBER_ID));
+        }
+    }
+}
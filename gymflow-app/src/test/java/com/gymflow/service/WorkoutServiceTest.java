@@ -1,18 +1,28 @@
 package com.gymflow.service;
 
 import com.gymflow.config.DatabaseConnection;
+import com.gymflow.model.AttendanceHistoryRow;
 import com.gymflow.model.Role;
 import com.gymflow.model.User;
 import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanImportReport;
+import com.gymflow.model.WorkoutPlanWithSource;
 import com.gymflow.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -263,5 +273,192 @@ class WorkoutServiceTest {
         Optional<WorkoutPlan> found = workoutService.getWorkoutPlanById(planId);
         assertFalse(found.isPresent(), "Workout plan should be deleted");
     }
-}
 
+    @Test
+    void testGetWorkoutPlansWithSourceForMember_MergesDirectAndClassPlans() throws SQLException {
+        Optional<WorkoutPlan> direct = workoutService.createWorkoutPlan(
+            memberId, trainerId, "Direct Plan", "Test", "Beginner"
+        );
+        assertTrue(direct.isPresent());
+        long upcomingPlanId = insertClassPlan("Upcoming Class Plan");
+        long pastPlanId = insertClassPlan("Past Class Plan");
+        long upcomingClassId = insertClassWithRegistration("Upcoming Class", upcomingPlanId, LocalDateTime.now().plusDays(2));
+        insertClassWithRegistration("Past Class", pastPlanId, LocalDateTime.now().minusDays(2));
+
+        List<WorkoutPlanWithSource> plans = workoutService.getWorkoutPlansWithSourceForMember(memberId);
+
+        WorkoutPlanWithSource directEntry = plans.stream()
+            .filter(p -> p.getWorkoutPlan().getId() == direct.get().getId())
+            .findFirst().orElseThrow();
+        assertFalse(directEntry.isFromClass());
+
+        WorkoutPlanWithSource classEntry = plans.stream()
+            .filter(p -> p.getWorkoutPlan().getId() == upcomingPlanId)
+            .findFirst().orElseThrow();
+        assertTrue(classEntry.isFromClass());
+        assertEquals(upcomingClassId, classEntry.getSourceClass().getId());
+        assertEquals("Upcoming Class", classEntry.getSourceClass().getTitle());
+
+        assertTrue(plans.stream().noneMatch(p -> p.getWorkoutPlan().getId() == pastPlanId),
+            "Plans from past classes should not be listed");
+        assertEquals(plans.size(), plans.stream().map(p -> p.getWorkoutPlan().getId()).distinct().count(),
+            "Each plan should be listed once");
+    }
+
+    @Test
+    void testGetCompletedPlanIds_ReturnsOnlyCompletedPlans() {
+        WorkoutCompletionService completionService = new WorkoutCompletionServiceImpl();
+        Optional<WorkoutPlan> completed = workoutService.createWorkoutPlan(
+            memberId, trainerId, "Completed Plan", "Test", "Beginner"
+        );
+        Optional<WorkoutPlan> pending = workoutService.createWorkoutPlan(
+            memberId, trainerId, "Pending Plan", "Test", "Beginner"
+        );
+        assertTrue(completed.isPresent());
+        assertTrue(pending.isPresent());
+        assertTrue(completionService.markCompleted(completed.get().getId(), memberId, null, null).isPresent());
+
+        Set<Long> completedIds = completionService.getCompletedPlanIds(memberId);
+
+        assertTrue(completedIds.contains(completed.get().getId()));
+        assertFalse(completedIds.contains(pending.get().getId()));
+    }
+
+    @Test
+    void testGetAttendanceHistory_PagesNewestFirstWithJoinedDetails() throws SQLException {
+        WorkoutCompletionService completionService = new WorkoutCompletionServiceImpl();
+        long classPlanId = insertClassPlan("History Class Plan");
+        LocalDateTime schedule = LocalDateTime.now().plusDays(3).withSecond(0).withNano(0);
+        long classId = insertClassWithRegistration("History Class", classPlanId, schedule);
+        assertTrue(completionService.markCompleted(classPlanId, memberId, classId, null).isPresent());
+        for (int i = 0; i < 4; i++) {
+            Optional<WorkoutPlan> plan = workoutService.createWorkoutPlan(
+                memberId, trainerId, "History Direct " + i, "Test", "Beginner"
+            );
+            assertTrue(plan.isPresent());
+            assertTrue(completionService.markCompleted(plan.get().getId(), memberId, null, null).isPresent());
+        }
+
+        List<AttendanceHistoryRow> all = new ArrayList<>();
+        AttendanceHistoryRow after = null;
+        List<AttendanceHistoryRow> page;
+        do {
+            page = completionService.getAttendanceHistory(memberId, after, 2);
+            assertTrue(page.size() <= 2);
+            all.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == 2);
+
+        assertEquals(completionService.getCompletionsByMember(memberId).size(), all.size(),
+            "Paging should visit every completion exactly once");
+        for (int i = 1; i < all.size(); i++) {
+            AttendanceHistoryRow previous = all.get(i - 1);
+            AttendanceHistoryRow current = all.get(i);
+            assertFalse(current.getCompletedAt().isAfter(previous.getCompletedAt()), "Rows should be newest first");
+            if (current.getCompletedAt().equals(previous.getCompletedAt())) {
+                assertTrue(current.getCompletionId() < previous.getCompletionId());
+            }
+        }
+
+        AttendanceHistoryRow classRow = all.stream()
+            .filter(r -> r.getClassName().equals("History Class"))
+            .findFirst().orElseThrow();
+        assertEquals(schedule, classRow.getDateTime());
+        assertEquals("Test Trainer", classRow.getTrainerName());
+
+        AttendanceHistoryRow directRow = all.stream()
+            .filter(r -> r.getClassName().equals("History Direct 0"))
+            .findFirst().orElseThrow();
+        assertEquals(directRow.getCompletedAt(), directRow.getDateTime());
+        assertEquals("Test Trainer", directRow.getTrainerName());
+        assertTrue(directRow.isAttended());
+    }
+
+    @Test
+    void testImportPlans_SkipsDuplicatesAndReportsEachRow() {
+        workoutService.createWorkoutPlan(memberId, trainerId, "Existing Import Plan", "Test", "Beginner");
+        List<WorkoutPlan> rows = List.of(
+            new WorkoutPlan(0, memberId, 0, "New Import Plan", "Test", "Beginner", null),
+            new WorkoutPlan(0, memberId, 0, " existing import plan ", "Test", "Beginner", null),
+            new WorkoutPlan(0, memberId, 0, "NEW IMPORT PLAN", "Test", "Beginner", null),
+            new WorkoutPlan(0, 0, 0, "No Member", "Test", "Beginner", null),
+            new WorkoutPlan(0, memberId, 0, "  ", "Test", "Beginner", null)
+        );
+
+        WorkoutPlanImportReport report = workoutService.importPlans(trainerId, rows);
+
+        assertEquals(5, report.getRows().size());
+        assertEquals(WorkoutPlanImportReport.Status.IMPORTED, report.getRows().get(0).getStatus());
+        assertEquals(WorkoutPlanImportReport.Status.DUPLICATE, report.getRows().get(1).getStatus());
+        assertEquals(WorkoutPlanImportReport.Status.DUPLICATE, report.getRows().get(2).getStatus(),
+            "Repeated rows within the same file are duplicates too");
+        assertEquals(WorkoutPlanImportReport.Status.INVALID, report.getRows().get(3).getStatus());
+        assertEquals(WorkoutPlanImportReport.Status.INVALID, report.getRows().get(4).getStatus());
+        assertEquals(1, report.getImportedCount());
+        assertEquals(2, report.getDuplicateCount());
+        assertEquals(2, report.getFailedCount());
+        assertEquals(3, report.getRows().get(2).getRowNumber());
+
+        WorkoutPlan imported = report.getRows().get(0).getPlan().orElseThrow();
+        assertEquals(trainerId, imported.getTrainerId(), "Imported plans belong to the importing trainer");
+        assertTrue(workoutService.getWorkoutPlanById(imported.getId()).isPresent());
+    }
+
+    @Test
+    void testImportPlans_UnknownMemberDoesNotFailValidRows() {
+        List<WorkoutPlan> rows = List.of(
+            new WorkoutPlan(0, memberId, 0, "Valid Import Plan A", "Test", "Beginner", null),
+            new WorkoutPlan(0, 999_999, 0, "Unknown Member Plan", "Test", "Beginner", null),
+            new WorkoutPlan(0, memberId, 0, "Valid Import Plan B", "Test", "Beginner", null)
+        );
+
+        WorkoutPlanImportReport report = workoutService.importPlans(trainerId, rows);
+
+        assertEquals(WorkoutPlanImportReport.Status.IMPORTED, report.getRows().get(0).getStatus());
+        assertEquals(WorkoutPlanImportReport.Status.INVALID, report.getRows().get(1).getStatus());
+        assertEquals("Member not found", report.getRows().get(1).getMessage());
+        assertEquals(WorkoutPlanImportReport.Status.IMPORTED, report.getRows().get(2).getStatus());
+        assertEquals(2, report.getImportedCount());
+        assertEquals(1, report.getFailedCount());
+    }
+
+    private long insertClassPlan(String title) throws SQLException {
+        String sql = "INSERT INTO workout_plans (trainer_id, title, difficulty) VALUES (?, ?, 'Beginner')";
+        try (PreparedStatement stmt = testConnection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setLong(1, trainerId);
+            stmt.setString(2, title);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                assertTrue(keys.next());
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private long insertClassWithRegistration(String title, long workoutPlanId, LocalDateTime schedule) throws SQLException {
+        String sessionSql = """
+            INSERT INTO class_sessions (trainer_id, title, schedule_timestamp, capacity, workout_plan_id)
+            VALUES (?, ?, ?, 10, ?)
+            """;
+        long sessionId;
+        try (PreparedStatement stmt = testConnection.prepareStatement(sessionSql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setLong(1, trainerId);
+            stmt.setString(2, title);
+            stmt.setTimestamp(3, Timestamp.valueOf(schedule));
+            stmt.setLong(4, workoutPlanId);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                assertTrue(keys.next());
+                sessionId = keys.getLong(1);
+            }
+        }
+
+        String attendanceSql = "INSERT INTO attendance_records (session_id, member_id, attended) VALUES (?, ?, FALSE)";
+        try (PreparedStatement stmt = testConnection.prepareStatement(attendanceSql)) {
+            stmt.setLong(1, sessionId);
+            stmt.setLong(2, memberId);
+            stmt.executeUpdate();
+        }
+        return sessionId;
+    }
+}
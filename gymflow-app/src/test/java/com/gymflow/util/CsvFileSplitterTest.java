@@ -0,0 +1,80 @@
+package com.gymflow.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvFileSplitter.
+ */
+class CsvFileSplitterTest {
+    @TempDir
+    Path tempDir;
+
+    private static List<String> readChunk(Path file, CsvFileSplitter.Chunk chunk, List<Long> lines) throws Exception {
+        List<String> firstFields = new ArrayList<>();
+        try (CsvReader reader = chunk.open(file)) {
+            while (reader.nextRecord()) {
+                firstFields.add(reader.fieldString(0));
+                lines.add(reader.getLineNumber());
+            }
+        }
+        return firstFields;
+    }
+
+    @Test
+    void testSplit_NeverCutsInsideQuotedField() throws Exception {
+        Path file = tempDir.resolve("quoted.csv");
+        Files.writeString(file, "h1,h2\na,\"x\ny\nz\"\nb,1\r\nc,\"q\"\"\n\"\nd,2\n", StandardCharsets.UTF_8);
+
+        // A one-byte target cuts after every record boundary
+        List<CsvFileSplitter.Chunk> chunks = CsvFileSplitter.split(file, 1);
+
+        List<String> records = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        for (CsvFileSplitter.Chunk chunk : chunks) {
+            records.addAll(readChunk(file, chunk, lines));
+        }
+        assertEquals(4, chunks.size());
+        assertEquals(List.of("a", "b", "c", "d"), records);
+        assertEquals(List.of(2L, 5L, 6L, 8L), lines);
+    }
+
+    @Test
+    void testSplit_ChunksCoverDataAfterHeader() throws Exception {
+        Path file = tempDir.resolve("plain.csv");
+        StringBuilder csv = new StringBuilder("header\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("row").append(i).append(",value\n");
+        }
+        Files.writeString(file, csv + "last,no newline", StandardCharsets.UTF_8);
+
+        List<CsvFileSplitter.Chunk> chunks = CsvFileSplitter.split(file, 200);
+
+        assertTrue(chunks.size() > 1);
+        assertEquals("header\n".length(), chunks.get(0).getStart());
+        assertEquals(Files.size(file), chunks.get(chunks.size() - 1).getEnd());
+        for (int i = 1; i < chunks.size(); i++) {
+            assertEquals(chunks.get(i - 1).getEnd(), chunks.get(i).getStart());
+        }
+        List<Long> lines = new ArrayList<>();
+        List<String> last = readChunk(file, chunks.get(chunks.size() - 1), lines);
+        assertEquals("last", last.get(last.size() - 1));
+        assertEquals(102L, lines.get(lines.size() - 1));
+    }
+
+    @Test
+    void testSplit_HeaderOnly_ReturnsNoChunks() throws Exception {
+        Path file = tempDir.resolve("header.csv");
+        Files.writeString(file, "a,b,c\n", StandardCharsets.UTF_8);
+
+        assertTrue(CsvFileSplitter.split(file, 1).isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.gymflow.util;
+
+import com.gymflow.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvReader.
+ */
+class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv) throws Exception {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            while (reader.nextRecord()) {
+                List<String> fields = new ArrayList<>();
+                for (int i = 0; i < reader.fieldCount(); i++) {
+                    fields.add(reader.fieldString(i));
+                }
+                records.add(fields);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    void testNextRecord_SimpleFieldsAndEmptyFields() throws Exception {
+        List<List<String>> records = readAll("a,b,c\n1,,3\n");
+
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("1", "", "3")), records);
+    }
+
+    @Test
+    void testNextRecord_QuotedFieldWithCommaQuoteAndNewline() throws Exception {
+        List<List<String>> records = readAll("\"x, y\",\"say \"\"hi\"\"\",\"line1\nline2\"\nnext,row");
+
+        assertEquals(2, records.size());
+        assertEquals(List.of("x, y", "say \"hi\"", "line1\nline2"), records.get(0));
+        assertEquals(List.of("next", "row"), records.get(1));
+    }
+
+    @Test
+    void testNextRecord_CrLfAndMissingFinalNewline() throws Exception {
+        List<List<String>> records = readAll("a,b\r\nc,d\r\ne,f");
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e", "f")), records);
+    }
+
+    @Test
+    void testGetLineNumber_CountsLinesInsideQuotedFields() throws Exception {
+        try (CsvReader reader = new CsvReader(new StringReader("h\n\"a\nb\nc\"\n\nlast\n"))) {
+            assertTrue(reader.nextRecord());
+            assertEquals(1, reader.getLineNumber());
+            assertTrue(reader.nextRecord());
+            assertEquals(2, reader.getLineNumber());
+            assertTrue(reader.nextRecord());
+            assertEquals(5, reader.getLineNumber());
+            assertTrue(reader.isBlankRecord());
+            assertTrue(reader.nextRecord());
+            assertEquals(6, reader.getLineNumber());
+            assertEquals("last", reader.fieldString(0));
+            assertFalse(reader.nextRecord());
+        }
+    }
+
+    @Test
+    void testField_ViewIsReusedAcrossRecords() throws Exception {
+        try (CsvReader reader = new CsvReader(new StringReader("first\nsecond\n"))) {
+            assertTrue(reader.nextRecord());
+            CharSequence view = reader.field(0);
+            assertEquals("first", view.toString());
+
+            assertTrue(reader.nextRecord());
+            assertSame(view, reader.field(0));
+            assertEquals("second", view.toString());
+            assertEquals('s', view.charAt(0));
+            assertEquals("eco", view.subSequence(1, 4).toString());
+        }
+    }
+
+    @Test
+    void testNextRecord_RecordsLongerThanBuffer() throws Exception {
+        String longValue = "x".repeat(CsvReader.BUFFER_SIZE * 2 + 17);
+        List<List<String>> records = readAll("\"" + longValue + "\",tail\nshort\n");
+
+        assertEquals(List.of(longValue, "tail"), records.get(0));
+        assertEquals(List.of("short"), records.get(1));
+    }
+
+    @Test
+    void testNextRecord_UnterminatedQuote_ThrowsException() {
+        assertThrows(ValidationException.class, () -> readAll("a,\"never closed\n"));
+    }
+}
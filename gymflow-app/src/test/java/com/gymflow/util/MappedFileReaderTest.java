@@ -0,0 +1,75 @@
+package com.gymflow.util;
+
+import com.gymflow.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedFileReader.
+ */
+class MappedFileReaderTest {
+    @TempDir
+    Path tempDir;
+
+    private static String readAll(Reader reader) throws Exception {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[5];
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+            text.append(buffer, 0, read);
+        }
+        return text.toString();
+    }
+
+    @Test
+    void testRead_CharactersSplitAcrossWindows() throws Exception {
+        // Mixes one-, two-, three- and four-byte UTF-8 characters
+        String content = "A\u00f1o,Cr\u00e8me br\u00fbl\u00e9e,\u20ac5,\uD83C\uDFCB lift\n".repeat(20);
+        Path file = tempDir.resolve("utf8.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        long size = Files.size(file);
+
+        for (long windowSize = 4; windowSize <= 13; windowSize++) {
+            try (MappedFileReader reader = MappedFileReader.open(file, 0, size, windowSize)) {
+                assertEquals(content, readAll(reader), "window size " + windowSize);
+            }
+        }
+    }
+
+    @Test
+    void testRead_ByteRange() throws Exception {
+        Path file = tempDir.resolve("range.csv");
+        Files.writeString(file, "header\nfirst\nsecond\n", StandardCharsets.UTF_8);
+
+        try (MappedFileReader reader = MappedFileReader.open(file, 7, 13, 4)) {
+            assertEquals("first\n", readAll(reader));
+        }
+    }
+
+    @Test
+    void testOpen_WholeFileFeedsCsvReader() throws Exception {
+        Path file = tempDir.resolve("whole.csv");
+        Files.writeString(file, "a,\"b\nc\"\n", StandardCharsets.UTF_8);
+
+        try (CsvReader reader = new CsvReader(MappedFileReader.open(file))) {
+            assertTrue(reader.nextRecord());
+            assertEquals("b\nc", reader.fieldString(1));
+            assertFalse(reader.nextRecord());
+        }
+    }
+
+    @Test
+    void testOpen_WindowTooSmall_ThrowsException() throws Exception {
+        Path file = tempDir.resolve("small.csv");
+        Files.writeString(file, "x\n", StandardCharsets.UTF_8);
+
+        assertThrows(ValidationException.class, () -> MappedFileReader.open(file, 0, 2, 3));
+    }
+}
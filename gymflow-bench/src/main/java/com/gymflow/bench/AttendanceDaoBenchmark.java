@@ -0,0 +1,83 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.AttendanceDao;
+import com.gymflow.dao.AttendanceDaoImpl;
+import com.gymflow.model.AttendanceRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link AttendanceDaoImpl}: class rosters, the per-session
+ * counts behind the schedule views, and marking attendance. Marking is an
+ * upsert of an existing pair, so the table size stays constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceDaoBenchmark {
+    private SeededDatabase db;
+    private AttendanceDao attendanceDao;
+    private List<Long> pageOfSessionIds;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.attendanceDao = new AttendanceDaoImpl();
+        this.pageOfSessionIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pageOfSessionIds.add(db.sessionId(i));
+        }
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> findBySessionId() {
+        return attendanceDao.findBySessionId(db.sessionId(next++));
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> findByMemberId() {
+        return attendanceDao.findByMemberId(db.memberId(next++));
+    }
+
+    @Benchmark
+    public Map<Long, Integer> countsBySessionIds() {
+        return attendanceDao.countsBySessionIds(pageOfSessionIds);
+    }
+
+    @Benchmark
+    public Optional<AttendanceRecord> findBySessionAndMember() {
+        // Member m always has a record for session m (see SeededDatabase)
+        long index = next++;
+        return attendanceDao.findBySessionAndMember(db.sessionId(index), db.memberId(index));
+    }
+
+    @Benchmark
+    public Optional<AttendanceRecord> markAttendance() {
+        long index = next++;
+        return attendanceDao.markAttendance(db.sessionId(index), db.memberId(index), (index & 1) == 0);
+    }
+
+    @Benchmark
+    public int countAll() {
+        return attendanceDao.countAll();
+    }
+}
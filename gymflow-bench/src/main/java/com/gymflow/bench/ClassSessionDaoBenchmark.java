@@ -0,0 +1,70 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.ClassSessionDao;
+import com.gymflow.dao.ClassSessionDaoImpl;
+import com.gymflow.exception.DataAccessException;
+import com.gymflow.model.ClassSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link ClassSessionDaoImpl}: the upcoming schedule, trainer
+ * schedules and the bulk id check used by the attendance import.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassSessionDaoBenchmark {
+    private SeededDatabase db;
+    private ClassSessionDao classSessionDao;
+    private List<Long> importIds;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.classSessionDao = new ClassSessionDaoImpl();
+        this.importIds = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            importIds.add(db.sessionId(i));
+        }
+    }
+
+    @Benchmark
+    public Optional<ClassSession> findById() {
+        return classSessionDao.findById(db.sessionId(next++));
+    }
+
+    @Benchmark
+    public List<ClassSession> findByTrainerId() {
+        return classSessionDao.findByTrainerId(db.trainerId(next++));
+    }
+
+    @Benchmark
+    public List<ClassSession> findUpcoming() throws DataAccessException {
+        return classSessionDao.findUpcoming();
+    }
+
+    @Benchmark
+    public Set<Long> findExistingIds() throws DataAccessException {
+        return classSessionDao.findExistingIds(importIds);
+    }
+}
@@ -0,0 +1,125 @@
+package com.gymflow.bench;
+
+import com.gymflow.model.AttendanceCsvRow;
+import com.gymflow.model.AttendanceRecord;
+import com.gymflow.model.AttendanceReportRow;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.util.CsvStreamWriter;
+import com.gymflow.util.CsvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CsvUtil import and export throughput on synthetic files of {@link #rows}
+ * records. No database is involved; imports only parse and validate.
+ * Divide the file sizes printed at setup by the reported time to get MB/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvUtilBenchmark {
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private Path directory;
+    private List<WorkoutPlan> plans;
+    private List<AttendanceReportRow> reportRows;
+    private Path templatesFile;
+    private Path attendanceFile;
+    private Path exportFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("gymflow-bench-csv");
+        exportFile = directory.resolve("export.csv");
+        templatesFile = directory.resolve("templates.csv");
+        attendanceFile = directory.resolve("attendance.csv");
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 12, 2, 10, 0);
+        plans = new ArrayList<>(rows);
+        reportRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            // Every fourth plan needs quoting, as real descriptions with commas and line breaks do
+            String description = i % 4 == 0 ? "Warm up, then\n\"heavy\" presses" : "30-minute run";
+            plans.add(new WorkoutPlan(0, 0, 2, "Plan " + i, description, "Intermediate", "Full Body",
+                "Strength Training", 45, "Dumbbells, Bench", 3, 12, 60, createdAt));
+            reportRows.add(new AttendanceReportRow(new AttendanceRecord(i + 1, i % 500 + 1, i % 5000 + 1, i % 3 != 0),
+                "Class " + i % 500, "Member " + i % 5000));
+        }
+        CsvUtil.exportWorkoutTemplates(plans, templatesFile);
+
+        StringBuilder attendance = new StringBuilder("Record ID,Session ID,Member ID,Attended\n");
+        for (int i = 0; i < rows; i++) {
+            attendance.append(i + 1).append(',').append(i % 500 + 1).append(',')
+                .append(i % 5000 + 1).append(',').append(i % 3 != 0 ? "Yes" : "No").append('\n');
+        }
+        Files.writeString(attendanceFile, attendance);
+
+        System.out.printf("%ntemplates.csv %.1f MB, attendance.csv %.1f MB%n",
+            Files.size(templatesFile) / (1024.0 * 1024.0), Files.size(attendanceFile) / (1024.0 * 1024.0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long exportWorkoutTemplates() throws Exception {
+        CsvUtil.exportWorkoutTemplates(plans, exportFile);
+        return Files.size(exportFile);
+    }
+
+    @Benchmark
+    public long exportAttendanceReportRows() throws Exception {
+        try (CsvStreamWriter<AttendanceReportRow> writer = CsvUtil.openAttendanceReportWriter(exportFile)) {
+            for (AttendanceReportRow row : reportRows) {
+                writer.write(row);
+            }
+        }
+        return Files.size(exportFile);
+    }
+
+    @Benchmark
+    public List<WorkoutPlan> importWorkoutTemplates() throws Exception {
+        return CsvUtil.importWorkoutTemplates(templatesFile);
+    }
+
+    @Benchmark
+    public List<WorkoutPlan> importWorkoutTemplatesParallel() throws Exception {
+        return CsvUtil.importWorkoutTemplates(templatesFile, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public List<AttendanceCsvRow> importAttendanceRecords() throws Exception {
+        return CsvUtil.importAttendanceRecords(attendanceFile);
+    }
+}
@@ -0,0 +1,58 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.EquipmentDao;
+import com.gymflow.dao.EquipmentDaoImpl;
+import com.gymflow.model.Equipment;
+import com.gymflow.model.EquipmentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link EquipmentDaoImpl}: the equipment table and its status
+ * filter on the admin dashboard.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EquipmentDaoBenchmark {
+    private SeededDatabase db;
+    private EquipmentDao equipmentDao;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.equipmentDao = new EquipmentDaoImpl();
+    }
+
+    @Benchmark
+    public Optional<Equipment> findById() {
+        return equipmentDao.findById(db.equipmentId(next++));
+    }
+
+    @Benchmark
+    public List<Equipment> findAll() {
+        return equipmentDao.findAll();
+    }
+
+    @Benchmark
+    public List<Equipment> findByStatus() {
+        return equipmentDao.findByStatus(EquipmentStatus.IN_USE);
+    }
+}
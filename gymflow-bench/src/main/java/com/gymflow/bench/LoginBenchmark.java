@@ -0,0 +1,90 @@
+package com.gymflow.bench;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.model.User;
+import com.gymflow.security.Pbkdf2PasswordHasher;
+import com.gymflow.security.UpgradingPasswordHasher;
+import com.gymflow.service.AuthService;
+import com.gymflow.service.AuthServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second through {@link AuthServiceImpl} at several PBKDF2
+ * iteration counts, with one thread and with eight authenticating at once as
+ * in a login storm. Each login is one credential query plus one hash, so the
+ * iteration count sets how many logins a core can serve.
+ * <p>
+ * Compare with the calibrated count printed at startup, e.g.
+ * {@code -p iterations=100000,300000 -p members=1000}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+    private static final String PASSWORD = "password123";
+
+    private SeededDatabase db;
+    private AuthService authService;
+    private long next;
+
+    /**
+     * Gives every seeded member the same password hashed at the benchmarked cost.
+     */
+    @State(Scope.Benchmark)
+    public static class StoredHashes {
+        @Param({"10000", "100000", "300000"})
+        public int iterations;
+
+        UpgradingPasswordHasher hasher;
+
+        @Setup(Level.Trial)
+        public void store(SeededDatabase db) throws SQLException {
+            hasher = new UpgradingPasswordHasher(new Pbkdf2PasswordHasher(iterations));
+            // One hash for all members keeps setup short; logins still derive the hash every time
+            try (Connection conn = DatabaseConnection.getInstance().getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(
+                     "UPDATE users SET password_hash = ? WHERE role_id = 1")) {
+                stmt.setString(1, hasher.hash(PASSWORD));
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db, StoredHashes hashes) {
+        this.db = db;
+        this.authService = new AuthServiceImpl(hashes.hasher);
+    }
+
+    @Benchmark
+    public Optional<User> login() throws Exception {
+        return authService.authenticate(db.memberUsername(next++), PASSWORD);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<User> loginStorm() throws Exception {
+        return authService.authenticate(db.memberUsername(next++), PASSWORD);
+    }
+}
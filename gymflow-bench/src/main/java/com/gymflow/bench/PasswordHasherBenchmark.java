@@ -0,0 +1,51 @@
+package com.gymflow.bench;
+
+import com.gymflow.security.PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the legacy {@link PasswordHasher#sha256(String)} digest, single-threaded
+ * and with four threads hashing at once as concurrent logins would. See
+ * {@link LoginBenchmark} for the PBKDF2 login path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordHasherBenchmark {
+    @Param({"12", "64"})
+    public int passwordLength;
+
+    private String password;
+
+    @Setup
+    public void setUp() {
+        password = "p4ssw0rd!".repeat(passwordLength / 9 + 1).substring(0, passwordLength);
+    }
+
+    @Benchmark
+    public String sha256() {
+        return PasswordHasher.sha256(password);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String sha256Contended() {
+        return PasswordHasher.sha256(password);
+    }
+}
@@ -0,0 +1,265 @@
+package com.gymflow.bench;
+
+import com.gymflow.config.DatabaseConnection;
+import com.gymflow.config.DatabaseInitializer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * In-memory H2 database with the application schema and a synthetic data set,
+ * shared by every DAO benchmark in a fork.
+ * <p>
+ * The data set grows with {@link #members}; every other table is sized from it:
+ * <ul>
+ *     <li>one trainer per 20 members</li>
+ *     <li>two personal workout plans per member and five templates per trainer</li>
+ *     <li>one class session per 10 members, half of them in the future</li>
+ *     <li>ten attendance records and ten workout completions per member</li>
+ *     <li>one equipment item per 10 members</li>
+ * </ul>
+ * Pick the scale on the command line, e.g. {@code -p members=1000,10000}.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+    /** Ids below this are left to the application's own seed data. */
+    static final long FIRST_ID = 10_000;
+
+    private static final String URL = "jdbc:h2:mem:gymflow-bench;DB_CLOSE_DELAY=-1;MODE=MySQL";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"1000", "10000"})
+    public int members;
+
+    int trainers;
+    int sessions;
+    int personalPlans;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        if (members < 100) {
+            throw new IllegalArgumentException("members must be at least 100, was " + members);
+        }
+        // Must be set before the first DatabaseConnection.getInstance() in this JVM
+        System.setProperty("gymflow.db.url", URL);
+        DatabaseConnection.resetInstance();
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        new DatabaseInitializer().initialize();
+
+        trainers = Math.max(1, members / 20);
+        sessions = Math.max(1, members / 10);
+        personalPlans = members * 2;
+
+        try (Connection conn = DatabaseConnection.getInstance().getConnection()) {
+            conn.setAutoCommit(false);
+            insertUsers(conn);
+            insertWorkoutPlans(conn);
+            insertClassSessions(conn);
+            insertAttendance(conn);
+            insertCompletions(conn);
+            insertEquipment(conn);
+            conn.commit();
+
+            try (Statement stmt = conn.createStatement()) {
+                for (String table : new String[] {"users", "workout_plans", "class_sessions",
+                        "attendance_records", "workout_completions", "equipment"}) {
+                    // Explicit ids were used above; move the identity past them for inserts
+                    // made by the benchmarks
+                    stmt.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH "
+                        + (FIRST_ID * 1_000));
+                }
+                stmt.execute("ANALYZE");
+            }
+            conn.setAutoCommit(true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        DatabaseConnection.resetInstance();
+    }
+
+    /** Id of the {@code index}-th member, wrapping around. */
+    long memberId(long index) {
+        return FIRST_ID + Math.floorMod(index, members);
+    }
+
+    /** Id of the {@code index}-th trainer, wrapping around. */
+    long trainerId(long index) {
+        return FIRST_ID + members + Math.floorMod(index, trainers);
+    }
+
+    /** Username of the {@code index}-th member, wrapping around. */
+    String memberUsername(long index) {
+        return "member" + Math.floorMod(index, members);
+    }
+
+    /** Id of the {@code index}-th class session, wrapping around. */
+    long sessionId(long index) {
+        return FIRST_ID + Math.floorMod(index, sessions);
+    }
+
+    /** Id of the {@code index}-th personal workout plan, wrapping around. */
+    long planId(long index) {
+        return FIRST_ID + Math.floorMod(index, personalPlans);
+    }
+
+    /** Id of the {@code index}-th equipment item, wrapping around. */
+    long equipmentId(long index) {
+        return FIRST_ID + Math.floorMod(index, Math.max(1, members / 10));
+    }
+
+    private void insertUsers(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO users (id, role_id, username, password_hash, full_name, email)
+                VALUES (?, ?, ?, 'x', ?, ?)
+                """)) {
+            int pending = 0;
+            for (int i = 0; i < members + trainers; i++) {
+                boolean member = i < members;
+                String username = member ? "member" + i : "trainer" + (i - members);
+                stmt.setLong(1, FIRST_ID + i);
+                stmt.setInt(2, member ? 1 : 2);
+                stmt.setString(3, username);
+                stmt.setString(4, member ? "Member " + i : "Trainer " + (i - members));
+                stmt.setString(5, username + "@bench.local");
+                stmt.addBatch();
+                pending = flush(stmt, pending + 1);
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertWorkoutPlans(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO workout_plans (id, member_id, trainer_id, title, description, difficulty,
+                                           muscle_group, workout_type, duration_minutes)
+                VALUES (?, ?, ?, ?, 'Sets, reps and rest', 'Intermediate', 'Full Body', 'Strength Training', 45)
+                """)) {
+            int pending = 0;
+            int templates = trainers * 5;
+            for (int i = 0; i < personalPlans + templates; i++) {
+                boolean personal = i < personalPlans;
+                stmt.setLong(1, FIRST_ID + i);
+                if (personal) {
+                    stmt.setLong(2, memberId(i / 2));
+                } else {
+                    stmt.setNull(2, java.sql.Types.INTEGER);
+                }
+                stmt.setLong(3, trainerId(i));
+                stmt.setString(4, (personal ? "Plan " : "Template ") + i);
+                stmt.addBatch();
+                pending = flush(stmt, pending + 1);
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertClassSessions(Connection conn) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO class_sessions (id, trainer_id, title, schedule_timestamp, capacity, workout_plan_id)
+                VALUES (?, ?, ?, ?, 20, ?)
+                """)) {
+            int pending = 0;
+            for (int i = 0; i < sessions; i++) {
+                // Alternate past and future sessions, spread over the days either side of now
+                long days = (i / 2) % 90 + 1;
+                LocalDateTime when = i % 2 == 0 ? now.plusDays(days) : now.minusDays(days);
+                stmt.setLong(1, FIRST_ID + i);
+                stmt.setLong(2, trainerId(i));
+                stmt.setString(3, "Class " + i);
+                stmt.setTimestamp(4, Timestamp.valueOf(when));
+                stmt.setLong(5, FIRST_ID + personalPlans + (i % (trainers * 5)));
+                stmt.addBatch();
+                pending = flush(stmt, pending + 1);
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertAttendance(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO attendance_records (id, session_id, member_id, attended) VALUES (?, ?, ?, ?)")) {
+            int pending = 0;
+            long id = FIRST_ID;
+            for (int m = 0; m < members; m++) {
+                for (int k = 0; k < 10; k++) {
+                    // Ten distinct sessions per member, so (session, member) stays unique
+                    stmt.setLong(1, id++);
+                    stmt.setLong(2, sessionId((long) m + (long) k * Math.max(1, sessions / 10)));
+                    stmt.setLong(3, memberId(m));
+                    stmt.setBoolean(4, k % 3 != 0);
+                    stmt.addBatch();
+                    pending = flush(stmt, pending + 1);
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertCompletions(Connection conn) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement stmt = conn.prepareStatement("""
+                INSERT INTO workout_completions (id, workout_plan_id, member_id, class_session_id, completed_at, notes)
+                VALUES (?, ?, ?, ?, ?, 'Felt good')
+                """)) {
+            int pending = 0;
+            long id = FIRST_ID;
+            for (int m = 0; m < members; m++) {
+                for (int k = 0; k < 10; k++) {
+                    stmt.setLong(1, id++);
+                    stmt.setLong(2, planId((long) m * 2 + (k % 2)));
+                    stmt.setLong(3, memberId(m));
+                    if (k % 2 == 0) {
+                        stmt.setLong(4, sessionId(m + k));
+                    } else {
+                        stmt.setNull(4, java.sql.Types.INTEGER);
+                    }
+                    stmt.setTimestamp(5, Timestamp.valueOf(now.minusDays(k).minusMinutes(m % 60)));
+                    stmt.addBatch();
+                    pending = flush(stmt, pending + 1);
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void insertEquipment(Connection conn) throws SQLException {
+        String[] statuses = {"AVAILABLE", "IN_USE", "MAINTENANCE"};
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO equipment (id, name, status, last_service) VALUES (?, ?, ?, CURRENT_DATE)")) {
+            int pending = 0;
+            for (int i = 0; i < Math.max(1, members / 10); i++) {
+                stmt.setLong(1, FIRST_ID + i);
+                stmt.setString(2, "Equipment " + i);
+                stmt.setString(3, statuses[i % statuses.length]);
+                stmt.addBatch();
+                pending = flush(stmt, pending + 1);
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private static int flush(PreparedStatement stmt, int pending) throws SQLException {
+        if (pending < BATCH_SIZE) {
+            return pending;
+        }
+        stmt.executeBatch();
+        return 0;
+    }
+}
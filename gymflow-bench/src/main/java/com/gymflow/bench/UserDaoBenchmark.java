@@ -0,0 +1,74 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.UserDao;
+import com.gymflow.dao.UserDaoImpl;
+import com.gymflow.model.Role;
+import com.gymflow.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link UserDaoImpl}: login lookup, id lookups used by the
+ * dashboards, and the member list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDaoBenchmark {
+    private SeededDatabase db;
+    private UserDao userDao;
+    private List<Long> pageOfIds;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.userDao = new UserDaoImpl();
+        this.pageOfIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pageOfIds.add(db.memberId(i * 7L));
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findByUsername() throws Exception {
+        return userDao.findByUsername(db.memberUsername(next++));
+    }
+
+    @Benchmark
+    public Optional<User> findById() throws Exception {
+        return userDao.findById(db.memberId(next++));
+    }
+
+    @Benchmark
+    public List<User> findByIds() throws Exception {
+        return userDao.findByIds(pageOfIds);
+    }
+
+    @Benchmark
+    public List<User> findByRoleMember() throws Exception {
+        return userDao.findByRole(Role.MEMBER);
+    }
+
+    @Benchmark
+    public int countByRole() throws Exception {
+        return userDao.countByRole(Role.MEMBER);
+    }
+}
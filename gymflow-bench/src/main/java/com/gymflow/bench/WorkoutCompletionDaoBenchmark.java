@@ -0,0 +1,64 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.WorkoutCompletionDao;
+import com.gymflow.dao.WorkoutCompletionDaoImpl;
+import com.gymflow.model.AttendanceHistoryRow;
+import com.gymflow.model.WorkoutCompletion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link WorkoutCompletionDaoImpl}: completion checks on the
+ * member dashboard and the first page of the attendance history.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkoutCompletionDaoBenchmark {
+    private SeededDatabase db;
+    private WorkoutCompletionDao workoutCompletionDao;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.workoutCompletionDao = new WorkoutCompletionDaoImpl();
+    }
+
+    @Benchmark
+    public boolean isCompleted() {
+        long index = next++;
+        return workoutCompletionDao.isCompleted(db.planId(index * 2), db.memberId(index));
+    }
+
+    @Benchmark
+    public Set<Long> findCompletedPlanIds() {
+        return workoutCompletionDao.findCompletedPlanIds(db.memberId(next++));
+    }
+
+    @Benchmark
+    public List<WorkoutCompletion> findByMemberId() {
+        return workoutCompletionDao.findByMemberId(db.memberId(next++));
+    }
+
+    @Benchmark
+    public List<AttendanceHistoryRow> findHistoryFirstPage() {
+        return workoutCompletionDao.findHistoryByMember(db.memberId(next++), null, 20);
+    }
+}
@@ -0,0 +1,74 @@
+package com.gymflow.bench;
+
+import com.gymflow.dao.WorkoutPlanDao;
+import com.gymflow.dao.WorkoutPlanDaoImpl;
+import com.gymflow.model.WorkoutPlan;
+import com.gymflow.model.WorkoutPlanWithSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link WorkoutPlanDaoImpl}: the member and trainer plan lists
+ * and the class plans shown on the member dashboard.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkoutPlanDaoBenchmark {
+    private SeededDatabase db;
+    private WorkoutPlanDao workoutPlanDao;
+    private List<Long> pageOfIds;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        this.db = db;
+        this.workoutPlanDao = new WorkoutPlanDaoImpl();
+        this.pageOfIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pageOfIds.add(db.planId(i * 13L));
+        }
+    }
+
+    @Benchmark
+    public Optional<WorkoutPlan> findById() {
+        return workoutPlanDao.findById(db.planId(next++));
+    }
+
+    @Benchmark
+    public List<WorkoutPlan> findByIds() {
+        return workoutPlanDao.findByIds(pageOfIds);
+    }
+
+    @Benchmark
+    public List<WorkoutPlan> findByMemberId() {
+        return workoutPlanDao.findByMemberId(db.memberId(next++));
+    }
+
+    @Benchmark
+    public List<WorkoutPlan> findByTrainerId() {
+        return workoutPlanDao.findByTrainerId(db.trainerId(next++));
+    }
+
+    @Benchmark
+    public List<WorkoutPlanWithSource> findClassPlansForMember() {
+        return workoutPlanDao.findClassPlansForMember(db.memberId(next++));
+    }
+}
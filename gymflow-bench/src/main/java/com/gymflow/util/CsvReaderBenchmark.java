@@ -0,0 +1,116 @@
+package com.gymflow.util;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw CsvReader throughput over a synthetic workout template file, read through
+ * {@code Files.newBufferedReader} and through a {@link MappedFileReader}.
+ * Lives in {@code com.gymflow.util} because MappedFileReader is package-private.
+ * The file is 1 GB by default ({@code -p sizeMb=64} for a quick run), and the
+ * {@code rows} counter in the results is the throughput in rows/sec.
+ * Add {@code -prof gc} to compare allocation between the two paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CsvReaderBenchmark {
+    private static final String ROW_PLAIN =
+        "Morning Cardio,30-minute run,Intermediate,%d,2,Full Body,Cardio,30,Treadmill,,,,2024-12-02 10:00:00\n";
+    private static final String ROW_QUOTED =
+        "\"Upper, body\",\"Warm up\nthen \"\"heavy\"\" presses\",Advanced,%d,2,Chest,Strength Training,45,\"Dumbbells, Bench\",3,12,60,2024-12-02 10:00:00\n";
+
+    @Param({"1024"})
+    public int sizeMb;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("gymflow-bench-templates", ".csv");
+        long targetBytes = sizeMb * 1024L * 1024L;
+        long written = 0;
+        long row = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("Title,Description,Difficulty,Member ID,Trainer ID,Muscle Group,Workout Type,Duration Minutes,Equipment Needed,Target Sets,Target Reps,Rest Seconds,Created At\n");
+            while (written < targetBytes) {
+                String line = String.format(row % 4 == 0 ? ROW_QUOTED : ROW_PLAIN, row + 1);
+                writer.write(line);
+                written += line.length();
+                row++;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Records read per iteration; JMH reports it as a rate, i.e. rows/sec.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Benchmark
+    public long buffered(Rows counter) throws IOException {
+        return read(Files.newBufferedReader(file, StandardCharsets.UTF_8), counter);
+    }
+
+    @Benchmark
+    public long mapped(Rows counter) throws IOException {
+        return read(MappedFileReader.open(file), counter);
+    }
+
+    /**
+     * Reads every record and touches every field, as the importer does.
+     *
+     * @return total field length, so the work cannot be optimised away
+     */
+    private static long read(Reader source, Rows counter) throws IOException {
+        long checksum = 0;
+        long rows = 0;
+        try (CsvReader reader = new CsvReader(source)) {
+            while (reader.nextRecord()) {
+                rows++;
+                for (int i = 0; i < reader.fieldCount(); i++) {
+                    checksum += reader.field(i).length();
+                }
+            }
+        }
+        counter.rows += rows;
+        return checksum;
+    }
+}
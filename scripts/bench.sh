@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Runs the JMH benchmarks and writes the results to
+# gymflow-bench/results/<commit>.json, so two commits can be diffed.
+# Extra arguments go to JMH, e.g.:
+#   ./scripts/bench.sh UserDaoBenchmark -p members=10000
+#   ./scripts/bench.sh CsvReaderBenchmark -prof gc
+
+PROJECT_ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+BENCH_DIR="$PROJECT_ROOT/gymflow-bench"
+
+if ! command -v mvn &> /dev/null; then
+  echo "Maven not found. Please install Maven (https://maven.apache.org/)." >&2
+  exit 1
+fi
+
+cd "$PROJECT_ROOT"
+mvn -q -pl gymflow-bench -am package -DskipTests
+
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo local)"
+if [ -n "$(git status --porcelain --untracked-files=no 2>/dev/null)" ]; then
+  COMMIT="$COMMIT-dirty"
+fi
+mkdir -p "$BENCH_DIR/results"
+
+java -jar "$BENCH_DIR/target/benchmarks.jar" -rf json -rff "$BENCH_DIR/results/$COMMIT.json" "$@"
+echo "Results written to gymflow-bench/results/$COMMIT.json"